@@ -0,0 +1,170 @@
+package dev.simplecore.simplix.cache.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.simplecore.simplix.cache.config.CacheProperties;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache Value Serializer
+ * Frames values with a format header so the codec and compression of a cache can change
+ * without flushing it
+ *
+ * <p>A framed value is {@code [0x00][codec id][compressor id or 0][payload]}. Plain JSON is
+ * stored unframed, exactly as before headers existed: JSON text never starts with a zero
+ * byte, so unframed values are unambiguous and older nodes can still read them during a
+ * rolling upgrade. Every other format is framed.
+ *
+ * <p>Codec and compression are chosen per cache ({@code cache-configs.<name>.codec} and
+ * {@code .compression}, defaulting to {@code simplix.cache.codec.*}); payloads smaller than
+ * {@code codec.compression-threshold-bytes} are stored uncompressed. Reads always follow the
+ * header, so values written under a previous configuration stay readable.
+ */
+public class CacheValueSerializer {
+
+    static final byte MAGIC = 0x00;
+    static final byte NO_COMPRESSION = 0;
+    private static final int HEADER_LENGTH = 3;
+
+    private final CacheProperties properties;
+    private final Map<String, ValueCodec> codecsByName = new HashMap<>();
+    private final ValueCodec[] codecsById = new ValueCodec[128];
+    private final Map<String, ValueCompressor> compressorsByName = new HashMap<>();
+    private final ValueCompressor[] compressorsById = new ValueCompressor[128];
+
+    /**
+     * Serializer with the built-in JSON codec and DEFLATE compressor.
+     */
+    public CacheValueSerializer(CacheProperties properties, ObjectMapper objectMapper) {
+        this(properties, objectMapper, List.of(), List.of());
+    }
+
+    /**
+     * @param codecs      additional codecs
+     * @param compressors additional compressors
+     * @throws IllegalStateException if two codecs or two compressors share an id or name
+     */
+    public CacheValueSerializer(CacheProperties properties,
+                                ObjectMapper objectMapper,
+                                Collection<? extends ValueCodec> codecs,
+                                Collection<? extends ValueCompressor> compressors) {
+        this.properties = properties;
+        register(new JsonValueCodec(objectMapper));
+        codecs.forEach(this::register);
+        register(new DeflateValueCompressor());
+        compressors.forEach(this::register);
+    }
+
+    /**
+     * Encode a value with the codec and compression configured for its cache.
+     */
+    public byte[] serialize(String cacheName, Object value) throws Exception {
+        ValueCodec codec = codecFor(cacheName);
+        byte[] payload = codec.encode(value);
+
+        ValueCompressor compressor = compressorFor(cacheName);
+        if (compressor != null && payload.length >= properties.getCodec().getCompressionThresholdBytes()) {
+            byte[] compressed = compressor.compress(payload);
+            if (compressed.length < payload.length) {
+                return frame(codec.id(), compressor.id(), compressed);
+            }
+        }
+
+        if (codec.id() == JsonValueCodec.ID) {
+            return payload;
+        }
+        return frame(codec.id(), NO_COMPRESSION, payload);
+    }
+
+    /**
+     * Decode a value written with any registered codec and compressor.
+     *
+     * @throws IllegalStateException if the header names a codec or compressor not registered here
+     */
+    public <T> T deserialize(byte[] data, Class<T> type) throws Exception {
+        if (data.length == 0 || data[0] != MAGIC) {
+            return codecsById[JsonValueCodec.ID].decode(data, type);
+        }
+        if (data.length < HEADER_LENGTH) {
+            throw new IllegalStateException("Truncated cache value header");
+        }
+
+        ValueCodec codec = lookup(codecsById, data[1], "codec");
+        byte[] payload = Arrays.copyOfRange(data, HEADER_LENGTH, data.length);
+        if (data[2] != NO_COMPRESSION) {
+            payload = lookup(compressorsById, data[2], "compressor").decompress(payload);
+        }
+        return codec.decode(payload, type);
+    }
+
+    private ValueCodec codecFor(String cacheName) {
+        CacheProperties.CacheConfig config = properties.getCacheConfigs().get(cacheName);
+        String name = config != null && config.getCodec() != null
+            ? config.getCodec() : properties.getCodec().getDefaultCodec();
+        ValueCodec codec = codecsByName.get(name);
+        if (codec == null) {
+            throw new IllegalStateException("Unknown cache value codec '" + name + "' for cache " + cacheName);
+        }
+        return codec;
+    }
+
+    private ValueCompressor compressorFor(String cacheName) {
+        CacheProperties.CacheConfig config = properties.getCacheConfigs().get(cacheName);
+        String name = config != null && config.getCompression() != null
+            ? config.getCompression() : properties.getCodec().getCompression();
+        if (name == null || name.isBlank() || "none".equalsIgnoreCase(name)) {
+            return null;
+        }
+        ValueCompressor compressor = compressorsByName.get(name);
+        if (compressor == null) {
+            throw new IllegalStateException("Unknown cache value compression '" + name + "' for cache " + cacheName);
+        }
+        return compressor;
+    }
+
+    private void register(ValueCodec codec) {
+        checkId(codec.id(), codecsById, codec.name(), "codec");
+        if (codecsByName.putIfAbsent(codec.name(), codec) != null) {
+            throw new IllegalStateException("Duplicate cache value codec name: " + codec.name());
+        }
+        codecsById[codec.id()] = codec;
+    }
+
+    private void register(ValueCompressor compressor) {
+        checkId(compressor.id(), compressorsById, compressor.name(), "compressor");
+        if (compressorsByName.putIfAbsent(compressor.name(), compressor) != null) {
+            throw new IllegalStateException("Duplicate cache value compressor name: " + compressor.name());
+        }
+        compressorsById[compressor.id()] = compressor;
+    }
+
+    private static void checkId(byte id, Object[] registered, String name, String kind) {
+        if (id <= 0) {
+            throw new IllegalStateException("Cache value " + kind + " id must be 1-127: " + name);
+        }
+        if (registered[id] != null) {
+            throw new IllegalStateException("Duplicate cache value " + kind + " id " + id + ": " + name);
+        }
+    }
+
+    private static <E> E lookup(E[] registered, byte id, String kind) {
+        E found = id > 0 ? registered[id] : null;
+        if (found == null) {
+            throw new IllegalStateException("Cache value written with unregistered " + kind + " id " + id);
+        }
+        return found;
+    }
+
+    private static byte[] frame(byte codecId, byte compressorId, byte[] payload) {
+        byte[] framed = new byte[HEADER_LENGTH + payload.length];
+        framed[0] = MAGIC;
+        framed[1] = codecId;
+        framed[2] = compressorId;
+        System.arraycopy(payload, 0, framed, HEADER_LENGTH, payload.length);
+        return framed;
+    }
+}
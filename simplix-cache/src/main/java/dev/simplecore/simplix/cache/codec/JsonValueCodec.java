@@ -0,0 +1,39 @@
+package dev.simplecore.simplix.cache.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * JSON codec backed by Jackson; the default codec and the format of values written before
+ * format headers were introduced.
+ */
+public class JsonValueCodec implements ValueCodec {
+
+    public static final byte ID = 1;
+    public static final String NAME = "json";
+
+    private final ObjectMapper objectMapper;
+
+    public JsonValueCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public byte id() {
+        return ID;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] encode(Object value) throws Exception {
+        return objectMapper.writeValueAsBytes(value);
+    }
+
+    @Override
+    public <T> T decode(byte[] data, Class<T> type) throws Exception {
+        return objectMapper.readValue(data, type);
+    }
+}
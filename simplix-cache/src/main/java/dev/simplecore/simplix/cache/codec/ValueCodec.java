@@ -0,0 +1,26 @@
+package dev.simplecore.simplix.cache.codec;
+
+/**
+ * Value Codec
+ * Converts cache values to and from bytes for the remote cache strategies
+ *
+ * <p>Register additional codecs (Smile, CBOR, Kryo, ...) as beans; they are selected per cache
+ * with {@code cache-configs.<name>.codec}. The id is written into every stored value's header,
+ * so it must never change once values have been written with it.
+ */
+public interface ValueCodec {
+
+    /**
+     * @return the id written into the format header, 1-127; unique among registered codecs
+     */
+    byte id();
+
+    /**
+     * @return the name used in configuration, e.g. {@code json}
+     */
+    String name();
+
+    byte[] encode(Object value) throws Exception;
+
+    <T> T decode(byte[] data, Class<T> type) throws Exception;
+}
@@ -0,0 +1,26 @@
+package dev.simplecore.simplix.cache.codec;
+
+/**
+ * Value Compressor
+ * Compresses encoded cache values above the configured size threshold
+ *
+ * <p>Register additional compressors (LZ4, Zstd, ...) as beans; they are selected per cache
+ * with {@code cache-configs.<name>.compression}. The id is written into the header of every
+ * compressed value, so it must never change once values have been written with it.
+ */
+public interface ValueCompressor {
+
+    /**
+     * @return the id written into the format header, 1-127; unique among registered compressors
+     */
+    byte id();
+
+    /**
+     * @return the name used in configuration, e.g. {@code deflate}
+     */
+    String name();
+
+    byte[] compress(byte[] data) throws Exception;
+
+    byte[] decompress(byte[] data) throws Exception;
+}
@@ -1,5 +1,6 @@
 package dev.simplecore.simplix.cache.config;
 
+import dev.simplecore.simplix.cache.service.CacheWarmer;
 import dev.simplecore.simplix.cache.strategy.CacheStrategy;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
@@ -7,23 +8,45 @@ import org.springframework.boot.actuate.health.HealthIndicator;
 /**
  * Cache Health Indicator
  * Provides health status for the cache subsystem
+ *
+ * <p>While a {@link CacheWarmer} is still restoring entries, the status is OUT_OF_SERVICE, so
+ * a readiness group that includes {@code cache} holds traffic until the cache is warm.
  */
 public class CacheHealthIndicator implements HealthIndicator {
 
     private final CacheStrategy cacheStrategy;
+    private final CacheWarmer warmer;
 
     public CacheHealthIndicator(CacheStrategy cacheStrategy) {
+        this(cacheStrategy, null);
+    }
+
+    /**
+     * @param warmer the startup warm-up to wait for, or {@code null}
+     */
+    public CacheHealthIndicator(CacheStrategy cacheStrategy, CacheWarmer warmer) {
         this.cacheStrategy = cacheStrategy;
+        this.warmer = warmer;
     }
 
     @Override
     public Health health() {
         try {
             if (cacheStrategy.isAvailable()) {
-                return Health.up()
+                if (warmer != null && !warmer.isComplete()) {
+                    return Health.outOfService()
+                        .withDetail("strategy", cacheStrategy.getName())
+                        .withDetail("available", true)
+                        .withDetail("warmUp", "in progress")
+                        .build();
+                }
+                Health.Builder builder = Health.up()
                     .withDetail("strategy", cacheStrategy.getName())
-                    .withDetail("available", true)
-                    .build();
+                    .withDetail("available", true);
+                if (warmer != null) {
+                    warmer.getResult().ifPresent(result -> builder.withDetail("warmUp", result));
+                }
+                return builder.build();
             } else {
                 return Health.down()
                     .withDetail("strategy", cacheStrategy.getName())
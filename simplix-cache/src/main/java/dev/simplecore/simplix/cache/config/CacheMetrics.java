@@ -0,0 +1,155 @@
+package dev.simplecore.simplix.cache.config;
+
+import dev.simplecore.simplix.cache.strategy.CacheCounters;
+import dev.simplecore.simplix.cache.strategy.CacheStrategy;
+import dev.simplecore.simplix.cache.strategy.LocalCacheStrategy;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Micrometer-based metrics for the simplix-cache module.
+ *
+ * <p>Publishes the strategy's {@link CacheCounters} per cache: counters are function counters
+ * read from the striped adders at scrape time, and get, put and load latencies are recorded
+ * into timers as they happen, with percentile histogram buckets unless
+ * {@code simplix.cache.metrics.percentile-histogram=false}. Meters of a cache are registered
+ * when the strategy first counts it.
+ *
+ * <p>A {@link LocalCacheStrategy} with an off-heap tier also publishes the tier's capacity,
+ * used bytes and entries as gauges, and the values kept on the heap because it was full.
+ *
+ * <p>When no {@link MeterRegistry} is available, or the strategy keeps no counters, nothing is
+ * published.
+ *
+ * <p>Reads that found an absent-value marker are published as gets with {@code result=negative},
+ * not as hits, so a hit ratio computed from {@code result=hit} and {@code result=miss} covers
+ * values only.
+ */
+@Slf4j
+public class CacheMetrics implements CacheCounters.Listener {
+
+    private static final String METRIC_GETS = "simplix.cache.gets";
+    private static final String METRIC_PUTS = "simplix.cache.puts";
+    private static final String METRIC_REMOVALS = "simplix.cache.removals";
+    private static final String METRIC_EVICTIONS = "simplix.cache.evictions";
+    private static final String METRIC_LOADS = "simplix.cache.loads";
+    private static final String METRIC_BYTES = "simplix.cache.bytes";
+    private static final String METRIC_LATENCY = "simplix.cache.latency";
+    private static final String METRIC_OFF_HEAP = "simplix.cache.off-heap";
+
+    private static final String TAG_CACHE = "cache";
+    private static final String TAG_RESULT = "result";
+    private static final String TAG_DIRECTION = "direction";
+    private static final String TAG_OPERATION = "operation";
+
+    private final MeterRegistry registry;
+    private final CacheCounters counters;
+    private final boolean percentileHistogram;
+    private final ConcurrentHashMap<String, Timer[]> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Create the metrics and start listening to the strategy's counters.
+     *
+     * @param cacheStrategy       the strategy whose counters are published
+     * @param registry            the Micrometer meter registry; may be {@code null} for no-op mode
+     * @param percentileHistogram whether latency timers publish histogram buckets
+     */
+    public CacheMetrics(CacheStrategy cacheStrategy, MeterRegistry registry, boolean percentileHistogram) {
+        this.registry = registry;
+        this.counters = cacheStrategy.getCounters().orElse(null);
+        this.percentileHistogram = percentileHistogram;
+        if (registry == null || counters == null) {
+            log.info("CacheMetrics initialized in no-op mode (registry={}, counters={})",
+                registry != null, counters != null);
+            return;
+        }
+        counters.setListener(this);
+        if (cacheStrategy instanceof LocalCacheStrategy local && local.getOffHeapStatistics().isPresent()) {
+            registerOffHeap(local);
+        }
+        log.info("CacheMetrics initialized with MeterRegistry: {}", registry.getClass().getSimpleName());
+    }
+
+    @Override
+    public void cacheCreated(String cacheName) {
+        counter(METRIC_GETS, cacheName, TAG_RESULT, "hit", CacheCounters.Snapshot::hits);
+        counter(METRIC_GETS, cacheName, TAG_RESULT, "miss", CacheCounters.Snapshot::misses);
+        counter(METRIC_GETS, cacheName, TAG_RESULT, "negative", CacheCounters.Snapshot::negativeHits);
+        counter(METRIC_LOADS, cacheName, TAG_RESULT, "success", CacheCounters.Snapshot::loads);
+        counter(METRIC_LOADS, cacheName, TAG_RESULT, "failure", CacheCounters.Snapshot::loadFailures);
+        counter(METRIC_PUTS, cacheName, null, null, CacheCounters.Snapshot::puts);
+        counter(METRIC_REMOVALS, cacheName, null, null, CacheCounters.Snapshot::removals);
+        counter(METRIC_EVICTIONS, cacheName, null, null, CacheCounters.Snapshot::evictions);
+        counter(METRIC_BYTES, cacheName, TAG_DIRECTION, "read", CacheCounters.Snapshot::bytesRead);
+        counter(METRIC_BYTES, cacheName, TAG_DIRECTION, "written", CacheCounters.Snapshot::bytesWritten);
+        timersFor(cacheName);
+        log.debug("Registered cache meters for cache '{}'", cacheName);
+    }
+
+    @Override
+    public void latencyRecorded(String cacheName, CacheCounters.Latency latency, long nanos) {
+        timersFor(cacheName)[latency.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    // ---------------------------------------------------------------
+    // Meter creation helpers
+    // ---------------------------------------------------------------
+
+    private void counter(String name, String cacheName, String tagKey, String tagValue,
+                         ToDoubleFunction<CacheCounters.Snapshot> count) {
+        FunctionCounter.Builder<CacheCounters> builder = FunctionCounter
+            .builder(name, counters, c -> count.applyAsDouble(c.snapshot(cacheName)))
+            .tag(TAG_CACHE, cacheName);
+        if (tagKey != null) {
+            builder.tag(tagKey, tagValue);
+        }
+        if (METRIC_BYTES.equals(name)) {
+            builder.baseUnit("bytes");
+        }
+        builder.register(registry);
+    }
+
+    private void registerOffHeap(LocalCacheStrategy local) {
+        Gauge.builder(METRIC_OFF_HEAP + ".capacity", local, l -> offHeap(l).capacityBytes())
+            .baseUnit("bytes")
+            .register(registry);
+        Gauge.builder(METRIC_OFF_HEAP + ".used", local, l -> offHeap(l).usedBytes())
+            .baseUnit("bytes")
+            .register(registry);
+        Gauge.builder(METRIC_OFF_HEAP + ".entries", local, l -> offHeap(l).entries())
+            .register(registry);
+        FunctionCounter.builder(METRIC_OFF_HEAP + ".rejected", local, l -> offHeap(l).rejected())
+            .register(registry);
+    }
+
+    private static LocalCacheStrategy.OffHeapStatistics offHeap(LocalCacheStrategy local) {
+        return local.getOffHeapStatistics().orElseThrow();
+    }
+
+    private Timer[] timersFor(String cacheName) {
+        Timer[] existing = timers.get(cacheName);
+        if (existing != null) {
+            return existing;
+        }
+        return timers.computeIfAbsent(cacheName, name -> {
+            CacheCounters.Latency[] latencies = CacheCounters.Latency.values();
+            Timer[] created = new Timer[latencies.length];
+            for (CacheCounters.Latency latency : latencies) {
+                created[latency.ordinal()] = Timer.builder(METRIC_LATENCY)
+                    .tag(TAG_CACHE, name)
+                    .tag(TAG_OPERATION, latency.name().toLowerCase(Locale.ROOT))
+                    .publishPercentileHistogram(percentileHistogram)
+                    .register(registry);
+            }
+            return created;
+        });
+    }
+}
@@ -1,12 +1,27 @@
 package dev.simplecore.simplix.cache.config;
 
+import dev.simplecore.simplix.cache.strategy.CacheCounters;
 import dev.simplecore.simplix.cache.strategy.CacheStrategy;
+import dev.simplecore.simplix.cache.strategy.NearCacheStrategy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
 /**
  * Cache Metrics Collector
  * Collects and logs cache metrics periodically
+ *
+ * <p>Counts are read from the strategy's {@link CacheCounters}, which never queries the
+ * backend; only strategies that keep no counters are asked for
+ * {@link CacheStrategy#getStatistics(String)}.
+ *
+ * <p>When the strategy is a {@link NearCacheStrategy}, the local and remote tier hit
+ * ratios are collected as well and exposed through {@link #getTierStatistics()}.
  */
 @Slf4j
 public class CacheMetricsCollector {
@@ -30,24 +45,81 @@ public class CacheMetricsCollector {
             return;
         }
 
-        properties.getCacheConfigs().keySet().forEach(cacheName -> {
-            try {
-                CacheStrategy.CacheStatistics stats = cacheStrategy.getStatistics(cacheName);
-
-                if (stats.hits() > 0 || stats.misses() > 0) {
-					//noinspection LoggingPlaceholderCountMatchesArgumentCount
-					log.debug("Cache metrics for {}: hits={}, misses={}, hitRate={:.2f}%, size={}, evictions={}",
-                        cacheName,
-                        stats.hits(),
-                        stats.misses(),
-                        stats.hitRate() * 100,
-                        stats.size(),
-                        stats.evictions()
-                    );
-                }
-            } catch (Exception e) {
-                log.trace("Failed to collect metrics for cache {}: {}", cacheName, e.getMessage());
+        Optional<CacheCounters> counters = cacheStrategy.getCounters();
+        if (counters.isPresent()) {
+            Set<String> cacheNames = new TreeSet<>(properties.getCacheConfigs().keySet());
+            cacheNames.addAll(counters.get().getCacheNames());
+            cacheNames.forEach(cacheName -> logCounters(cacheName, counters.get().snapshot(cacheName)));
+        } else {
+            properties.getCacheConfigs().keySet().forEach(this::logStatistics);
+        }
+
+        getTierStatistics().forEach((cacheName, tiers) -> {
+            if (tiers.requests() > 0) {
+                log.debug("Near cache tiers for {}: localHitRatio={}%, remoteHitRatio={}%, localHits={}, remoteHits={}, misses={}",
+                    cacheName,
+                    String.format("%.2f", tiers.localHitRatio() * 100),
+                    String.format("%.2f", tiers.remoteHitRatio() * 100),
+                    tiers.localHits(),
+                    tiers.remoteHits(),
+                    tiers.misses()
+                );
             }
         });
     }
+
+    private void logCounters(String cacheName, CacheCounters.Snapshot counts) {
+        if (counts.hits() > 0 || counts.misses() > 0) {
+            log.debug("Cache metrics for {}: hits={}, misses={}, negativeHits={}, hitRate={}%, loads={}, loadFailures={}, evictions={}, bytesRead={}, bytesWritten={}",
+                cacheName,
+                counts.hits(),
+                counts.misses(),
+                counts.negativeHits(),
+                String.format("%.2f", counts.hitRate() * 100),
+                counts.loads(),
+                counts.loadFailures(),
+                counts.evictions(),
+                counts.bytesRead(),
+                counts.bytesWritten()
+            );
+        }
+    }
+
+    private void logStatistics(String cacheName) {
+        try {
+            CacheStrategy.CacheStatistics stats = cacheStrategy.getStatistics(cacheName);
+
+            if (stats.hits() > 0 || stats.misses() > 0) {
+                log.debug("Cache metrics for {}: hits={}, misses={}, hitRate={}%, size={}, evictions={}",
+                    cacheName,
+                    stats.hits(),
+                    stats.misses(),
+                    String.format("%.2f", stats.hitRate() * 100),
+                    stats.size(),
+                    stats.evictions()
+                );
+            }
+        } catch (Exception e) {
+            log.trace("Failed to collect metrics for cache {}: {}", cacheName, e.getMessage());
+        }
+    }
+
+    /**
+     * Get the per-tier hit statistics of the configured caches and of every cache the
+     * near cache has served.
+     *
+     * @return tier statistics by cache name, or an empty map if the strategy has no local tier
+     */
+    public Map<String, NearCacheStrategy.TierStatistics> getTierStatistics() {
+        if (!(cacheStrategy instanceof NearCacheStrategy nearCache)) {
+            return Map.of();
+        }
+
+        Set<String> cacheNames = new TreeSet<>(properties.getCacheConfigs().keySet());
+        cacheNames.addAll(nearCache.getCacheNames());
+
+        Map<String, NearCacheStrategy.TierStatistics> result = new TreeMap<>();
+        cacheNames.forEach(cacheName -> result.put(cacheName, nearCache.getTierStatistics(cacheName)));
+        return result;
+    }
 }
\ No newline at end of file
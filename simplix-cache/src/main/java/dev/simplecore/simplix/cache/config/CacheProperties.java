@@ -23,11 +23,24 @@ public class CacheProperties {
      */
     private long defaultTtlSeconds = 3600; // 1 hour
 
+    /**
+     * Maximum number of entries of local caches without their own
+     * {@code maximum-size} or {@code maximum-weight}
+     */
+    private long maxSize = 10000;
+
     /**
      * Whether to cache null values
      */
     private boolean cacheNullValues = false;
 
+    /**
+     * TTL of the absent-value markers {@code CacheService.getOrCompute} stores when a loader
+     * returns null, so repeated lookups of missing keys skip the loader. 0 disables negative
+     * caching for caches without their own {@code negative-ttl-seconds}.
+     */
+    private long negativeTtlSeconds = 0;
+
     /**
      * Cache-specific configurations
      */
@@ -48,6 +61,41 @@ public class CacheProperties {
      */
     private NatsConfig nats = new NatsConfig();
 
+    /**
+     * Two-tier (local + remote) configuration
+     */
+    private TieredConfig tiered = new TieredConfig();
+
+    /**
+     * Near cache (local tier inside the cache strategy) configuration
+     */
+    private NearCacheConfig nearCache = new NearCacheConfig();
+
+    /**
+     * Distributed load lock configuration for getOrCompute
+     */
+    private LoadLockConfig loadLock = new LoadLockConfig();
+
+    /**
+     * Background refresh (refresh-ahead / stale-while-revalidate) configuration
+     */
+    private RefreshConfig refresh = new RefreshConfig();
+
+    /**
+     * Remote value codec and compression configuration
+     */
+    private CodecConfig codec = new CodecConfig();
+
+    /**
+     * Startup warm-up from a snapshot of the hottest local entries
+     */
+    private WarmUpConfig warmUp = new WarmUpConfig();
+
+    /**
+     * Off-heap tier of the local strategy for large values
+     */
+    private OffHeapConfig offHeap = new OffHeapConfig();
+
     /**
      * Initialize default cache configurations
      */
@@ -64,6 +112,70 @@ public class CacheProperties {
     public static class CacheConfig {
         private long ttlSeconds;
 
+        /**
+         * TTL of the in-process tier when tiered or near caching is enabled. Falls back to
+         * {@code simplix.cache.tiered.local-ttl-seconds} or
+         * {@code simplix.cache.near-cache.local-ttl-seconds} when unset.
+         */
+        private Long localTtlSeconds;
+
+        /**
+         * Refresh-ahead window of {@code CacheService.getOrCompute} as a fraction of the TTL.
+         * An entry read when less than this fraction of its TTL remains is reloaded in the
+         * background; e.g. 0.2 refreshes entries read during the last 20% of their lifetime.
+         * Disabled when unset.
+         */
+        private Double refreshAheadFraction;
+
+        /**
+         * Seconds past the TTL during which {@code CacheService.getOrCompute} still serves the
+         * expired value while reloading it in the background. Disabled when unset.
+         */
+        private Long staleWhileRevalidateSeconds;
+
+        /**
+         * Value codec of the remote strategies (redis, nats) for this cache.
+         * Falls back to {@code simplix.cache.codec.default-codec} when unset.
+         */
+        private String codec;
+
+        /**
+         * Value compression of the remote strategies for this cache ({@code none} to disable).
+         * Falls back to {@code simplix.cache.codec.compression} when unset.
+         */
+        private String compression;
+
+        /**
+         * Maximum number of entries of the local strategy for this cache.
+         * Falls back to {@code simplix.cache.max-size} when neither this nor
+         * {@code maximum-weight} is set.
+         */
+        private Long maximumSize;
+
+        /**
+         * Maximum total weight of the local strategy for this cache, as measured by
+         * {@code weigher}. Takes precedence over {@code maximum-size}.
+         */
+        private Long maximumWeight;
+
+        /**
+         * Name of the {@code CacheWeigher} used with {@code maximum-weight}.
+         * Defaults to {@code approximate-size}.
+         */
+        private String weigher;
+
+        /**
+         * Seconds after the last read or write at which a local entry expires, in addition
+         * to its TTL. Disabled when unset.
+         */
+        private Long expireAfterAccessSeconds;
+
+        /**
+         * TTL of absent-value markers for this cache; 0 disables negative caching.
+         * Falls back to {@code simplix.cache.negative-ttl-seconds} when unset.
+         */
+        private Long negativeTtlSeconds;
+
         public CacheConfig() {
             this.ttlSeconds = 3600L;
         }
@@ -79,6 +191,9 @@ public class CacheProperties {
     @Data
     public static class MetricsConfig {
         private boolean enabled = true;
+
+        /** Whether the get, put and load latency timers publish percentile histogram buckets. */
+        private boolean percentileHistogram = true;
     }
 
     /**
@@ -88,6 +203,30 @@ public class CacheProperties {
     public static class RedisConfig {
         private String keyPrefix = "cache:";
         private boolean useKeyPrefix = true;
+
+        /** COUNT hint passed to each SCAN call when enumerating the keys of a cache. */
+        private int scanCount = 1000;
+
+        /** Maximum number of keys removed by a single UNLINK when clearing a cache. */
+        private int deleteBatchSize = 500;
+
+        /**
+         * Maximum number of keys per command or pipeline chunk in bulk operations:
+         * {@code putAll} (pipelined SET with expiry), {@code evictAll} (UNLINK) and {@code getAll} (MGET).
+         */
+        private int pipelineChunkSize = 500;
+
+        /**
+         * Number of random keys sampled to estimate the size of a cache in statistics.
+         * Databases holding no more keys than this are counted exactly; 0 disables the estimate.
+         */
+        private int statisticsSampleSize = 100;
+
+        /**
+         * Threads that run the async operations through the template when the connection
+         * factory is not reactive. Unused with Lettuce, whose reactive connection is used instead.
+         */
+        private int asyncThreads = 4;
     }
 
     /**
@@ -109,5 +248,191 @@ public class CacheProperties {
 
         /** Default replicas for newly created KV buckets. */
         private int replicas = 1;
+
+        /**
+         * Whether to honour per-entry TTLs with per-message TTL headers (nats-server 2.11+).
+         * Only buckets created while this is enabled accept them. {@code ttl-seconds} remains
+         * the bucket's {@code maxAge} and the TTL of puts without one.
+         */
+        private boolean perEntryTtl = false;
+
+        /** Maximum number of unacknowledged async publishes in bulk operations. */
+        private int publishWindow = 256;
+
+        /** How long bulk and async operations wait for acknowledgements and replies, in milliseconds. */
+        private long publishTimeoutMillis = 5000;
+
+        /**
+         * Whether to serve reads from a local mirror of each bucket, kept current by a KV watch.
+         */
+        private boolean localMirror = false;
+
+        /** Maximum number of keys mirrored per cache. */
+        private long mirrorMaximumSize = 10000;
+
+        /**
+         * Whether keys the mirror does not hold are read from the server. When false they
+         * are misses, so reads never leave the node.
+         */
+        private boolean mirrorRemoteFallback = true;
+    }
+
+    /**
+     * Two-tier cache configuration.
+     *
+     * <p>When enabled, the core {@code CacheProvider} keeps an in-process tier in front of
+     * the configured remote strategy (redis or nats). Writes and evictions are broadcast to
+     * the other nodes, which drop their local copy; the local TTL bounds staleness should a
+     * broadcast be missed.
+     */
+    @Data
+    public static class TieredConfig {
+        /** Whether to front the remote strategy with an in-process tier. */
+        private boolean enabled = false;
+
+        /** Default TTL of in-process entries, in seconds. */
+        private long localTtlSeconds = 60;
+
+        /** Redis channel or NATS subject used for invalidation broadcasts. */
+        private String invalidationChannel = "simplix.cache.invalidation";
+    }
+
+    /**
+     * Near cache configuration.
+     *
+     * <p>When enabled with {@code mode=redis} or {@code mode=nats}, the cache strategy itself
+     * becomes a {@code NearCacheStrategy}: a bounded Caffeine tier in front of the remote
+     * strategy, invalidated across nodes through the invalidation channel. Unlike the tiered
+     * provider this also covers {@code CacheService} users.
+     */
+    @Data
+    public static class NearCacheConfig {
+        /** Whether to front the remote strategy with a local tier. */
+        private boolean enabled = false;
+
+        /** Maximum number of local entries per cache. */
+        private long maximumSize = 10000;
+
+        /** Default TTL of local entries, in seconds. */
+        private long localTtlSeconds = 60;
+
+        /** Redis channel or NATS subject used for invalidation broadcasts. */
+        private String invalidationChannel = "simplix.cache.invalidation";
+    }
+
+    /**
+     * Distributed load lock configuration.
+     *
+     * <p>Concurrent {@code getOrCompute} misses for the same key are always coalesced within a
+     * node. When this lock is enabled, the remote strategies (redis or nats) also take a
+     * short-lived lock per key so only one node runs the loader; the others poll the cache
+     * for up to {@code wait-millis} and load the value themselves if it has not appeared.
+     */
+    @Data
+    public static class LoadLockConfig {
+        /** Whether to coordinate loads across nodes with a distributed lock. */
+        private boolean enabled = false;
+
+        /** Lock lease in milliseconds; a lock left by a failed node expires after this. */
+        private long leaseMillis = 10000;
+
+        /** How long a node that did not get the lock waits for the value, in milliseconds. */
+        private long waitMillis = 2000;
+
+        /** Interval between cache reads while waiting for the value, in milliseconds. */
+        private long pollIntervalMillis = 50;
+    }
+
+    /**
+     * Warm-up configuration.
+     *
+     * <p>On graceful shutdown the hottest entries of each local cache are written to
+     * {@code snapshot-path}; on startup they are restored before the cache health indicator
+     * reports UP. Near caches reload the values from the remote tier, local-only caches take
+     * them from the snapshot.
+     */
+    @Data
+    public static class WarmUpConfig {
+        /** Whether to write a snapshot on shutdown and restore it on startup. */
+        private boolean enabled = false;
+
+        /** Snapshot file location. */
+        private String snapshotPath = "simplix-cache-snapshot.json";
+
+        /** Maximum number of entries saved per cache, hottest first. */
+        private int hottestKeysPerCache = 1000;
+
+        /** Snapshots older than this are ignored, in seconds. */
+        private long maxSnapshotAgeSeconds = 3600;
+
+        /** Maximum number of remote reads in flight while warming a near cache. */
+        private int parallelism = 32;
+
+        /** How long the health indicator waits for the warm-up before reporting UP, in seconds. */
+        private long timeoutSeconds = 30;
+    }
+
+    /**
+     * Off-heap configuration.
+     *
+     * <p>Values of the local strategy whose serialized form with the cache's codec takes
+     * {@code threshold-bytes} or more, or that the cache's configured {@code weigher} measures
+     * at that size, are kept in a bounded store outside the Java heap, so they do not lengthen
+     * garbage collection. The store is direct memory (limited by {@code -XX:MaxDirectMemorySize})
+     * unless {@code mapped-file} is set. Values that do not fit stay on the heap.
+     */
+    @Data
+    public static class OffHeapConfig {
+        /** Whether large local values are moved off the heap. */
+        private boolean enabled = false;
+
+        /** Total size of the store, in bytes. */
+        private long capacityBytes = 256L * 1024 * 1024;
+
+        /** Allocation unit of the store; each value takes whole blocks. */
+        private int blockSizeBytes = 8192;
+
+        /** Values serializing to fewer bytes than this, or weighing less with a configured weigher, stay on the heap. */
+        private int thresholdBytes = 65536;
+
+        /** File to memory-map the store onto instead of direct memory; it is unlinked once opened. */
+        private String mappedFile;
+    }
+
+    /**
+     * Background refresh configuration.
+     *
+     * <p>Sizes the bounded executor that reloads entries for caches with
+     * {@code refresh-ahead-fraction} or {@code stale-while-revalidate-seconds}. Refreshes that
+     * do not fit in the queue are skipped; the entry then expires and is loaded on demand.
+     */
+    @Data
+    public static class RefreshConfig {
+        /** Number of refresh threads. */
+        private int threads = 2;
+
+        /** Maximum number of pending refreshes. */
+        private int queueCapacity = 1000;
+    }
+
+    /**
+     * Remote value codec configuration.
+     *
+     * <p>Values written by the redis and nats strategies are encoded with a registered
+     * {@code ValueCodec} ({@code json} built in) and, from the threshold size up, compressed
+     * with a registered {@code ValueCompressor} ({@code deflate} built in). Additional codecs
+     * and compressors are picked up as beans. Each value records its format in a small
+     * header, so changing these settings does not require flushing the cache.
+     */
+    @Data
+    public static class CodecConfig {
+        /** Codec of caches without their own {@code codec}. */
+        private String defaultCodec = "json";
+
+        /** Compression of caches without their own {@code compression}; {@code none} disables it. */
+        private String compression = "none";
+
+        /** Encoded values smaller than this many bytes are stored uncompressed. */
+        private int compressionThresholdBytes = 1024;
     }
-}
\ No newline at end of file
+}
@@ -2,21 +2,35 @@ package dev.simplecore.simplix.cache.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.simplecore.simplix.cache.codec.CacheValueSerializer;
+import dev.simplecore.simplix.cache.codec.ValueCodec;
+import dev.simplecore.simplix.cache.codec.ValueCompressor;
+import dev.simplecore.simplix.cache.invalidation.CacheInvalidationBroadcaster;
+import dev.simplecore.simplix.cache.invalidation.InMemoryCacheInvalidationBroadcaster;
+import dev.simplecore.simplix.cache.invalidation.NatsCacheInvalidationBroadcaster;
+import dev.simplecore.simplix.cache.invalidation.RedisCacheInvalidationBroadcaster;
 import dev.simplecore.simplix.cache.provider.CoreCacheProviderImpl;
+import dev.simplecore.simplix.cache.provider.TieredCacheProvider;
 import dev.simplecore.simplix.cache.service.CacheService;
+import dev.simplecore.simplix.cache.service.CacheWarmer;
 import dev.simplecore.simplix.cache.strategy.CacheStrategy;
+import dev.simplecore.simplix.cache.strategy.CacheWeigher;
 import dev.simplecore.simplix.cache.strategy.LocalCacheStrategy;
 import dev.simplecore.simplix.cache.strategy.NatsCacheStrategy;
+import dev.simplecore.simplix.cache.strategy.NearCacheStrategy;
 import dev.simplecore.simplix.cache.strategy.RedisCacheStrategy;
 import dev.simplecore.simplix.core.cache.CacheProvider;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.nats.client.Connection;
 import java.time.Duration;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -47,6 +61,12 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @Slf4j
 public class SimpliXCacheAutoConfiguration {
 
+    /**
+     * Whether an in-process tier that needs invalidation broadcasts is enabled
+     */
+    static final String LOCAL_TIER_ENABLED =
+        "${simplix.cache.tiered.enabled:false} or ${simplix.cache.near-cache.enabled:false}";
+
     /**
      * Local Cache Manager
      * Used when mode=local or as fallback when Redis is not available
@@ -68,9 +88,22 @@ public class SimpliXCacheAutoConfiguration {
      */
     @Bean
     @ConditionalOnMissingBean(CacheStrategy.class)
-    public CacheStrategy localCacheStrategy() {
+    public CacheStrategy localCacheStrategy(CacheProperties properties,
+                                            ObjectProvider<CacheWeigher> weighers,
+                                            ObjectProvider<ObjectMapper> objectMapperProvider,
+                                            ObjectProvider<ValueCodec> codecs,
+                                            ObjectProvider<ValueCompressor> compressors) {
         log.info("Using local cache strategy");
-        LocalCacheStrategy strategy = new LocalCacheStrategy();
+        CacheValueSerializer serializer = null;
+        if (properties.getOffHeap().isEnabled()) {
+            ObjectMapper objectMapper = objectMapperProvider.getIfAvailable(() -> {
+                ObjectMapper fallback = new ObjectMapper();
+                fallback.registerModule(new JavaTimeModule());
+                return fallback;
+            });
+            serializer = valueSerializer(properties, objectMapper, codecs, compressors);
+        }
+        LocalCacheStrategy strategy = new LocalCacheStrategy(properties, weighers.orderedStream().toList(), serializer);
         strategy.initialize();
         return strategy;
     }
@@ -80,8 +113,14 @@ public class SimpliXCacheAutoConfiguration {
      */
     @Bean
     @ConditionalOnMissingBean(CacheService.class)
-    public CacheService cacheService(CacheStrategy cacheStrategy) {
-        return new CacheService(cacheStrategy);
+    public CacheService cacheService(CacheStrategy cacheStrategy, CacheProperties properties,
+                                     ObjectProvider<ObjectMapper> objectMapperProvider) {
+        ObjectMapper objectMapper = objectMapperProvider.getIfAvailable(() -> {
+            ObjectMapper fallback = new ObjectMapper();
+            fallback.registerModule(new JavaTimeModule());
+            return fallback;
+        });
+        return new CacheService(cacheStrategy, properties, objectMapper);
     }
 
     /**
@@ -89,10 +128,21 @@ public class SimpliXCacheAutoConfiguration {
      */
     @Bean
     @ConditionalOnClass(name = "dev.simplecore.simplix.core.cache.CacheProvider")
+    @ConditionalOnProperty(name = "simplix.cache.tiered.enabled", havingValue = "false", matchIfMissing = true)
     public CacheProvider coreCacheProvider(CacheService cacheService) {
         return new CoreCacheProviderImpl(cacheService);
     }
 
+    /**
+     * Cache warmer that restores the hottest local entries saved at the last shutdown
+     */
+    @Bean
+    @ConditionalOnMissingBean(CacheWarmer.class)
+    @ConditionalOnProperty(name = "simplix.cache.warm-up.enabled", havingValue = "true")
+    public CacheWarmer cacheWarmer(CacheStrategy cacheStrategy, CacheProperties properties) {
+        return new CacheWarmer(cacheStrategy, properties);
+    }
+
     /**
      * Cache metrics collector
      */
@@ -102,6 +152,46 @@ public class SimpliXCacheAutoConfiguration {
         return new CacheMetricsCollector(cacheStrategy, properties);
     }
 
+    /**
+     * Wrap a remote strategy in a near cache when {@code simplix.cache.near-cache.enabled=true}
+     */
+    static CacheStrategy withNearCache(CacheStrategy remote,
+                                       CacheProperties properties,
+                                       ObjectProvider<CacheInvalidationBroadcaster> broadcasterProvider) {
+        if (!properties.getNearCache().isEnabled()) {
+            return remote;
+        }
+        log.info("Fronting {} with a near cache (maximumSize={}, localTtl={}s)", remote.getName(),
+            properties.getNearCache().getMaximumSize(), properties.getNearCache().getLocalTtlSeconds());
+        CacheInvalidationBroadcaster broadcaster = broadcasterProvider
+            .getIfAvailable(InMemoryCacheInvalidationBroadcaster::new);
+        NearCacheStrategy nearCache = new NearCacheStrategy(
+            new LocalCacheStrategy(properties.getNearCache().getMaximumSize()), remote, broadcaster, properties);
+        nearCache.initialize();
+        return nearCache;
+    }
+
+    /**
+     * Value serializer for remote strategies and the local off-heap tier: the built-in codecs plus any
+     * {@link ValueCodec} and {@link ValueCompressor} beans
+     */
+    static CacheValueSerializer valueSerializer(CacheProperties properties,
+                                                ObjectMapper objectMapper,
+                                                ObjectProvider<ValueCodec> codecs,
+                                                ObjectProvider<ValueCompressor> compressors) {
+        return new CacheValueSerializer(properties, objectMapper,
+            codecs.orderedStream().toList(), compressors.orderedStream().toList());
+    }
+
+    /**
+     * Invalidation channel of the enabled local tier (near cache takes precedence)
+     */
+    static String invalidationChannel(CacheProperties properties) {
+        return properties.getNearCache().isEnabled()
+            ? properties.getNearCache().getInvalidationChannel()
+            : properties.getTiered().getInvalidationChannel();
+    }
+
     /**
      * Redis Configuration
      * Configures Redis cache when Redis is available on the classpath
@@ -176,17 +266,35 @@ public class SimpliXCacheAutoConfiguration {
         )
         public CacheStrategy redisCacheStrategy(
                 StringRedisTemplate redisTemplate,
-                CacheProperties properties) {
+                CacheProperties properties,
+                ObjectProvider<ValueCodec> codecs,
+                ObjectProvider<ValueCompressor> compressors,
+                ObjectProvider<CacheInvalidationBroadcaster> broadcasterProvider) {
             log.info("Using Redis cache strategy");
-            RedisCacheStrategy strategy =
-                new RedisCacheStrategy(redisTemplate, properties);
+            ObjectMapper objectMapper = new ObjectMapper();
+            objectMapper.registerModule(new JavaTimeModule());
+            RedisCacheStrategy strategy = new RedisCacheStrategy(redisTemplate, properties,
+                valueSerializer(properties, objectMapper, codecs, compressors));
             // Initialize lazily to support testing with mocks
             try {
                 strategy.initialize();
             } catch (Exception e) {
                 log.warn("Failed to initialize Redis cache strategy during bean creation, will retry on first use: {}", e.getMessage());
             }
-            return strategy;
+            return withNearCache(strategy, properties, broadcasterProvider);
+        }
+
+        /**
+         * Redis pub/sub invalidation broadcaster for the tiered cache
+         */
+        @Bean
+        @ConditionalOnMissingBean(CacheInvalidationBroadcaster.class)
+        @ConditionalOnBean(StringRedisTemplate.class)
+        @ConditionalOnExpression(LOCAL_TIER_ENABLED)
+        public CacheInvalidationBroadcaster redisCacheInvalidationBroadcaster(
+                StringRedisTemplate redisTemplate,
+                CacheProperties properties) {
+            return new RedisCacheInvalidationBroadcaster(redisTemplate, invalidationChannel(properties));
         }
     }
 
@@ -207,7 +315,10 @@ public class SimpliXCacheAutoConfiguration {
         @ConditionalOnBean(Connection.class)
         public CacheStrategy natsCacheStrategy(Connection connection,
                                                 CacheProperties properties,
-                                                ObjectProvider<ObjectMapper> objectMapperProvider) {
+                                                ObjectProvider<ObjectMapper> objectMapperProvider,
+                                                ObjectProvider<ValueCodec> codecs,
+                                                ObjectProvider<ValueCompressor> compressors,
+                                                ObjectProvider<CacheInvalidationBroadcaster> broadcasterProvider) {
             log.info("Using NATS KV cache strategy");
             ObjectMapper objectMapper = objectMapperProvider
                     .getIfAvailable(() -> {
@@ -217,13 +328,60 @@ public class SimpliXCacheAutoConfiguration {
                         return fallback;
                     });
             NatsCacheStrategy strategy =
-                    new NatsCacheStrategy(connection, properties, objectMapper);
+                    new NatsCacheStrategy(connection, properties,
+                        valueSerializer(properties, objectMapper, codecs, compressors));
             try {
                 strategy.initialize();
             } catch (Exception e) {
                 log.warn("Failed to initialize NATS cache strategy during bean creation, will retry on first use: {}", e.getMessage());
             }
-            return strategy;
+            return withNearCache(strategy, properties, broadcasterProvider);
+        }
+
+        /**
+         * NATS subject invalidation broadcaster for the tiered cache
+         */
+        @Bean
+        @ConditionalOnMissingBean(CacheInvalidationBroadcaster.class)
+        @ConditionalOnBean(Connection.class)
+        @ConditionalOnExpression(LOCAL_TIER_ENABLED)
+        public CacheInvalidationBroadcaster natsCacheInvalidationBroadcaster(Connection connection,
+                                                                             CacheProperties properties) {
+            return new NatsCacheInvalidationBroadcaster(connection, invalidationChannel(properties));
+        }
+    }
+
+    /**
+     * Tiered Configuration
+     * Exposes a two-tier core CacheProvider (in-process tier in front of the
+     * remote strategy) when {@code simplix.cache.tiered.enabled=true}
+     */
+    @Slf4j
+    @Configuration
+    @ConditionalOnClass(name = "dev.simplecore.simplix.core.cache.CacheProvider")
+    @ConditionalOnProperty(name = "simplix.cache.tiered.enabled", havingValue = "true")
+    public static class TieredConfiguration {
+
+        @Bean
+        public CacheProvider tieredCacheProvider(CacheStrategy cacheStrategy,
+                                                 CacheService cacheService,
+                                                 CacheProperties properties,
+                                                 ObjectProvider<CacheInvalidationBroadcaster> broadcasterProvider) {
+            if (cacheStrategy instanceof LocalCacheStrategy) {
+                log.warn("Tiered cache requested but no remote strategy is active (mode={}), using single tier",
+                    properties.getMode());
+                return new CoreCacheProviderImpl(cacheService);
+            }
+            if (cacheStrategy instanceof NearCacheStrategy) {
+                log.warn("Tiered cache requested but the cache strategy already has a local tier (near-cache), using single tier");
+                return new CoreCacheProviderImpl(cacheService);
+            }
+
+            CacheInvalidationBroadcaster broadcaster = broadcasterProvider
+                .getIfAvailable(InMemoryCacheInvalidationBroadcaster::new);
+            LocalCacheStrategy localTier = new LocalCacheStrategy();
+            localTier.initialize();
+            return new TieredCacheProvider(localTier, cacheStrategy, broadcaster, properties);
         }
     }
 
@@ -239,8 +397,9 @@ public class SimpliXCacheAutoConfiguration {
          * Cache health indicator
          */
         @Bean
-        public CacheHealthIndicator cacheHealthIndicator(CacheStrategy cacheStrategy) {
-            return new CacheHealthIndicator(cacheStrategy);
+        public CacheHealthIndicator cacheHealthIndicator(CacheStrategy cacheStrategy,
+                                                         ObjectProvider<CacheWarmer> warmerProvider) {
+            return new CacheHealthIndicator(cacheStrategy, warmerProvider.getIfAvailable());
         }
     }
 
@@ -252,6 +411,18 @@ public class SimpliXCacheAutoConfiguration {
     @EnableScheduling
     @ConditionalOnProperty(name = "simplix.cache.metrics.enabled", havingValue = "true", matchIfMissing = true)
     public static class MetricsConfiguration {
-        // Scheduling is enabled for CacheMetricsCollector @Scheduled methods
+
+        /**
+         * Micrometer meters for the strategy's cache counters and latencies
+         */
+        @Bean
+        @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+        @ConditionalOnMissingBean
+        public CacheMetrics cacheMetrics(CacheStrategy cacheStrategy,
+                                         CacheProperties properties,
+                                         Optional<MeterRegistry> meterRegistry) {
+            return new CacheMetrics(cacheStrategy, meterRegistry.orElse(null),
+                properties.getMetrics().isPercentileHistogram());
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+package dev.simplecore.simplix.cache.invalidation;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Base class handling node identity, listener registration and self-message filtering.
+ * Subclasses only move encoded messages over their transport.
+ */
+@Slf4j
+public abstract class AbstractCacheInvalidationBroadcaster implements CacheInvalidationBroadcaster {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Consumer<CacheInvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void publishEvict(String cacheName, Object key) {
+        send(CacheInvalidationMessage.evict(nodeId, cacheName, key));
+    }
+
+    @Override
+    public void publishClear(String cacheName) {
+        send(CacheInvalidationMessage.clear(nodeId, cacheName));
+    }
+
+    @Override
+    public void publishClearAll() {
+        send(CacheInvalidationMessage.clearAll(nodeId));
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+        listeners.add(listener);
+        onFirstSubscriber();
+    }
+
+    @Override
+    public void close() {
+        listeners.clear();
+    }
+
+    /**
+     * Transport-specific publish of an encoded message.
+     */
+    protected abstract void send(CacheInvalidationMessage message);
+
+    /**
+     * Hook for transports that open their subscription lazily.
+     */
+    protected void onFirstSubscriber() {
+    }
+
+    /**
+     * Deliver a received payload to the listeners, unless this node published it.
+     */
+    protected void dispatch(byte[] payload) {
+        CacheInvalidationMessage message;
+        try {
+            message = CacheInvalidationMessage.decode(payload);
+        } catch (IllegalArgumentException e) {
+            log.debug("Ignoring malformed cache invalidation message");
+            return;
+        }
+        dispatch(message);
+    }
+
+    protected void dispatch(CacheInvalidationMessage message) {
+        if (nodeId.equals(message.origin())) {
+            return;
+        }
+        for (Consumer<CacheInvalidationMessage> listener : listeners) {
+            try {
+                listener.accept(message);
+            } catch (Exception e) {
+                log.warn("Cache invalidation listener failed for cache {}: {}",
+                        message.cacheName(), e.getMessage());
+            }
+        }
+    }
+}
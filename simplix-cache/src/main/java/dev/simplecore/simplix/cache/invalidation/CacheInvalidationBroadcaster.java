@@ -0,0 +1,48 @@
+package dev.simplecore.simplix.cache.invalidation;
+
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts cache invalidations to the other nodes of a deployment.
+ *
+ * <p>Used by the tiered cache to keep per-node (L1) entries consistent with the shared
+ * remote tier: whenever a node writes or evicts an entry it publishes a message, and every
+ * other node drops its local copy. Messages published by a node are never delivered back
+ * to that node's own listeners.
+ *
+ * <p>Delivery is best-effort (fire-and-forget pub/sub); local entries must therefore
+ * still carry a TTL that bounds staleness if a message is lost.
+ */
+public interface CacheInvalidationBroadcaster {
+
+    /**
+     * Get the identifier of this node, stamped as origin on published messages.
+     */
+    String getNodeId();
+
+    /**
+     * Announce that a key was written or evicted.
+     */
+    void publishEvict(String cacheName, Object key);
+
+    /**
+     * Announce that a whole cache was cleared.
+     */
+    void publishClear(String cacheName);
+
+    /**
+     * Announce that every cache was cleared, including caches other nodes have seen and this
+     * one has not.
+     */
+    void publishClearAll();
+
+    /**
+     * Register a listener for invalidations published by other nodes.
+     */
+    void subscribe(Consumer<CacheInvalidationMessage> listener);
+
+    /**
+     * Release the underlying subscription.
+     */
+    void close();
+}
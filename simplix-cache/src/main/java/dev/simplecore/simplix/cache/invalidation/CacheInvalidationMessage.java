@@ -0,0 +1,99 @@
+package dev.simplecore.simplix.cache.invalidation;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Cache invalidation notice exchanged between nodes.
+ *
+ * <p>Messages are encoded as a single delimited UTF-8 line rather than JSON so that
+ * publishing one costs little more than the key itself:
+ * {@code <type>\u001F<origin>[\u001F<cacheName>[\u001F<key>]]}, where type is {@code E}
+ * (evict one key), {@code C} (clear the whole cache) or {@code A} (clear every cache, with
+ * neither cache name nor key).
+ *
+ * @param origin    identifier of the publishing node, used to skip self-delivery
+ * @param cacheName the affected cache, or null when every cache was cleared
+ * @param key       the evicted key, or null when a whole cache was cleared
+ */
+public record CacheInvalidationMessage(String origin, String cacheName, String key) {
+
+    private static final char SEPARATOR = '\u001F';
+    private static final char TYPE_EVICT = 'E';
+    private static final char TYPE_CLEAR = 'C';
+    private static final char TYPE_CLEAR_ALL = 'A';
+
+    public static CacheInvalidationMessage evict(String origin, String cacheName, Object key) {
+        return new CacheInvalidationMessage(origin, cacheName, String.valueOf(key));
+    }
+
+    public static CacheInvalidationMessage clear(String origin, String cacheName) {
+        return new CacheInvalidationMessage(origin, cacheName, null);
+    }
+
+    public static CacheInvalidationMessage clearAll(String origin) {
+        return new CacheInvalidationMessage(origin, null, null);
+    }
+
+    /**
+     * Whether this message clears the whole cache rather than a single key.
+     */
+    public boolean isClear() {
+        return cacheName != null && key == null;
+    }
+
+    /**
+     * Whether this message clears every cache.
+     */
+    public boolean isClearAll() {
+        return cacheName == null;
+    }
+
+    public String encode() {
+        if (isClearAll()) {
+            return TYPE_CLEAR_ALL + String.valueOf(SEPARATOR) + origin;
+        }
+        StringBuilder sb = new StringBuilder(origin.length() + cacheName.length()
+                + (key == null ? 0 : key.length()) + 4);
+        sb.append(isClear() ? TYPE_CLEAR : TYPE_EVICT)
+                .append(SEPARATOR).append(origin)
+                .append(SEPARATOR).append(cacheName);
+        if (!isClear()) {
+            sb.append(SEPARATOR).append(key);
+        }
+        return sb.toString();
+    }
+
+    public byte[] encodeBytes() {
+        return encode().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decode a message produced by {@link #encode()}.
+     *
+     * @param encoded the encoded message
+     * @return the decoded message
+     * @throws IllegalArgumentException if the payload is not a valid invalidation message
+     */
+    public static CacheInvalidationMessage decode(String encoded) {
+        if (encoded == null || encoded.length() < 2 || encoded.charAt(1) != SEPARATOR) {
+            throw new IllegalArgumentException("Malformed cache invalidation message");
+        }
+
+        char type = encoded.charAt(0);
+        String[] parts = encoded.substring(2).split(String.valueOf(SEPARATOR), 3);
+        if (type == TYPE_CLEAR_ALL && parts.length == 1) {
+            return new CacheInvalidationMessage(parts[0], null, null);
+        }
+        if (type == TYPE_CLEAR && parts.length == 2) {
+            return new CacheInvalidationMessage(parts[0], parts[1], null);
+        }
+        if (type == TYPE_EVICT && parts.length == 3) {
+            return new CacheInvalidationMessage(parts[0], parts[1], parts[2]);
+        }
+        throw new IllegalArgumentException("Malformed cache invalidation message");
+    }
+
+    public static CacheInvalidationMessage decode(byte[] encoded) {
+        return decode(new String(encoded, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,48 @@
+package dev.simplecore.simplix.cache.invalidation;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * In-process broadcaster that delivers invalidations to peers created from the same hub.
+ *
+ * <p>Used when no remote transport is configured (a single node has no peers to notify)
+ * and in tests, where several "nodes" can share one JVM:
+ * <pre>{@code
+ * InMemoryCacheInvalidationBroadcaster nodeA = new InMemoryCacheInvalidationBroadcaster();
+ * InMemoryCacheInvalidationBroadcaster nodeB = nodeA.newPeer();
+ * }</pre>
+ */
+public class InMemoryCacheInvalidationBroadcaster extends AbstractCacheInvalidationBroadcaster {
+
+    private final Set<InMemoryCacheInvalidationBroadcaster> hub;
+
+    public InMemoryCacheInvalidationBroadcaster() {
+        this(new CopyOnWriteArraySet<>());
+    }
+
+    private InMemoryCacheInvalidationBroadcaster(Set<InMemoryCacheInvalidationBroadcaster> hub) {
+        this.hub = hub;
+        hub.add(this);
+    }
+
+    /**
+     * Create another broadcaster attached to the same hub.
+     */
+    public InMemoryCacheInvalidationBroadcaster newPeer() {
+        return new InMemoryCacheInvalidationBroadcaster(hub);
+    }
+
+    @Override
+    protected void send(CacheInvalidationMessage message) {
+        for (InMemoryCacheInvalidationBroadcaster peer : hub) {
+            peer.dispatch(message);
+        }
+    }
+
+    @Override
+    public void close() {
+        hub.remove(this);
+        super.close();
+    }
+}
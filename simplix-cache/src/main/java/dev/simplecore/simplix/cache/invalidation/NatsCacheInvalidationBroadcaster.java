@@ -0,0 +1,57 @@
+package dev.simplecore.simplix.cache.invalidation;
+
+import io.nats.client.Connection;
+import io.nats.client.Dispatcher;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Broadcasts invalidations over a core NATS subject.
+ *
+ * <p>Core NATS (not JetStream) is used on purpose: invalidations are only meaningful to
+ * nodes that are running right now, so persistence would add cost without benefit.
+ */
+@Slf4j
+public class NatsCacheInvalidationBroadcaster extends AbstractCacheInvalidationBroadcaster {
+
+    private final Connection connection;
+    private final String subject;
+    private volatile Dispatcher dispatcher;
+
+    public NatsCacheInvalidationBroadcaster(Connection connection, String subject) {
+        this.connection = connection;
+        this.subject = subject;
+    }
+
+    @Override
+    protected void send(CacheInvalidationMessage message) {
+        try {
+            connection.publish(subject, message.encodeBytes());
+        } catch (Exception e) {
+            log.warn("Failed to publish cache invalidation for cache {} on NATS subject {}: {}",
+                    message.cacheName(), subject, e.getMessage());
+        }
+    }
+
+    @Override
+    protected synchronized void onFirstSubscriber() {
+        if (dispatcher != null) {
+            return;
+        }
+        dispatcher = connection.createDispatcher(msg -> dispatch(msg.getData()));
+        dispatcher.subscribe(subject);
+        log.info("Subscribed to cache invalidation subject {}", subject);
+    }
+
+    @Override
+    public synchronized void close() {
+        super.close();
+        if (dispatcher != null) {
+            try {
+                connection.closeDispatcher(dispatcher);
+            } catch (Exception e) {
+                log.debug("Failed to close NATS invalidation dispatcher: {}", e.getMessage());
+            }
+            dispatcher = null;
+        }
+    }
+}
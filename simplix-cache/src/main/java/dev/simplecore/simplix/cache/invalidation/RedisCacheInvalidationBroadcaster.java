@@ -0,0 +1,63 @@
+package dev.simplecore.simplix.cache.invalidation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Broadcasts invalidations over a Redis pub/sub channel.
+ *
+ * <p>The listener container is created and started on the first subscription so that
+ * publish-only use never opens a subscriber connection.
+ */
+@Slf4j
+public class RedisCacheInvalidationBroadcaster extends AbstractCacheInvalidationBroadcaster {
+
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private volatile RedisMessageListenerContainer container;
+
+    public RedisCacheInvalidationBroadcaster(StringRedisTemplate redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    @Override
+    protected void send(CacheInvalidationMessage message) {
+        try {
+            redisTemplate.convertAndSend(channel, message.encode());
+        } catch (Exception e) {
+            log.warn("Failed to publish cache invalidation for cache {} on Redis channel {}: {}",
+                    message.cacheName(), channel, e.getMessage());
+        }
+    }
+
+    @Override
+    protected synchronized void onFirstSubscriber() {
+        if (container != null) {
+            return;
+        }
+        RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(redisTemplate.getConnectionFactory());
+        listenerContainer.addMessageListener((message, pattern) -> dispatch(message.getBody()),
+                new ChannelTopic(channel));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        container = listenerContainer;
+        log.info("Subscribed to cache invalidation channel {}", channel);
+    }
+
+    @Override
+    public synchronized void close() {
+        super.close();
+        if (container != null) {
+            try {
+                container.destroy();
+            } catch (Exception e) {
+                log.debug("Failed to stop Redis invalidation listener: {}", e.getMessage());
+            }
+            container = null;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package dev.simplecore.simplix.cache.provider;
+
+import dev.simplecore.simplix.cache.config.CacheProperties;
+import dev.simplecore.simplix.cache.invalidation.CacheInvalidationBroadcaster;
+import dev.simplecore.simplix.cache.strategy.CacheStrategy;
+import dev.simplecore.simplix.cache.strategy.LocalCacheStrategy;
+import dev.simplecore.simplix.cache.strategy.NearCacheStrategy;
+import dev.simplecore.simplix.core.cache.CacheProvider;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * Two-tier implementation of the core CacheProvider.
+ *
+ * <p>Reads are served from an in-process tier first and fall back to a shared remote tier
+ * (any {@link CacheStrategy}, typically Redis or NATS), populating the local tier on the way
+ * back. Writes go to the remote tier first, then to the local tier, and are announced through
+ * a {@link CacheInvalidationBroadcaster} so other nodes drop their now-stale local copy.
+ *
+ * <p>Each tier has its own TTL per cache: the remote tier uses
+ * {@code cache-configs.<name>.ttl-seconds} and the local tier
+ * {@code cache-configs.<name>.local-ttl-seconds} (default {@code tiered.local-ttl-seconds}).
+ * The tiering itself is done by a {@link NearCacheStrategy}; this class adapts it to the
+ * core provider SPI.
+ */
+@Slf4j
+public class TieredCacheProvider implements CacheProvider {
+
+    private final NearCacheStrategy nearCache;
+
+    public TieredCacheProvider(LocalCacheStrategy localTier,
+                               CacheStrategy remoteTier,
+                               CacheInvalidationBroadcaster broadcaster,
+                               CacheProperties properties) {
+        this.nearCache = new NearCacheStrategy(localTier, remoteTier, broadcaster, properties,
+            Duration.ofSeconds(properties.getTiered().getLocalTtlSeconds()));
+        log.info("TieredCacheProvider initialized [local={}, remote={}, node={}]",
+            localTier.getName(), remoteTier.getName(), broadcaster.getNodeId());
+    }
+
+    @Override
+    public <T> Optional<T> get(String cacheName, Object key, Class<T> type) {
+        return nearCache.get(cacheName, key, type);
+    }
+
+    @Override
+    public <T> void put(String cacheName, Object key, T value) {
+        nearCache.put(cacheName, key, value);
+    }
+
+    @Override
+    public <T> void put(String cacheName, Object key, T value, Duration ttl) {
+        nearCache.put(cacheName, key, value, ttl);
+    }
+
+    @Override
+    public <T> T getOrCompute(String cacheName, Object key, Callable<T> valueLoader, Class<T> type) {
+        return nearCache.getOrCompute(cacheName, key, valueLoader, type);
+    }
+
+    @Override
+    public void evict(String cacheName, Object key) {
+        nearCache.evict(cacheName, key);
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        nearCache.clear(cacheName);
+    }
+
+    @Override
+    public boolean exists(String cacheName, Object key) {
+        return nearCache.exists(cacheName, key);
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return nearCache.isAvailable();
+    }
+
+    @Override
+    public String getName() {
+        return "Tiered-" + nearCache.getLocalTier().getName() + "+" + nearCache.getRemoteTier().getName();
+    }
+
+    @Override
+    public int getPriority() {
+        return 200; // Preferred over the single-tier CoreCacheProviderImpl
+    }
+
+    /**
+     * Get the per-tier hit statistics of a cache.
+     */
+    public NearCacheStrategy.TierStatistics getTierStatistics(String cacheName) {
+        return nearCache.getTierStatistics(cacheName);
+    }
+}
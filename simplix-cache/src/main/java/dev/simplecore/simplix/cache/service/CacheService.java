@@ -1,27 +1,104 @@
 package dev.simplecore.simplix.cache.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.simplecore.simplix.cache.config.CacheProperties;
 import dev.simplecore.simplix.cache.strategy.CacheStrategy;
+import dev.simplecore.simplix.cache.strategy.SingleFlight;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Cache Service
  * Main entry point for caching operations, delegates to the active strategy
+ *
+ * <p>Caches configured with {@code refresh-ahead-fraction} or
+ * {@code stale-while-revalidate-seconds} get background refresh in {@code getOrCompute}:
+ * <ul>
+ *   <li>an entry read when less than {@code refresh-ahead-fraction} of its TTL remains is
+ *       served and reloaded in the background, so popular keys never drop out;</li>
+ *   <li>an entry read up to {@code stale-while-revalidate-seconds} past its TTL is served
+ *       stale while it is reloaded in the background.</li>
+ * </ul>
+ * Entries of such caches are stored for TTL plus the stale window. Refreshes run on a bounded
+ * executor ({@code simplix.cache.refresh.*}) and at most one refresh per key is pending on a node.
+ * An entry read past the stale window is reloaded by the reader, one load per key on a node.
+ *
+ * <p>Caches with a negative TTL ({@code negative-ttl-seconds}) remember keys whose loader
+ * returned null: {@code getOrCompute} stores an absent-value marker for the key with that TTL
+ * and returns null without calling the loader while the marker lives. Reads that find a marker
+ * are counted as negative hits in the strategy's counters, not as hits.
+ *
+ * <p>Both features store values of the cache in a {@link StampedValue} holding the value and
+ * its write time, and a marker as a stamped null, so a read, write or eviction is a single
+ * strategy call. These caches must therefore be read and written through this service. The
+ * value is stored without type information; a value a codec restores as a map or number is
+ * converted to the type the caller asks for with the object mapper.
  */
 @Slf4j
 public class CacheService {
 
     private final CacheStrategy cacheStrategy;
+    private final CacheProperties properties;
+    private final Clock clock;
+    private final ObjectMapper objectMapper;
+    private final SingleFlight reloads = new SingleFlight();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder skippedRefreshes = new LongAdder();
+    private final ConcurrentMap<String, NegativeCounters> negativeCounters = new ConcurrentHashMap<>();
+    private volatile Executor refreshExecutor;
 
-    @Autowired
     public CacheService(CacheStrategy cacheStrategy) {
+        this(cacheStrategy, new CacheProperties());
+    }
+
+    @Autowired
+    public CacheService(CacheStrategy cacheStrategy, CacheProperties properties) {
+        this(cacheStrategy, properties, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    /**
+     * @param objectMapper converts stamped values read back from the store to the requested type
+     */
+    public CacheService(CacheStrategy cacheStrategy, CacheProperties properties, ObjectMapper objectMapper) {
+        this(cacheStrategy, properties, objectMapper, Clock.systemUTC(), null);
+    }
+
+    CacheService(CacheStrategy cacheStrategy, CacheProperties properties, Clock clock, Executor refreshExecutor) {
+        this(cacheStrategy, properties, new ObjectMapper().registerModule(new JavaTimeModule()), clock, refreshExecutor);
+    }
+
+    /**
+     * @param refreshExecutor executor for background refreshes, or null to create a bounded
+     *                        one from {@code simplix.cache.refresh.*} on first use
+     */
+    CacheService(CacheStrategy cacheStrategy, CacheProperties properties, ObjectMapper objectMapper,
+                 Clock clock, Executor refreshExecutor) {
         this.cacheStrategy = cacheStrategy;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
         log.info("Cache service initialized with strategy: {}", cacheStrategy.getName());
     }
 
@@ -29,13 +106,25 @@ public class CacheService {
      * Get value from cache
      */
     public <T> Optional<T> get(String cacheName, Object key, Class<T> type) {
-        return cacheStrategy.get(cacheName, key, type);
+        if (!isStamped(cacheName)) {
+            return cacheStrategy.get(cacheName, key, type);
+        }
+        Optional<Object> stored = getStored(cacheName, key);
+        if (stored.filter(CacheService::isAbsentMarker).isPresent()) {
+            recordNegativeHit(cacheName);
+            return Optional.empty();
+        }
+        return stored.map(value -> valueOf(value, type));
     }
 
     /**
      * Put value in cache with default TTL
      */
     public <T> void put(String cacheName, Object key, T value) {
+        if (isStamped(cacheName)) {
+            store(cacheName, key, value, ttlFor(cacheName));
+            return;
+        }
         cacheStrategy.put(cacheName, key, value);
     }
 
@@ -43,13 +132,35 @@ public class CacheService {
      * Put value in cache with specific TTL
      */
     public <T> void put(String cacheName, Object key, T value, Duration ttl) {
+        if (isStamped(cacheName)) {
+            store(cacheName, key, value, ttl);
+            return;
+        }
         cacheStrategy.put(cacheName, key, value, ttl);
     }
 
+    /**
+     * Put value in cache with specific TTL and tags, to be evicted with any of the tags
+     *
+     * <p>A value reloaded by refresh-ahead is stored without tags.
+     */
+    public <T> void put(String cacheName, Object key, T value, Duration ttl, Collection<String> tags) {
+        if (isStamped(cacheName)) {
+            if (value != null) {
+                cacheStrategy.put(cacheName, key, stamp(value), retention(cacheName, ttl), tags);
+            }
+            return;
+        }
+        cacheStrategy.put(cacheName, key, value, ttl, tags);
+    }
+
     /**
      * Get or compute if absent
      */
     public <T> T getOrCompute(String cacheName, Object key, Callable<T> valueLoader, Class<T> type) {
+        if (isStamped(cacheName)) {
+            return getOrComputeStamped(cacheName, key, valueLoader, type, ttlFor(cacheName));
+        }
         return cacheStrategy.getOrCompute(cacheName, key, valueLoader, type);
     }
 
@@ -57,6 +168,9 @@ public class CacheService {
      * Get or compute if absent with TTL
      */
     public <T> T getOrCompute(String cacheName, Object key, Callable<T> valueLoader, Class<T> type, Duration ttl) {
+        if (isStamped(cacheName)) {
+            return getOrComputeStamped(cacheName, key, valueLoader, type, ttl);
+        }
         return cacheStrategy.getOrCompute(cacheName, key, valueLoader, type, ttl);
     }
 
@@ -74,6 +188,13 @@ public class CacheService {
         cacheStrategy.evictAll(cacheName, keys);
     }
 
+    /**
+     * Evict every entry put with the tag
+     */
+    public void evictByTag(String cacheName, String tag) {
+        cacheStrategy.evictByTag(cacheName, tag);
+    }
+
     /**
      * Clear entire cache
      */
@@ -89,10 +210,18 @@ public class CacheService {
     }
 
     /**
-     * Check if key exists
+     * Check if key exists; an absent-value marker does not count
      */
     public boolean exists(String cacheName, Object key) {
-        return cacheStrategy.exists(cacheName, key);
+        if (negativeTtl(cacheName) == null) {
+            return cacheStrategy.exists(cacheName, key);
+        }
+        Optional<Object> stored = getStored(cacheName, key);
+        if (stored.filter(CacheService::isAbsentMarker).isPresent()) {
+            recordNegativeHit(cacheName);
+            return false;
+        }
+        return stored.isPresent();
     }
 
     /**
@@ -106,13 +235,27 @@ public class CacheService {
      * Get all entries in cache
      */
     public <T> Map<Object, T> getAll(String cacheName, Class<T> type) {
-        return cacheStrategy.getAll(cacheName, type);
+        if (!isStamped(cacheName)) {
+            return cacheStrategy.getAll(cacheName, type);
+        }
+        Map<Object, T> values = new LinkedHashMap<>();
+        cacheStrategy.getAll(cacheName, storedType()).forEach((key, stored) -> {
+            T value = valueOf(stored, type);
+            if (value != null) {
+                values.put(key, value);
+            }
+        });
+        return values;
     }
 
     /**
      * Put multiple entries
      */
     public <T> void putAll(String cacheName, Map<Object, T> entries) {
+        if (isStamped(cacheName)) {
+            putAll(cacheName, entries, ttlFor(cacheName));
+            return;
+        }
         cacheStrategy.putAll(cacheName, entries);
     }
 
@@ -120,7 +263,19 @@ public class CacheService {
      * Put multiple entries with TTL
      */
     public <T> void putAll(String cacheName, Map<Object, T> entries, Duration ttl) {
-        cacheStrategy.putAll(cacheName, entries, ttl);
+        if (!isStamped(cacheName)) {
+            cacheStrategy.putAll(cacheName, entries, ttl);
+            return;
+        }
+
+        long now = clock.millis();
+        Map<Object, StampedValue> stamped = new LinkedHashMap<>();
+        entries.forEach((key, value) -> {
+            if (value != null) {
+                stamped.put(key, new StampedValue(value, now));
+            }
+        });
+        cacheStrategy.putAll(cacheName, stamped, retention(cacheName, ttl));
     }
 
     /**
@@ -143,4 +298,271 @@ public class CacheService {
     public boolean isAvailable() {
         return cacheStrategy.isAvailable();
     }
+
+    /**
+     * Get the background refresh counters.
+     */
+    public RefreshStatistics getRefreshStatistics() {
+        return new RefreshStatistics(refreshes.sum(), skippedRefreshes.sum(), refreshing.size());
+    }
+
+    /**
+     * Get the negative caching counters of a cache.
+     */
+    public NegativeCacheStatistics getNegativeCacheStatistics(String cacheName) {
+        NegativeCounters counters = negativeCounters.get(cacheName);
+        if (counters == null) {
+            return new NegativeCacheStatistics(0, 0);
+        }
+        return new NegativeCacheStatistics(counters.hits.sum(), counters.stores.sum());
+    }
+
+    /**
+     * Stop the background refresh executor. Pending refreshes are dropped.
+     */
+    public void shutdown() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private <T> T getOrComputeStamped(String cacheName, Object key, Callable<T> valueLoader,
+                                      Class<T> type, Duration ttl) {
+        RefreshPolicy policy = refreshPolicy(cacheName);
+        Duration negativeTtl = negativeTtl(cacheName);
+        Optional<Object> stored = getStored(cacheName, key);
+        if (stored.isPresent()) {
+            if (!(stored.get() instanceof StampedValue cached)) {
+                // Written directly through the strategy, without a write time
+                return valueOf(stored.get(), type);
+            }
+            if (cached.value() == null) {
+                if (negativeTtl != null) {
+                    negativeCountersFor(cacheName).hits.increment();
+                    recordNegativeHit(cacheName);
+                    log.trace("Key {} in cache {} is known to be absent", key, cacheName);
+                    return null;
+                }
+            } else if (policy == null) {
+                return valueOf(cached, type);
+            } else {
+                long age = clock.millis() - cached.writtenAt();
+                long ttlMillis = ttl.toMillis();
+                if (age < ttlMillis - policy.refreshAheadMillis(ttlMillis)) {
+                    return valueOf(cached, type);
+                }
+                if (age < ttlMillis + policy.staleWindow().toMillis()) {
+                    scheduleRefresh(cacheName, key, valueLoader, ttl);
+                    return valueOf(cached, type);
+                }
+                // Past the stale window; only possible where the store keeps entries longer.
+                // Readers of the key on this node share one load
+                log.trace("Entry for key {} in cache {} is past its stale window, reloading", key, cacheName);
+                try {
+                    return reloads.execute(cacheName + "::" + key, () -> {
+                        T value = valueLoader.call();
+                        store(cacheName, key, value, ttl);
+                        return value;
+                    });
+                } catch (Exception e) {
+                    log.error("Failed to compute value for key {} in cache {}", key, cacheName, e);
+                    throw new RuntimeException("Cache value computation failed", e);
+                }
+            }
+        }
+
+        // Load through the strategy so its stampede protection applies
+        Object loaded = cacheStrategy.getOrCompute(cacheName, key, () -> {
+            T value = valueLoader.call();
+            return value != null ? stamp(value) : null;
+        }, storedType(), retention(cacheName, ttl));
+        if (loaded == null) {
+            if (negativeTtl != null) {
+                cacheStrategy.put(cacheName, key, new StampedValue(null, clock.millis()), negativeTtl);
+                negativeCountersFor(cacheName).stores.increment();
+            }
+            return null;
+        }
+        return valueOf(loaded, type);
+    }
+
+    private Optional<Object> getStored(String cacheName, Object key) {
+        return cacheStrategy.get(cacheName, key, storedType());
+    }
+
+    private StampedValue stamp(Object value) {
+        return new StampedValue(value, clock.millis());
+    }
+
+    private <T> T valueOf(Object stored, Class<T> type) {
+        Object value = stored instanceof StampedValue stamped ? stamped.value() : stored;
+        if (value == null || type.isInstance(value)) {
+            return type.cast(value);
+        }
+        // Decoded without type information, e.g. a map from the JSON codec
+        return objectMapper.convertValue(value, type);
+    }
+
+    private static boolean isAbsentMarker(Object stored) {
+        return stored instanceof StampedValue stamped && stamped.value() == null;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Class<Object> storedType() {
+        // Read as Object, so a value written around this service is not cast to StampedValue
+        return (Class) StampedValue.class;
+    }
+
+    /**
+     * Move the hit the strategy recorded for a marker read to the negative hits.
+     */
+    private void recordNegativeHit(String cacheName) {
+        cacheStrategy.getCounters().ifPresent(counters -> counters.recordNegativeHit(cacheName));
+    }
+
+    private NegativeCounters negativeCountersFor(String cacheName) {
+        return negativeCounters.computeIfAbsent(cacheName, name -> new NegativeCounters());
+    }
+
+    private <T> void scheduleRefresh(String cacheName, Object key, Callable<T> valueLoader, Duration ttl) {
+        String refreshKey = cacheName + "::" + key;
+        if (!refreshing.add(refreshKey)) {
+            return;
+        }
+
+        try {
+            refreshExecutor().execute(() -> {
+                try {
+                    store(cacheName, key, valueLoader.call(), ttl);
+                    refreshes.increment();
+                    log.trace("Refreshed key {} in cache {}", key, cacheName);
+                } catch (Exception e) {
+                    log.warn("Background refresh failed for key {} in cache {}: {}", key, cacheName, e.getMessage());
+                } finally {
+                    refreshing.remove(refreshKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(refreshKey);
+            skippedRefreshes.increment();
+            log.debug("Refresh queue full, skipping refresh of key {} in cache {}", key, cacheName);
+        }
+    }
+
+    private <T> void store(String cacheName, Object key, T value, Duration ttl) {
+        if (value == null) {
+            return;
+        }
+        cacheStrategy.put(cacheName, key, stamp(value), retention(cacheName, ttl));
+    }
+
+    private Executor refreshExecutor() {
+        Executor executor = refreshExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                if (refreshExecutor == null) {
+                    CacheProperties.RefreshConfig config = properties.getRefresh();
+                    AtomicInteger threadNumber = new AtomicInteger();
+                    ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                        config.getThreads(), config.getThreads(), 60, TimeUnit.SECONDS,
+                        new ArrayBlockingQueue<>(config.getQueueCapacity()),
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "simplix-cache-refresh-" + threadNumber.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        },
+                        new ThreadPoolExecutor.AbortPolicy());
+                    pool.allowCoreThreadTimeOut(true);
+                    refreshExecutor = pool;
+                }
+                executor = refreshExecutor;
+            }
+        }
+        return executor;
+    }
+
+    private RefreshPolicy refreshPolicy(String cacheName) {
+        CacheProperties.CacheConfig config = properties.getCacheConfigs().get(cacheName);
+        if (config == null) {
+            return null;
+        }
+        Double fraction = config.getRefreshAheadFraction();
+        Long staleSeconds = config.getStaleWhileRevalidateSeconds();
+        boolean refreshAhead = fraction != null && fraction > 0;
+        boolean staleWhileRevalidate = staleSeconds != null && staleSeconds > 0;
+        if (!refreshAhead && !staleWhileRevalidate) {
+            return null;
+        }
+        return new RefreshPolicy(refreshAhead ? Math.min(fraction, 1.0) : 0.0,
+            staleWhileRevalidate ? Duration.ofSeconds(staleSeconds) : Duration.ZERO);
+    }
+
+    private Duration ttlFor(String cacheName) {
+        CacheProperties.CacheConfig config = properties.getCacheConfigs().get(cacheName);
+        return Duration.ofSeconds(config != null ? config.getTtlSeconds() : properties.getDefaultTtlSeconds());
+    }
+
+    /**
+     * @return the TTL of absent-value markers of a cache, or null when negative caching is off
+     */
+    private Duration negativeTtl(String cacheName) {
+        CacheProperties.CacheConfig config = properties.getCacheConfigs().get(cacheName);
+        long seconds = config != null && config.getNegativeTtlSeconds() != null
+            ? config.getNegativeTtlSeconds()
+            : properties.getNegativeTtlSeconds();
+        return seconds > 0 ? Duration.ofSeconds(seconds) : null;
+    }
+
+    /**
+     * @return whether values of a cache are stored as {@link StampedValue}
+     */
+    private boolean isStamped(String cacheName) {
+        return refreshPolicy(cacheName) != null || negativeTtl(cacheName) != null;
+    }
+
+    /**
+     * @return how long a value written with the TTL is kept, including the stale window
+     */
+    private Duration retention(String cacheName, Duration ttl) {
+        RefreshPolicy policy = refreshPolicy(cacheName);
+        return policy != null ? ttl.plus(policy.staleWindow()) : ttl;
+    }
+
+    /**
+     * A value of a cache with background refresh or negative caching and its write time;
+     * a null value marks a key known to be absent. The value carries no type information.
+     */
+    record StampedValue(Object value, long writtenAt) {
+    }
+
+    private record RefreshPolicy(double refreshAheadFraction, Duration staleWindow) {
+
+        long refreshAheadMillis(long ttlMillis) {
+            return (long) (ttlMillis * refreshAheadFraction);
+        }
+    }
+
+    /**
+     * Background refresh counters.
+     *
+     * @param refreshes        completed background refreshes
+     * @param skippedRefreshes refreshes dropped because the refresh queue was full
+     * @param pending          refreshes queued or running
+     */
+    public record RefreshStatistics(long refreshes, long skippedRefreshes, int pending) {
+    }
+
+    /**
+     * Negative caching counters of one cache.
+     *
+     * @param hits   {@code getOrCompute} calls answered by an absent-value marker
+     * @param stores absent-value markers stored after a loader returned null
+     */
+    public record NegativeCacheStatistics(long hits, long stores) {
+    }
+
+    private static final class NegativeCounters {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder stores = new LongAdder();
+    }
 }
\ No newline at end of file
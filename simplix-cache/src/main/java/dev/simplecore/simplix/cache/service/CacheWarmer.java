@@ -0,0 +1,327 @@
+package dev.simplecore.simplix.cache.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.simplecore.simplix.cache.config.CacheProperties;
+import dev.simplecore.simplix.cache.strategy.CacheStrategy;
+import dev.simplecore.simplix.cache.strategy.LocalCacheStrategy;
+import dev.simplecore.simplix.cache.strategy.NearCacheStrategy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cache Warmer
+ * Saves the hottest local entries on graceful shutdown and restores them on startup
+ *
+ * <p>On stop, up to {@code warm-up.hottest-keys-per-cache} entries of each local cache, ranked
+ * by Caffeine's frequency sketch, are written to {@code warm-up.snapshot-path} as JSON with
+ * their key and value types and expiry. On start, a background thread restores them:
+ * <ul>
+ *   <li>a {@link NearCacheStrategy} reloads the saved keys from its remote tier, with up to
+ *       {@code warm-up.parallelism} async reads in flight, so values are current;</li>
+ *   <li>a {@link LocalCacheStrategy} takes the values from the snapshot and keeps their
+ *       original expiry.</li>
+ * </ul>
+ * Other strategies have no local state and are not warmed. Snapshots older than
+ * {@code warm-up.max-snapshot-age-seconds} are ignored. Values that are collections, maps or
+ * arrays are not saved, since their element types are not recorded.
+ *
+ * <p>{@link #isComplete()} turns true once the restore finished or
+ * {@code warm-up.timeout-seconds} passed, and gates the cache health indicator.
+ */
+@Slf4j
+public class CacheWarmer implements SmartLifecycle {
+
+    private final CacheStrategy cacheStrategy;
+    private final CacheProperties.WarmUpConfig config;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final CompletableFuture<WarmUpResult> completion = new CompletableFuture<>();
+    private volatile long startedAtNanos;
+    private volatile boolean running;
+
+    public CacheWarmer(CacheStrategy cacheStrategy, CacheProperties properties) {
+        this(cacheStrategy, properties, new ObjectMapper().registerModule(new JavaTimeModule()), Clock.systemUTC());
+    }
+
+    CacheWarmer(CacheStrategy cacheStrategy, CacheProperties properties, ObjectMapper objectMapper, Clock clock) {
+        this.cacheStrategy = cacheStrategy;
+        this.config = properties.getWarmUp();
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        startedAtNanos = System.nanoTime();
+        Thread thread = new Thread(this::restore, "simplix-cache-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        saveSnapshot();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Whether the warm-up finished or ran past its timeout.
+     */
+    public boolean isComplete() {
+        if (completion.isDone()) {
+            return true;
+        }
+        long started = startedAtNanos;
+        return started != 0 && System.nanoTime() - started >= TimeUnit.SECONDS.toNanos(config.getTimeoutSeconds());
+    }
+
+    /**
+     * @return the result of the finished warm-up, or empty while it runs
+     */
+    public Optional<WarmUpResult> getResult() {
+        return Optional.ofNullable(completion.getNow(null));
+    }
+
+    /**
+     * Restore the snapshot, if there is a recent one.
+     */
+    WarmUpResult restore() {
+        long start = System.nanoTime();
+        WarmUpResult result;
+        try {
+            result = restoreSnapshot(start);
+        } catch (Exception e) {
+            log.warn("Cache warm-up failed, starting cold: {}", e.getMessage());
+            result = new WarmUpResult(0, 0, 0, elapsedMillis(start));
+        }
+        completion.complete(result);
+        return result;
+    }
+
+    /**
+     * Write the hottest local entries to the snapshot file.
+     */
+    void saveSnapshot() {
+        LocalCacheStrategy localTier = localTier();
+        if (localTier == null) {
+            return;
+        }
+        boolean includeValues = !(cacheStrategy instanceof NearCacheStrategy);
+        long now = clock.millis();
+        Map<String, List<SnapshotEntry>> caches = new TreeMap<>();
+        int count = 0;
+        for (String cacheName : localTier.getCacheNames()) {
+            List<SnapshotEntry> entries = new ArrayList<>();
+            for (LocalCacheStrategy.HotEntry hot : localTier.getHottestEntries(cacheName, config.getHottestKeysPerCache())) {
+                SnapshotEntry entry = toSnapshotEntry(cacheName, hot, now, includeValues);
+                if (entry != null) {
+                    entries.add(entry);
+                }
+            }
+            if (!entries.isEmpty()) {
+                caches.put(cacheName, entries);
+                count += entries.size();
+            }
+        }
+
+        Path path = Path.of(config.getSnapshotPath());
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            objectMapper.writeValue(temporary.toFile(), new Snapshot(now, caches));
+            try {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+            log.info("Saved {} entries of {} caches to cache snapshot {}", count, caches.size(), path);
+        } catch (IOException e) {
+            log.warn("Failed to save cache snapshot {}: {}", path, e.getMessage());
+        }
+    }
+
+    private WarmUpResult restoreSnapshot(long start) throws IOException {
+        LocalCacheStrategy localTier = localTier();
+        Path path = Path.of(config.getSnapshotPath());
+        if (localTier == null || !Files.exists(path)) {
+            log.info("No cache snapshot to restore, starting cold");
+            return new WarmUpResult(0, 0, 0, elapsedMillis(start));
+        }
+
+        Snapshot snapshot = objectMapper.readValue(path.toFile(), Snapshot.class);
+        long ageMillis = clock.millis() - snapshot.createdAtMillis();
+        if (ageMillis > TimeUnit.SECONDS.toMillis(config.getMaxSnapshotAgeSeconds())) {
+            log.info("Ignoring cache snapshot {} written {}s ago", path, ageMillis / 1000);
+            return new WarmUpResult(0, 0, 0, elapsedMillis(start));
+        }
+
+        Counts counts = cacheStrategy instanceof NearCacheStrategy nearCache
+            ? restoreFromRemote(nearCache, snapshot, start)
+            : restoreFromSnapshot(localTier, snapshot);
+        WarmUpResult result = new WarmUpResult(counts.restored.get(), counts.missed.get(), counts.failed.get(),
+            elapsedMillis(start));
+        log.info("Cache warm-up restored {} entries ({} missing, {} failed) in {}ms",
+            result.restored(), result.missed(), result.failed(), result.durationMillis());
+        return result;
+    }
+
+    private Counts restoreFromSnapshot(LocalCacheStrategy local, Snapshot snapshot) {
+        Counts counts = new Counts();
+        long now = clock.millis();
+        snapshot.caches().forEach((cacheName, entries) -> {
+            for (SnapshotEntry entry : entries) {
+                long ttlMillis = entry.expiresAtMillis() - now;
+                if (ttlMillis <= 0 || entry.value() == null) {
+                    counts.missed.incrementAndGet();
+                    continue;
+                }
+                try {
+                    local.put(cacheName, read(entry.keyType(), entry.key()), read(entry.valueType(), entry.value()),
+                        Duration.ofMillis(ttlMillis));
+                    counts.restored.incrementAndGet();
+                } catch (Exception e) {
+                    counts.failed.incrementAndGet();
+                    log.trace("Failed to restore key {} of cache {}: {}", entry.key(), cacheName, e.getMessage());
+                }
+            }
+        });
+        return counts;
+    }
+
+    private Counts restoreFromRemote(NearCacheStrategy nearCache, Snapshot snapshot, long start) throws IOException {
+        Counts counts = new Counts();
+        int parallelism = Math.max(1, config.getParallelism());
+        Semaphore inFlight = new Semaphore(parallelism);
+        long deadline = start + TimeUnit.SECONDS.toNanos(config.getTimeoutSeconds());
+
+        try {
+            for (Map.Entry<String, List<SnapshotEntry>> cache : snapshot.caches().entrySet()) {
+                for (SnapshotEntry entry : cache.getValue()) {
+                    if (!inFlight.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                        log.info("Cache warm-up timed out, remaining keys load on demand");
+                        return counts;
+                    }
+                    warmUp(nearCache, cache.getKey(), entry, counts).whenComplete((found, failure) -> inFlight.release());
+                }
+            }
+            inFlight.tryAcquire(parallelism, Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return counts;
+    }
+
+    private CompletableFuture<Boolean> warmUp(NearCacheStrategy nearCache, String cacheName,
+                                              SnapshotEntry entry, Counts counts) {
+        try {
+            Object key = read(entry.keyType(), entry.key());
+            Class<?> type = ClassUtils.forName(entry.valueType(), ClassUtils.getDefaultClassLoader());
+            return nearCache.warmUp(cacheName, key, type).toCompletableFuture()
+                .whenComplete((found, failure) -> {
+                    if (failure != null) {
+                        counts.failed.incrementAndGet();
+                    } else if (found) {
+                        counts.restored.incrementAndGet();
+                    } else {
+                        counts.missed.incrementAndGet();
+                    }
+                });
+        } catch (Exception e) {
+            counts.failed.incrementAndGet();
+            log.trace("Failed to restore key {} of cache {}: {}", entry.key(), cacheName, e.getMessage());
+            return CompletableFuture.completedFuture(false);
+        }
+    }
+
+    private SnapshotEntry toSnapshotEntry(String cacheName, LocalCacheStrategy.HotEntry hot, long now,
+                                          boolean includeValue) {
+        Object value = hot.value();
+        if (value instanceof Collection || value instanceof Map || value.getClass().isArray()) {
+            return null;
+        }
+        try {
+            return new SnapshotEntry(
+                hot.key().getClass().getName(),
+                objectMapper.valueToTree(hot.key()),
+                value.getClass().getName(),
+                includeValue ? objectMapper.valueToTree(value) : null,
+                now + hot.remainingTtl().toMillis());
+        } catch (IllegalArgumentException e) {
+            log.trace("Skipping key {} of cache {} in snapshot: {}", hot.key(), cacheName, e.getMessage());
+            return null;
+        }
+    }
+
+    private Object read(String type, JsonNode node) throws Exception {
+        return objectMapper.treeToValue(node, ClassUtils.forName(type, ClassUtils.getDefaultClassLoader()));
+    }
+
+    private LocalCacheStrategy localTier() {
+        if (cacheStrategy instanceof NearCacheStrategy nearCache) {
+            return nearCache.getLocalTier();
+        }
+        return cacheStrategy instanceof LocalCacheStrategy local ? local : null;
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Outcome of a warm-up.
+     *
+     * @param restored       entries loaded into the local cache
+     * @param missed         entries that had expired or were no longer in the remote tier
+     * @param failed         entries that could not be read or decoded
+     * @param durationMillis time the warm-up took
+     */
+    public record WarmUpResult(int restored, int missed, int failed, long durationMillis) {
+    }
+
+    /**
+     * Snapshot file contents.
+     */
+    record Snapshot(long createdAtMillis, Map<String, List<SnapshotEntry>> caches) {
+    }
+
+    /**
+     * One saved entry; {@code value} is null when the value is reloaded from the remote tier.
+     */
+    record SnapshotEntry(String keyType, JsonNode key, String valueType, JsonNode value, long expiresAtMillis) {
+    }
+
+    private static final class Counts {
+        private final AtomicInteger restored = new AtomicInteger();
+        private final AtomicInteger missed = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+    }
+}
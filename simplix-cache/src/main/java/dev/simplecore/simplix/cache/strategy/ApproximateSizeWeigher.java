@@ -0,0 +1,54 @@
+package dev.simplecore.simplix.cache.strategy;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Approximate Size Weigher
+ * Weighs entries by a rough estimate of their heap size in bytes
+ *
+ * <p>Strings and byte arrays are weighed by length and collections by element count; other
+ * values get a fixed weight. Register a {@link CacheWeigher} of your own when entries need a
+ * more accurate measure.
+ */
+public class ApproximateSizeWeigher implements CacheWeigher {
+
+    public static final String NAME = "approximate-size";
+
+    private static final int OBJECT_OVERHEAD = 16;
+    private static final int REFERENCE_SIZE = 8;
+    private static final int DEFAULT_VALUE_SIZE = 64;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long weight = estimate(key) + estimate(value);
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private static long estimate(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof CharSequence text) {
+            return OBJECT_OVERHEAD + 2L * text.length();
+        }
+        if (value instanceof byte[] bytes) {
+            return OBJECT_OVERHEAD + bytes.length;
+        }
+        if (value instanceof Collection<?> collection) {
+            return OBJECT_OVERHEAD + (long) collection.size() * (REFERENCE_SIZE + OBJECT_OVERHEAD);
+        }
+        if (value instanceof Map<?, ?> map) {
+            return OBJECT_OVERHEAD + (long) map.size() * 2 * (REFERENCE_SIZE + OBJECT_OVERHEAD);
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return OBJECT_OVERHEAD;
+        }
+        return DEFAULT_VALUE_SIZE;
+    }
+}
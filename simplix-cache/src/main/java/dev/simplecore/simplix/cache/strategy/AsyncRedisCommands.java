@@ -0,0 +1,183 @@
+package dev.simplecore.simplix.cache.strategy;
+
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.ReactiveStringCommands;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking Redis commands
+ * Issues the commands behind RedisCacheStrategy's async operations on one shared reactive
+ * connection (Lettuce) and adapts the replies to {@link CompletableFuture}
+ *
+ * <p>Replies complete on the driver's event loop, so callers must not block in their
+ * continuations.
+ */
+final class AsyncRedisCommands implements RedisCacheCommands {
+
+    private static final ByteBuffer TAG_SCRIPT_BUFFER = ByteBuffer.wrap(TAG_SCRIPT.getBytes(StandardCharsets.UTF_8));
+    private static final ByteBuffer RELEASE_LOCK_BUFFER =
+        ByteBuffer.wrap(RELEASE_LOCK_SCRIPT.getBytes(StandardCharsets.UTF_8));
+
+    private final ReactiveRedisConnectionFactory connectionFactory;
+    private volatile ReactiveRedisConnection connection;
+
+    private AsyncRedisCommands(ReactiveRedisConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    /**
+     * Create the commands if the connection factory is reactive and Reactor is on the classpath.
+     *
+     * @return the commands, or null if async commands are unavailable
+     */
+    static AsyncRedisCommands create(RedisConnectionFactory connectionFactory) {
+        if (connectionFactory instanceof ReactiveRedisConnectionFactory reactive
+                && ClassUtils.isPresent("reactor.core.publisher.Flux", AsyncRedisCommands.class.getClassLoader())) {
+            return new AsyncRedisCommands(reactive);
+        }
+        return null;
+    }
+
+    @Override
+    public CompletableFuture<byte[]> get(byte[] key) {
+        return connection().stringCommands().get(ByteBuffer.wrap(key))
+            .map(ByteUtils::getBytes)
+            .toFuture();
+    }
+
+    /**
+     * Send the {@code SET} and the tag scripts together; the stage completes once all replied.
+     */
+    @Override
+    public CompletableFuture<Void> set(byte[] key, byte[] value, Duration ttl, List<byte[]> tagKeys) {
+        ReactiveRedisConnection current = connection();
+        Mono<Boolean> set = current.stringCommands().set(ByteBuffer.wrap(key), ByteBuffer.wrap(value),
+            Expiration.from(ttl), RedisStringCommands.SetOption.upsert());
+        if (tagKeys.isEmpty()) {
+            return set.then().toFuture();
+        }
+        ByteBuffer ttlMillis = ByteBuffer.wrap(
+            Long.toString(RedisCacheCommands.ttlMillis(ttl)).getBytes(StandardCharsets.UTF_8));
+        Flux<Object> tags = Flux.fromIterable(tagKeys)
+            .flatMap(tagKey -> current.scriptingCommands().eval(TAG_SCRIPT_BUFFER.duplicate(), ReturnType.INTEGER, 1,
+                ByteBuffer.wrap(tagKey), ByteBuffer.wrap(key), ttlMillis.duplicate()));
+        return Mono.when(set, tags).toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Boolean> setIfAbsent(String key, String value, Duration lease) {
+        return connection().stringCommands()
+            .set(buffer(key), buffer(value), Expiration.from(lease), RedisStringCommands.SetOption.ifAbsent())
+            .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Void> releaseLock(String key, String token) {
+        return connection().scriptingCommands()
+            .eval(RELEASE_LOCK_BUFFER.duplicate(), ReturnType.INTEGER, 1, buffer(key), buffer(token))
+            .then()
+            .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Void> pause(Duration duration) {
+        return SingleFlight.delay(duration);
+    }
+
+    /**
+     * Set entries with at most {@code concurrency} commands awaiting their reply.
+     */
+    CompletableFuture<Void> setAll(List<Map.Entry<byte[], byte[]>> entries, Expiration expiration, int concurrency) {
+        ReactiveStringCommands commands = connection().stringCommands();
+        return Flux.fromIterable(entries)
+            .flatMap(entry -> commands.set(ByteBuffer.wrap(entry.getKey()), ByteBuffer.wrap(entry.getValue()),
+                expiration, RedisStringCommands.SetOption.upsert()), Math.max(1, concurrency))
+            .then()
+            .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Long> unlink(byte[] key) {
+        return connection().keyCommands().unlink(ByteBuffer.wrap(key)).toFuture();
+    }
+
+    /**
+     * Scan the keys matching the options and read their values with one {@code MGET} per
+     * {@code chunkSize} keys.
+     *
+     * @return the keys that still had a value, with their values
+     */
+    CompletableFuture<Map<String, byte[]>> scanValues(ScanOptions options, int chunkSize) {
+        ReactiveRedisConnection current = connection();
+        return current.keyCommands().scan(options)
+            .map(ByteUtils::getBytes)
+            .buffer(Math.max(1, chunkSize))
+            .concatMap(keys -> current.stringCommands()
+                .mGet(keys.stream().map(ByteBuffer::wrap).toList())
+                .map(values -> present(keys, values)))
+            .<Map<String, byte[]>>collect(LinkedHashMap::new, Map::putAll)
+            .toFuture();
+    }
+
+    @Override
+    public void close() {
+        ReactiveRedisConnection current = connection;
+        connection = null;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    private ReactiveRedisConnection connection() {
+        ReactiveRedisConnection current = connection;
+        if (current == null) {
+            synchronized (this) {
+                current = connection;
+                if (current == null) {
+                    current = connectionFactory.getReactiveConnection();
+                    connection = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static ByteBuffer buffer(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Pair keys with their {@code MGET} values; missing keys come back as empty buffers.
+     */
+    private static Map<String, byte[]> present(List<byte[]> keys, List<ByteBuffer> values) {
+        Map<String, byte[]> result = new LinkedHashMap<>();
+        Iterator<byte[]> keyIterator = keys.iterator();
+        Iterator<ByteBuffer> valueIterator = values.iterator();
+        while (keyIterator.hasNext() && valueIterator.hasNext()) {
+            byte[] key = keyIterator.next();
+            ByteBuffer value = valueIterator.next();
+            if (value != null && value.hasRemaining()) {
+                result.put(new String(key, StandardCharsets.UTF_8), ByteUtils.getBytes(value));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,238 @@
+package dev.simplecore.simplix.cache.strategy;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Per-cache operation counters
+ * Kept by each strategy as striped {@link LongAdder}s, so recording on the hot path costs an
+ * uncontended add and reading them never touches the backend
+ *
+ * <p>A read that found an absent-value marker ({@code negative-ttl-seconds}) is recorded by the
+ * strategy as a hit and then reclassified by the caller with {@link #recordNegativeHit(String)};
+ * it is reported as a negative hit and left out of the hits and the hit rate.
+ *
+ * <p>Loads count {@code getOrCompute} loader calls; bytes are the encoded sizes read from and
+ * written to a remote store, and stay zero for in-process strategies. Latencies are not
+ * aggregated here but handed to the {@link Listener}, if one is set, e.g. to publish them as
+ * Micrometer timers.
+ */
+public class CacheCounters {
+
+    private final ConcurrentMap<String, Counters> counters = new ConcurrentHashMap<>();
+    private volatile Listener listener;
+
+    public void recordHit(String cacheName, long bytesRead) {
+        Counters c = countersFor(cacheName);
+        c.hits.increment();
+        if (bytesRead > 0) {
+            c.bytesRead.add(bytesRead);
+        }
+    }
+
+    public void recordMiss(String cacheName) {
+        countersFor(cacheName).misses.increment();
+    }
+
+    /**
+     * Reclassify a hit already recorded as a read of an absent-value marker.
+     */
+    public void recordNegativeHit(String cacheName) {
+        countersFor(cacheName).negativeHits.increment();
+    }
+
+    public void recordPuts(String cacheName, long count, long bytesWritten) {
+        Counters c = countersFor(cacheName);
+        c.puts.add(count);
+        if (bytesWritten > 0) {
+            c.bytesWritten.add(bytesWritten);
+        }
+    }
+
+    public void recordRemovals(String cacheName, long count) {
+        countersFor(cacheName).removals.add(count);
+    }
+
+    public void recordEvictions(String cacheName, long count) {
+        countersFor(cacheName).evictions.add(count);
+    }
+
+    /**
+     * Record a loader call and its latency.
+     *
+     * @param succeeded whether the loader returned rather than threw
+     */
+    public void recordLoad(String cacheName, long nanos, boolean succeeded) {
+        Counters c = countersFor(cacheName);
+        (succeeded ? c.loads : c.loadFailures).increment();
+        recordLatency(cacheName, Latency.LOAD, nanos);
+    }
+
+    /**
+     * Call a loader, recording it as a load.
+     */
+    public <T> T load(String cacheName, Callable<T> loader) throws Exception {
+        long start = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            T value = loader.call();
+            succeeded = true;
+            return value;
+        } finally {
+            recordLoad(cacheName, System.nanoTime() - start, succeeded);
+        }
+    }
+
+    /**
+     * Start a loader, recording it as a load once its stage completes.
+     */
+    public <T> CompletionStage<T> loadAsync(String cacheName, Supplier<? extends CompletionStage<T>> loader) {
+        long start = System.nanoTime();
+        CompletionStage<T> load;
+        try {
+            load = loader.get();
+        } catch (RuntimeException e) {
+            recordLoad(cacheName, System.nanoTime() - start, false);
+            throw e;
+        }
+        return load.whenComplete((value, failure) ->
+            recordLoad(cacheName, System.nanoTime() - start, failure == null));
+    }
+
+    public void recordLatency(String cacheName, Latency latency, long nanos) {
+        Listener current = listener;
+        if (current != null) {
+            current.latencyRecorded(cacheName, latency, nanos);
+        }
+    }
+
+    /**
+     * Set the listener, which is told about every cache already counted and then about each
+     * new cache and latency sample.
+     */
+    public void setListener(Listener listener) {
+        this.listener = listener;
+        if (listener != null) {
+            counters.keySet().forEach(listener::cacheCreated);
+        }
+    }
+
+    /**
+     * @return the names of the caches counted so far
+     */
+    public Set<String> getCacheNames() {
+        return Set.copyOf(counters.keySet());
+    }
+
+    /**
+     * @return the current counts of a cache, all zero for a cache not counted yet
+     */
+    public Snapshot snapshot(String cacheName) {
+        Counters c = counters.get(cacheName);
+        if (c == null) {
+            return new Snapshot(0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+        }
+        // Negative hits first: each follows its hit, so the difference never goes below zero
+        long negativeHits = c.negativeHits.sum();
+        return new Snapshot(c.hits.sum() - negativeHits, c.misses.sum(), negativeHits, c.loads.sum(),
+            c.loadFailures.sum(), c.puts.sum(), c.removals.sum(), c.evictions.sum(), c.bytesRead.sum(),
+            c.bytesWritten.sum());
+    }
+
+    private Counters countersFor(String cacheName) {
+        Counters c = counters.get(cacheName);
+        if (c != null) {
+            return c;
+        }
+        Counters created = new Counters();
+        c = counters.putIfAbsent(cacheName, created);
+        if (c != null) {
+            return c;
+        }
+        Listener current = listener;
+        if (current != null) {
+            current.cacheCreated(cacheName);
+        }
+        return created;
+    }
+
+    /**
+     * Operations whose latency is reported.
+     */
+    public enum Latency {
+        GET,
+        PUT,
+        LOAD
+    }
+
+    /**
+     * Receives latency samples as they are recorded.
+     */
+    public interface Listener {
+
+        /**
+         * Called once per cache, when it is first counted.
+         */
+        default void cacheCreated(String cacheName) {
+        }
+
+        /**
+         * Called on the thread that completed the operation; must not block.
+         */
+        void latencyRecorded(String cacheName, Latency latency, long nanos);
+    }
+
+    /**
+     * Counts of one cache at a point in time.
+     *
+     * @param hits         reads that found a value
+     * @param misses       reads that found none
+     * @param negativeHits reads that found an absent-value marker
+     * @param loads        loader calls that returned
+     * @param loadFailures loader calls that threw
+     * @param puts         values written
+     * @param removals     keys removed by evict, evictAll and clear
+     * @param evictions    entries dropped by the store for size or expiry, where observable
+     * @param bytesRead    encoded bytes of the values read
+     * @param bytesWritten encoded bytes of the values written
+     */
+    public record Snapshot(long hits, long misses, long negativeHits, long loads, long loadFailures, long puts,
+                           long removals, long evictions, long bytesRead, long bytesWritten) {
+
+        /**
+         * @return hits over hits and misses; negative hits count as neither
+         */
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+
+        /**
+         * Convert to the statistics record shared by all strategies.
+         *
+         * @param size the entry count, or an estimate of it
+         */
+        public CacheStrategy.CacheStatistics toStatistics(long size) {
+            return new CacheStrategy.CacheStatistics(hits, misses, negativeHits, evictions, puts, removals, hitRate(),
+                size, 0);
+        }
+    }
+
+    private static final class Counters {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder negativeHits = new LongAdder();
+        private final LongAdder loads = new LongAdder();
+        private final LongAdder loadFailures = new LongAdder();
+        private final LongAdder puts = new LongAdder();
+        private final LongAdder removals = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final LongAdder bytesRead = new LongAdder();
+        private final LongAdder bytesWritten = new LongAdder();
+    }
+}
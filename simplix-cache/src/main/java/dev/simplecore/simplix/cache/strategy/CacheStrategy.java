@@ -5,10 +5,24 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
 /**
  * Cache Strategy Interface
  * Defines the contract for different caching implementations
+ *
+ * <p>The {@code *Async} methods return a {@link CompletionStage} instead of blocking the
+ * caller. Their default implementations run the blocking method on the calling thread and
+ * return a completed stage, which suits in-memory strategies; remote strategies override them
+ * with non-blocking I/O. As with the blocking methods, storage failures are logged and read as
+ * misses; only a failing loader completes {@code getOrComputeAsync} exceptionally.
+ *
+ * <p>Entries put with tags can be evicted as a group with {@link #evictByTag(String, String)},
+ * at a cost that depends on the entries carrying the tag rather than on the size of the cache.
+ * Tags are scoped to a cache. Strategies that do not support tags throw
+ * {@link UnsupportedOperationException}.
  */
 public interface CacheStrategy {
 
@@ -32,6 +46,13 @@ public interface CacheStrategy {
      */
     <T> void put(String cacheName, Object key, T value, Duration ttl);
 
+    /**
+     * Put a value in cache with TTL and tags; evicting any of the tags evicts the entry
+     */
+    default <T> void put(String cacheName, Object key, T value, Duration ttl, Collection<String> tags) {
+        throw new UnsupportedOperationException(getName() + " does not support tags");
+    }
+
     /**
      * Get or compute if absent
      */
@@ -52,6 +73,13 @@ public interface CacheStrategy {
      */
     void evictAll(String cacheName, Collection<?> keys);
 
+    /**
+     * Evict every entry of a cache that was put with a tag
+     */
+    default void evictByTag(String cacheName, String tag) {
+        throw new UnsupportedOperationException(getName() + " does not support tags");
+    }
+
     /**
      * Clear entire cache
      */
@@ -69,6 +97,7 @@ public interface CacheStrategy {
 
     /**
      * Get all keys in a cache
+     * The returned collection is a snapshot that holds no connection or cursor
      */
     Collection<Object> getKeys(String cacheName);
 
@@ -87,11 +116,81 @@ public interface CacheStrategy {
      */
     <T> void putAll(String cacheName, Map<Object, T> entries, Duration ttl);
 
+    /**
+     * Get a value from cache without blocking
+     */
+    default <T> CompletionStage<Optional<T>> getAsync(String cacheName, Object key, Class<T> type) {
+        return CompletableFuture.completedFuture(get(cacheName, key, type));
+    }
+
+    /**
+     * Put a value in cache with TTL without blocking
+     */
+    default <T> CompletionStage<Void> putAsync(String cacheName, Object key, T value, Duration ttl) {
+        put(cacheName, key, value, ttl);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Put a value in cache with TTL and tags without blocking
+     */
+    default <T> CompletionStage<Void> putAsync(String cacheName, Object key, T value, Duration ttl,
+                                              Collection<String> tags) {
+        put(cacheName, key, value, ttl, tags);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Get or compute if absent with TTL without blocking
+     *
+     * @param valueLoader starts loading the value; called only on a miss
+     */
+    default <T> CompletionStage<T> getOrComputeAsync(String cacheName, Object key,
+                                                     Supplier<? extends CompletionStage<T>> valueLoader,
+                                                     Class<T> type, Duration ttl) {
+        return getAsync(cacheName, key, type).thenCompose(cached -> cached.isPresent()
+            ? CompletableFuture.completedFuture(cached.get())
+            : valueLoader.get().thenCompose(value -> value == null
+                ? CompletableFuture.completedFuture(null)
+                : putAsync(cacheName, key, value, ttl).thenApply(ignored -> value)));
+    }
+
+    /**
+     * Evict a specific key from cache without blocking
+     */
+    default CompletionStage<Void> evictAsync(String cacheName, Object key) {
+        evict(cacheName, key);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Get all entries in a cache without blocking
+     */
+    default <T> CompletionStage<Map<Object, T>> getAllAsync(String cacheName, Class<T> type) {
+        return CompletableFuture.completedFuture(getAll(cacheName, type));
+    }
+
+    /**
+     * Put multiple entries in cache with TTL without blocking
+     */
+    default <T> CompletionStage<Void> putAllAsync(String cacheName, Map<Object, T> entries, Duration ttl) {
+        putAll(cacheName, entries, ttl);
+        return CompletableFuture.completedFuture(null);
+    }
+
     /**
      * Get cache statistics
      */
     CacheStatistics getStatistics(String cacheName);
 
+    /**
+     * Get the per-cache operation counters kept by this strategy
+     * Reading them never queries the backend, unlike {@link #getStatistics(String)}
+     */
+    default Optional<CacheCounters> getCounters() {
+        return Optional.empty();
+    }
+
     /**
      * Initialize the strategy
      */
@@ -109,10 +208,14 @@ public interface CacheStrategy {
 
     /**
      * Cache statistics
+     *
+     * <p>{@code negativeHits} are reads that found an absent-value marker of
+     * {@code negative-ttl-seconds}; they are not counted in {@code hits} or {@code hitRate}.
      */
     record CacheStatistics(
         long hits,
         long misses,
+        long negativeHits,
         long evictions,
         long puts,
         long removals,
@@ -121,7 +224,7 @@ public interface CacheStrategy {
         long memoryUsage
     ) {
         public static CacheStatistics empty() {
-            return new CacheStatistics(0, 0, 0, 0, 0, 0.0, 0, 0);
+            return new CacheStatistics(0, 0, 0, 0, 0, 0, 0.0, 0, 0);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package dev.simplecore.simplix.cache.strategy;
+
+/**
+ * Cache Weigher
+ * Measures local cache entries for weight-bounded caches
+ *
+ * <p>Used by {@link LocalCacheStrategy} for caches with {@code cache-configs.<name>.maximum-weight}.
+ * The weigher is selected by name with {@code cache-configs.<name>.weigher}; register additional
+ * weighers as beans. An entry is weighed once, when it is written.
+ */
+public interface CacheWeigher {
+
+    /**
+     * @return the name used in configuration, e.g. {@code approximate-size}
+     */
+    String name();
+
+    /**
+     * @return the weight of the entry, zero or more
+     */
+    int weigh(Object key, Object value);
+}
@@ -2,33 +2,136 @@ package dev.simplecore.simplix.cache.strategy;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import dev.simplecore.simplix.cache.codec.CacheValueSerializer;
+import dev.simplecore.simplix.cache.config.CacheProperties;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Local Cache Strategy using Caffeine
  * Suitable for single-instance deployments or development
  *
- * <p><b>Important TTL Behavior:</b> Caffeine caches are configured per cache name with a single TTL value.
- * Once a cache is created with a specific TTL, that TTL is fixed for all entries in that cache.
- * Calling {@link #put(String, Object, Object, Duration)} with a different TTL after the cache
- * is already created will NOT change the TTL for that cache - the original TTL will continue to be used.
- * This is a limitation of Caffeine's per-cache configuration model.</p>
+ * <p>Each cache name gets its own Caffeine cache, built on first use from
+ * {@code cache-configs.<name>}: {@code maximum-size}, or {@code maximum-weight} measured by the
+ * {@link CacheWeigher} named in {@code weigher}, and {@code expire-after-access-seconds} for
+ * idle expiry. Caches without a size or weight limit hold up to {@code max-size} entries.
  *
- * <p>To use different TTLs, create separate caches with different names.</p>
+ * <p>Expiry is variable per entry: the TTL passed to {@link #put(String, Object, Object, Duration)}
+ * applies to that entry only, and puts without a TTL use {@code cache-configs.<name>.ttl-seconds}
+ * (default {@code default-ttl-seconds}). Idle expiry can shorten an entry's life but never
+ * extends it past its TTL.
+ *
+ * <p>Operations are counted per cache in {@link CacheCounters}; evictions are entries Caffeine
+ * dropped for size or expiry. Only load latency is reported, as reads and writes stay in memory.
+ *
+ * <p>Tags are kept on the entry and in a per-cache reverse index from tag to keys, so
+ * {@link #evictByTag(String, String)} visits only the keys put with the tag. Entries dropped
+ * by eviction or {@code evict} leave the index; a key rewritten without a tag stays indexed
+ * until the tag is evicted, but is only removed if its current entry still carries the tag.
+ *
+ * <p>With {@code simplix.cache.off-heap.enabled=true}, values whose serialized form with the
+ * cache's codec takes {@code off-heap.threshold-bytes} or more go into an {@link OffHeapStore}
+ * in direct memory, or in a memory-mapped file when {@code off-heap.mapped-file} is set; the
+ * Caffeine entry keeps only the key and a handle, weighing 1. Caches naming a {@code weigher}
+ * are decided by its measure instead, so values it weighs below the threshold are not
+ * serialized. Off-heap values come back as their own class, so collections of custom objects
+ * lose their element types as with the remote strategies. When the store is full, values
+ * stay on the heap. Blocks are released by the removal listener on Caffeine's executor.
  */
 @Slf4j
 public class LocalCacheStrategy implements CacheStrategy {
 
-    private final Map<String, Cache<Object, Object>> caches = new ConcurrentHashMap<>();
-    private final Duration defaultTtl = Duration.ofHours(1);
-    private final long maximumSize = 10000;
+    private final Map<String, Cache<Object, Entry>> caches = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Set<Object>>> tagIndexes = new ConcurrentHashMap<>();
+    private final CacheProperties properties;
+    private final long defaultMaximumSize;
+    private final Map<String, CacheWeigher> weighers = new HashMap<>();
+    private final Ticker ticker;
+    private final CacheCounters counters = new CacheCounters();
+    private final OffHeapStore offHeap;
+    private final CacheValueSerializer serializer;
+    private final LongAdder offHeapRejected = new LongAdder();
+    private final Executor executor;
+
+    public LocalCacheStrategy() {
+        this(new CacheProperties());
+    }
+
+    /**
+     * @param maximumSize maximum number of entries per cache
+     */
+    public LocalCacheStrategy(long maximumSize) {
+        this(new CacheProperties(), maximumSize, List.of(), Ticker.systemTicker());
+    }
+
+    public LocalCacheStrategy(CacheProperties properties) {
+        this(properties, List.of());
+    }
+
+    /**
+     * @param weighers additional weighers, selected per cache with {@code cache-configs.<name>.weigher}
+     * @throws IllegalStateException if two weighers share a name
+     */
+    public LocalCacheStrategy(CacheProperties properties, Collection<? extends CacheWeigher> weighers) {
+        this(properties, weighers, null);
+    }
+
+    /**
+     * @param serializer codec of values moved off the heap; required when
+     *                   {@code simplix.cache.off-heap.enabled=true}
+     * @throws IllegalStateException if two weighers share a name, or the off-heap store cannot be created
+     */
+    public LocalCacheStrategy(CacheProperties properties,
+                              Collection<? extends CacheWeigher> weighers,
+                              CacheValueSerializer serializer) {
+        this(properties, properties.getMaxSize(), weighers, Ticker.systemTicker(), serializer);
+    }
+
+    LocalCacheStrategy(CacheProperties properties,
+                       long defaultMaximumSize,
+                       Collection<? extends CacheWeigher> weighers,
+                       Ticker ticker) {
+        this(properties, defaultMaximumSize, weighers, ticker, null);
+    }
+
+    LocalCacheStrategy(CacheProperties properties,
+                       long defaultMaximumSize,
+                       Collection<? extends CacheWeigher> weighers,
+                       Ticker ticker,
+                       CacheValueSerializer serializer) {
+        this(properties, defaultMaximumSize, weighers, ticker, serializer, null);
+    }
+
+    /**
+     * @param executor executor for Caffeine maintenance and removal listeners, or null for Caffeine's default
+     */
+    LocalCacheStrategy(CacheProperties properties,
+                       long defaultMaximumSize,
+                       Collection<? extends CacheWeigher> weighers,
+                       Ticker ticker,
+                       CacheValueSerializer serializer,
+                       Executor executor) {
+        this.properties = properties;
+        this.defaultMaximumSize = defaultMaximumSize;
+        this.ticker = ticker;
+        this.serializer = serializer;
+        this.executor = executor;
+        this.offHeap = properties.getOffHeap().isEnabled() ? newOffHeapStore(properties.getOffHeap()) : null;
+        register(new ApproximateSizeWeigher());
+        weighers.forEach(this::register);
+    }
 
     @Override
     public String getName() {
@@ -38,12 +141,15 @@ public class LocalCacheStrategy implements CacheStrategy {
     @Override
     @SuppressWarnings("unchecked")
     public <T> Optional<T> get(String cacheName, Object key, Class<T> type) {
-        Cache<Object, Object> cache = getOrCreateCache(cacheName);
-        T value = (T) cache.getIfPresent(key);
+        Cache<Object, Entry> cache = getOrCreateCache(cacheName);
+        Entry entry = cache.getIfPresent(key);
+        T value = entry != null ? (T) valueOf(cacheName, entry) : null;
 
         if (value != null) {
+            counters.recordHit(cacheName, entry.offHeapLength());
             log.trace("Cache hit for key {} in cache {}", key, cacheName);
         } else {
+            counters.recordMiss(cacheName);
             log.trace("Cache miss for key {} in cache {}", key, cacheName);
         }
 
@@ -52,7 +158,7 @@ public class LocalCacheStrategy implements CacheStrategy {
 
     @Override
     public <T> void put(String cacheName, Object key, T value) {
-        put(cacheName, key, value, defaultTtl);
+        put(cacheName, key, value, defaultTtl(cacheName));
     }
 
     @Override
@@ -62,41 +168,80 @@ public class LocalCacheStrategy implements CacheStrategy {
             return;
         }
 
-        Cache<Object, Object> cache = getOrCreateCache(cacheName, ttl);
-        Cache<Object, Object> existing = caches.get(cacheName);
+        Entry entry = newEntry(cacheName, key, value, ttl);
+        getOrCreateCache(cacheName).put(key, entry);
+        counters.recordPuts(cacheName, 1, entry.offHeapLength());
+        log.trace("Put key {} in cache {}", key, cacheName);
+    }
 
-        if (existing != null && !existing.equals(cache)) {
-            log.warn("Cache {} already exists with different TTL. Using existing cache TTL. Requested TTL: {}",
-                     cacheName, ttl);
+    @Override
+    public <T> void put(String cacheName, Object key, T value, Duration ttl, Collection<String> tags) {
+        if (value == null) {
+            log.debug("Skipping null value for key {} in cache {}", key, cacheName);
+            return;
         }
 
-        cache.put(key, value);
-        log.trace("Put key {} in cache {}", key, cacheName);
+        Entry entry = newEntry(cacheName, key, value, ttl, Set.copyOf(tags));
+        getOrCreateCache(cacheName).put(key, entry);
+        // Indexed after the write, so a concurrent evictByTag either removes the entry or leaves it indexed
+        Map<String, Set<Object>> index = tagIndexes.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>());
+        for (String tag : entry.tags()) {
+            index.compute(tag, (t, keys) -> {
+                Set<Object> indexed = keys != null ? keys : ConcurrentHashMap.newKeySet();
+                indexed.add(key);
+                return indexed;
+            });
+        }
+        counters.recordPuts(cacheName, 1, entry.offHeapLength());
+        log.trace("Put key {} with tags {} in cache {}", key, entry.tags(), cacheName);
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <T> T getOrCompute(String cacheName, Object key, Callable<T> valueLoader, Class<T> type) {
-        return getOrCompute(cacheName, key, valueLoader, type, defaultTtl);
+        return getOrCompute(cacheName, key, valueLoader, type, defaultTtl(cacheName));
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <T> T getOrCompute(String cacheName, Object key, Callable<T> valueLoader, Class<T> type, Duration ttl) {
-        Cache<Object, Object> cache = getOrCreateCache(cacheName, ttl);
+        Cache<Object, Entry> cache = getOrCreateCache(cacheName);
+        boolean[] loaded = {false};
+        Object[] loadedValue = {null};
 
         try {
-            return (T) cache.get(key, k -> {
+            Entry entry = cache.get(key, k -> {
+                loaded[0] = true;
                 try {
-                    T value = valueLoader.call();
+                    T value = counters.load(cacheName, valueLoader);
                     log.trace("Computed value for key {} in cache {}", key, cacheName);
-                    return value;
+                    loadedValue[0] = value;
+                    return value != null ? newEntry(cacheName, k, value, ttl) : null;
                 } catch (Exception e) {
                     log.error("Failed to compute value for key {} in cache {}", key, cacheName, e);
                     throw new RuntimeException("Cache value computation failed", e);
                 }
             });
+            if (loaded[0]) {
+                counters.recordMiss(cacheName);
+                if (entry != null) {
+                    counters.recordPuts(cacheName, 1, entry.offHeapLength());
+                }
+                return (T) loadedValue[0];
+            }
+            if (entry == null) {
+                return null;
+            }
+            Object value = valueOf(cacheName, entry);
+            if (value == null) {
+                // Released or unreadable off-heap value: drop it and load again
+                cache.asMap().remove(key, entry);
+                return getOrCompute(cacheName, key, valueLoader, type, ttl);
+            }
+            counters.recordHit(cacheName, entry.offHeapLength());
+            return (T) value;
         } catch (Exception e) {
+            counters.recordMiss(cacheName);
             log.error("Cache get or compute failed for key {} in cache {}", key, cacheName, e);
             return null;
         }
@@ -104,46 +249,76 @@ public class LocalCacheStrategy implements CacheStrategy {
 
     @Override
     public void evict(String cacheName, Object key) {
-        Cache<Object, Object> cache = caches.get(cacheName);
+        Cache<Object, Entry> cache = caches.get(cacheName);
         if (cache != null) {
-            cache.invalidate(key);
+            remove(cacheName, cache, key);
+            counters.recordRemovals(cacheName, 1);
             log.trace("Evicted key {} from cache {}", key, cacheName);
         }
     }
 
     @Override
     public void evictAll(String cacheName, Collection<?> keys) {
-        Cache<Object, Object> cache = caches.get(cacheName);
+        Cache<Object, Entry> cache = caches.get(cacheName);
         if (cache != null) {
-            cache.invalidateAll(keys);
+            keys.forEach(key -> remove(cacheName, cache, key));
+            counters.recordRemovals(cacheName, keys.size());
             log.trace("Evicted {} keys from cache {}", keys.size(), cacheName);
         }
     }
 
+    @Override
+    public void evictByTag(String cacheName, String tag) {
+        Map<String, Set<Object>> index = tagIndexes.get(cacheName);
+        Cache<Object, Entry> cache = caches.get(cacheName);
+        Set<Object> keys = index != null ? index.remove(tag) : null;
+        if (cache == null || keys == null) {
+            return;
+        }
+
+        long[] removed = {0};
+        for (Object key : keys) {
+            cache.asMap().computeIfPresent(key, (k, entry) -> {
+                // The key may have been rewritten without the tag since it was indexed
+                if (!entry.tags().contains(tag)) {
+                    return entry;
+                }
+                unindex(cacheName, k, entry);
+                removed[0]++;
+                return null;
+            });
+        }
+        counters.recordRemovals(cacheName, removed[0]);
+        log.trace("Evicted {} entries tagged {} from cache {}", removed[0], tag, cacheName);
+    }
+
     @Override
     public void clear(String cacheName) {
-        Cache<Object, Object> cache = caches.get(cacheName);
+        Cache<Object, Entry> cache = caches.get(cacheName);
         if (cache != null) {
+            long size = cache.estimatedSize();
             cache.invalidateAll();
+            tagIndexes.remove(cacheName);
+            counters.recordRemovals(cacheName, size);
             log.debug("Cleared cache {}", cacheName);
         }
     }
 
     @Override
     public void clearAll() {
-        caches.values().forEach(Cache::invalidateAll);
+        caches.keySet().forEach(this::clear);
         log.debug("Cleared all {} caches", caches.size());
     }
 
     @Override
     public boolean exists(String cacheName, Object key) {
-        Cache<Object, Object> cache = caches.get(cacheName);
+        Cache<Object, Entry> cache = caches.get(cacheName);
         return cache != null && cache.getIfPresent(key) != null;
     }
 
     @Override
     public Collection<Object> getKeys(String cacheName) {
-        Cache<Object, Object> cache = caches.get(cacheName);
+        Cache<Object, Entry> cache = caches.get(cacheName);
         if (cache != null) {
             return new HashSet<>(cache.asMap().keySet());
         }
@@ -153,12 +328,16 @@ public class LocalCacheStrategy implements CacheStrategy {
     @Override
     @SuppressWarnings("unchecked")
     public <T> Map<Object, T> getAll(String cacheName, Class<T> type) {
-        Cache<Object, Object> cache = caches.get(cacheName);
+        Cache<Object, Entry> cache = caches.get(cacheName);
         if (cache != null) {
             Map<Object, T> result = new HashMap<>();
-            cache.asMap().forEach((k, v) -> {
-                if (type.isInstance(v)) {
-                    result.put(k, (T) v);
+            cache.asMap().forEach((k, entry) -> {
+                boolean matches = entry.value() instanceof OffHeapValue offHeapValue
+                    ? type.isAssignableFrom(offHeapValue.type())
+                    : type.isInstance(entry.value());
+                Object value = matches ? valueOf(cacheName, entry) : null;
+                if (value != null) {
+                    result.put(k, (T) value);
                 }
             });
             return result;
@@ -168,35 +347,39 @@ public class LocalCacheStrategy implements CacheStrategy {
 
     @Override
     public <T> void putAll(String cacheName, Map<Object, T> entries) {
-        putAll(cacheName, entries, defaultTtl);
+        putAll(cacheName, entries, defaultTtl(cacheName));
     }
 
     @Override
     public <T> void putAll(String cacheName, Map<Object, T> entries, Duration ttl) {
-        Cache<Object, Object> cache = getOrCreateCache(cacheName, ttl);
-        cache.putAll(entries);
-        log.trace("Put {} entries in cache {}", entries.size(), cacheName);
+        Map<Object, Entry> wrapped = new HashMap<>();
+        long[] offHeapBytes = {0};
+        entries.forEach((key, value) -> {
+            if (value != null) {
+                Entry entry = newEntry(cacheName, key, value, ttl);
+                offHeapBytes[0] += entry.offHeapLength();
+                wrapped.put(key, entry);
+            }
+        });
+        getOrCreateCache(cacheName).putAll(wrapped);
+        counters.recordPuts(cacheName, wrapped.size(), offHeapBytes[0]);
+        log.trace("Put {} entries in cache {}", wrapped.size(), cacheName);
     }
 
     @Override
     public CacheStatistics getStatistics(String cacheName) {
-        Cache<Object, Object> cache = caches.get(cacheName);
+        Cache<Object, Entry> cache = caches.get(cacheName);
         if (cache != null) {
-            CacheStats stats = cache.stats();
-            return new CacheStatistics(
-                stats.hitCount(),
-                stats.missCount(),
-                stats.evictionCount(),
-                stats.loadCount(),
-                0, // removals not tracked separately
-                stats.hitRate(),
-                cache.estimatedSize(),
-                0 // memory usage estimation not available
-            );
+            return counters.snapshot(cacheName).toStatistics(cache.estimatedSize());
         }
         return CacheStatistics.empty();
     }
 
+    @Override
+    public Optional<CacheCounters> getCounters() {
+        return Optional.of(counters);
+    }
+
     @Override
     public void initialize() {
         log.info("Local cache strategy initialized with Caffeine");
@@ -206,6 +389,9 @@ public class LocalCacheStrategy implements CacheStrategy {
     public void shutdown() {
         clearAll();
         caches.clear();
+        if (offHeap != null) {
+            offHeap.close();
+        }
         log.info("Local cache strategy shutdown complete");
     }
 
@@ -214,18 +400,287 @@ public class LocalCacheStrategy implements CacheStrategy {
         return true; // Local cache is always available
     }
 
-    private Cache<Object, Object> getOrCreateCache(String cacheName) {
-        return getOrCreateCache(cacheName, defaultTtl);
+    /**
+     * Get the most frequently used entries of a cache, as ranked by Caffeine's frequency sketch.
+     *
+     * @param limit maximum number of entries
+     * @return up to {@code limit} unexpired entries, hottest first
+     */
+    public List<HotEntry> getHottestEntries(String cacheName, int limit) {
+        Cache<Object, Entry> cache = caches.get(cacheName);
+        if (cache == null || limit <= 0) {
+            return List.of();
+        }
+        Map<Object, Entry> hottest = cache.policy().eviction()
+            .map(eviction -> eviction.hottest(limit))
+            .orElse(Map.of());
+
+        long now = ticker.read();
+        List<HotEntry> result = new ArrayList<>(hottest.size());
+        hottest.forEach((key, entry) -> {
+            long remainingNanos = entry.expiresAtNanos() - now;
+            Object value = remainingNanos > 0 ? valueOf(cacheName, entry) : null;
+            if (value != null) {
+                result.add(new HotEntry(key, value, Duration.ofNanos(remainingNanos)));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * @return usage of the off-heap store, empty unless {@code simplix.cache.off-heap.enabled=true}
+     */
+    public Optional<OffHeapStatistics> getOffHeapStatistics() {
+        if (offHeap == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new OffHeapStatistics(offHeap.capacityBytes(), offHeap.usedBytes(),
+            offHeap.entries(), offHeapRejected.sum()));
+    }
+
+    /**
+     * @return the names of the caches created so far
+     */
+    public Set<String> getCacheNames() {
+        return Set.copyOf(caches.keySet());
     }
 
-    private Cache<Object, Object> getOrCreateCache(String cacheName, Duration ttl) {
-        return caches.computeIfAbsent(cacheName, name -> {
-            log.debug("Creating local cache: {} with TTL: {}", name, ttl);
-            return Caffeine.newBuilder()
-                .maximumSize(maximumSize)
-                .expireAfterWrite(ttl.toMillis(), TimeUnit.MILLISECONDS)
-                .recordStats()
-                .build();
+    /**
+     * Run pending maintenance (size and weight eviction) of every cache on the calling thread.
+     */
+    void cleanUp() {
+        caches.values().forEach(Cache::cleanUp);
+    }
+
+    private Cache<Object, Entry> getOrCreateCache(String cacheName) {
+        return caches.computeIfAbsent(cacheName, this::newCache);
+    }
+
+    private Cache<Object, Entry> newCache(String cacheName) {
+        CacheProperties.CacheConfig config = properties.getCacheConfigs().get(cacheName);
+        long idleNanos = config != null && config.getExpireAfterAccessSeconds() != null
+            ? TimeUnit.SECONDS.toNanos(config.getExpireAfterAccessSeconds()) : 0;
+
+        Caffeine<Object, Entry> builder = Caffeine.newBuilder()
+            .ticker(ticker)
+            .expireAfter(new EntryExpiry(idleNanos))
+            .evictionListener((Object key, Entry entry, RemovalCause cause) -> {
+                unindex(cacheName, key, entry);
+                counters.recordEvictions(cacheName, 1);
+            });
+        if (executor != null) {
+            builder.executor(executor);
+        }
+        if (offHeap != null) {
+            // Free off-heap blocks whatever the cause; a removed handle is no longer read
+            builder.removalListener((Object key, Entry entry, RemovalCause cause) -> {
+                if (entry != null && entry.value() instanceof OffHeapValue offHeapValue) {
+                    offHeap.release(offHeapValue.handle());
+                }
+            });
+        }
+
+        if (config != null && config.getMaximumWeight() != null) {
+            CacheWeigher weigher = weigherFor(cacheName, config);
+            builder.maximumWeight(config.getMaximumWeight())
+                .weigher((Object key, Entry entry) -> entry.value() instanceof OffHeapValue
+                    ? 1 : weigher.weigh(key, entry.value()));
+            log.debug("Creating local cache: {} with maximum weight {} ({})",
+                cacheName, config.getMaximumWeight(), weigher.name());
+        } else {
+            long maximumSize = config != null && config.getMaximumSize() != null
+                ? config.getMaximumSize() : defaultMaximumSize;
+            builder.maximumSize(maximumSize);
+            log.debug("Creating local cache: {} with maximum size {}", cacheName, maximumSize);
+        }
+        return builder.build();
+    }
+
+    private CacheWeigher weigherFor(String cacheName, CacheProperties.CacheConfig config) {
+        String name = config != null && config.getWeigher() != null ? config.getWeigher() : ApproximateSizeWeigher.NAME;
+        CacheWeigher weigher = weighers.get(name);
+        if (weigher == null) {
+            throw new IllegalStateException("Unknown cache weigher '" + name + "' for cache " + cacheName);
+        }
+        return weigher;
+    }
+
+    private void register(CacheWeigher weigher) {
+        if (weighers.putIfAbsent(weigher.name(), weigher) != null) {
+            throw new IllegalStateException("Duplicate cache weigher name: " + weigher.name());
+        }
+    }
+
+    /**
+     * Remove a key and drop it from the tag index while holding the key's lock, so a
+     * concurrent tagged put of the same key is indexed after the removal.
+     */
+    private void remove(String cacheName, Cache<Object, Entry> cache, Object key) {
+        cache.asMap().computeIfPresent(key, (k, entry) -> {
+            unindex(cacheName, k, entry);
+            return null;
         });
     }
-}
\ No newline at end of file
+
+    private void unindex(String cacheName, Object key, Entry entry) {
+        if (entry == null || entry.tags().isEmpty()) {
+            return;
+        }
+        Map<String, Set<Object>> index = tagIndexes.get(cacheName);
+        if (index == null) {
+            return;
+        }
+        for (String tag : entry.tags()) {
+            index.computeIfPresent(tag, (t, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    private Duration defaultTtl(String cacheName) {
+        CacheProperties.CacheConfig config = properties.getCacheConfigs().get(cacheName);
+        long seconds = config != null ? config.getTtlSeconds() : properties.getDefaultTtlSeconds();
+        return Duration.ofSeconds(seconds);
+    }
+
+    private Entry newEntry(String cacheName, Object key, Object value, Duration ttl) {
+        return newEntry(cacheName, key, value, ttl, Set.of());
+    }
+
+    private Entry newEntry(String cacheName, Object key, Object value, Duration ttl, Set<String> tags) {
+        return newEntry(offHeap != null ? storeOffHeap(cacheName, key, value) : value, ttl, tags);
+    }
+
+    private Entry newEntry(Object value, Duration ttl, Set<String> tags) {
+        long ttlNanos;
+        try {
+            ttlNanos = Math.max(0, ttl.toNanos());
+        } catch (ArithmeticException e) {
+            ttlNanos = Long.MAX_VALUE;
+        }
+        // Deadlines are compared by difference, like System.nanoTime(), so overflow is harmless
+        return new Entry(value, ticker.read() + ttlNanos, tags);
+    }
+
+    /**
+     * Move a value whose serialized form, or the measure of the cache's configured weigher,
+     * reaches the threshold into the off-heap store.
+     *
+     * @return the off-heap handle, or the value itself when it stays on the heap
+     */
+    private Object storeOffHeap(String cacheName, Object key, Object value) {
+        int threshold = properties.getOffHeap().getThresholdBytes();
+        CacheProperties.CacheConfig config = properties.getCacheConfigs().get(cacheName);
+        boolean weighed = config != null && config.getWeigher() != null;
+        if (weighed && weigherFor(cacheName, config).weigh(key, value) < threshold) {
+            return value;
+        }
+        byte[] bytes;
+        try {
+            bytes = serializer.serialize(cacheName, value);
+        } catch (Exception e) {
+            log.debug("Keeping value of key {} in cache {} on the heap, serialization failed: {}",
+                key, cacheName, e.getMessage());
+            return value;
+        }
+        if (!weighed && bytes.length < threshold) {
+            return value;
+        }
+        OffHeapStore.Handle handle = offHeap.store(bytes);
+        if (handle == null) {
+            offHeapRejected.increment();
+            log.debug("Off-heap store full, keeping value of key {} in cache {} on the heap", key, cacheName);
+            return value;
+        }
+        return new OffHeapValue(handle, value.getClass());
+    }
+
+    /**
+     * @return the entry's value, read back from the off-heap store when it was moved there,
+     * or {@code null} when that value has since been released or cannot be decoded
+     */
+    private Object valueOf(String cacheName, Entry entry) {
+        if (!(entry.value() instanceof OffHeapValue offHeapValue)) {
+            return entry.value();
+        }
+        byte[] bytes = offHeap.read(offHeapValue.handle());
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            return serializer.deserialize(bytes, offHeapValue.type());
+        } catch (Exception e) {
+            log.warn("Failed to decode off-heap value of type {} in cache {}: {}",
+                offHeapValue.type().getName(), cacheName, e.getMessage());
+            return null;
+        }
+    }
+
+    private OffHeapStore newOffHeapStore(CacheProperties.OffHeapConfig config) {
+        if (serializer == null) {
+            throw new IllegalStateException("Off-heap local cache requires a CacheValueSerializer");
+        }
+        try {
+            return new OffHeapStore(config.getCapacityBytes(), config.getBlockSizeBytes(),
+                config.getMappedFile() != null ? Path.of(config.getMappedFile()) : null);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to create off-heap cache store", e);
+        }
+    }
+
+    /**
+     * Usage of the off-heap store: bytes taken in whole blocks, values held, and values kept
+     * on the heap because the store was full.
+     */
+    public record OffHeapStatistics(long capacityBytes, long usedBytes, long entries, long rejected) {
+    }
+
+    /**
+     * A frequently used entry and the time it has left to live.
+     */
+    public record HotEntry(Object key, Object value, Duration remainingTtl) {
+    }
+
+    /**
+     * A cached value with its write deadline and tags.
+     */
+    private record Entry(Object value, long expiresAtNanos, Set<String> tags) {
+
+        long offHeapLength() {
+            return value instanceof OffHeapValue offHeapValue ? offHeapValue.handle().length() : 0;
+        }
+    }
+
+    /**
+     * A value kept in the off-heap store, with the class it is decoded as.
+     */
+    private record OffHeapValue(OffHeapStore.Handle handle, Class<?> type) {
+    }
+
+    /**
+     * Expires entries at their own deadline, or earlier after {@code idleNanos} without access.
+     */
+    private record EntryExpiry(long idleNanos) implements Expiry<Object, Entry> {
+
+        @Override
+        public long expireAfterCreate(Object key, Entry entry, long currentTime) {
+            return remaining(entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Entry entry, long currentTime, long currentDuration) {
+            return remaining(entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Entry entry, long currentTime, long currentDuration) {
+            return idleNanos > 0 ? remaining(entry, currentTime) : currentDuration;
+        }
+
+        private long remaining(Entry entry, long currentTime) {
+            long untilDeadline = Math.max(0, entry.expiresAtNanos() - currentTime);
+            return idleNanos > 0 ? Math.min(idleNanos, untilDeadline) : untilDeadline;
+        }
+    }
+}
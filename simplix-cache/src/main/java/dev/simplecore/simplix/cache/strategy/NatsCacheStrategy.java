@@ -1,27 +1,52 @@
 package dev.simplecore.simplix.cache.strategy;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.simplecore.simplix.cache.codec.CacheValueSerializer;
 import dev.simplecore.simplix.cache.config.CacheProperties;
 import io.nats.client.Connection;
+import io.nats.client.JetStream;
 import io.nats.client.JetStreamApiException;
 import io.nats.client.KeyValue;
 import io.nats.client.KeyValueManagement;
+import io.nats.client.Message;
+import io.nats.client.PublishOptions;
 import io.nats.client.api.KeyValueConfiguration;
 import io.nats.client.api.KeyValueEntry;
+import io.nats.client.api.PublishAck;
+import io.nats.client.impl.Headers;
+import io.nats.client.support.Status;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * NATS JetStream KV-based cache strategy.
@@ -34,13 +59,47 @@ import java.util.concurrent.atomic.LongAdder;
  * {@code defaultTtlSeconds}). Once a bucket exists,
  * this strategy does not mutate it.
  *
- * <p><b>Per-call TTL is silently ignored.</b> The {@code Duration ttl}
- * parameter on {@link #put(String, Object, Object, Duration)},
- * {@link #getOrCompute(String, Object, java.util.concurrent.Callable, Class, Duration)}
- * and {@link #putAll(String, java.util.Map, Duration)} is not honoured —
- * NATS JetStream KV does not support per-key TTLs, only bucket-level
- * {@code maxAge}. Configure per-cache retention via
- * {@code simplix.cache.cache-configs.<name>.ttl-seconds} instead.
+ * <p><b>Per-call TTL.</b> With {@code nats.per-entry-ttl} (nats-server 2.11+), buckets are
+ * created with per-message TTL enabled and the {@code Duration ttl} of
+ * {@link #put(String, Object, Object, Duration)},
+ * {@link #getOrCompute(String, Object, java.util.concurrent.Callable, Class, Duration)} and
+ * {@link #putAll(String, java.util.Map, Duration)} is sent as a {@code Nats-TTL} header,
+ * rounded up to whole seconds. Otherwise it is ignored and entries live for the bucket
+ * {@code maxAge} ({@code simplix.cache.cache-configs.<name>.ttl-seconds}).
+ *
+ * <p>{@code putAll}, {@code evictAll} and {@code clear} publish to the bucket's stream with
+ * the JetStream async API, keeping up to {@code nats.publish-window} messages in flight
+ * before waiting for their acknowledgements, instead of one round trip per key.
+ *
+ * <p>Values are encoded by a {@link CacheValueSerializer} with the codec and compression
+ * configured for the cache. Hits, misses, loads, writes and the bytes moved are counted per
+ * cache on this node in {@link CacheCounters}.
+ *
+ * <p>With {@code nats.local-mirror}, each bucket is mirrored in memory by a KV watch and reads
+ * are answered locally: the watch pushes every put and delete, and this node's own writes
+ * are recorded with their revision so they are visible immediately. Keys the bounded mirror
+ * does not hold are read from the server unless {@code nats.mirror-remote-fallback} is off.
+ * See {@link #getMirrorStatistics(String)}.
+ *
+ * <p>Tags are evicted by generation rather than by deleting entries: each tag has a counter
+ * in the {@code <bucketPrefix>tag-generations} bucket (see {@link NatsTagGenerations}), a
+ * tagged value is stored behind a small header holding the generations of its tags, and a
+ * value whose tag has since moved on reads as a miss and ages out with its TTL. Evicting a
+ * tag is therefore a single KV put, however many entries carry it.
+ *
+ * <p>{@code getOrCompute} misses are coalesced per key with a {@link SingleFlight}. With
+ * {@code load-lock.enabled} a node must also create the key's entry in the
+ * {@code <bucketPrefix>load-locks} bucket (whose {@code maxAge} is the lock lease) before
+ * running the loader; other nodes wait for the value to appear instead of loading it again.
+ *
+ * <p>Each single-key operation ({@code get}, {@code put} with or without tags,
+ * {@code getOrCompute} with its load lock, {@code evict}) is written once and shared by the
+ * blocking and async methods, which differ only in how the server is called. The blocking
+ * methods use the KV API on the caller's thread. The async ones never wait on the connection:
+ * reads are JetStream direct-get requests ({@code $JS.API.DIRECT.GET}), or mirror lookups,
+ * and writes and deletes use {@code publishAsync}. Binding a bucket on first access and
+ * listing the keys for {@code getAllAsync} still use the blocking KV API, and the load lock
+ * is taken and released with it on the common fork-join pool.
  *
  * <p>This implementation is suitable for multi-instance deployments that
  * already use NATS for messaging and want to drop Redis from the runtime.
@@ -50,18 +109,42 @@ public class NatsCacheStrategy implements CacheStrategy {
 
     private final Connection connection;
     private final CacheProperties properties;
-    private final ObjectMapper objectMapper;
+    private final CacheValueSerializer serializer;
 
     private final ConcurrentMap<String, KeyValue> buckets = new ConcurrentHashMap<>();
-    private final ConcurrentMap<String, LongAdder> hits = new ConcurrentHashMap<>();
-    private final ConcurrentMap<String, LongAdder> misses = new ConcurrentHashMap<>();
-    private final ConcurrentMap<String, LongAdder> puts = new ConcurrentHashMap<>();
-    private final ConcurrentMap<String, LongAdder> removals = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, NatsKvMirror> mirrors = new ConcurrentHashMap<>();
+    private final CacheCounters counters = new CacheCounters();
+    private final SingleFlight singleFlight = new SingleFlight();
+    private final String lockOwner = UUID.randomUUID().toString();
+    private volatile KeyValue lockBucket;
+    private volatile NatsTagGenerations tagGenerations;
+    private volatile JetStream jetStream;
+    private final Io blockingIo = new BlockingIo();
+    private final Io asyncIo = new AsyncIo();
+
+    private static final String LOCK_BUCKET_SUFFIX = "load-locks";
+    private static final String TAG_BUCKET_SUFFIX = "tag-generations";
+    /** First byte of a tagged value; serialized values start with 0x00 or JSON text. */
+    private static final byte TAGGED = 0x01;
+    private static final String KV_SUBJECT_PREFIX = "$KV.";
+    private static final String KV_OPERATION_HEADER = "KV-Operation";
+    private static final String KV_OPERATION_DELETE = "DEL";
+    private static final String MARKER_REASON_HEADER = "Nats-Marker-Reason";
+    private static final String DIRECT_GET_PREFIX = "$JS.API.DIRECT.GET.KV_";
+    /** How long the server keeps the marker left by an expired entry. */
+    private static final Duration LIMIT_MARKER_TTL = Duration.ofSeconds(1);
 
     public NatsCacheStrategy(Connection connection, CacheProperties properties, ObjectMapper objectMapper) {
+        this(connection, properties, new CacheValueSerializer(properties, objectMapper));
+    }
+
+    /**
+     * @param serializer encodes values with the codec and compression configured per cache
+     */
+    public NatsCacheStrategy(Connection connection, CacheProperties properties, CacheValueSerializer serializer) {
         this.connection = connection;
         this.properties = properties;
-        this.objectMapper = objectMapper;
+        this.serializer = serializer;
     }
 
     @Override
@@ -71,21 +154,7 @@ public class NatsCacheStrategy implements CacheStrategy {
 
     @Override
     public <T> Optional<T> get(String cacheName, Object key, Class<T> type) {
-        try {
-            KeyValue kv = bucketFor(cacheName);
-            KeyValueEntry entry = kv.get(toKey(key));
-            if (entry == null || entry.getValue() == null) {
-                counter(misses, cacheName).increment();
-                log.trace("NATS cache miss for key {} in cache {}", key, cacheName);
-                return Optional.empty();
-            }
-            counter(hits, cacheName).increment();
-            T value = deserialize(entry.getValue(), type);
-            return Optional.ofNullable(value);
-        } catch (Exception e) {
-            log.error("Failed to get value from NATS KV for key {} in cache {}", key, cacheName, e);
-            return Optional.empty();
-        }
+        return get(blockingIo, cacheName, key, type).join();
     }
 
     @Override
@@ -95,21 +164,12 @@ public class NatsCacheStrategy implements CacheStrategy {
 
     @Override
     public <T> void put(String cacheName, Object key, T value, Duration ttl) {
-        if (value == null) {
-            log.debug("Skipping null value for key {} in cache {}", key, cacheName);
-            return;
-        }
+        put(cacheName, key, value, ttl, List.of());
+    }
 
-        try {
-            KeyValue kv = bucketFor(cacheName);
-            byte[] serialized = serialize(value);
-            kv.put(toKey(key), serialized);
-            counter(puts, cacheName).increment();
-            warnPerCallTtlIgnored(cacheName, ttl);
-            log.trace("Put key {} in NATS cache {}", key, cacheName);
-        } catch (Exception e) {
-            log.error("Failed to put value in NATS KV for key {} in cache {}", key, cacheName, e);
-        }
+    @Override
+    public <T> void put(String cacheName, Object key, T value, Duration ttl, Collection<String> tags) {
+        put(blockingIo, cacheName, key, value, ttl, tags).join();
     }
 
     @Override
@@ -120,58 +180,344 @@ public class NatsCacheStrategy implements CacheStrategy {
     @Override
     public <T> T getOrCompute(String cacheName, Object key, Callable<T> valueLoader,
                                Class<T> type, Duration ttl) {
-        Optional<T> cached = get(cacheName, key, type);
-        if (cached.isPresent()) {
-            return cached.get();
+        try {
+            return getOrCompute(blockingIo, cacheName, key, SingleFlight.inline(valueLoader), type, ttl).join();
+        } catch (CompletionException e) {
+            Throwable cause = SingleFlight.unwrap(e);
+            log.error("Failed to compute value for key {} in cache {}", key, cacheName, cause);
+            throw new RuntimeException("Cache value computation failed", cause);
+        }
+    }
+
+    /**
+     * Get the load coalescing statistics of {@code getOrCompute}.
+     */
+    public SingleFlight.LoadStatistics getLoadStatistics() {
+        return singleFlight.getStatistics();
+    }
+
+    @Override
+    public <T> CompletionStage<Optional<T>> getAsync(String cacheName, Object key, Class<T> type) {
+        return get(asyncIo, cacheName, key, type);
+    }
+
+    @Override
+    public <T> CompletionStage<Void> putAsync(String cacheName, Object key, T value, Duration ttl) {
+        return put(asyncIo, cacheName, key, value, ttl, List.of());
+    }
+
+    @Override
+    public <T> CompletionStage<Void> putAsync(String cacheName, Object key, T value, Duration ttl,
+                                             Collection<String> tags) {
+        return put(asyncIo, cacheName, key, value, ttl, tags);
+    }
+
+    @Override
+    public <T> CompletionStage<T> getOrComputeAsync(String cacheName, Object key,
+                                                    Supplier<? extends CompletionStage<T>> valueLoader,
+                                                    Class<T> type, Duration ttl) {
+        return getOrCompute(asyncIo, cacheName, key, valueLoader, type, ttl);
+    }
+
+    @Override
+    public CompletionStage<Void> evictAsync(String cacheName, Object key) {
+        return evict(asyncIo, cacheName, key);
+    }
+
+    /**
+     * Read all entries with concurrent direct gets; the keys are listed with the blocking KV API.
+     */
+    @Override
+    public <T> CompletionStage<Map<Object, T>> getAllAsync(String cacheName, Class<T> type) {
+        List<String> keys;
+        try {
+            keys = bucketFor(cacheName).keys();
+        } catch (Exception e) {
+            log.error("Failed to read all entries from NATS cache {}", cacheName, e);
+            return CompletableFuture.completedFuture(new HashMap<>());
+        }
+        if (keys == null || keys.isEmpty()) {
+            return CompletableFuture.completedFuture(new HashMap<>());
         }
+
+        Map<Object, T> result = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] reads = keys.stream()
+                .map(key -> readRaw(asyncIo, cacheName, key).handle((data, failure) -> {
+                    if (failure != null) {
+                        log.error("Failed to read key {} from NATS cache {}", key, cacheName, failure);
+                    } else if (data.isPresent()) {
+                        try {
+                            result.put(key, serializer.deserialize(data.get(), type));
+                        } catch (Exception e) {
+                            log.error("Failed to deserialize value for key {} in NATS cache {}", key, cacheName, e);
+                        }
+                    }
+                    return null;
+                }))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(reads).thenApply(ignored -> new HashMap<>(result));
+    }
+
+    @Override
+    public <T> CompletionStage<Void> putAllAsync(String cacheName, Map<Object, T> entries, Duration ttl) {
+        Map<String, byte[]> serialized;
+        JetStream js;
         try {
-            T value = valueLoader.call();
-            if (value != null) {
-                put(cacheName, key, value, ttl);
+            bucketFor(cacheName);
+            serialized = serializeAll(cacheName, entries);
+            js = jetStream();
+        } catch (Exception e) {
+            log.error("Failed putAll on NATS cache {}", cacheName, e);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        PublishOptions options = properties.getNats().isPerEntryTtl() ? ttlOptions(ttl) : null;
+        if (options == null) {
+            warnPerCallTtlIgnored(cacheName, ttl);
+        }
+        return publishPipelinedAsync(cacheName, "put", List.copyOf(serialized.keySet()), 0, key -> options != null
+                        ? js.publishAsync(subject(cacheName, key), serialized.get(key), options)
+                        : js.publishAsync(subject(cacheName, key), serialized.get(key)),
+                mirrorWrites(cacheName, serialized, ttl))
+                .thenAccept(count -> counters.recordPuts(cacheName, count, valueBytes(serialized, count)));
+    }
+
+    private <T> CompletableFuture<Optional<T>> get(Io io, String cacheName, Object key, Class<T> type) {
+        long start = System.nanoTime();
+        return readRaw(io, cacheName, key).handle((data, failure) -> {
+            counters.recordLatency(cacheName, CacheCounters.Latency.GET, System.nanoTime() - start);
+            if (failure == null && data.isPresent()) {
+                try {
+                    Optional<T> value = Optional.ofNullable(serializer.deserialize(data.get(), type));
+                    counters.recordHit(cacheName, data.get().length);
+                    return value;
+                } catch (Exception e) {
+                    failure = e;
+                }
+            }
+            if (failure != null) {
+                log.error("Failed to get value from NATS KV for key {} in cache {}", key, cacheName,
+                        SingleFlight.unwrap(failure));
+            } else {
+                log.trace("NATS cache miss for key {} in cache {}", key, cacheName);
             }
-            return value;
+            counters.recordMiss(cacheName);
+            return Optional.empty();
+        });
+    }
+
+    private <T> CompletableFuture<Void> put(Io io, String cacheName, Object key, T value, Duration ttl,
+                                            Collection<String> tags) {
+        if (value == null) {
+            log.debug("Skipping null value for key {} in cache {}", key, cacheName);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        String natsKey = toKey(key);
+        long start = System.nanoTime();
+        KeyValue kv;
+        byte[] stored;
+        try {
+            kv = bucketFor(cacheName);
+            byte[] serialized = serializer.serialize(cacheName, value);
+            stored = tags.isEmpty() ? serialized : tagged(cacheName, serialized, tags);
         } catch (Exception e) {
-            log.error("Failed to compute value for key {} in cache {}", key, cacheName, e);
-            throw new RuntimeException("Cache value computation failed", e);
+            counters.recordLatency(cacheName, CacheCounters.Latency.PUT, System.nanoTime() - start);
+            log.error("Failed to put value in NATS KV for key {} in cache {}", key, cacheName, e);
+            return CompletableFuture.completedFuture(null);
+        }
+        PublishOptions options = properties.getNats().isPerEntryTtl() ? ttlOptions(ttl) : null;
+        if (options == null) {
+            warnPerCallTtlIgnored(cacheName, ttl);
+        }
+
+        return io.write(cacheName, kv, natsKey, stored, options).handle((revision, failure) -> {
+            counters.recordLatency(cacheName, CacheCounters.Latency.PUT, System.nanoTime() - start);
+            NatsKvMirror mirror = mirrors.get(cacheName);
+            if (failure != null) {
+                if (mirror != null) {
+                    mirror.forget(natsKey);
+                }
+                log.error("Failed to put value in NATS KV for key {} in cache {}", key, cacheName,
+                        SingleFlight.unwrap(failure));
+            } else {
+                if (mirror != null) {
+                    mirror.recordWrite(natsKey, stored, revision, ttl);
+                }
+                counters.recordPuts(cacheName, 1, stored.length);
+                log.trace("Put key {} in NATS cache {}", key, cacheName);
+            }
+            return null;
+        });
+    }
+
+    private <T> CompletableFuture<T> getOrCompute(Io io, String cacheName, Object key,
+                                                  Supplier<? extends CompletionStage<T>> valueLoader,
+                                                  Class<T> type, Duration ttl) {
+        return get(io, cacheName, key, type).thenCompose(cached -> cached.isPresent()
+                ? CompletableFuture.completedFuture(cached.get())
+                : singleFlight.executeAsync(cacheName + "::" + toKey(key),
+                        () -> loadWithLock(io, cacheName, key, valueLoader, type, ttl)));
+    }
+
+    private <T> CompletableFuture<T> loadWithLock(Io io, String cacheName, Object key,
+                                                  Supplier<? extends CompletionStage<T>> valueLoader,
+                                                  Class<T> type, Duration ttl) {
+        CacheProperties.LoadLockConfig lockConfig = properties.getLoadLock();
+        if (!lockConfig.isEnabled()) {
+            return load(io, cacheName, key, valueLoader, ttl);
+        }
+
+        String lockKey = sanitize(cacheName) + "." + toKey(key);
+        return io.call(() -> acquireLoadLock(lockKey)).handle((revision, failure) -> {
+            if (failure != null) {
+                log.warn("Failed to acquire load lock for key {} in cache {}, loading without it: {}",
+                        key, cacheName, SingleFlight.unwrap(failure).getMessage());
+                return load(io, cacheName, key, valueLoader, ttl);
+            }
+            if (revision.isEmpty()) {
+                // The key already exists: another node holds the lock
+                return singleFlight.awaitRemoteLoadAsync(() -> readQuietly(io, cacheName, key, type),
+                                Duration.ofMillis(lockConfig.getWaitMillis()),
+                                Duration.ofMillis(lockConfig.getPollIntervalMillis()), io::pause)
+                        .thenCompose(loaded -> {
+                            if (loaded.isPresent()) {
+                                log.trace("Key {} in cache {} was loaded by another node", key, cacheName);
+                                return CompletableFuture.completedFuture(loaded.get());
+                            }
+                            log.debug("Load lock for key {} in cache {} held past the wait, loading locally",
+                                    key, cacheName);
+                            return load(io, cacheName, key, valueLoader, ttl);
+                        });
+            }
+            // Another node may have loaded the value between our miss and the lock
+            return readQuietly(io, cacheName, key, type)
+                    .thenCompose(cached -> cached.isPresent()
+                            ? CompletableFuture.completedFuture(cached.get())
+                            : load(io, cacheName, key, valueLoader, ttl))
+                    .handle((value, loadFailure) -> releaseLoadLock(io, lockKey, revision.get())
+                            .thenCompose(ignored -> loadFailure != null
+                                    ? CompletableFuture.<T>failedFuture(SingleFlight.unwrap(loadFailure))
+                                    : CompletableFuture.completedFuture(value)))
+                    .thenCompose(Function.identity());
+        }).thenCompose(Function.identity());
+    }
+
+    private <T> CompletableFuture<T> load(Io io, String cacheName, Object key,
+                                          Supplier<? extends CompletionStage<T>> valueLoader, Duration ttl) {
+        return counters.loadAsync(cacheName, valueLoader).toCompletableFuture()
+                .thenCompose(value -> value == null
+                        ? CompletableFuture.completedFuture(null)
+                        : put(io, cacheName, key, value, ttl, List.of()).thenApply(ignored -> value));
+    }
+
+    /**
+     * Create the key's entry in the lock bucket.
+     *
+     * @return the entry's revision, or empty if another node holds the lock
+     */
+    private Optional<Long> acquireLoadLock(String lockKey) throws IOException {
+        KeyValue locks = lockBucket();
+        try {
+            return Optional.of(locks.create(lockKey, lockOwner.getBytes(StandardCharsets.UTF_8)));
+        } catch (JetStreamApiException e) {
+            return Optional.empty();
+        }
+    }
+
+    private CompletableFuture<Void> releaseLoadLock(Io io, String lockKey, long revision) {
+        return io.call(() -> {
+            lockBucket().delete(lockKey, revision);
+            return null;
+        }).<Void>thenApply(ignored -> null).exceptionally(failure -> {
+            log.warn("Failed to release load lock {}, it expires with its lease: {}", lockKey,
+                    SingleFlight.unwrap(failure).getMessage());
+            return null;
+        });
+    }
+
+    private KeyValue lockBucket() throws IOException {
+        KeyValue existing = lockBucket;
+        if (existing != null) {
+            return existing;
+        }
+        synchronized (buckets) {
+            if (lockBucket == null) {
+                String bucketName = properties.getNats().getBucketPrefix() + LOCK_BUCKET_SUFFIX;
+                ensureBucket(bucketName, Duration.ofMillis(properties.getLoadLock().getLeaseMillis()));
+                lockBucket = connection.keyValue(bucketName);
+            }
+            return lockBucket;
         }
     }
 
     @Override
     public void evict(String cacheName, Object key) {
+        evict(blockingIo, cacheName, key).join();
+    }
+
+    private CompletableFuture<Void> evict(Io io, String cacheName, Object key) {
+        String natsKey = toKey(key);
         try {
-            KeyValue kv = bucketFor(cacheName);
-            kv.delete(toKey(key));
-            counter(removals, cacheName).increment();
-            log.trace("Evicted key {} from NATS cache {}", key, cacheName);
+            bucketFor(cacheName);
         } catch (Exception e) {
             log.error("Failed to evict key {} from NATS cache {}", key, cacheName, e);
+            return CompletableFuture.completedFuture(null);
         }
+
+        return io.delete(cacheName, natsKey).handle((revision, failure) -> {
+            NatsKvMirror mirror = mirrors.get(cacheName);
+            if (failure != null) {
+                if (mirror != null) {
+                    mirror.forget(natsKey);
+                }
+                log.error("Failed to evict key {} from NATS cache {}", key, cacheName, SingleFlight.unwrap(failure));
+            } else {
+                if (mirror != null) {
+                    mirror.recordDelete(natsKey, revision);
+                }
+                counters.recordRemovals(cacheName, 1);
+                log.trace("Evicted key {} from NATS cache {}", key, cacheName);
+            }
+            return null;
+        });
     }
 
     @Override
     public void evictAll(String cacheName, Collection<?> keys) {
         try {
-            KeyValue kv = bucketFor(cacheName);
-            for (Object key : keys) {
-                kv.delete(toKey(key));
-                counter(removals, cacheName).increment();
-            }
+            bucketFor(cacheName);
+            List<String> natsKeys = keys.stream().map(NatsCacheStrategy::toKey).toList();
+            int deleted = deletePipelined(cacheName, natsKeys);
+            counters.recordRemovals(cacheName, deleted);
+            log.trace("Evicted {} keys from NATS cache {}", deleted, cacheName);
         } catch (Exception e) {
             log.error("Failed to evict keys from NATS cache {}", cacheName, e);
         }
     }
 
+    /**
+     * Raise the tag's generation, so values put with it before now read as misses.
+     */
+    @Override
+    public void evictByTag(String cacheName, String tag) {
+        try {
+            long generation = tagGenerations().increment(tagKey(cacheName, tag));
+            log.trace("Evicted tag {} of NATS cache {} (generation {})", tag, cacheName, generation);
+        } catch (Exception e) {
+            log.error("Failed to evict tag {} of NATS cache {}", tag, cacheName, e);
+        }
+    }
+
     @Override
     public void clear(String cacheName) {
         try {
             KeyValue kv = bucketFor(cacheName);
             List<String> keys = kv.keys();
             if (keys != null) {
-                for (String key : keys) {
-                    kv.delete(key);
-                    counter(removals, cacheName).increment();
-                }
-                log.debug("Cleared {} entries from NATS cache {}", keys.size(), cacheName);
+                int deleted = deletePipelined(cacheName, keys);
+                counters.recordRemovals(cacheName, deleted);
+                log.debug("Cleared {} entries from NATS cache {}", deleted, cacheName);
             }
         } catch (Exception e) {
             log.error("Failed to clear NATS cache {}", cacheName, e);
@@ -189,11 +535,9 @@ public class NatsCacheStrategy implements CacheStrategy {
     @Override
     public boolean exists(String cacheName, Object key) {
         try {
-            KeyValue kv = bucketFor(cacheName);
-            KeyValueEntry entry = kv.get(toKey(key));
-            return entry != null && entry.getValue() != null;
-        } catch (Exception e) {
-            log.error("Failed to check existence of key {} in NATS cache {}", key, cacheName, e);
+            return readRaw(blockingIo, cacheName, key).join().isPresent();
+        } catch (CompletionException e) {
+            log.error("Failed to check existence of key {} in NATS cache {}", key, cacheName, SingleFlight.unwrap(e));
             return false;
         }
     }
@@ -221,9 +565,12 @@ public class NatsCacheStrategy implements CacheStrategy {
             }
             for (String key : keys) {
                 KeyValueEntry entry = kv.get(key);
-                if (entry != null && entry.getValue() != null) {
+                Optional<byte[]> data = entry != null
+                        ? untagged(cacheName, Optional.ofNullable(entry.getValue()))
+                        : Optional.empty();
+                if (data.isPresent()) {
                     try {
-                        result.put(key, deserialize(entry.getValue(), type));
+                        result.put(key, serializer.deserialize(data.get(), type));
                     } catch (Exception e) {
                         log.error("Failed to deserialize value for key {} in NATS cache {}", key, cacheName, e);
                     }
@@ -243,17 +590,18 @@ public class NatsCacheStrategy implements CacheStrategy {
     @Override
     public <T> void putAll(String cacheName, Map<Object, T> entries, Duration ttl) {
         try {
-            KeyValue kv = bucketFor(cacheName);
-            int count = 0;
-            for (Map.Entry<Object, T> e : entries.entrySet()) {
-                if (e.getValue() == null) continue;
-                try {
-                    kv.put(toKey(e.getKey()), serialize(e.getValue()));
-                    counter(puts, cacheName).increment();
-                    count++;
-                } catch (Exception ex) {
-                    log.error("Failed to serialize/put key {} in NATS cache {}", e.getKey(), cacheName, ex);
-                }
+            bucketFor(cacheName);
+            Map<String, byte[]> serialized = serializeAll(cacheName, entries);
+
+            JetStream js = jetStream();
+            PublishOptions options = properties.getNats().isPerEntryTtl() ? ttlOptions(ttl) : null;
+            int count = publishPipelined(cacheName, "put", List.copyOf(serialized.keySet()), key -> options != null
+                    ? js.publishAsync(subject(cacheName, key), serialized.get(key), options)
+                    : js.publishAsync(subject(cacheName, key), serialized.get(key)),
+                mirrorWrites(cacheName, serialized, ttl));
+            counters.recordPuts(cacheName, count, valueBytes(serialized, count));
+            if (options == null) {
+                warnPerCallTtlIgnored(cacheName, ttl);
             }
             if (count > 0) {
                 log.trace("Put {} entries in NATS cache {}", count, cacheName);
@@ -263,12 +611,12 @@ public class NatsCacheStrategy implements CacheStrategy {
         }
     }
 
+    /**
+     * Get cache statistics: this node's counts for the cache, and the size from listing the
+     * bucket's keys. Use {@link #getCounters()} to read the counts without listing keys.
+     */
     @Override
     public CacheStatistics getStatistics(String cacheName) {
-        long h = sum(hits, cacheName);
-        long m = sum(misses, cacheName);
-        long p = sum(puts, cacheName);
-        long r = sum(removals, cacheName);
         long size = 0;
         try {
             KeyValue kv = bucketFor(cacheName);
@@ -277,8 +625,12 @@ public class NatsCacheStrategy implements CacheStrategy {
         } catch (Exception e) {
             log.trace("Failed to read size for NATS cache {}: {}", cacheName, e.getMessage());
         }
-        double hitRate = (h + m) > 0 ? (double) h / (h + m) : 0.0;
-        return new CacheStatistics(h, m, 0L, p, r, hitRate, size, 0L);
+        return counters.snapshot(cacheName).toStatistics(size);
+    }
+
+    @Override
+    public Optional<CacheCounters> getCounters() {
+        return Optional.of(counters);
     }
 
     @Override
@@ -291,8 +643,23 @@ public class NatsCacheStrategy implements CacheStrategy {
         }
     }
 
+    /**
+     * Get the local mirror statistics of a cache.
+     *
+     * @return the statistics, or empty if the cache is not mirrored
+     */
+    public Optional<MirrorStatistics> getMirrorStatistics(String cacheName) {
+        return Optional.ofNullable(mirrors.get(cacheName)).map(NatsKvMirror::getStatistics);
+    }
+
     @Override
     public void shutdown() {
+        mirrors.values().forEach(NatsKvMirror::close);
+        mirrors.clear();
+        NatsTagGenerations generations = tagGenerations;
+        if (generations != null) {
+            generations.close();
+        }
         buckets.clear();
         log.info("NATS cache strategy shutdown complete");
     }
@@ -306,6 +673,140 @@ public class NatsCacheStrategy implements CacheStrategy {
         }
     }
 
+    /**
+     * Read the value bytes of a key, without the tag header; values of evicted tags are misses.
+     */
+    private CompletableFuture<Optional<byte[]>> readRaw(Io io, String cacheName, Object key) {
+        return readStored(io, cacheName, key).thenApply(stored -> untagged(cacheName, stored));
+    }
+
+    /**
+     * Read the stored bytes of a key, from the local mirror when it knows the key.
+     */
+    private CompletableFuture<Optional<byte[]>> readStored(Io io, String cacheName, Object key) {
+        KeyValue kv;
+        try {
+            kv = bucketFor(cacheName);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        String natsKey = toKey(key);
+        NatsKvMirror mirror = mirrors.get(cacheName);
+        if (mirror != null) {
+            NatsKvMirror.Lookup lookup = mirror.lookup(natsKey);
+            if (lookup.known()) {
+                return CompletableFuture.completedFuture(Optional.ofNullable(lookup.value()));
+            }
+            if (!properties.getNats().isMirrorRemoteFallback()) {
+                return CompletableFuture.completedFuture(Optional.empty());
+            }
+            mirror.recordRemoteRead();
+        }
+        return io.fetch(cacheName, kv, natsKey);
+    }
+
+    /**
+     * Extract the value from a direct get reply; delete, purge and expiry markers are misses.
+     */
+    private static Optional<byte[]> directGetValue(Message reply) {
+        if (reply.isStatusMessage()) {
+            if (reply.getStatus().getCode() == Status.NOT_FOUND_CODE) {
+                return Optional.empty();
+            }
+            throw new IllegalStateException("Direct get failed: " + reply.getStatus().getMessageWithCode());
+        }
+        Headers headers = reply.getHeaders();
+        if (headers != null
+                && (headers.getFirst(KV_OPERATION_HEADER) != null || headers.getFirst(MARKER_REASON_HEADER) != null)) {
+            return Optional.empty();
+        }
+        byte[] data = reply.getData();
+        return data == null || data.length == 0 ? Optional.empty() : Optional.of(data);
+    }
+
+    /**
+     * Prefix a value with its tags and their current generations:
+     * {@code [0x01][tag count][per tag: UTF tag, long generation][value]}.
+     */
+    private byte[] tagged(String cacheName, byte[] value, Collection<String> tags) throws Exception {
+        NatsTagGenerations generations = tagGenerations();
+        List<String> distinct = tags.stream().distinct().toList();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(value.length + 3 + distinct.size() * 24);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(TAGGED);
+        out.writeShort(distinct.size());
+        for (String tag : distinct) {
+            out.writeUTF(tag);
+            out.writeLong(generations.current(tagKey(cacheName, tag)));
+        }
+        out.write(value);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Strip the tag header of a stored value; a value whose tags moved on since it was
+     * written, or whose header cannot be read, is a miss.
+     */
+    private Optional<byte[]> untagged(String cacheName, Optional<byte[]> stored) {
+        if (stored.isEmpty() || stored.get().length == 0 || stored.get()[0] != TAGGED) {
+            return stored;
+        }
+        byte[] data = stored.get();
+        try {
+            NatsTagGenerations generations = tagGenerations();
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, 1, data.length - 1));
+            int count = in.readUnsignedShort();
+            for (int i = 0; i < count; i++) {
+                String tag = in.readUTF();
+                if (in.readLong() < generations.current(tagKey(cacheName, tag))) {
+                    return Optional.empty();
+                }
+            }
+            return Optional.of(Arrays.copyOfRange(data, data.length - in.available(), data.length));
+        } catch (Exception e) {
+            log.debug("Failed to read tags of a value in NATS cache {}: {}", cacheName, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private NatsTagGenerations tagGenerations() throws Exception {
+        NatsTagGenerations existing = tagGenerations;
+        if (existing != null) {
+            return existing;
+        }
+        synchronized (buckets) {
+            if (tagGenerations == null) {
+                String bucketName = properties.getNats().getBucketPrefix() + TAG_BUCKET_SUFFIX;
+                ensureBucket(bucketName, Duration.ZERO);
+                NatsTagGenerations generations = new NatsTagGenerations(connection.keyValue(bucketName));
+                generations.start(Duration.ofMillis(properties.getNats().getPublishTimeoutMillis()));
+                tagGenerations = generations;
+            }
+            return tagGenerations;
+        }
+    }
+
+    private static String tagKey(String cacheName, String tag) {
+        return sanitize(cacheName) + "." + sanitize(tag);
+    }
+
+    /**
+     * Read a value without touching the hit/miss counters; failures read as misses.
+     */
+    private <T> CompletableFuture<Optional<T>> readQuietly(Io io, String cacheName, Object key, Class<T> type) {
+        return readRaw(io, cacheName, key).thenApply(data -> {
+            try {
+                return data.isEmpty() ? Optional.<T>empty() : Optional.ofNullable(serializer.deserialize(data.get(), type));
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }).exceptionally(failure -> {
+            log.trace("Failed to read key {} from NATS cache {}: {}", key, cacheName,
+                    SingleFlight.unwrap(failure).getMessage());
+            return Optional.empty();
+        });
+    }
+
     private KeyValue bucketFor(String cacheName) throws IOException, JetStreamApiException {
         KeyValue existing = buckets.get(cacheName);
         if (existing != null) {
@@ -319,21 +820,39 @@ public class NatsCacheStrategy implements CacheStrategy {
             String bucketName = bucketName(cacheName);
             ensureBucket(bucketName, ttlForCache(cacheName));
             KeyValue kv = connection.keyValue(bucketName);
+            if (properties.getNats().isLocalMirror()) {
+                startMirror(cacheName, bucketName, kv);
+            }
             buckets.put(cacheName, kv);
             return kv;
         }
     }
 
+    private void startMirror(String cacheName, String bucketName, KeyValue kv) {
+        NatsKvMirror mirror = new NatsKvMirror(bucketName,
+                properties.getNats().getMirrorMaximumSize(), ttlForCache(cacheName));
+        try {
+            mirror.start(kv);
+            mirrors.put(cacheName, mirror);
+        } catch (Exception e) {
+            log.warn("Could not start local mirror of NATS KV bucket '{}', reading from the server: {}",
+                    bucketName, e.getMessage());
+        }
+    }
+
     private void ensureBucket(String bucketName, Duration maxAge) throws IOException {
         try {
             KeyValueManagement mgmt = connection.keyValueManagement();
-            KeyValueConfiguration config = KeyValueConfiguration.builder()
+            KeyValueConfiguration.Builder builder = KeyValueConfiguration.builder()
                     .name(bucketName)
                     .maxHistoryPerKey(1)
                     .ttl(maxAge)
-                    .replicas(properties.getNats().getReplicas())
-                    .build();
-            mgmt.create(config);
+                    .replicas(properties.getNats().getReplicas());
+            if (properties.getNats().isPerEntryTtl()) {
+                // Limit markers enable per-message TTL on the bucket's stream
+                builder.limitMarker(LIMIT_MARKER_TTL);
+            }
+            mgmt.create(builder.build());
             log.info("Created NATS KV bucket [name='{}', ttl={}]", bucketName, maxAge);
         } catch (JetStreamApiException e) {
             log.debug("NATS KV bucket '{}' already exists or could not be created: {}",
@@ -341,6 +860,187 @@ public class NatsCacheStrategy implements CacheStrategy {
         }
     }
 
+    private JetStream jetStream() throws IOException {
+        JetStream js = jetStream;
+        if (js == null) {
+            js = connection.jetStream();
+            jetStream = js;
+        }
+        return js;
+    }
+
+    /**
+     * Delete keys with async KV delete markers.
+     *
+     * @return the number of acknowledged deletes
+     */
+    private int deletePipelined(String cacheName, List<String> keys) throws IOException {
+        JetStream js = jetStream();
+        return publishPipelined(cacheName, "delete", keys,
+                key -> js.publishAsync(subject(cacheName, key), deleteHeaders(), null),
+                mirrorDeletes(cacheName));
+    }
+
+    private <T> Map<String, byte[]> serializeAll(String cacheName, Map<Object, T> entries) {
+        Map<String, byte[]> serialized = new LinkedHashMap<>();
+        for (Map.Entry<Object, T> e : entries.entrySet()) {
+            if (e.getValue() == null) continue;
+            try {
+                serialized.put(toKey(e.getKey()), serializer.serialize(cacheName, e.getValue()));
+            } catch (Exception ex) {
+                log.error("Failed to serialize key {} in NATS cache {}", e.getKey(), cacheName, ex);
+            }
+        }
+        return serialized;
+    }
+
+    /**
+     * Record acknowledged writes in the cache's mirror, and forget keys whose write failed.
+     */
+    private BiConsumer<String, PublishAck> mirrorWrites(String cacheName, Map<String, byte[]> serialized,
+                                                        Duration ttl) {
+        NatsKvMirror mirror = mirrors.get(cacheName);
+        return (key, ack) -> {
+            if (mirror == null) {
+                return;
+            }
+            if (ack != null) {
+                mirror.recordWrite(key, serialized.get(key), ack.getSeqno(), ttl);
+            } else {
+                mirror.forget(key);
+            }
+        };
+    }
+
+    /**
+     * Record acknowledged deletes in the cache's mirror, and forget keys whose delete failed.
+     */
+    private BiConsumer<String, PublishAck> mirrorDeletes(String cacheName) {
+        NatsKvMirror mirror = mirrors.get(cacheName);
+        return (key, ack) -> {
+            if (mirror == null) {
+                return;
+            }
+            if (ack != null) {
+                mirror.recordDelete(key, ack.getSeqno());
+            } else {
+                mirror.forget(key);
+            }
+        };
+    }
+
+    private static Headers deleteHeaders() {
+        return new Headers().put(KV_OPERATION_HEADER, KV_OPERATION_DELETE);
+    }
+
+    /**
+     * Publish one message per key asynchronously, waiting for acknowledgements whenever
+     * {@code nats.publish-window} messages are in flight.
+     *
+     * @param onAck receives each key with its acknowledgement, or null if it was not acknowledged
+     * @return the number of acknowledged messages
+     */
+    private int publishPipelined(String cacheName, String operation, List<String> keys,
+                                 Function<String, CompletableFuture<PublishAck>> publisher,
+                                 BiConsumer<String, PublishAck> onAck) {
+        int window = Math.max(1, properties.getNats().getPublishWindow());
+        Map<String, CompletableFuture<PublishAck>> inFlight = new LinkedHashMap<>();
+        int acked = 0;
+        for (String key : keys) {
+            inFlight.put(key, publisher.apply(key));
+            if (inFlight.size() >= window) {
+                acked += awaitAcks(cacheName, operation, inFlight, onAck);
+                inFlight.clear();
+            }
+        }
+        return acked + awaitAcks(cacheName, operation, inFlight, onAck);
+    }
+
+    /**
+     * Non-blocking counterpart of {@link #publishPipelined}: the next window is published once
+     * the acknowledgements of the previous one have arrived.
+     *
+     * @return a stage completing with the number of acknowledged messages
+     */
+    private CompletableFuture<Integer> publishPipelinedAsync(String cacheName, String operation, List<String> keys,
+                                                             int from,
+                                                             Function<String, CompletableFuture<PublishAck>> publisher,
+                                                             BiConsumer<String, PublishAck> onAck) {
+        if (from >= keys.size()) {
+            return CompletableFuture.completedFuture(0);
+        }
+        int to = Math.min(keys.size(), from + Math.max(1, properties.getNats().getPublishWindow()));
+        List<String> window = keys.subList(from, to);
+        List<CompletableFuture<Throwable>> acks = new ArrayList<>(window.size());
+        for (String key : window) {
+            CompletableFuture<PublishAck> ack;
+            try {
+                ack = publisher.apply(key);
+            } catch (Exception e) {
+                ack = CompletableFuture.failedFuture(e);
+            }
+            acks.add(ack.orTimeout(properties.getNats().getPublishTimeoutMillis(), TimeUnit.MILLISECONDS)
+                    .handle((publishAck, failure) -> {
+                        onAck.accept(key, failure == null ? publishAck : null);
+                        return failure;
+                    }));
+        }
+        return CompletableFuture.allOf(acks.toArray(CompletableFuture[]::new))
+                .thenCompose(ignored -> {
+                    List<Throwable> failures = acks.stream().map(CompletableFuture::join)
+                            .filter(Objects::nonNull).toList();
+                    if (!failures.isEmpty()) {
+                        log.error("{} of {} async {} publishes to NATS cache {} were not acknowledged",
+                                failures.size(), window.size(), operation, cacheName, failures.get(failures.size() - 1));
+                    }
+                    int acked = window.size() - failures.size();
+                    return publishPipelinedAsync(cacheName, operation, keys, to, publisher, onAck)
+                            .thenApply(rest -> acked + rest);
+                });
+    }
+
+    private int awaitAcks(String cacheName, String operation, Map<String, CompletableFuture<PublishAck>> inFlight,
+                          BiConsumer<String, PublishAck> onAck) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getNats().getPublishTimeoutMillis());
+        int acked = 0;
+        Throwable lastFailure = null;
+        for (Map.Entry<String, CompletableFuture<PublishAck>> entry : inFlight.entrySet()) {
+            PublishAck ack = null;
+            if (lastFailure instanceof InterruptedException) {
+                onAck.accept(entry.getKey(), null);
+                continue;
+            }
+            try {
+                ack = entry.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                acked++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                lastFailure = e;
+            } catch (ExecutionException e) {
+                lastFailure = e.getCause();
+            } catch (TimeoutException e) {
+                lastFailure = e;
+            }
+            onAck.accept(entry.getKey(), ack);
+        }
+        if (acked < inFlight.size()) {
+            log.error("{} of {} async {} publishes to NATS cache {} were not acknowledged",
+                    inFlight.size() - acked, inFlight.size(), operation, cacheName, lastFailure);
+        }
+        return acked;
+    }
+
+    private PublishOptions ttlOptions(Duration ttl) {
+        long seconds = Math.max(1, ttl.getSeconds() + (ttl.getNano() > 0 ? 1 : 0));
+        return PublishOptions.builder()
+                .messageTtlSeconds((int) Math.min(seconds, Integer.MAX_VALUE))
+                .build();
+    }
+
+    private String subject(String cacheName, String key) {
+        return KV_SUBJECT_PREFIX + bucketName(cacheName) + "." + key;
+    }
+
     private String bucketName(String cacheName) {
         return properties.getNats().getBucketPrefix() + sanitize(cacheName);
     }
@@ -378,21 +1078,159 @@ public class NatsCacheStrategy implements CacheStrategy {
         }
     }
 
-    private byte[] serialize(Object value) throws IOException {
-        return objectMapper.writeValueAsBytes(value);
+    /**
+     * Bytes written by a pipelined put; when some publishes failed, the average entry size is
+     * assumed for the acknowledged ones.
+     */
+    private static long valueBytes(Map<String, byte[]> serialized, int acknowledged) {
+        if (serialized.isEmpty() || acknowledged == 0) {
+            return 0;
+        }
+        long bytes = 0;
+        for (byte[] value : serialized.values()) {
+            bytes += value.length;
+        }
+        return acknowledged == serialized.size() ? bytes : bytes / serialized.size() * acknowledged;
+    }
+
+    /**
+     * The server calls of a single-key operation. Each operation is written once against this
+     * interface and runs either on the calling thread ({@link BlockingIo}) or without waiting on
+     * the connection ({@link AsyncIo}).
+     */
+    private interface Io {
+
+        /**
+         * Read the stored bytes of a key from the server.
+         */
+        CompletableFuture<Optional<byte[]>> fetch(String cacheName, KeyValue kv, String natsKey);
+
+        /**
+         * Write the stored bytes of a key, with per-entry TTL options or null.
+         *
+         * @return a stage completing with the revision written
+         */
+        CompletableFuture<Long> write(String cacheName, KeyValue kv, String natsKey, byte[] data,
+                                      PublishOptions options);
+
+        /**
+         * Publish a delete marker for a key.
+         *
+         * @return a stage completing with the marker's revision
+         */
+        CompletableFuture<Long> delete(String cacheName, String natsKey);
+
+        /**
+         * Make a call with the blocking KV API, such as taking the load lock.
+         */
+        <T> CompletableFuture<T> call(Callable<T> call);
+
+        /**
+         * Complete after the given time; a failed stage ends the wait it belongs to.
+         */
+        CompletableFuture<Void> pause(Duration duration);
     }
 
-    private <T> T deserialize(byte[] bytes, Class<T> type) throws IOException {
-        if (bytes == null) return null;
-        return objectMapper.readValue(bytes, type);
+    /**
+     * Blocking KV and JetStream calls on the calling thread; every stage is complete when returned.
+     */
+    private final class BlockingIo implements Io {
+
+        @Override
+        public CompletableFuture<Optional<byte[]>> fetch(String cacheName, KeyValue kv, String natsKey) {
+            return call(() -> {
+                KeyValueEntry entry = kv.get(natsKey);
+                return entry == null || entry.getValue() == null
+                        ? Optional.<byte[]>empty() : Optional.of(entry.getValue());
+            });
+        }
+
+        @Override
+        public CompletableFuture<Long> write(String cacheName, KeyValue kv, String natsKey, byte[] data,
+                                             PublishOptions options) {
+            return call(() -> options != null
+                    ? jetStream().publish(subject(cacheName, natsKey), data, options).getSeqno()
+                    : kv.put(natsKey, data));
+        }
+
+        @Override
+        public CompletableFuture<Long> delete(String cacheName, String natsKey) {
+            return call(() -> jetStream().publish(subject(cacheName, natsKey), deleteHeaders(), null).getSeqno());
+        }
+
+        @Override
+        public <T> CompletableFuture<T> call(Callable<T> call) {
+            return SingleFlight.inline(call).get();
+        }
+
+        @Override
+        public CompletableFuture<Void> pause(Duration duration) {
+            return SingleFlight.sleep(duration);
+        }
     }
 
-    private static LongAdder counter(ConcurrentMap<String, LongAdder> map, String cacheName) {
-        return map.computeIfAbsent(cacheName, k -> new LongAdder());
+    /**
+     * JetStream direct gets and {@code publishAsync}. Blocking KV calls run on the common
+     * fork-join pool, never on the connection's threads that complete the replies.
+     */
+    private final class AsyncIo implements Io {
+
+        @Override
+        public CompletableFuture<Optional<byte[]>> fetch(String cacheName, KeyValue kv, String natsKey) {
+            String subject = DIRECT_GET_PREFIX + bucketName(cacheName) + "." + subject(cacheName, natsKey);
+            return connection.requestWithTimeout(subject, null,
+                            Duration.ofMillis(properties.getNats().getPublishTimeoutMillis()))
+                    .thenApply(NatsCacheStrategy::directGetValue);
+        }
+
+        @Override
+        public CompletableFuture<Long> write(String cacheName, KeyValue kv, String natsKey, byte[] data,
+                                             PublishOptions options) {
+            try {
+                JetStream js = jetStream();
+                String subject = subject(cacheName, natsKey);
+                return (options != null ? js.publishAsync(subject, data, options) : js.publishAsync(subject, data))
+                        .thenApply(PublishAck::getSeqno);
+            } catch (Exception e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        @Override
+        public CompletableFuture<Long> delete(String cacheName, String natsKey) {
+            try {
+                return jetStream().publishAsync(subject(cacheName, natsKey), deleteHeaders(), null)
+                        .thenApply(PublishAck::getSeqno);
+            } catch (Exception e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        @Override
+        public <T> CompletableFuture<T> call(Callable<T> call) {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return call.call();
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            });
+        }
+
+        @Override
+        public CompletableFuture<Void> pause(Duration duration) {
+            return SingleFlight.delay(duration);
+        }
     }
 
-    private static long sum(ConcurrentMap<String, LongAdder> map, String cacheName) {
-        LongAdder adder = map.get(cacheName);
-        return adder == null ? 0L : adder.sum();
+    /**
+     * Local mirror statistics of one cache.
+     *
+     * @param size        mirrored keys, including deleted keys kept as tombstones
+     * @param localReads  reads answered by the mirror
+     * @param remoteReads reads of unmirrored keys sent to the server
+     * @param complete    whether the mirror holds every key, so unmirrored keys are misses
+     */
+    public record MirrorStatistics(long size, long localReads, long remoteReads, boolean complete) {
     }
 }
@@ -0,0 +1,176 @@
+package dev.simplecore.simplix.cache.strategy;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.nats.client.KeyValue;
+import io.nats.client.api.KeyValueEntry;
+import io.nats.client.api.KeyValueOperation;
+import io.nats.client.api.KeyValueWatcher;
+import io.nats.client.impl.NatsKeyValueWatchSubscription;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local mirror of one NATS KV bucket, fed by a KV watch
+ *
+ * <p>The watch first replays the latest value of every key, then pushes each put and delete.
+ * Every slot keeps the revision it was written at, and older revisions never replace newer
+ * ones, so a write recorded locally is not undone by a watch event that was already in
+ * flight. Deletes are kept as tombstones, which are known misses.
+ *
+ * <p>The mirror holds at most {@code maximumSize} slots. Once the watch has caught up and no
+ * slot has been evicted for size, a key without a slot is known to be absent; otherwise it is
+ * unknown and the caller decides whether to read it from the server. Slots expire with the
+ * bucket's {@code maxAge}, counted from the entry's creation.
+ */
+@Slf4j
+class NatsKvMirror implements KeyValueWatcher {
+
+    private final String bucketName;
+    private final long maxAgeNanos;
+    private final Cache<String, Slot> slots;
+    private final LongAdder localReads = new LongAdder();
+    private final LongAdder remoteReads = new LongAdder();
+    private volatile boolean caughtUp;
+    private volatile boolean truncated;
+    private volatile NatsKeyValueWatchSubscription subscription;
+
+    NatsKvMirror(String bucketName, long maximumSize, Duration maxAge) {
+        this.bucketName = bucketName;
+        this.maxAgeNanos = maxAge.toNanos();
+        this.slots = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new SlotExpiry())
+                .evictionListener((String key, Slot slot, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        truncated = true;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Start watching the bucket.
+     */
+    void start(KeyValue kv) throws Exception {
+        subscription = kv.watchAll(this);
+        log.debug("Started local mirror of NATS KV bucket '{}'", bucketName);
+    }
+
+    void close() {
+        NatsKeyValueWatchSubscription current = subscription;
+        if (current != null) {
+            current.unsubscribe();
+        }
+        slots.invalidateAll();
+    }
+
+    @Override
+    public void watch(KeyValueEntry entry) {
+        boolean put = entry.getOperation() == KeyValueOperation.PUT;
+        apply(entry.getKey(), put ? entry.getValue() : null, entry.getRevision(), remainingNanos(entry.getCreated()));
+    }
+
+    @Override
+    public void endOfData() {
+        caughtUp = true;
+        log.debug("Local mirror of NATS KV bucket '{}' caught up with {} keys", bucketName, slots.estimatedSize());
+    }
+
+    /**
+     * Record a value this node wrote at the given revision.
+     */
+    void recordWrite(String key, byte[] value, long revision, Duration ttl) {
+        apply(key, value, revision, Math.min(ttl.toNanos(), maxAgeNanos));
+    }
+
+    /**
+     * Record a delete this node made at the given revision.
+     */
+    void recordDelete(String key, long revision) {
+        apply(key, null, revision, maxAgeNanos);
+    }
+
+    /**
+     * Drop a key whose latest revision is unknown, e.g. after an unacknowledged write.
+     */
+    void forget(String key) {
+        slots.invalidate(key);
+    }
+
+    Lookup lookup(String key) {
+        Slot slot = slots.getIfPresent(key);
+        if (slot != null) {
+            localReads.increment();
+            return slot.value() != null ? new Lookup(true, slot.value()) : Lookup.ABSENT;
+        }
+        if (caughtUp && !truncated) {
+            localReads.increment();
+            return Lookup.ABSENT;
+        }
+        return Lookup.UNKNOWN;
+    }
+
+    void recordRemoteRead() {
+        remoteReads.increment();
+    }
+
+    NatsCacheStrategy.MirrorStatistics getStatistics() {
+        return new NatsCacheStrategy.MirrorStatistics(slots.estimatedSize(), localReads.sum(), remoteReads.sum(),
+                caughtUp && !truncated);
+    }
+
+    private void apply(String key, byte[] value, long revision, long ttlNanos) {
+        slots.asMap().compute(key, (k, current) ->
+                current != null && current.revision() > revision ? current : new Slot(value, revision, ttlNanos));
+    }
+
+    private long remainingNanos(ZonedDateTime created) {
+        if (created == null) {
+            return maxAgeNanos;
+        }
+        long ageNanos = Duration.between(created.toInstant(), Instant.now()).toNanos();
+        return Math.max(0, maxAgeNanos - Math.max(0, ageNanos));
+    }
+
+    /**
+     * Result of a mirror lookup.
+     *
+     * @param known whether the mirror knows the key's state
+     * @param value the mirrored value, or null if the key is absent or unknown
+     */
+    record Lookup(boolean known, byte[] value) {
+        static final Lookup ABSENT = new Lookup(true, null);
+        static final Lookup UNKNOWN = new Lookup(false, null);
+    }
+
+    /**
+     * A mirrored value, or a tombstone when {@code value} is null.
+     */
+    private record Slot(byte[] value, long revision, long ttlNanos) {
+    }
+
+    private static final class SlotExpiry implements Expiry<String, Slot> {
+
+        @Override
+        public long expireAfterCreate(String key, Slot slot, long currentTime) {
+            return slot.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Slot slot, long currentTime, long currentDuration) {
+            return slot.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, Slot slot, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
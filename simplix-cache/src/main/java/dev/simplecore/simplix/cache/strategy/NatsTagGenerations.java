@@ -0,0 +1,92 @@
+package dev.simplecore.simplix.cache.strategy;
+
+import io.nats.client.KeyValue;
+import io.nats.client.api.KeyValueEntry;
+import io.nats.client.api.KeyValueOperation;
+import io.nats.client.api.KeyValueWatcher;
+import io.nats.client.impl.NatsKeyValueWatchSubscription;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generation counters of cache tags, kept in one NATS KV bucket and mirrored by a KV watch
+ *
+ * <p>A tag's generation is the revision of its key in the bucket, or 0 while the tag was never
+ * evicted. Evicting a tag writes its key, which raises the generation; tagged entries record
+ * the generations of their tags when written and read as misses once any of them is behind.
+ * Generations never decrease, so the bucket has no {@code maxAge}.
+ *
+ * <p>Lookups read the local copy kept current by the watch, so another node's eviction takes
+ * effect here once its watch event arrives. This node's own evictions apply immediately.
+ */
+@Slf4j
+class NatsTagGenerations implements KeyValueWatcher {
+
+    private final KeyValue kv;
+    private final ConcurrentMap<String, Long> generations = new ConcurrentHashMap<>();
+    private final CountDownLatch caughtUp = new CountDownLatch(1);
+    private volatile NatsKeyValueWatchSubscription subscription;
+
+    NatsTagGenerations(KeyValue kv) {
+        this.kv = kv;
+    }
+
+    /**
+     * Start watching the bucket and wait up to {@code timeout} for the current generations.
+     */
+    void start(Duration timeout) throws Exception {
+        subscription = kv.watchAll(this);
+        if (!caughtUp.await(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Tag generations were not loaded within {}, tagged entries may be served stale until they are",
+                    timeout);
+        }
+    }
+
+    void close() {
+        NatsKeyValueWatchSubscription current = subscription;
+        if (current != null) {
+            current.unsubscribe();
+        }
+    }
+
+    /**
+     * @return the current generation of a tag key
+     */
+    long current(String tagKey) {
+        return generations.getOrDefault(tagKey, 0L);
+    }
+
+    /**
+     * Raise the generation of a tag key.
+     *
+     * @return the new generation
+     */
+    long increment(String tagKey) throws Exception {
+        long revision = kv.put(tagKey, Long.toString(System.currentTimeMillis()).getBytes(StandardCharsets.UTF_8));
+        advance(tagKey, revision);
+        return revision;
+    }
+
+    @Override
+    public void watch(KeyValueEntry entry) {
+        if (entry.getOperation() == KeyValueOperation.PUT) {
+            advance(entry.getKey(), entry.getRevision());
+        }
+    }
+
+    @Override
+    public void endOfData() {
+        caughtUp.countDown();
+        log.debug("Loaded {} tag generations", generations.size());
+    }
+
+    private void advance(String tagKey, long revision) {
+        generations.merge(tagKey, revision, Math::max);
+    }
+}
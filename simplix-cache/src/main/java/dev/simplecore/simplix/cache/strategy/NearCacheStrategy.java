@@ -0,0 +1,489 @@
+package dev.simplecore.simplix.cache.strategy;
+
+import dev.simplecore.simplix.cache.config.CacheProperties;
+import dev.simplecore.simplix.cache.invalidation.CacheInvalidationBroadcaster;
+import dev.simplecore.simplix.cache.invalidation.CacheInvalidationMessage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Near Cache Strategy
+ * Composite strategy that keeps a bounded in-process tier in front of a remote strategy
+ *
+ * <p>Reads are served from the local tier (a {@link LocalCacheStrategy}) first and fall back
+ * to the remote strategy (typically {@link RedisCacheStrategy}), populating the local tier on
+ * the way back. Hot, rarely-changing keys therefore skip the network round trip and the value
+ * decoding after their first read.
+ *
+ * <p>Writes and evictions go to the remote tier first and are then announced through a
+ * {@link CacheInvalidationBroadcaster} so other nodes drop their local copy. The local TTL
+ * ({@code cache-configs.<name>.local-ttl-seconds}, default {@code near-cache.local-ttl-seconds})
+ * bounds staleness should an invalidation be missed. Keys are normalised to strings in the
+ * local tier, matching how remote strategies and invalidation messages identify them.
+ *
+ * <p>Hits are counted per tier; see {@link #getTierStatistics(String)}. {@link #getCounters()}
+ * counts operations as callers see them, a hit in either tier being a hit, and reports read
+ * latency across both tiers.
+ *
+ * <p>The async operations answer local hits immediately and otherwise continue from the remote
+ * tier's async operation, updating the local tier and broadcasting once it completes.
+ */
+@Slf4j
+public class NearCacheStrategy implements CacheStrategy {
+
+    private final LocalCacheStrategy localTier;
+    private final CacheStrategy remoteTier;
+    private final CacheInvalidationBroadcaster broadcaster;
+    private final CacheProperties properties;
+    private final Duration defaultLocalTtl;
+    private final Map<String, TierCounters> counters = new ConcurrentHashMap<>();
+    private final CacheCounters cacheCounters = new CacheCounters();
+
+    public NearCacheStrategy(LocalCacheStrategy localTier,
+                             CacheStrategy remoteTier,
+                             CacheInvalidationBroadcaster broadcaster,
+                             CacheProperties properties) {
+        this(localTier, remoteTier, broadcaster, properties,
+            Duration.ofSeconds(properties.getNearCache().getLocalTtlSeconds()));
+    }
+
+    /**
+     * @param defaultLocalTtl local tier TTL for caches without {@code local-ttl-seconds}
+     */
+    public NearCacheStrategy(LocalCacheStrategy localTier,
+                             CacheStrategy remoteTier,
+                             CacheInvalidationBroadcaster broadcaster,
+                             CacheProperties properties,
+                             Duration defaultLocalTtl) {
+        this.localTier = localTier;
+        this.remoteTier = remoteTier;
+        this.broadcaster = broadcaster;
+        this.properties = properties;
+        this.defaultLocalTtl = defaultLocalTtl;
+        broadcaster.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    public String getName() {
+        return "NearCacheStrategy";
+    }
+
+    @Override
+    public <T> Optional<T> get(String cacheName, Object key, Class<T> type) {
+        String localKey = localKey(key);
+        long start = System.nanoTime();
+
+        Optional<T> local = localTier.get(cacheName, localKey, type);
+        if (local.isPresent()) {
+            localHit(cacheName, start);
+            return local;
+        }
+
+        return remoteRead(cacheName, localKey, remoteTier.get(cacheName, key, type), start);
+    }
+
+    @Override
+    public <T> CompletionStage<Optional<T>> getAsync(String cacheName, Object key, Class<T> type) {
+        String localKey = localKey(key);
+        long start = System.nanoTime();
+        Optional<T> local = localTier.get(cacheName, localKey, type);
+        if (local.isPresent()) {
+            localHit(cacheName, start);
+            return CompletableFuture.completedFuture(local);
+        }
+        return remoteTier.getAsync(cacheName, key, type)
+            .thenApply(remote -> remoteRead(cacheName, localKey, remote, start));
+    }
+
+    private void localHit(String cacheName, long startNanos) {
+        countersFor(cacheName).localHits.increment();
+        cacheCounters.recordHit(cacheName, 0);
+        cacheCounters.recordLatency(cacheName, CacheCounters.Latency.GET, System.nanoTime() - startNanos);
+    }
+
+    private <T> Optional<T> remoteRead(String cacheName, String localKey, Optional<T> remote, long startNanos) {
+        TierCounters tierCounters = countersFor(cacheName);
+        if (remote.isPresent()) {
+            tierCounters.remoteHits.increment();
+            cacheCounters.recordHit(cacheName, 0);
+            localTier.put(cacheName, localKey, remote.get(), localTtl(cacheName));
+        } else {
+            tierCounters.misses.increment();
+            cacheCounters.recordMiss(cacheName);
+        }
+        cacheCounters.recordLatency(cacheName, CacheCounters.Latency.GET, System.nanoTime() - startNanos);
+        return remote;
+    }
+
+    @Override
+    public <T> void put(String cacheName, Object key, T value) {
+        put(cacheName, key, value, remoteTtl(cacheName));
+    }
+
+    @Override
+    public <T> void put(String cacheName, Object key, T value, Duration ttl) {
+        if (value == null) {
+            log.debug("Skipping null value for key {} in cache {}", key, cacheName);
+            return;
+        }
+        long start = System.nanoTime();
+        remoteTier.put(cacheName, key, value, ttl);
+        storeLocally(cacheName, key, value, ttl);
+        cacheCounters.recordLatency(cacheName, CacheCounters.Latency.PUT, System.nanoTime() - start);
+    }
+
+    @Override
+    public <T> void put(String cacheName, Object key, T value, Duration ttl, Collection<String> tags) {
+        if (value == null) {
+            log.debug("Skipping null value for key {} in cache {}", key, cacheName);
+            return;
+        }
+        long start = System.nanoTime();
+        remoteTier.put(cacheName, key, value, ttl, tags);
+        storeLocally(cacheName, key, value, ttl);
+        cacheCounters.recordLatency(cacheName, CacheCounters.Latency.PUT, System.nanoTime() - start);
+    }
+
+    @Override
+    public <T> CompletionStage<Void> putAsync(String cacheName, Object key, T value, Duration ttl) {
+        if (value == null) {
+            log.debug("Skipping null value for key {} in cache {}", key, cacheName);
+            return CompletableFuture.completedFuture(null);
+        }
+        long start = System.nanoTime();
+        return remoteTier.putAsync(cacheName, key, value, ttl).thenRun(() -> {
+            storeLocally(cacheName, key, value, ttl);
+            cacheCounters.recordLatency(cacheName, CacheCounters.Latency.PUT, System.nanoTime() - start);
+        });
+    }
+
+    /**
+     * Store a value just written to the remote tier locally and tell peers to drop theirs.
+     */
+    private void storeLocally(String cacheName, Object key, Object value, Duration ttl) {
+        localTier.put(cacheName, localKey(key), value, localTtl(cacheName, ttl));
+        cacheCounters.recordPuts(cacheName, 1, 0);
+        broadcaster.publishEvict(cacheName, key);
+    }
+
+    @Override
+    public <T> T getOrCompute(String cacheName, Object key, Callable<T> valueLoader, Class<T> type) {
+        return getOrCompute(cacheName, key, valueLoader, type, remoteTtl(cacheName));
+    }
+
+    @Override
+    public <T> T getOrCompute(String cacheName, Object key, Callable<T> valueLoader, Class<T> type, Duration ttl) {
+        Optional<T> cached = get(cacheName, key, type);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        // The remote strategy loads and stores the value, so concurrent misses across nodes
+        // get whatever load coordination it provides
+        T value = remoteTier.getOrCompute(cacheName, key,
+            () -> cacheCounters.load(cacheName, valueLoader), type, ttl);
+        if (value != null) {
+            storeLocally(cacheName, key, value, ttl);
+        }
+        return value;
+    }
+
+    @Override
+    public <T> CompletionStage<T> getOrComputeAsync(String cacheName, Object key,
+                                                    Supplier<? extends CompletionStage<T>> valueLoader,
+                                                    Class<T> type, Duration ttl) {
+        return getAsync(cacheName, key, type).thenCompose(cached -> cached.isPresent()
+            ? CompletableFuture.completedFuture(cached.get())
+            : remoteTier.getOrComputeAsync(cacheName, key,
+                () -> cacheCounters.loadAsync(cacheName, valueLoader), type, ttl).thenApply(value -> {
+                if (value != null) {
+                    storeLocally(cacheName, key, value, ttl);
+                }
+                return value;
+            }));
+    }
+
+    @Override
+    public void evict(String cacheName, Object key) {
+        remoteTier.evict(cacheName, key);
+        evictLocally(cacheName, key);
+    }
+
+    @Override
+    public CompletionStage<Void> evictAsync(String cacheName, Object key) {
+        return remoteTier.evictAsync(cacheName, key).thenRun(() -> evictLocally(cacheName, key));
+    }
+
+    private void evictLocally(String cacheName, Object key) {
+        localTier.evict(cacheName, localKey(key));
+        cacheCounters.recordRemovals(cacheName, 1);
+        broadcaster.publishEvict(cacheName, key);
+    }
+
+    @Override
+    public void evictAll(String cacheName, Collection<?> keys) {
+        remoteTier.evictAll(cacheName, keys);
+        localTier.evictAll(cacheName, keys.stream().map(NearCacheStrategy::localKey).toList());
+        cacheCounters.recordRemovals(cacheName, keys.size());
+        keys.forEach(key -> broadcaster.publishEvict(cacheName, key));
+    }
+
+    /**
+     * Evict the tagged entries from the remote tier and clear the local tier of the cache here
+     * and on peers, since local copies read from the remote tier do not know their tags.
+     */
+    @Override
+    public void evictByTag(String cacheName, String tag) {
+        remoteTier.evictByTag(cacheName, tag);
+        localTier.clear(cacheName);
+        broadcaster.publishClear(cacheName);
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        remoteTier.clear(cacheName);
+        localTier.clear(cacheName);
+        broadcaster.publishClear(cacheName);
+    }
+
+    @Override
+    public void clearAll() {
+        remoteTier.clearAll();
+        localTier.clearAll();
+        broadcaster.publishClearAll();
+    }
+
+    @Override
+    public boolean exists(String cacheName, Object key) {
+        return localTier.exists(cacheName, localKey(key)) || remoteTier.exists(cacheName, key);
+    }
+
+    @Override
+    public Collection<Object> getKeys(String cacheName) {
+        return remoteTier.getKeys(cacheName);
+    }
+
+    @Override
+    public <T> Map<Object, T> getAll(String cacheName, Class<T> type) {
+        return remoteTier.getAll(cacheName, type);
+    }
+
+    @Override
+    public <T> CompletionStage<Map<Object, T>> getAllAsync(String cacheName, Class<T> type) {
+        return remoteTier.getAllAsync(cacheName, type);
+    }
+
+    @Override
+    public <T> void putAll(String cacheName, Map<Object, T> entries) {
+        putAll(cacheName, entries, remoteTtl(cacheName));
+    }
+
+    @Override
+    public <T> void putAll(String cacheName, Map<Object, T> entries, Duration ttl) {
+        remoteTier.putAll(cacheName, entries, ttl);
+        storeAllLocally(cacheName, entries, ttl);
+    }
+
+    @Override
+    public <T> CompletionStage<Void> putAllAsync(String cacheName, Map<Object, T> entries, Duration ttl) {
+        return remoteTier.putAllAsync(cacheName, entries, ttl).thenRun(() -> storeAllLocally(cacheName, entries, ttl));
+    }
+
+    private <T> void storeAllLocally(String cacheName, Map<Object, T> entries, Duration ttl) {
+        Map<Object, T> localEntries = new LinkedHashMap<>();
+        entries.forEach((key, value) -> {
+            if (value != null) {
+                localEntries.put(localKey(key), value);
+            }
+        });
+        localTier.putAll(cacheName, localEntries, localTtl(cacheName, ttl));
+        cacheCounters.recordPuts(cacheName, localEntries.size(), 0);
+        entries.keySet().forEach(key -> broadcaster.publishEvict(cacheName, key));
+    }
+
+    /**
+     * Combined statistics of both tiers: a hit is a local or remote hit, a miss a miss in both.
+     * Size and evictions are those of the local tier.
+     */
+    @Override
+    public CacheStatistics getStatistics(String cacheName) {
+        CacheStatistics local = localTier.getStatistics(cacheName);
+        CacheStatistics combined = cacheCounters.snapshot(cacheName).toStatistics(local.size());
+        return new CacheStatistics(combined.hits(), combined.misses(), combined.negativeHits(), local.evictions(),
+            combined.puts(), combined.removals(), combined.hitRate(), combined.size(), 0);
+    }
+
+    @Override
+    public Optional<CacheCounters> getCounters() {
+        return Optional.of(cacheCounters);
+    }
+
+    /**
+     * Get the per-tier hit counts and ratios of a cache.
+     *
+     * @param cacheName the cache name
+     * @return the tier statistics (all zero for a cache that has not been read)
+     */
+    public TierStatistics getTierStatistics(String cacheName) {
+        TierCounters tierCounters = counters.get(cacheName);
+        if (tierCounters == null) {
+            return new TierStatistics(0, 0, 0);
+        }
+        return new TierStatistics(
+            tierCounters.localHits.sum(),
+            tierCounters.remoteHits.sum(),
+            tierCounters.misses.sum()
+        );
+    }
+
+    /**
+     * @return the names of the caches this node has used
+     */
+    public Set<String> getCacheNames() {
+        Set<String> cacheNames = new HashSet<>(counters.keySet());
+        cacheNames.addAll(cacheCounters.getCacheNames());
+        return Set.copyOf(cacheNames);
+    }
+
+    @Override
+    public void initialize() {
+        localTier.initialize();
+        log.info("Near cache strategy initialized [local={}, remote={}, node={}]",
+            localTier.getName(), remoteTier.getName(), broadcaster.getNodeId());
+    }
+
+    @Override
+    public void shutdown() {
+        localTier.shutdown();
+        remoteTier.shutdown();
+        log.info("Near cache strategy shutdown complete");
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return remoteTier.isAvailable();
+    }
+
+    /**
+     * Copy a key from the remote tier into the local tier, e.g. to warm up after a restart.
+     * The read is not counted as a hit or miss.
+     *
+     * @return a stage completing with whether the remote tier had a value
+     */
+    public <T> CompletionStage<Boolean> warmUp(String cacheName, Object key, Class<T> type) {
+        return remoteTier.getAsync(cacheName, key, type).thenApply(remote -> {
+            remote.ifPresent(value -> localTier.put(cacheName, localKey(key), value, localTtl(cacheName)));
+            return remote.isPresent();
+        });
+    }
+
+    /**
+     * Get the in-process tier.
+     */
+    public LocalCacheStrategy getLocalTier() {
+        return localTier;
+    }
+
+    /**
+     * Get the remote tier.
+     */
+    public CacheStrategy getRemoteTier() {
+        return remoteTier;
+    }
+
+    /**
+     * Drop the local copy named by an invalidation from another node.
+     */
+    void onInvalidation(CacheInvalidationMessage message) {
+        if (message.isClearAll()) {
+            localTier.clearAll();
+            log.trace("Cleared local tier of every cache on remote invalidation");
+        } else if (message.isClear()) {
+            localTier.clear(message.cacheName());
+            log.trace("Cleared local tier of cache {} on remote invalidation", message.cacheName());
+        } else {
+            localTier.evict(message.cacheName(), message.key());
+            log.trace("Evicted key {} from local tier of cache {} on remote invalidation",
+                message.key(), message.cacheName());
+        }
+    }
+
+    private TierCounters countersFor(String cacheName) {
+        return counters.computeIfAbsent(cacheName, name -> new TierCounters());
+    }
+
+    private Duration remoteTtl(String cacheName) {
+        CacheProperties.CacheConfig config = properties.getCacheConfigs().get(cacheName);
+        long seconds = config != null ? config.getTtlSeconds() : properties.getDefaultTtlSeconds();
+        return Duration.ofSeconds(seconds);
+    }
+
+    private Duration localTtl(String cacheName) {
+        CacheProperties.CacheConfig config = properties.getCacheConfigs().get(cacheName);
+        if (config != null && config.getLocalTtlSeconds() != null) {
+            return Duration.ofSeconds(config.getLocalTtlSeconds());
+        }
+        return defaultLocalTtl;
+    }
+
+    /**
+     * Local TTL of a value just written with the given TTL, so the local copy never outlives the remote one.
+     */
+    private Duration localTtl(String cacheName, Duration writeTtl) {
+        Duration localTtl = localTtl(cacheName);
+        return writeTtl != null && writeTtl.compareTo(localTtl) < 0 ? writeTtl : localTtl;
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    /**
+     * Per-tier read statistics of one cache.
+     *
+     * @param localHits  reads served by the in-process tier
+     * @param remoteHits reads that missed locally and were served by the remote tier
+     * @param misses     reads that missed both tiers
+     */
+    public record TierStatistics(long localHits, long remoteHits, long misses) {
+
+        public long requests() {
+            return localHits + remoteHits + misses;
+        }
+
+        /**
+         * Fraction of all reads served by the in-process tier.
+         */
+        public double localHitRatio() {
+            long requests = requests();
+            return requests == 0 ? 0.0 : (double) localHits / requests;
+        }
+
+        /**
+         * Fraction of reads that reached the remote tier and were served by it.
+         */
+        public double remoteHitRatio() {
+            long remoteRequests = remoteHits + misses;
+            return remoteRequests == 0 ? 0.0 : (double) remoteHits / remoteRequests;
+        }
+    }
+
+    private static final class TierCounters {
+        private final LongAdder localHits = new LongAdder();
+        private final LongAdder remoteHits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+    }
+}
@@ -0,0 +1,211 @@
+package dev.simplecore.simplix.cache.strategy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bounded store of serialized values outside the Java heap
+ *
+ * <p>The capacity is split into fixed-size blocks over one or more direct buffers, or over a
+ * memory-mapped file when a path is given. A value takes as many blocks as its bytes need,
+ * not necessarily adjacent, and the {@link Handle} returned by {@link #store(byte[])} lists
+ * them. Stores fail rather than evict when no blocks are free; evicting is left to the owning
+ * cache, which releases the handles of the entries it drops.
+ *
+ * <p>Reads copy a value's blocks under a shared lock and releases take it exclusively, so a
+ * handle released while it is read either finishes the read first or reads as absent; its
+ * blocks are never reused under a reader.
+ */
+@Slf4j
+final class OffHeapStore implements AutoCloseable {
+
+    /** Largest segment, a whole number of blocks below {@link Integer#MAX_VALUE}. */
+    private static final long MAX_SEGMENT_BYTES = 1L << 30;
+
+    private final int blockSize;
+    private final int blocksPerSegment;
+    private final int totalBlocks;
+    private final ByteBuffer[] segments;
+    private final FileChannel channel;
+    private final int[] freeBlocks;
+    private int freeCount;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongAdder entries = new LongAdder();
+    private final LongAdder usedBytes = new LongAdder();
+
+    /**
+     * @param capacityBytes total bytes, rounded down to whole blocks
+     * @param blockSize     bytes per block
+     * @param mappedFile    file to map the store onto, or {@code null} for direct memory
+     * @throws IllegalArgumentException if the capacity holds no block
+     */
+    OffHeapStore(long capacityBytes, int blockSize, Path mappedFile) throws IOException {
+        if (blockSize <= 0 || capacityBytes < blockSize) {
+            throw new IllegalArgumentException(
+                "Off-heap capacity " + capacityBytes + " must hold at least one block of " + blockSize + " bytes");
+        }
+        this.blockSize = blockSize;
+        this.blocksPerSegment = (int) (MAX_SEGMENT_BYTES / blockSize);
+        this.totalBlocks = (int) Math.min(capacityBytes / blockSize, Integer.MAX_VALUE);
+
+        int segmentCount = (totalBlocks + blocksPerSegment - 1) / blocksPerSegment;
+        this.segments = new ByteBuffer[segmentCount];
+        this.channel = mappedFile != null
+            ? FileChannel.open(mappedFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.DELETE_ON_CLOSE)
+            : null;
+        for (int i = 0; i < segmentCount; i++) {
+            int blocks = Math.min(blocksPerSegment, totalBlocks - i * blocksPerSegment);
+            long bytes = (long) blocks * blockSize;
+            segments[i] = channel != null
+                ? channel.map(FileChannel.MapMode.READ_WRITE, (long) i * blocksPerSegment * blockSize, bytes)
+                : ByteBuffer.allocateDirect((int) bytes);
+        }
+
+        this.freeBlocks = new int[totalBlocks];
+        for (int i = 0; i < totalBlocks; i++) {
+            freeBlocks[i] = totalBlocks - 1 - i;
+        }
+        this.freeCount = totalBlocks;
+        log.info("Off-heap cache store of {} blocks x {} bytes in {}", totalBlocks, blockSize,
+            mappedFile != null ? mappedFile : "direct memory");
+    }
+
+    /**
+     * Copy bytes into free blocks.
+     *
+     * @return the handle of the stored bytes, or {@code null} when too few blocks are free
+     */
+    Handle store(byte[] bytes) {
+        int[] blocks = allocate(Math.max(1, (bytes.length + blockSize - 1) / blockSize));
+        if (blocks == null) {
+            return null;
+        }
+        // The blocks are ours alone until the handle is published, so no lock is needed here
+        for (int i = 0, offset = 0; i < blocks.length; i++, offset += blockSize) {
+            int length = Math.min(blockSize, bytes.length - offset);
+            if (length > 0) {
+                segment(blocks[i]).put(position(blocks[i]), bytes, offset, length);
+            }
+        }
+        entries.increment();
+        usedBytes.add((long) blocks.length * blockSize);
+        return new Handle(blocks, bytes.length);
+    }
+
+    /**
+     * @return a copy of the stored bytes, or {@code null} once the handle was released
+     */
+    byte[] read(Handle handle) {
+        lock.readLock().lock();
+        try {
+            if (handle.released) {
+                return null;
+            }
+            byte[] bytes = new byte[handle.length];
+            for (int i = 0, offset = 0; offset < bytes.length; i++, offset += blockSize) {
+                int block = handle.blocks[i];
+                segment(block).get(position(block), bytes, offset, Math.min(blockSize, bytes.length - offset));
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Return a handle's blocks to the free list. Releasing a handle twice has no effect.
+     */
+    void release(Handle handle) {
+        lock.writeLock().lock();
+        try {
+            if (handle.released) {
+                return;
+            }
+            handle.released = true;
+            for (int block : handle.blocks) {
+                freeBlocks[freeCount++] = block;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        entries.decrement();
+        usedBytes.add(-(long) handle.blocks.length * blockSize);
+    }
+
+    long capacityBytes() {
+        return (long) totalBlocks * blockSize;
+    }
+
+    /**
+     * @return bytes taken by stored values, counted in whole blocks
+     */
+    long usedBytes() {
+        return usedBytes.sum();
+    }
+
+    long entries() {
+        return entries.sum();
+    }
+
+    @Override
+    public void close() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Failed to close off-heap cache file: {}", e.getMessage());
+            }
+        }
+    }
+
+    private int[] allocate(int count) {
+        lock.writeLock().lock();
+        try {
+            if (count > freeCount) {
+                return null;
+            }
+            int[] blocks = new int[count];
+            for (int i = 0; i < count; i++) {
+                blocks[i] = freeBlocks[--freeCount];
+            }
+            return blocks;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private ByteBuffer segment(int block) {
+        return segments[block / blocksPerSegment];
+    }
+
+    private int position(int block) {
+        return (block % blocksPerSegment) * blockSize;
+    }
+
+    /**
+     * Location of a stored value: its blocks in order and its length in bytes.
+     */
+    static final class Handle {
+        private final int[] blocks;
+        private final int length;
+        private volatile boolean released;
+
+        private Handle(int[] blocks, int length) {
+            this.blocks = blocks;
+            this.length = length;
+        }
+
+        int length() {
+            return length;
+        }
+    }
+}
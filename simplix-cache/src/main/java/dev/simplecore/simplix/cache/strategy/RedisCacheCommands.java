@@ -0,0 +1,72 @@
+package dev.simplecore.simplix.cache.strategy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Redis commands behind RedisCacheStrategy's single-key operations
+ * Each operation is written once against these commands, which either complete on the
+ * calling thread ({@link TemplateRedisCommands} without an executor) or do not block it
+ *
+ * <p>Keys and values are raw bytes; lock keys and tokens are strings.
+ */
+interface RedisCacheCommands {
+
+    /**
+     * Adds {@code ARGV[1]} to the tag set {@code KEYS[1]} and extends the set's expiry to at
+     * least {@code ARGV[2]} milliseconds.
+     */
+    String TAG_SCRIPT = "redis.call('sadd', KEYS[1], ARGV[1]) "
+        + "if redis.call('pttl', KEYS[1]) < tonumber(ARGV[2]) then redis.call('pexpire', KEYS[1], ARGV[2]) end "
+        + "return 1";
+
+    /**
+     * Deletes the lock {@code KEYS[1]} if it still holds the token {@code ARGV[1]}.
+     */
+    String RELEASE_LOCK_SCRIPT =
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end";
+
+    /**
+     * @return a stage completing with the value, or null if the key does not exist
+     */
+    CompletableFuture<byte[]> get(byte[] key);
+
+    /**
+     * {@code SET} with expiry, adding the key to each tag set with {@link #TAG_SCRIPT} in the
+     * same round trip.
+     */
+    CompletableFuture<Void> set(byte[] key, byte[] value, Duration ttl, List<byte[]> tagKeys);
+
+    /**
+     * {@code SET NX PX}.
+     *
+     * @return a stage completing with whether the key was set
+     */
+    CompletableFuture<Boolean> setIfAbsent(String key, String value, Duration lease);
+
+    /**
+     * Release a lock with {@link #RELEASE_LOCK_SCRIPT}.
+     */
+    CompletableFuture<Void> releaseLock(String key, String token);
+
+    /**
+     * @return a stage completing with the number of keys removed
+     */
+    CompletableFuture<Long> unlink(byte[] key);
+
+    /**
+     * Complete after the given time; a failed stage ends the wait it belongs to.
+     */
+    CompletableFuture<Void> pause(Duration duration);
+
+    /**
+     * Release the resources held by the commands.
+     */
+    default void close() {
+    }
+
+    static long ttlMillis(Duration ttl) {
+        return Math.max(1, ttl.toMillis());
+    }
+}
@@ -2,35 +2,128 @@ package dev.simplecore.simplix.cache.strategy;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.simplecore.simplix.cache.codec.CacheValueSerializer;
 import dev.simplecore.simplix.cache.config.CacheProperties;
+import dev.simplecore.simplix.core.resilience.LatencyHistogram;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Redis Cache Strategy
  * Suitable for multi-instance deployments with distributed caching
+ *
+ * <p>Keys of a cache are enumerated with cursor-based {@code SCAN} (COUNT
+ * {@code redis.scan-count}) rather than {@code KEYS}, so large keyspaces never block the
+ * server, and are removed with batched {@code UNLINK}. {@link #streamKeys(String)} and
+ * {@link #streamAll(String, Class)} read the cursor lazily and close it with the stream;
+ * {@code getKeys} and {@code getAll} collect them. Cache sizes in statistics are sampled
+ * estimates; see {@link #getStatistics(String)}. Hits, misses, loads, writes and the bytes
+ * moved are counted per cache on this node in {@link CacheCounters}.
+ *
+ * <p>Bulk operations are split into chunks of {@code redis.pipeline-chunk-size} keys:
+ * {@code putAll} pipelines one {@code SET} with expiry per entry, {@code evictAll} pipelines
+ * one {@code UNLINK} per chunk and {@code getAll} issues one {@code MGET} per chunk. The
+ * latency of each operation is recorded in a {@link LatencyHistogram}, see
+ * {@link #getLatencyHistogram(Operation)}.
+ *
+ * <p>Each tag of a cache is a Redis set of the keys put with it, {@code tag:<cache>::<tag>},
+ * which expires no earlier than its longest-lived member. A tagged put pipelines the
+ * {@code SET} with one small script per tag that adds the key and extends the set's expiry;
+ * {@link #evictByTag(String, String)} reads and drops the set atomically and unlinks its
+ * members in pipelined chunks. Keys stay in the set until it expires, so a key rewritten
+ * without the tag may still be evicted with it.
+ *
+ * <p>Values are read and written as raw bytes encoded by a {@link CacheValueSerializer}, so
+ * the codec and compression can be chosen per cache; keys remain plain strings.
+ *
+ * <p>{@code getOrCompute} misses are coalesced per key with a {@link SingleFlight}. With
+ * {@code load-lock.enabled} a node must also win a {@code SET NX PX} lock before running the
+ * loader; other nodes wait for the value to appear instead of loading it again.
+ *
+ * <p>Each single-key operation ({@code get}, {@code put} with or without tags,
+ * {@code getOrCompute} with its load lock, {@code evict}) is written once against
+ * {@link RedisCacheCommands} and shared by the blocking and async methods: the blocking
+ * methods run it on the caller's thread through the template, the async ones send it on a
+ * shared reactive connection when the template's connection factory is reactive (Lettuce)
+ * and otherwise run it through the template on {@code redis.async-threads} threads.
+ * {@code putAllAsync} keeps up to {@code redis.pipeline-chunk-size} {@code SET}s in flight on
+ * the reactive connection; without one the bulk async operations run their blocking
+ * counterparts on the same threads.
  */
 @Slf4j
 public class RedisCacheStrategy implements CacheStrategy {
 
     private final StringRedisTemplate redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final CacheValueSerializer serializer;
     private final CacheProperties properties;
+    private final Map<Operation, LatencyHistogram> latencies = new EnumMap<>(Operation.class);
+    private final SingleFlight singleFlight = new SingleFlight();
+    private final RedisCacheCommands blockingCommands;
+    private final AsyncRedisCommands reactiveCommands;
+    private final ExecutorService asyncExecutor;
+    private final RedisCacheCommands asyncCommands;
+    private final CacheCounters counters = new CacheCounters();
     private static final String KEY_SEPARATOR = "::";
+    private static final String LOCK_NAMESPACE = "lock:";
+    private static final String TAG_NAMESPACE = "tag:";
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POP_TAG_SCRIPT = new DefaultRedisScript<>(
+        "local keys = redis.call('smembers', KEYS[1]) redis.call('unlink', KEYS[1]) return keys",
+        List.class);
 
     public RedisCacheStrategy(StringRedisTemplate redisTemplate, CacheProperties properties) {
+        this(redisTemplate, properties,
+            new CacheValueSerializer(properties, new ObjectMapper().registerModule(new JavaTimeModule())));
+    }
+
+    /**
+     * @param serializer encodes values with the codec and compression configured per cache
+     */
+    public RedisCacheStrategy(StringRedisTemplate redisTemplate, CacheProperties properties,
+                              CacheValueSerializer serializer) {
         this.redisTemplate = redisTemplate;
         this.properties = properties;
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
+        this.serializer = serializer;
+        this.blockingCommands = new TemplateRedisCommands(redisTemplate, null);
+        this.reactiveCommands = AsyncRedisCommands.create(redisTemplate.getConnectionFactory());
+        if (reactiveCommands != null) {
+            this.asyncExecutor = null;
+            this.asyncCommands = reactiveCommands;
+        } else {
+            this.asyncExecutor = asyncExecutor(properties.getRedis().getAsyncThreads());
+            this.asyncCommands = new TemplateRedisCommands(redisTemplate, asyncExecutor);
+        }
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new LatencyHistogram());
+        }
     }
 
     @Override
@@ -40,96 +133,349 @@ public class RedisCacheStrategy implements CacheStrategy {
 
     @Override
     public <T> Optional<T> get(String cacheName, Object key, Class<T> type) {
-        String redisKey = buildKey(cacheName, key);
+        return get(blockingCommands, cacheName, key, type).join();
+    }
+
+    @Override
+    public <T> void put(String cacheName, Object key, T value) {
+        put(cacheName, key, value, Duration.ofHours(1));
+    }
+
+    @Override
+    public <T> void put(String cacheName, Object key, T value, Duration ttl) {
+        put(cacheName, key, value, ttl, List.of());
+    }
 
+    @Override
+    public <T> void put(String cacheName, Object key, T value, Duration ttl, Collection<String> tags) {
+        put(blockingCommands, cacheName, key, value, ttl, tags).join();
+    }
+
+    @Override
+    public <T> T getOrCompute(String cacheName, Object key, Callable<T> valueLoader, Class<T> type) {
+        return getOrCompute(cacheName, key, valueLoader, type, Duration.ofHours(1));
+    }
+
+    @Override
+    public <T> T getOrCompute(String cacheName, Object key, Callable<T> valueLoader, Class<T> type, Duration ttl) {
         try {
-            String value = redisTemplate.opsForValue().get(redisKey);
-            if (value != null) {
-                log.trace("Redis cache hit for key {} in cache {}", key, cacheName);
-                T result = deserialize(value, type);
-                return Optional.ofNullable(result);
-            }
-            log.trace("Redis cache miss for key {} in cache {}", key, cacheName);
-        } catch (Exception e) {
-            log.error("Failed to get value from Redis for key {} in cache {}", key, cacheName, e);
+            return getOrCompute(blockingCommands, cacheName, key, SingleFlight.inline(valueLoader), type, ttl).join();
+        } catch (CompletionException e) {
+            Throwable cause = SingleFlight.unwrap(e);
+            log.error("Failed to compute value for key {} in cache {}", key, cacheName, cause);
+            throw new RuntimeException("Cache value computation failed", cause);
         }
+    }
 
-        return Optional.empty();
+    /**
+     * Get the load coalescing statistics of {@code getOrCompute}.
+     */
+    public SingleFlight.LoadStatistics getLoadStatistics() {
+        return singleFlight.getStatistics();
     }
 
     @Override
-    public <T> void put(String cacheName, Object key, T value) {
-        put(cacheName, key, value, Duration.ofHours(1));
+    public <T> CompletionStage<Optional<T>> getAsync(String cacheName, Object key, Class<T> type) {
+        return get(asyncCommands, cacheName, key, type);
     }
 
     @Override
-    public <T> void put(String cacheName, Object key, T value, Duration ttl) {
+    public <T> CompletionStage<Void> putAsync(String cacheName, Object key, T value, Duration ttl) {
+        return put(asyncCommands, cacheName, key, value, ttl, List.of());
+    }
+
+    @Override
+    public <T> CompletionStage<Void> putAsync(String cacheName, Object key, T value, Duration ttl,
+                                             Collection<String> tags) {
+        return put(asyncCommands, cacheName, key, value, ttl, tags);
+    }
+
+    @Override
+    public <T> CompletionStage<T> getOrComputeAsync(String cacheName, Object key,
+                                                    Supplier<? extends CompletionStage<T>> valueLoader,
+                                                    Class<T> type, Duration ttl) {
+        return getOrCompute(asyncCommands, cacheName, key, valueLoader, type, ttl);
+    }
+
+    @Override
+    public CompletionStage<Void> evictAsync(String cacheName, Object key) {
+        return evict(asyncCommands, cacheName, key);
+    }
+
+    /**
+     * Get all entries of a cache without blocking, scanning keys and reading their values
+     * with one {@code MGET} per {@code redis.pipeline-chunk-size} keys.
+     */
+    @Override
+    public <T> CompletionStage<Map<Object, T>> getAllAsync(String cacheName, Class<T> type) {
+        if (reactiveCommands == null) {
+            return CompletableFuture.supplyAsync(() -> getAll(cacheName, type), asyncExecutor);
+        }
+
+        String prefix = getFullPrefix(cacheName);
+        long start = System.nanoTime();
+        return reactiveCommands.scanValues(scanOptions(buildKeyPattern(cacheName)),
+                properties.getRedis().getPipelineChunkSize())
+            .handle((values, failure) -> {
+                record(Operation.GET_ALL, start);
+                Map<Object, T> result = new HashMap<>();
+                if (failure != null) {
+                    log.error("Failed to read all entries from Redis cache {}", cacheName, failure);
+                    return result;
+                }
+                values.forEach((redisKey, value) -> {
+                    try {
+                        result.put(redisKey.substring(prefix.length()), serializer.deserialize(value, type));
+                    } catch (Exception e) {
+                        log.error("Failed to deserialize value for key {}", redisKey, e);
+                    }
+                });
+                return result;
+            });
+    }
+
+    @Override
+    public <T> CompletionStage<Void> putAllAsync(String cacheName, Map<Object, T> entries, Duration ttl) {
+        if (reactiveCommands == null) {
+            return CompletableFuture.runAsync(() -> putAll(cacheName, entries, ttl), asyncExecutor);
+        }
+
+        List<Map.Entry<byte[], byte[]>> serializedEntries = serializeAll(cacheName, entries);
+        if (serializedEntries.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long start = System.nanoTime();
+        return reactiveCommands.setAll(serializedEntries, Expiration.from(ttl), properties.getRedis().getPipelineChunkSize())
+            .handle((ignored, failure) -> {
+                record(Operation.PUT_ALL, start);
+                if (failure != null) {
+                    log.error("Failed putAll on Redis cache {}", cacheName, failure);
+                } else {
+                    counters.recordPuts(cacheName, serializedEntries.size(), valueBytes(serializedEntries));
+                    log.trace("Put {} entries in Redis cache {}", serializedEntries.size(), cacheName);
+                }
+                return null;
+            });
+    }
+
+    private <T> CompletableFuture<Optional<T>> get(RedisCacheCommands commands, String cacheName, Object key,
+                                                   Class<T> type) {
+        long start = System.nanoTime();
+        return commands.get(rawKey(buildKey(cacheName, key))).handle((value, failure) -> {
+            record(cacheName, Operation.GET, start);
+            if (failure != null) {
+                log.error("Failed to get value from Redis for key {} in cache {}", key, cacheName,
+                    SingleFlight.unwrap(failure));
+            } else if (value == null) {
+                log.trace("Redis cache miss for key {} in cache {}", key, cacheName);
+            } else {
+                try {
+                    Optional<T> result = Optional.ofNullable(serializer.deserialize(value, type));
+                    counters.recordHit(cacheName, value.length);
+                    log.trace("Redis cache hit for key {} in cache {}", key, cacheName);
+                    return result;
+                } catch (Exception e) {
+                    log.error("Failed to get value from Redis for key {} in cache {}", key, cacheName, e);
+                }
+            }
+            counters.recordMiss(cacheName);
+            return Optional.empty();
+        });
+    }
+
+    private <T> CompletableFuture<Void> put(RedisCacheCommands commands, String cacheName, Object key, T value,
+                                            Duration ttl, Collection<String> tags) {
         if (value == null) {
             log.debug("Skipping null value for key {} in cache {}", key, cacheName);
-            return;
+            return CompletableFuture.completedFuture(null);
         }
 
-        String redisKey = buildKey(cacheName, key);
-
+        byte[] rawKey = rawKey(buildKey(cacheName, key));
+        List<byte[]> tagKeys = tags.stream()
+            .distinct()
+            .map(tag -> rawKey(tagKey(cacheName, tag)))
+            .toList();
+        long start = System.nanoTime();
+        byte[] serialized;
         try {
-            String serialized = serialize(value);
-            redisTemplate.opsForValue().set(redisKey, serialized, ttl);
-            log.trace("Put key {} in Redis cache {} with TTL {}", key, cacheName, ttl);
+            serialized = serializer.serialize(cacheName, value);
         } catch (Exception e) {
+            record(cacheName, Operation.PUT, start);
             log.error("Failed to put value in Redis for key {} in cache {}", key, cacheName, e);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return commands.set(rawKey, serialized, ttl, tagKeys).handle((ignored, failure) -> {
+            record(cacheName, Operation.PUT, start);
+            if (failure != null) {
+                log.error("Failed to put value in Redis for key {} in cache {}", key, cacheName,
+                    SingleFlight.unwrap(failure));
+            } else {
+                counters.recordPuts(cacheName, 1, serialized.length);
+                log.trace("Put key {} with tags {} in Redis cache {} with TTL {}", key, tags, cacheName, ttl);
+            }
+            return null;
+        });
+    }
+
+    private <T> CompletableFuture<T> getOrCompute(RedisCacheCommands commands, String cacheName, Object key,
+                                                  Supplier<? extends CompletionStage<T>> valueLoader,
+                                                  Class<T> type, Duration ttl) {
+        return get(commands, cacheName, key, type).thenCompose(cached -> cached.isPresent()
+            ? CompletableFuture.completedFuture(cached.get())
+            : singleFlight.executeAsync(buildKey(cacheName, key),
+                () -> loadWithLock(commands, cacheName, key, valueLoader, type, ttl)));
+    }
+
+    private <T> CompletableFuture<T> loadWithLock(RedisCacheCommands commands, String cacheName, Object key,
+                                                  Supplier<? extends CompletionStage<T>> valueLoader,
+                                                  Class<T> type, Duration ttl) {
+        CacheProperties.LoadLockConfig lockConfig = properties.getLoadLock();
+        if (!lockConfig.isEnabled()) {
+            return load(commands, cacheName, key, valueLoader, ttl);
         }
+
+        String lockKey = buildKey(LOCK_NAMESPACE + cacheName, key);
+        String token = UUID.randomUUID().toString();
+        return commands.setIfAbsent(lockKey, token, Duration.ofMillis(lockConfig.getLeaseMillis()))
+            .handle((acquired, failure) -> {
+                if (failure != null) {
+                    log.warn("Failed to acquire load lock for key {} in cache {}, loading without it: {}",
+                        key, cacheName, SingleFlight.unwrap(failure).getMessage());
+                    return load(commands, cacheName, key, valueLoader, ttl);
+                }
+                if (Boolean.TRUE.equals(acquired)) {
+                    // Another node may have loaded the value between our miss and the lock
+                    return get(commands, cacheName, key, type)
+                        .thenCompose(cached -> cached.isPresent()
+                            ? CompletableFuture.completedFuture(cached.get())
+                            : load(commands, cacheName, key, valueLoader, ttl))
+                        .handle((value, loadFailure) -> releaseLock(commands, lockKey, token)
+                            .thenCompose(ignored -> loadFailure != null
+                                ? CompletableFuture.<T>failedFuture(SingleFlight.unwrap(loadFailure))
+                                : CompletableFuture.completedFuture(value)))
+                        .thenCompose(Function.identity());
+                }
+                return singleFlight.awaitRemoteLoadAsync(() -> get(commands, cacheName, key, type),
+                        Duration.ofMillis(lockConfig.getWaitMillis()),
+                        Duration.ofMillis(lockConfig.getPollIntervalMillis()), commands::pause)
+                    .thenCompose(loaded -> {
+                        if (loaded.isPresent()) {
+                            log.trace("Key {} in cache {} was loaded by another node", key, cacheName);
+                            return CompletableFuture.completedFuture(loaded.get());
+                        }
+                        log.debug("Load lock for key {} in cache {} held past the wait, loading locally",
+                            key, cacheName);
+                        return load(commands, cacheName, key, valueLoader, ttl);
+                    });
+            })
+            .thenCompose(Function.identity());
+    }
+
+    private <T> CompletableFuture<T> load(RedisCacheCommands commands, String cacheName, Object key,
+                                          Supplier<? extends CompletionStage<T>> valueLoader, Duration ttl) {
+        return counters.loadAsync(cacheName, valueLoader).toCompletableFuture()
+            .thenCompose(value -> value == null
+                ? CompletableFuture.completedFuture(null)
+                : put(commands, cacheName, key, value, ttl, List.of()).thenApply(ignored -> value));
+    }
+
+    private CompletableFuture<Void> releaseLock(RedisCacheCommands commands, String lockKey, String token) {
+        return commands.releaseLock(lockKey, token).exceptionally(failure -> {
+            log.warn("Failed to release load lock {}, it expires with its lease: {}", lockKey,
+                SingleFlight.unwrap(failure).getMessage());
+            return null;
+        });
     }
 
     @Override
-    public <T> T getOrCompute(String cacheName, Object key, Callable<T> valueLoader, Class<T> type) {
-        return getOrCompute(cacheName, key, valueLoader, type, Duration.ofHours(1));
+    public void evict(String cacheName, Object key) {
+        evict(blockingCommands, cacheName, key).join();
     }
 
+    private CompletableFuture<Void> evict(RedisCacheCommands commands, String cacheName, Object key) {
+        return commands.unlink(rawKey(buildKey(cacheName, key))).handle((deleted, failure) -> {
+            if (failure != null) {
+                log.error("Failed to evict key {} from Redis cache {}", key, cacheName, SingleFlight.unwrap(failure));
+            } else if (deleted != null && deleted > 0) {
+                counters.recordRemovals(cacheName, deleted);
+                log.trace("Evicted key {} from Redis cache {}", key, cacheName);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Evict keys with one pipelined {@code UNLINK} per {@code redis.pipeline-chunk-size} keys.
+     */
     @Override
-    public <T> T getOrCompute(String cacheName, Object key, Callable<T> valueLoader, Class<T> type, Duration ttl) {
-        Optional<T> cached = get(cacheName, key, type);
-        if (cached.isPresent()) {
-            return cached.get();
+    public void evictAll(String cacheName, Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return;
         }
 
+        List<byte[]> redisKeys = keys.stream()
+            .distinct()
+            .map(key -> rawKey(buildKey(cacheName, key)))
+            .toList();
+
+        long start = System.nanoTime();
         try {
-            T value = valueLoader.call();
-            if (value != null) {
-                put(cacheName, key, value, ttl);
-            }
-            return value;
-        } catch (Exception e) {
-            log.error("Failed to compute value for key {} in cache {}", key, cacheName, e);
-            throw new RuntimeException("Cache value computation failed", e);
+            long deleted = unlinkPipelined(redisKeys);
+            counters.recordRemovals(cacheName, deleted);
+            log.trace("Evicted {} keys from Redis cache {}", deleted, cacheName);
+        } finally {
+            record(Operation.EVICT_ALL, start);
         }
     }
 
+    /**
+     * Evict the keys in the tag's set with one pipelined {@code UNLINK} per
+     * {@code redis.pipeline-chunk-size} keys, after reading and dropping the set atomically.
+     */
     @Override
-    public void evict(String cacheName, Object key) {
-        String redisKey = buildKey(cacheName, key);
-        Boolean deleted = redisTemplate.delete(redisKey);
-        if (deleted) {
-            log.trace("Evicted key {} from Redis cache {}", key, cacheName);
+    @SuppressWarnings("unchecked")
+    public void evictByTag(String cacheName, String tag) {
+        long start = System.nanoTime();
+        try {
+            List<String> redisKeys = redisTemplate.execute(POP_TAG_SCRIPT, List.of(tagKey(cacheName, tag)));
+            if (redisKeys == null || redisKeys.isEmpty()) {
+                return;
+            }
+            long deleted = unlinkPipelined(redisKeys.stream().map(RedisCacheStrategy::rawKey).toList());
+            counters.recordRemovals(cacheName, deleted);
+            log.trace("Evicted {} keys tagged {} from Redis cache {}", deleted, tag, cacheName);
+        } catch (Exception e) {
+            log.error("Failed to evict keys tagged {} from Redis cache {}", tag, cacheName, e);
+        } finally {
+            record(Operation.EVICT_BY_TAG, start);
         }
     }
 
-    @Override
-    public void evictAll(String cacheName, Collection<?> keys) {
-        Set<String> redisKeys = keys.stream()
-            .map(key -> buildKey(cacheName, key))
-            .collect(Collectors.toSet());
-
-        Long deleted = redisTemplate.delete(redisKeys);
-        log.trace("Evicted {} keys from Redis cache {}", deleted, cacheName);
+    private long unlinkPipelined(List<byte[]> redisKeys) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (List<byte[]> chunk : chunks(redisKeys)) {
+                connection.keyCommands().unlink(chunk.toArray(new byte[0][]));
+            }
+            return null;
+        });
+        return results.stream()
+            .filter(Long.class::isInstance)
+            .mapToLong(Long.class::cast)
+            .sum();
     }
 
     @Override
     public void clear(String cacheName) {
-        String pattern = buildKeyPattern(cacheName);
-        Set<String> keys = redisTemplate.keys(pattern);
-        if (!keys.isEmpty()) {
-            Long deleted = redisTemplate.delete(keys);
-            log.debug("Cleared {} entries from Redis cache {}", deleted, cacheName);
+        long start = System.nanoTime();
+        try {
+            long deleted = unlinkMatching(buildKeyPattern(cacheName));
+            counters.recordRemovals(cacheName, deleted);
+            if (deleted > 0) {
+                log.debug("Cleared {} entries from Redis cache {}", deleted, cacheName);
+            }
+        } finally {
+            record(Operation.CLEAR, start);
         }
     }
 
@@ -137,11 +483,8 @@ public class RedisCacheStrategy implements CacheStrategy {
     public void clearAll() {
         log.warn("Clearing all Redis caches - this affects all applications using this Redis instance!");
         try {
-            Set<String> keys = redisTemplate.keys("*");
-            if (!keys.isEmpty()) {
-                redisTemplate.delete(keys);
-                log.debug("Cleared {} total entries from Redis", keys.size());
-            }
+            long deleted = unlinkMatching("*");
+            log.debug("Cleared {} total entries from Redis", deleted);
         } catch (Exception e) {
             log.error("Failed to clear all Redis caches", e);
         }
@@ -153,47 +496,113 @@ public class RedisCacheStrategy implements CacheStrategy {
         return redisTemplate.hasKey(redisKey);
     }
 
+    /**
+     * Get the keys of a cache.
+     *
+     * <p>A convenience that collects {@link #streamKeys(String)} into memory; the cursor is
+     * closed before this method returns. As with {@code SCAN} itself, keys added or removed
+     * meanwhile may or may not be returned; a key returned more than once is listed once.
+     * Prefer {@link #streamKeys(String)} for caches too large to hold at once.</p>
+     */
     @Override
     public Collection<Object> getKeys(String cacheName) {
-        String pattern = buildKeyPattern(cacheName);
-        Set<String> keys = redisTemplate.keys(pattern);
-		String prefix = getFullPrefix(cacheName);
-		return keys.stream()
-			.map(k -> k.substring(prefix.length()))
-			.collect(Collectors.toSet());
-	}
+        try (Stream<Object> keys = streamKeys(cacheName)) {
+            return keys.collect(Collectors.toCollection(LinkedHashSet::new));
+        }
+    }
 
+    /**
+     * Get all entries of a cache.
+     *
+     * <p>A convenience that collects {@link #streamAll(String, Class)} into memory. Prefer
+     * the stream for caches too large to hold at once.
+     */
     @Override
-	public <T> Map<Object, T> getAll(String cacheName, Class<T> type) {
+    public <T> Map<Object, T> getAll(String cacheName, Class<T> type) {
         Map<Object, T> result = new HashMap<>();
-        String pattern = buildKeyPattern(cacheName);
-        Set<String> keys = redisTemplate.keys(pattern);
-
-        if (!keys.isEmpty()) {
-            List<String> values = redisTemplate.opsForValue().multiGet(keys);
-            if (values != null) {
-                Iterator<String> keyIterator = keys.iterator();
-                Iterator<String> valueIterator = values.iterator();
-                String prefix = getFullPrefix(cacheName);
-
-                while (keyIterator.hasNext() && valueIterator.hasNext()) {
-                    String redisKey = keyIterator.next();
-                    String value = valueIterator.next();
-
-                    if (value != null) {
-                        try {
-                            String originalKey = redisKey.substring(prefix.length());
-                            T deserializedValue = deserialize(value, type);
-                            result.put(originalKey, deserializedValue);
-                        } catch (Exception e) {
-                            log.error("Failed to deserialize value for key {}", redisKey, e);
-                        }
-                    }
-                }
+        long start = System.nanoTime();
+        try (Stream<Map.Entry<Object, T>> entries = streamAll(cacheName, type)) {
+            entries.forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        } finally {
+            record(Operation.GET_ALL, start);
+        }
+        return result;
+    }
+
+    /**
+     * Stream the keys of a cache as they are scanned.
+     *
+     * <p>The stream reads an incremental {@code SCAN} cursor as it is consumed, so memory
+     * stays flat however large the cache. It holds the cursor, and its connection, until it is
+     * closed: use it in a try-with-resources block. A key may appear more than once.
+     */
+    public Stream<Object> streamKeys(String cacheName) {
+        String prefix = getFullPrefix(cacheName);
+        Cursor<String> cursor = redisTemplate.scan(scanOptions(buildKeyPattern(cacheName)));
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false)
+            .onClose(cursor::close)
+            .map(redisKey -> redisKey.substring(prefix.length()));
+    }
+
+    /**
+     * Stream the entries of a cache as they are scanned.
+     *
+     * <p>Values are fetched with one {@code MGET} per {@code redis.pipeline-chunk-size} keys
+     * as the stream is consumed; keys removed after they were scanned are skipped. As with
+     * {@link #streamKeys(String)}, close the stream to release the cursor.
+     */
+    public <T> Stream<Map.Entry<Object, T>> streamAll(String cacheName, Class<T> type) {
+        String prefix = getFullPrefix(cacheName);
+        int chunkSize = Math.max(1, properties.getRedis().getPipelineChunkSize());
+        Cursor<String> cursor = redisTemplate.scan(scanOptions(buildKeyPattern(cacheName)));
+        Iterator<List<String>> chunks = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return cursor.hasNext();
+            }
+
+            @Override
+            public List<String> next() {
+                List<String> chunk = new ArrayList<>(chunkSize);
+                do {
+                    chunk.add(cursor.next());
+                } while (chunk.size() < chunkSize && cursor.hasNext());
+                return chunk;
             }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunks, Spliterator.ORDERED), false)
+            .onClose(cursor::close)
+            .flatMap(chunk -> readChunk(prefix, chunk, type).entrySet().stream());
+    }
+
+    /**
+     * Read the values of scanned keys with one {@code MGET}, skipping absent keys and values
+     * that fail to decode.
+     */
+    private <T> Map<Object, T> readChunk(String prefix, List<String> keys, Class<T> type) {
+        byte[][] rawKeys = keys.stream().map(RedisCacheStrategy::rawKey).toArray(byte[][]::new);
+        List<byte[]> values = redisTemplate.execute(
+            (RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(rawKeys));
+        Map<Object, T> entries = new LinkedHashMap<>();
+        if (values == null) {
+            return entries;
         }
 
-        return result;
+        Iterator<String> keyIterator = keys.iterator();
+        Iterator<byte[]> valueIterator = values.iterator();
+        while (keyIterator.hasNext() && valueIterator.hasNext()) {
+            String redisKey = keyIterator.next();
+            byte[] value = valueIterator.next();
+
+            if (value != null) {
+                try {
+                    entries.put(redisKey.substring(prefix.length()), serializer.deserialize(value, type));
+                } catch (Exception e) {
+                    log.error("Failed to deserialize value for key {}", redisKey, e);
+                }
+            }
+        }
+        return entries;
     }
 
     @Override
@@ -201,74 +610,83 @@ public class RedisCacheStrategy implements CacheStrategy {
         putAll(cacheName, entries, Duration.ofHours(1));
     }
 
+    /**
+     * Store entries with one {@code SET} with expiry per entry, pipelined in chunks of
+     * {@code redis.pipeline-chunk-size} entries, so each key is written and expires atomically.
+     */
     @Override
     public <T> void putAll(String cacheName, Map<Object, T> entries, Duration ttl) {
-        Map<String, String> serializedEntries = new HashMap<>();
+        List<Map.Entry<byte[], byte[]>> serializedEntries = serializeAll(cacheName, entries);
+        if (serializedEntries.isEmpty()) {
+            return;
+        }
 
+        Expiration expiration = Expiration.from(ttl);
+        long start = System.nanoTime();
+        try {
+            for (List<Map.Entry<byte[], byte[]>> chunk : chunks(serializedEntries)) {
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    for (Map.Entry<byte[], byte[]> entry : chunk) {
+                        connection.stringCommands().set(entry.getKey(), entry.getValue(), expiration,
+                            RedisStringCommands.SetOption.upsert());
+                    }
+                    return null;
+                });
+            }
+            counters.recordPuts(cacheName, serializedEntries.size(), valueBytes(serializedEntries));
+            log.trace("Put {} entries in Redis cache {}", serializedEntries.size(), cacheName);
+        } finally {
+            record(Operation.PUT_ALL, start);
+        }
+    }
+
+    private <T> List<Map.Entry<byte[], byte[]>> serializeAll(String cacheName, Map<Object, T> entries) {
+        List<Map.Entry<byte[], byte[]>> serializedEntries = new ArrayList<>(entries.size());
         entries.forEach((key, value) -> {
             if (value != null) {
                 try {
                     String redisKey = buildKey(cacheName, key);
-                    String serialized = serialize(value);
-                    serializedEntries.put(redisKey, serialized);
+                    serializedEntries.add(Map.entry(rawKey(redisKey), serializer.serialize(cacheName, value)));
                 } catch (Exception e) {
                     log.error("Failed to serialize value for key {} in cache {}", key, cacheName, e);
                 }
             }
         });
-
-        if (!serializedEntries.isEmpty()) {
-            redisTemplate.opsForValue().multiSet(serializedEntries);
-
-            // Set TTL for each key
-            serializedEntries.keySet().forEach(key ->
-                redisTemplate.expire(key, ttl.toMillis(), TimeUnit.MILLISECONDS)
-            );
-
-            log.trace("Put {} entries in Redis cache {}", serializedEntries.size(), cacheName);
-        }
+        return serializedEntries;
     }
 
+    /**
+     * Get cache statistics.
+     *
+     * <p>Hits, misses, puts and removals are this node's counts for the cache; Redis does not
+     * report evictions per key prefix, so they stay zero. The size is estimated without
+     * enumerating the cache: {@code redis.statistics-sample-size} random keys are sampled in one
+     * pipeline and the fraction belonging to the cache is scaled by {@code DBSIZE}. Databases no
+     * larger than the sample are counted exactly with {@code SCAN}. Use {@link #getCounters()}
+     * to read the counts without the size query.
+     */
     @Override
     public CacheStatistics getStatistics(String cacheName) {
-        try {
-            RedisConnectionFactory factory = redisTemplate.getConnectionFactory();
-            if (factory == null) {
-                log.warn("Cannot get statistics: RedisConnectionFactory is null");
-                return CacheStatistics.empty();
-            }
-
-            RedisConnection connection = factory.getConnection();
+        CacheCounters.Snapshot snapshot = counters.snapshot(cacheName);
+        RedisConnectionFactory factory = redisTemplate.getConnectionFactory();
+        if (factory == null) {
+            log.warn("Cannot estimate cache size: RedisConnectionFactory is null");
+            return snapshot.toStatistics(0);
+        }
 
-			Properties info = connection.serverCommands().info("stats");
-
-			assert info != null;
-			long hits = getLongProperty(info, "keyspace_hits");
-            long misses = getLongProperty(info, "keyspace_misses");
-            long evictions = getLongProperty(info, "evicted_keys");
-
-            String pattern = buildKeyPattern(cacheName);
-            Set<String> keys = redisTemplate.keys(pattern);
-            long size = keys.size();
-
-            double hitRate = (hits + misses) > 0 ? (double) hits / (hits + misses) : 0.0;
-
-            return new CacheStatistics(
-                hits,
-                misses,
-                evictions,
-                0, // puts not tracked by Redis
-                0, // removals not tracked separately
-                hitRate,
-                size,
-                0  // memory usage requires additional Redis commands
-            );
+        try (RedisConnection connection = factory.getConnection()) {
+            return snapshot.toStatistics(estimateSize(connection, cacheName));
         } catch (Exception e) {
-            log.error("Failed to get Redis statistics for cache {}", cacheName, e);
-            return CacheStatistics.empty();
+            log.error("Failed to estimate size of Redis cache {}", cacheName, e);
+            return snapshot.toStatistics(0);
         }
     }
 
+    @Override
+    public Optional<CacheCounters> getCounters() {
+        return Optional.of(counters);
+    }
+
     @Override
     public void initialize() {
         try {
@@ -289,6 +707,10 @@ public class RedisCacheStrategy implements CacheStrategy {
 
     @Override
     public void shutdown() {
+        asyncCommands.close();
+        if (asyncExecutor != null) {
+            asyncExecutor.shutdown();
+        }
         log.info("Redis cache strategy shutdown complete");
     }
 
@@ -311,6 +733,146 @@ public class RedisCacheStrategy implements CacheStrategy {
         }
     }
 
+    /**
+     * Get the latency histogram of an operation, recorded since startup or the last
+     * {@link LatencyHistogram#reset()}.
+     *
+     * @param operation the operation
+     * @return the histogram, in microseconds
+     */
+    public LatencyHistogram getLatencyHistogram(Operation operation) {
+        return latencies.get(operation);
+    }
+
+    /**
+     * Threads that run the async operations through the template when the connection factory
+     * is not reactive. Idle threads time out.
+     */
+    private static ExecutorService asyncExecutor(int threads) {
+        int size = Math.max(1, threads);
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(size, size, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "simplix-cache-redis-async-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private void record(Operation operation, long startNanos) {
+        latencies.get(operation).recordNanos(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Record a single-key read or write, which is also reported to the cache's counters.
+     */
+    private void record(String cacheName, Operation operation, long startNanos) {
+        long nanos = System.nanoTime() - startNanos;
+        latencies.get(operation).recordNanos(nanos);
+        counters.recordLatency(cacheName,
+            operation == Operation.GET ? CacheCounters.Latency.GET : CacheCounters.Latency.PUT, nanos);
+    }
+
+    private static long valueBytes(List<Map.Entry<byte[], byte[]>> entries) {
+        long bytes = 0;
+        for (Map.Entry<byte[], byte[]> entry : entries) {
+            bytes += entry.getValue().length;
+        }
+        return bytes;
+    }
+
+    private <E> List<List<E>> chunks(List<E> items) {
+        int size = Math.max(1, properties.getRedis().getPipelineChunkSize());
+        List<List<E>> chunks = new ArrayList<>((items.size() + size - 1) / size);
+        for (int from = 0; from < items.size(); from += size) {
+            chunks.add(items.subList(from, Math.min(items.size(), from + size)));
+        }
+        return chunks;
+    }
+
+    private static byte[] rawKey(String redisKey) {
+        return redisKey.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Remove every key matching a pattern, scanning incrementally and unlinking in batches.
+     *
+     * @return the number of keys removed
+     */
+    private long unlinkMatching(String pattern) {
+        long[] deleted = {0};
+        scanInBatches(pattern, properties.getRedis().getDeleteBatchSize(), keys -> {
+            Long count = redisTemplate.unlink(keys);
+            if (count != null) {
+                deleted[0] += count;
+            }
+        });
+        return deleted[0];
+    }
+
+    /**
+     * Scan the keys matching a pattern and hand them to the consumer in batches of at most
+     * {@code batchSize}. The SCAN cursor is closed before this method returns.
+     */
+    private void scanInBatches(String pattern, int batchSize, Consumer<List<String>> batchConsumer) {
+        int size = Math.max(1, batchSize);
+        List<String> batch = new ArrayList<>(size);
+        try (Cursor<String> cursor = redisTemplate.scan(scanOptions(pattern))) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= size) {
+                    batchConsumer.accept(batch);
+                    batch = new ArrayList<>(size);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            batchConsumer.accept(batch);
+        }
+    }
+
+    private long estimateSize(RedisConnection connection, String cacheName) {
+        int sampleSize = properties.getRedis().getStatisticsSampleSize();
+        if (sampleSize <= 0) {
+            return 0;
+        }
+
+        Long dbSize = connection.serverCommands().dbSize();
+        if (dbSize == null || dbSize == 0) {
+            return 0;
+        }
+        if (dbSize <= sampleSize) {
+            long[] count = {0};
+            scanInBatches(buildKeyPattern(cacheName), properties.getRedis().getScanCount(),
+                keys -> count[0] += keys.size());
+            return count[0];
+        }
+
+        connection.openPipeline();
+        for (int i = 0; i < sampleSize; i++) {
+            connection.keyCommands().randomKey();
+        }
+        List<Object> sampled = connection.closePipeline();
+
+        String prefix = getFullPrefix(cacheName);
+        long matched = sampled.stream()
+            .filter(byte[].class::isInstance)
+            .map(key -> new String((byte[]) key, StandardCharsets.UTF_8))
+            .filter(key -> key.startsWith(prefix))
+            .count();
+        return sampled.isEmpty() ? 0 : Math.round((double) matched / sampled.size() * dbSize);
+    }
+
+    private ScanOptions scanOptions(String pattern) {
+        return ScanOptions.scanOptions()
+            .match(pattern)
+            .count(properties.getRedis().getScanCount())
+            .build();
+    }
+
     private String buildKey(String cacheName, Object key) {
         String baseKey = cacheName + KEY_SEPARATOR + key.toString();
 
@@ -322,6 +884,10 @@ public class RedisCacheStrategy implements CacheStrategy {
         return baseKey;
     }
 
+    private String tagKey(String cacheName, String tag) {
+        return buildKey(TAG_NAMESPACE + cacheName, tag);
+    }
+
     private String buildKeyPattern(String cacheName) {
         String pattern = cacheName + KEY_SEPARATOR + "*";
 
@@ -344,23 +910,17 @@ public class RedisCacheStrategy implements CacheStrategy {
         return prefix;
     }
 
-    private <T> String serialize(T value) throws Exception {
-        return objectMapper.writeValueAsString(value);
-    }
-
-    private <T> T deserialize(String value, Class<T> type) throws Exception {
-        return objectMapper.readValue(value, type);
-    }
 
-    private long getLongProperty(Properties props, String key) {
-        String value = props.getProperty(key);
-        if (value != null) {
-            try {
-                return Long.parseLong(value);
-            } catch (NumberFormatException e) {
-                log.trace("Failed to parse {} as long: {}", key, value);
-            }
-        }
-        return 0;
+    /**
+     * Operations whose latency is recorded.
+     */
+    public enum Operation {
+        GET,
+        PUT,
+        GET_ALL,
+        PUT_ALL,
+        EVICT_ALL,
+        EVICT_BY_TAG,
+        CLEAR
     }
-}
\ No newline at end of file
+}
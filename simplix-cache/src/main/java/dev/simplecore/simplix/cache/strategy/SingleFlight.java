@@ -0,0 +1,273 @@
+package dev.simplecore.simplix.cache.strategy;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight load coalescing
+ * Runs at most one load per key at a time within this process
+ *
+ * <p>The first caller for a key runs the loader; callers arriving while it is in flight wait
+ * for and share its result, or its exception. Once the load completes the key is released,
+ * so the next miss loads again.
+ */
+public class SingleFlight {
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalescedLoads = new LongAdder();
+    private final LongAdder remoteCoalescedLoads = new LongAdder();
+
+    /**
+     * Run the loader, or join the load of the same key already in flight.
+     *
+     * @param key    the load key, unique across caches
+     * @param loader the loader
+     * @return the loaded value, possibly null
+     * @throws Exception the loader's exception, rethrown to every caller of the flight
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Callable<T> loader) throws Exception {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalescedLoads.increment();
+            return (T) await(existing);
+        }
+
+        try {
+            T value = loader.call();
+            flight.complete(value);
+            return value;
+        } catch (Throwable t) {
+            flight.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, flight);
+            loads.increment();
+        }
+    }
+
+    /**
+     * Start the loader, or join the load of the same key already in flight, without blocking.
+     *
+     * @param key    the load key, unique across caches
+     * @param loader starts the load
+     * @return a stage completing with the loaded value, possibly null, or the loader's failure
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> executeAsync(String key, Supplier<? extends CompletionStage<T>> loader) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalescedLoads.increment();
+            return existing.thenApply(value -> (T) value);
+        }
+
+        CompletionStage<T> load;
+        try {
+            load = loader.get();
+        } catch (Throwable t) {
+            load = CompletableFuture.failedFuture(t);
+        }
+        load.whenComplete((value, failure) -> {
+            inFlight.remove(key, flight);
+            loads.increment();
+            if (failure != null) {
+                flight.completeExceptionally(unwrap(failure));
+            } else {
+                flight.complete(value);
+            }
+        });
+        return flight.thenApply(value -> (T) value);
+    }
+
+    /**
+     * Wait for another node to load a value, polling the shared cache.
+     *
+     * <p>Used by a flight that lost the distributed load lock. A value that appears within
+     * the wait is counted as a remote coalesced load.
+     *
+     * @param reader       reads the value from the shared cache
+     * @param wait         maximum time to wait
+     * @param pollInterval time between reads
+     * @return the value, or empty if it did not appear in time or the thread was interrupted
+     */
+    public <T> Optional<T> awaitRemoteLoad(Supplier<Optional<T>> reader, Duration wait, Duration pollInterval) {
+        return awaitRemoteLoadAsync(() -> CompletableFuture.completedFuture(reader.get()), wait, pollInterval,
+            SingleFlight::sleep).join();
+    }
+
+    /**
+     * Wait for another node to load a value, polling the shared cache between pauses.
+     *
+     * <p>With a reader and pause that complete on the calling thread the wait runs there, as
+     * {@link #awaitRemoteLoad} does; with non-blocking ones no thread is held while waiting.
+     *
+     * @param reader       reads the value from the shared cache; a failed read ends the wait
+     * @param wait         maximum time to wait
+     * @param pollInterval time between reads
+     * @param pause        completes after the given time; a failed pause ends the wait
+     * @return a stage completing with the value, or empty if it did not appear in time
+     */
+    public <T> CompletableFuture<Optional<T>> awaitRemoteLoadAsync(Supplier<? extends CompletionStage<Optional<T>>> reader,
+                                                                   Duration wait, Duration pollInterval,
+                                                                   Function<Duration, ? extends CompletionStage<?>> pause) {
+        long deadline = System.nanoTime() + wait.toNanos();
+        CompletableFuture<Optional<T>> result = new CompletableFuture<>();
+        poll(reader, deadline, Duration.ofMillis(Math.max(1, pollInterval.toMillis())), pause, result, false);
+        return result;
+    }
+
+    /**
+     * Read, and pause between reads, until the result is settled. Stages that are already
+     * complete are handled in this loop, so a wait on the calling thread does not grow the stack.
+     */
+    private <T> void poll(Supplier<? extends CompletionStage<Optional<T>>> reader, long deadline,
+                          Duration pollInterval, Function<Duration, ? extends CompletionStage<?>> pause,
+                          CompletableFuture<Optional<T>> result, boolean pauseFirst) {
+        boolean pausing = pauseFirst;
+        while (true) {
+            if (pausing) {
+                CompletableFuture<?> paused = pause.apply(pollInterval).toCompletableFuture();
+                if (!paused.isDone()) {
+                    paused.whenComplete((ignored, failure) -> {
+                        if (failure != null) {
+                            result.complete(Optional.empty());
+                        } else {
+                            poll(reader, deadline, pollInterval, pause, result, false);
+                        }
+                    });
+                    return;
+                }
+                if (paused.isCompletedExceptionally()) {
+                    result.complete(Optional.empty());
+                    return;
+                }
+            }
+            CompletableFuture<Optional<T>> read = reader.get().toCompletableFuture();
+            if (!read.isDone()) {
+                read.whenComplete((value, failure) -> {
+                    if (!settle(value, failure, deadline, result)) {
+                        poll(reader, deadline, pollInterval, pause, result, true);
+                    }
+                });
+                return;
+            }
+            if (read.handle((value, failure) -> settle(value, failure, deadline, result)).join()) {
+                return;
+            }
+            pausing = true;
+        }
+    }
+
+    /**
+     * Complete the result with a value that appeared, or with empty once the deadline passed.
+     *
+     * @return whether the result was completed
+     */
+    private <T> boolean settle(Optional<T> value, Throwable failure, long deadline,
+                               CompletableFuture<Optional<T>> result) {
+        if (failure == null && value.isPresent()) {
+            remoteCoalescedLoads.increment();
+            result.complete(value);
+            return true;
+        }
+        if (failure != null || System.nanoTime() - deadline >= 0) {
+            result.complete(Optional.empty());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Sleep on the calling thread.
+     *
+     * @return a completed stage, or a failed one if the thread was interrupted
+     */
+    static CompletableFuture<Void> sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+            return CompletableFuture.completedFuture(null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Complete after the given time without holding a thread.
+     */
+    static CompletableFuture<Void> delay(Duration duration) {
+        return CompletableFuture.runAsync(() -> { },
+            CompletableFuture.delayedExecutor(duration.toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Adapt a blocking loader to a stage that is already complete when returned, so a load
+     * started on the calling thread finishes there.
+     */
+    static <T> Supplier<CompletableFuture<T>> inline(Callable<T> loader) {
+        return () -> {
+            try {
+                return CompletableFuture.completedFuture(loader.call());
+            } catch (Exception e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        };
+    }
+
+    /**
+     * The cause of a {@link CompletionException}, or the failure itself.
+     */
+    static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
+    /**
+     * @return the number of keys currently being loaded
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    public LoadStatistics getStatistics() {
+        long remote = remoteCoalescedLoads.sum();
+        return new LoadStatistics(loads.sum() - remote, coalescedLoads.sum(), remote);
+    }
+
+    private static Object await(CompletableFuture<Object> flight) throws Exception {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Load coalescing statistics.
+     *
+     * @param loads                loader invocations
+     * @param coalescedLoads       calls that shared a load in flight on this node
+     * @param remoteCoalescedLoads loads skipped because another node loaded the value first
+     */
+    public record LoadStatistics(long loads, long coalescedLoads, long remoteCoalescedLoads) {
+    }
+}
@@ -0,0 +1,106 @@
+package dev.simplecore.simplix.cache.strategy;
+
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Redis commands issued through a {@link StringRedisTemplate}
+ * Without an executor each command runs on the calling thread and its stage is complete when
+ * returned; with one, commands run on the executor so the caller is not blocked
+ *
+ * <p>The executor variant backs RedisCacheStrategy's async operations when the connection
+ * factory is not reactive.
+ */
+final class TemplateRedisCommands implements RedisCacheCommands {
+
+    private static final byte[] TAG_SCRIPT_BYTES = TAG_SCRIPT.getBytes(StandardCharsets.UTF_8);
+    private static final RedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>(RELEASE_LOCK_SCRIPT, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Executor executor;
+
+    /**
+     * @param executor runs the commands, or null to run them on the calling thread
+     */
+    TemplateRedisCommands(StringRedisTemplate redisTemplate, Executor executor) {
+        this.redisTemplate = redisTemplate;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<byte[]> get(byte[] key) {
+        return run(() -> redisTemplate.execute(
+            (RedisCallback<byte[]>) connection -> connection.stringCommands().get(key)));
+    }
+
+    @Override
+    public CompletableFuture<Void> set(byte[] key, byte[] value, Duration ttl, List<byte[]> tagKeys) {
+        Expiration expiration = Expiration.from(ttl);
+        if (tagKeys.isEmpty()) {
+            return run(() -> {
+                redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+                    .set(key, value, expiration, RedisStringCommands.SetOption.upsert()));
+                return null;
+            });
+        }
+
+        byte[] ttlMillis = Long.toString(RedisCacheCommands.ttlMillis(ttl)).getBytes(StandardCharsets.UTF_8);
+        return run(() -> {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.stringCommands().set(key, value, expiration, RedisStringCommands.SetOption.upsert());
+                for (byte[] tagKey : tagKeys) {
+                    connection.scriptingCommands().eval(TAG_SCRIPT_BYTES, ReturnType.INTEGER, 1, tagKey, key, ttlMillis);
+                }
+                return null;
+            });
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> setIfAbsent(String key, String value, Duration lease) {
+        return run(() -> redisTemplate.opsForValue().setIfAbsent(key, value, lease));
+    }
+
+    @Override
+    public CompletableFuture<Void> releaseLock(String key, String token) {
+        return run(() -> {
+            redisTemplate.execute(RELEASE_LOCK, List.of(key), token);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Long> unlink(byte[] key) {
+        return run(() -> redisTemplate.execute(
+            (RedisCallback<Long>) connection -> connection.keyCommands().unlink(key)));
+    }
+
+    @Override
+    public CompletableFuture<Void> pause(Duration duration) {
+        return executor == null ? SingleFlight.sleep(duration) : SingleFlight.delay(duration);
+    }
+
+    private <T> CompletableFuture<T> run(Supplier<T> command) {
+        if (executor != null) {
+            return CompletableFuture.supplyAsync(command, executor);
+        }
+        try {
+            return CompletableFuture.completedFuture(command.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
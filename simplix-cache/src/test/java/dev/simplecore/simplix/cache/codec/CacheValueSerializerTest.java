@@ -0,0 +1,199 @@
+package dev.simplecore.simplix.cache.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.simplecore.simplix.cache.config.CacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CacheValueSerializer")
+class CacheValueSerializerTest {
+
+    private static final String CACHE = "products";
+    private static final String LARGE_VALUE = "apple ".repeat(500);
+
+    private CacheProperties properties;
+    private CacheValueSerializer serializer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CacheProperties();
+        serializer = new CacheValueSerializer(properties, new ObjectMapper(),
+            List.of(new ReversedStringCodec()), List.of());
+    }
+
+    @Nested
+    @DisplayName("default configuration")
+    class DefaultConfiguration {
+
+        @Test
+        @DisplayName("should write plain JSON without a header")
+        void shouldWritePlainJson() throws Exception {
+            byte[] data = serializer.serialize(CACHE, "apple");
+
+            assertThat(new String(data, StandardCharsets.UTF_8)).isEqualTo("\"apple\"");
+            assertThat(serializer.deserialize(data, String.class)).isEqualTo("apple");
+        }
+
+        @Test
+        @DisplayName("should read values written before headers existed")
+        void shouldReadLegacyJson() throws Exception {
+            byte[] legacy = "{\"name\":\"apple\"}".getBytes(StandardCharsets.UTF_8);
+
+            assertThat(serializer.deserialize(legacy, Product.class)).isEqualTo(new Product("apple"));
+        }
+    }
+
+    @Nested
+    @DisplayName("compression")
+    class Compression {
+
+        @BeforeEach
+        void enableDeflate() {
+            properties.getCodec().setCompression("deflate");
+        }
+
+        @Test
+        @DisplayName("should compress payloads above the threshold and frame them")
+        void shouldCompressLargePayloads() throws Exception {
+            byte[] data = serializer.serialize(CACHE, LARGE_VALUE);
+
+            assertThat(data[0]).isEqualTo(CacheValueSerializer.MAGIC);
+            assertThat(data[1]).isEqualTo(JsonValueCodec.ID);
+            assertThat(data[2]).isEqualTo(DeflateValueCompressor.ID);
+            assertThat(data.length).isLessThan(LARGE_VALUE.length());
+            assertThat(serializer.deserialize(data, String.class)).isEqualTo(LARGE_VALUE);
+        }
+
+        @Test
+        @DisplayName("should leave payloads below the threshold uncompressed")
+        void shouldNotCompressSmallPayloads() throws Exception {
+            byte[] data = serializer.serialize(CACHE, "apple");
+
+            assertThat(new String(data, StandardCharsets.UTF_8)).isEqualTo("\"apple\"");
+        }
+
+        @Test
+        @DisplayName("should read uncompressed values after compression is enabled")
+        void shouldReadValuesWrittenBeforeCompression() throws Exception {
+            properties.getCodec().setCompression("none");
+            byte[] written = serializer.serialize(CACHE, LARGE_VALUE);
+            properties.getCodec().setCompression("deflate");
+
+            assertThat(serializer.deserialize(written, String.class)).isEqualTo(LARGE_VALUE);
+        }
+    }
+
+    @Nested
+    @DisplayName("per-cache codec")
+    class PerCacheCodec {
+
+        @BeforeEach
+        void useReversedCodec() {
+            CacheProperties.CacheConfig config = new CacheProperties.CacheConfig();
+            config.setCodec(ReversedStringCodec.NAME);
+            properties.getCacheConfigs().put(CACHE, config);
+        }
+
+        @Test
+        @DisplayName("should frame values with the codec id")
+        void shouldFrameWithCodecId() throws Exception {
+            byte[] data = serializer.serialize(CACHE, "apple");
+
+            assertThat(data).startsWith(CacheValueSerializer.MAGIC, ReversedStringCodec.ID,
+                CacheValueSerializer.NO_COMPRESSION);
+            assertThat(serializer.deserialize(data, String.class)).isEqualTo("apple");
+        }
+
+        @Test
+        @DisplayName("should keep the default codec for other caches")
+        void shouldKeepDefaultForOtherCaches() throws Exception {
+            byte[] data = serializer.serialize("orders", "apple");
+
+            assertThat(new String(data, StandardCharsets.UTF_8)).isEqualTo("\"apple\"");
+        }
+
+        @Test
+        @DisplayName("should read values written with the previous codec after switching")
+        void shouldReadValuesAfterSwitchingBack() throws Exception {
+            byte[] written = serializer.serialize(CACHE, "apple");
+            properties.getCacheConfigs().get(CACHE).setCodec(null);
+
+            assertThat(serializer.deserialize(written, String.class)).isEqualTo("apple");
+        }
+
+        @Test
+        @DisplayName("should reject an unknown codec name")
+        void shouldRejectUnknownCodecName() {
+            properties.getCacheConfigs().get(CACHE).setCodec("smile");
+
+            assertThatThrownBy(() -> serializer.serialize(CACHE, "apple"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("smile");
+        }
+    }
+
+    @Test
+    @DisplayName("should reject values written with an unregistered codec")
+    void shouldRejectUnregisteredCodecId() {
+        byte[] data = {CacheValueSerializer.MAGIC, 42, CacheValueSerializer.NO_COMPRESSION, 'x'};
+
+        assertThatThrownBy(() -> serializer.deserialize(data, String.class))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("codec id 42");
+    }
+
+    @Test
+    @DisplayName("should reject codecs that reuse an id")
+    void shouldRejectDuplicateIds() {
+        ValueCodec clash = new ReversedStringCodec() {
+            @Override
+            public byte id() {
+                return JsonValueCodec.ID;
+            }
+        };
+
+        assertThatThrownBy(() -> new CacheValueSerializer(properties, new ObjectMapper(), List.of(clash), List.of()))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Duplicate");
+    }
+
+    record Product(String name) {
+    }
+
+    /**
+     * Stand-in for a binary codec: stores strings reversed.
+     */
+    static class ReversedStringCodec implements ValueCodec {
+
+        static final byte ID = 7;
+        static final String NAME = "reversed";
+
+        @Override
+        public byte id() {
+            return ID;
+        }
+
+        @Override
+        public String name() {
+            return NAME;
+        }
+
+        @Override
+        public byte[] encode(Object value) {
+            return new StringBuilder((String) value).reverse().toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public <T> T decode(byte[] data, Class<T> type) {
+            return type.cast(new StringBuilder(new String(data, StandardCharsets.UTF_8)).reverse().toString());
+        }
+    }
+}
@@ -3,9 +3,15 @@ package dev.simplecore.simplix.cache.config;
 import dev.simplecore.simplix.cache.config.SimpliXCacheAutoConfiguration;
 import dev.simplecore.simplix.cache.config.CacheHealthIndicator;
 import dev.simplecore.simplix.cache.config.CacheProperties;
+import dev.simplecore.simplix.cache.invalidation.CacheInvalidationBroadcaster;
+import dev.simplecore.simplix.cache.invalidation.InMemoryCacheInvalidationBroadcaster;
+import dev.simplecore.simplix.cache.provider.CoreCacheProviderImpl;
 import dev.simplecore.simplix.cache.service.CacheService;
+import dev.simplecore.simplix.cache.strategy.CacheStrategy;
 import dev.simplecore.simplix.cache.strategy.LocalCacheStrategy;
+import dev.simplecore.simplix.cache.strategy.NearCacheStrategy;
 import dev.simplecore.simplix.cache.strategy.RedisCacheStrategy;
+import dev.simplecore.simplix.core.cache.CacheProvider;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -154,4 +160,34 @@ class CacheAutoConfigurationTest {
                 assertThat(context).doesNotHaveBean(RedisCacheStrategy.class);
             });
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should fall back to single-tier provider when tiered is enabled without a remote strategy")
+    void shouldFallBackToSingleTierWithoutRemoteStrategy() {
+        contextRunner
+            .withPropertyValues("simplix.cache.tiered.enabled=true")
+            .run(context -> {
+                assertThat(context).hasSingleBean(CacheProvider.class);
+                assertThat(context.getBean(CacheProvider.class)).isInstanceOf(CoreCacheProviderImpl.class);
+            });
+    }
+
+    @Test
+    @DisplayName("Should wrap Redis strategy in a near cache when near-cache is enabled")
+    void shouldWrapRedisStrategyInNearCache() {
+        contextRunner
+            .withPropertyValues(
+                "simplix.cache.mode=redis",
+                "simplix.cache.near-cache.enabled=true"
+            )
+            .withBean(RedisConnectionFactory.class, () -> mock(RedisConnectionFactory.class))
+            .withBean(RedisTemplate.class, () -> mock(RedisTemplate.class))
+            .withBean(CacheInvalidationBroadcaster.class, InMemoryCacheInvalidationBroadcaster::new)
+            .run(context -> {
+                assertThat(context).hasSingleBean(CacheStrategy.class);
+                CacheStrategy strategy = context.getBean(CacheStrategy.class);
+                assertThat(strategy).isInstanceOf(NearCacheStrategy.class);
+                assertThat(((NearCacheStrategy) strategy).getRemoteTier()).isInstanceOf(RedisCacheStrategy.class);
+            });
+    }
+}
@@ -1,5 +1,6 @@
 package dev.simplecore.simplix.cache.config;
 
+import dev.simplecore.simplix.cache.service.CacheWarmer;
 import dev.simplecore.simplix.cache.strategy.CacheStrategy;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,7 +11,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.Status;
 
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @DisplayName("CacheHealthIndicator")
@@ -68,4 +72,39 @@ class CacheHealthIndicatorTest {
             assertThat(health.getDetails()).containsKey("error");
         }
     }
+
+    @Nested
+    @DisplayName("warm-up")
+    class WarmUpTests {
+
+        @Test
+        @DisplayName("should return OUT_OF_SERVICE while the warm-up is running")
+        void shouldReturnOutOfServiceWhileWarmingUp() {
+            CacheWarmer warmer = mock(CacheWarmer.class);
+            when(warmer.isComplete()).thenReturn(false);
+            when(cacheStrategy.isAvailable()).thenReturn(true);
+            when(cacheStrategy.getName()).thenReturn("near");
+
+            Health health = new CacheHealthIndicator(cacheStrategy, warmer).health();
+
+            assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+            assertThat(health.getDetails()).containsEntry("warmUp", "in progress");
+        }
+
+        @Test
+        @DisplayName("should return UP with the warm-up result once it completed")
+        void shouldReturnUpAfterWarmUp() {
+            CacheWarmer warmer = mock(CacheWarmer.class);
+            CacheWarmer.WarmUpResult result = new CacheWarmer.WarmUpResult(10, 1, 0, 250);
+            when(warmer.isComplete()).thenReturn(true);
+            when(warmer.getResult()).thenReturn(Optional.of(result));
+            when(cacheStrategy.isAvailable()).thenReturn(true);
+            when(cacheStrategy.getName()).thenReturn("near");
+
+            Health health = new CacheHealthIndicator(cacheStrategy, warmer).health();
+
+            assertThat(health.getStatus()).isEqualTo(Status.UP);
+            assertThat(health.getDetails()).containsEntry("warmUp", result);
+        }
+    }
 }
@@ -1,6 +1,9 @@
 package dev.simplecore.simplix.cache.config;
 
+import dev.simplecore.simplix.cache.invalidation.InMemoryCacheInvalidationBroadcaster;
 import dev.simplecore.simplix.cache.strategy.CacheStrategy;
+import dev.simplecore.simplix.cache.strategy.LocalCacheStrategy;
+import dev.simplecore.simplix.cache.strategy.NearCacheStrategy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -12,6 +15,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 @DisplayName("CacheMetricsCollector")
@@ -54,7 +58,7 @@ class CacheMetricsCollectorTest {
             properties.setCacheConfigs(configs);
 
             CacheStrategy.CacheStatistics stats = new CacheStrategy.CacheStatistics(
-                    10, 5, 2, 15, 1, 0.67, 20, 1024);
+                    10, 5, 0, 2, 15, 1, 0.67, 20, 1024);
             when(cacheStrategy.getStatistics("users")).thenReturn(stats);
             when(cacheStrategy.getStatistics("sessions")).thenReturn(stats);
 
@@ -104,12 +108,53 @@ class CacheMetricsCollectorTest {
             // Default constructor adds "default" cache config
 
             CacheStrategy.CacheStatistics stats = new CacheStrategy.CacheStatistics(
-                    5, 3, 0, 8, 0, 0.625, 5, 512);
+                    5, 3, 0, 0, 8, 0, 0.625, 5, 512);
             when(cacheStrategy.getStatistics("default")).thenReturn(stats);
 
             collector.collectMetrics();
 
             verify(cacheStrategy).getStatistics("default");
         }
+
+        @Test
+        @DisplayName("should read the strategy's counters instead of querying statistics")
+        void shouldReadCountersInsteadOfStatistics() {
+            LocalCacheStrategy local = spy(new LocalCacheStrategy());
+            local.put("users", "u1", "alice");
+            local.get("users", "u1", String.class);
+
+            new CacheMetricsCollector(local, properties).collectMetrics();
+
+            verify(local, atLeastOnce()).getCounters();
+            verify(local, never()).getStatistics(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("getTierStatistics")
+    class TierStatisticsTests {
+
+        @Test
+        @DisplayName("should return empty map for a single-tier strategy")
+        void shouldReturnEmptyForSingleTierStrategy() {
+            assertThat(collector.getTierStatistics()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should return per-tier statistics of a near cache")
+        void shouldReturnPerTierStatisticsOfNearCache() {
+            NearCacheStrategy nearCache = new NearCacheStrategy(new LocalCacheStrategy(100),
+                    new LocalCacheStrategy(), new InMemoryCacheInvalidationBroadcaster(), properties);
+            nearCache.put("users", "u1", "alice");
+            nearCache.get("users", "u1", String.class);
+            nearCache.get("users", "u2", String.class);
+
+            Map<String, NearCacheStrategy.TierStatistics> tierStatistics =
+                    new CacheMetricsCollector(nearCache, properties).getTierStatistics();
+
+            assertThat(tierStatistics).containsKey("users");
+            assertThat(tierStatistics.get("users").localHits()).isEqualTo(1);
+            assertThat(tierStatistics.get("users").misses()).isEqualTo(1);
+        }
     }
 }
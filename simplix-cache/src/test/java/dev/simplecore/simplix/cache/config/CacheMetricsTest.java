@@ -0,0 +1,128 @@
+package dev.simplecore.simplix.cache.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.simplecore.simplix.cache.codec.CacheValueSerializer;
+import dev.simplecore.simplix.cache.service.CacheService;
+import dev.simplecore.simplix.cache.strategy.CacheStrategy;
+import dev.simplecore.simplix.cache.strategy.LocalCacheStrategy;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("CacheMetrics")
+class CacheMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private LocalCacheStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        strategy = new LocalCacheStrategy();
+    }
+
+    @Test
+    @DisplayName("should publish hit and miss counts read from the strategy's counters")
+    void shouldPublishHitAndMissCounts() {
+        new CacheMetrics(strategy, registry, false);
+
+        strategy.put("users", "u1", "alice");
+        strategy.get("users", "u1", String.class);
+        strategy.get("users", "u1", String.class);
+        strategy.get("users", "u2", String.class);
+
+        assertThat(functionCounter("simplix.cache.gets", "result", "hit").count()).isEqualTo(2);
+        assertThat(functionCounter("simplix.cache.gets", "result", "miss").count()).isEqualTo(1);
+        assertThat(registry.get("simplix.cache.puts").tag("cache", "users").functionCounter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should publish reads of absent-value markers as negative gets, not hits")
+    void shouldPublishNegativeHits() {
+        CacheProperties properties = new CacheProperties();
+        properties.setNegativeTtlSeconds(30);
+        CacheService service = new CacheService(strategy, properties);
+        new CacheMetrics(strategy, registry, false);
+
+        service.getOrCompute("users", "u1", () -> null, String.class);
+        service.getOrCompute("users", "u1", () -> null, String.class);
+
+        assertThat(functionCounter("simplix.cache.gets", "result", "negative").count()).isEqualTo(1);
+        assertThat(functionCounter("simplix.cache.gets", "result", "hit").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("should record load latency and failures")
+    void shouldRecordLoadLatency() {
+        new CacheMetrics(strategy, registry, true);
+
+        strategy.getOrCompute("users", "u1", () -> "alice", String.class);
+        strategy.getOrCompute("users", "u2", () -> {
+            throw new IllegalStateException("boom");
+        }, String.class);
+
+        Timer loadTimer = registry.get("simplix.cache.latency")
+            .tag("cache", "users")
+            .tag("operation", "load")
+            .timer();
+        assertThat(loadTimer.count()).isEqualTo(2);
+        assertThat(functionCounter("simplix.cache.loads", "result", "success").count()).isEqualTo(1);
+        assertThat(functionCounter("simplix.cache.loads", "result", "failure").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should register meters of caches counted before binding")
+    void shouldRegisterExistingCaches() {
+        strategy.get("users", "u1", String.class);
+
+        new CacheMetrics(strategy, registry, false);
+
+        assertThat(functionCounter("simplix.cache.gets", "result", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should publish off-heap usage of a local strategy with an off-heap tier")
+    void shouldPublishOffHeapUsage() {
+        CacheProperties properties = new CacheProperties();
+        properties.getOffHeap().setEnabled(true);
+        properties.getOffHeap().setCapacityBytes(64 * 1024);
+        properties.getOffHeap().setBlockSizeBytes(1024);
+        properties.getOffHeap().setThresholdBytes(1024);
+        LocalCacheStrategy offHeapStrategy = new LocalCacheStrategy(properties, List.of(),
+            new CacheValueSerializer(properties, new ObjectMapper()));
+        new CacheMetrics(offHeapStrategy, registry, false);
+
+        offHeapStrategy.put("reports", "r1", "r".repeat(2000));
+
+        assertThat(registry.get("simplix.cache.off-heap.capacity").gauge().value()).isEqualTo(64 * 1024);
+        assertThat(registry.get("simplix.cache.off-heap.used").gauge().value()).isEqualTo(2 * 1024);
+        assertThat(registry.get("simplix.cache.off-heap.entries").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("simplix.cache.off-heap.rejected").functionCounter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("should be a no-op without a registry or counters")
+    void shouldBeNoOpWithoutRegistryOrCounters() {
+        assertThatCode(() -> {
+            new CacheMetrics(strategy, null, true);
+            new CacheMetrics(mock(CacheStrategy.class), registry, true);
+            strategy.get("users", "u1", String.class);
+        }).doesNotThrowAnyException();
+
+        assertThat(registry.getMeters()).isEmpty();
+    }
+
+    private FunctionCounter functionCounter(String name, String tagKey, String tagValue) {
+        return registry.get(name).tag("cache", "users").tag(tagKey, tagValue).functionCounter();
+    }
+}
@@ -0,0 +1,175 @@
+package dev.simplecore.simplix.cache.invalidation;
+
+import io.nats.client.Connection;
+import io.nats.client.Dispatcher;
+import io.nats.client.Message;
+import io.nats.client.MessageHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("CacheInvalidationBroadcaster")
+class CacheInvalidationBroadcasterTest {
+
+    @Nested
+    @DisplayName("message encoding")
+    class Encoding {
+
+        @Test
+        @DisplayName("should round-trip evict message")
+        void shouldRoundTripEvict() {
+            CacheInvalidationMessage message = CacheInvalidationMessage.evict("node-1", "users", 42L);
+
+            CacheInvalidationMessage decoded = CacheInvalidationMessage.decode(message.encodeBytes());
+
+            assertThat(decoded).isEqualTo(new CacheInvalidationMessage("node-1", "users", "42"));
+            assertThat(decoded.isClear()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should round-trip clear message")
+        void shouldRoundTripClear() {
+            CacheInvalidationMessage decoded = CacheInvalidationMessage.decode(
+                    CacheInvalidationMessage.clear("node-1", "users").encode());
+
+            assertThat(decoded.isClear()).isTrue();
+            assertThat(decoded.cacheName()).isEqualTo("users");
+        }
+
+        @Test
+        @DisplayName("should round-trip clear-all message")
+        void shouldRoundTripClearAll() {
+            CacheInvalidationMessage decoded = CacheInvalidationMessage.decode(
+                    CacheInvalidationMessage.clearAll("node-1").encode());
+
+            assertThat(decoded.isClearAll()).isTrue();
+            assertThat(decoded.isClear()).isFalse();
+            assertThat(decoded.origin()).isEqualTo("node-1");
+        }
+
+        @Test
+        @DisplayName("should distinguish empty key from clear")
+        void shouldKeepEmptyKey() {
+            CacheInvalidationMessage decoded = CacheInvalidationMessage.decode(
+                    CacheInvalidationMessage.evict("node-1", "users", "").encode());
+
+            assertThat(decoded.isClear()).isFalse();
+            assertThat(decoded.key()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should reject malformed payload")
+        void shouldRejectMalformed() {
+            assertThatThrownBy(() -> CacheInvalidationMessage.decode("garbage"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("in-memory hub")
+    class InMemory {
+
+        @Test
+        @DisplayName("should deliver to peers but not to the publisher")
+        void shouldSkipSelfDelivery() {
+            InMemoryCacheInvalidationBroadcaster nodeA = new InMemoryCacheInvalidationBroadcaster();
+            InMemoryCacheInvalidationBroadcaster nodeB = nodeA.newPeer();
+            List<CacheInvalidationMessage> receivedA = new ArrayList<>();
+            List<CacheInvalidationMessage> receivedB = new ArrayList<>();
+            nodeA.subscribe(receivedA::add);
+            nodeB.subscribe(receivedB::add);
+
+            nodeA.publishEvict("users", "u1");
+
+            assertThat(receivedA).isEmpty();
+            assertThat(receivedB).extracting(CacheInvalidationMessage::key).containsExactly("u1");
+        }
+
+        @Test
+        @DisplayName("should stop delivering after close")
+        void shouldStopAfterClose() {
+            InMemoryCacheInvalidationBroadcaster nodeA = new InMemoryCacheInvalidationBroadcaster();
+            InMemoryCacheInvalidationBroadcaster nodeB = nodeA.newPeer();
+            List<CacheInvalidationMessage> receivedB = new ArrayList<>();
+            nodeB.subscribe(receivedB::add);
+
+            nodeB.close();
+            nodeA.publishClear("users");
+
+            assertThat(receivedB).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("NATS transport")
+    class Nats {
+
+        @Test
+        @DisplayName("should publish encoded message on the configured subject")
+        void shouldPublish() {
+            Connection connection = mock(Connection.class);
+            NatsCacheInvalidationBroadcaster broadcaster =
+                    new NatsCacheInvalidationBroadcaster(connection, "cache.inv");
+
+            broadcaster.publishEvict("users", "u1");
+
+            ArgumentCaptor<byte[]> payload = ArgumentCaptor.forClass(byte[].class);
+            verify(connection).publish(eq("cache.inv"), payload.capture());
+            assertThat(CacheInvalidationMessage.decode(payload.getValue()).key()).isEqualTo("u1");
+        }
+
+        @Test
+        @DisplayName("should dispatch messages from other nodes to listeners")
+        void shouldDispatchReceived() throws Exception {
+            Connection connection = mock(Connection.class);
+            Dispatcher dispatcher = mock(Dispatcher.class);
+            ArgumentCaptor<MessageHandler> handler = ArgumentCaptor.forClass(MessageHandler.class);
+            when(connection.createDispatcher(handler.capture())).thenReturn(dispatcher);
+
+            NatsCacheInvalidationBroadcaster broadcaster =
+                    new NatsCacheInvalidationBroadcaster(connection, "cache.inv");
+            List<CacheInvalidationMessage> received = new ArrayList<>();
+            broadcaster.subscribe(received::add);
+            verify(dispatcher).subscribe("cache.inv");
+
+            Message fromPeer = mock(Message.class);
+            when(fromPeer.getData()).thenReturn(
+                    CacheInvalidationMessage.evict("other-node", "users", "u1").encodeBytes());
+            Message fromSelf = mock(Message.class);
+            when(fromSelf.getData()).thenReturn(
+                    CacheInvalidationMessage.evict(broadcaster.getNodeId(), "users", "u2").encodeBytes());
+
+            handler.getValue().onMessage(fromPeer);
+            handler.getValue().onMessage(fromSelf);
+
+            assertThat(received).extracting(CacheInvalidationMessage::key).containsExactly("u1");
+        }
+
+        @Test
+        @DisplayName("should close the dispatcher")
+        void shouldCloseDispatcher() {
+            Connection connection = mock(Connection.class);
+            Dispatcher dispatcher = mock(Dispatcher.class);
+            when(connection.createDispatcher(any(MessageHandler.class))).thenReturn(dispatcher);
+
+            NatsCacheInvalidationBroadcaster broadcaster =
+                    new NatsCacheInvalidationBroadcaster(connection, "cache.inv");
+            broadcaster.subscribe(message -> { });
+            broadcaster.close();
+
+            verify(connection).closeDispatcher(dispatcher);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package dev.simplecore.simplix.cache.provider;
+
+import dev.simplecore.simplix.cache.config.CacheProperties;
+import dev.simplecore.simplix.cache.invalidation.InMemoryCacheInvalidationBroadcaster;
+import dev.simplecore.simplix.cache.strategy.LocalCacheStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Simulates two nodes sharing one remote tier. The "remote" tier is an in-memory
+ * LocalCacheStrategy and the broadcast goes through an in-process hub.
+ */
+@DisplayName("TieredCacheProvider")
+class TieredCacheProviderTest {
+
+    private static final String CACHE = "users";
+
+    private LocalCacheStrategy remote;
+    private LocalCacheStrategy localA;
+    private LocalCacheStrategy localB;
+    private TieredCacheProvider nodeA;
+    private TieredCacheProvider nodeB;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties properties = new CacheProperties();
+        remote = new LocalCacheStrategy();
+        localA = new LocalCacheStrategy();
+        localB = new LocalCacheStrategy();
+
+        InMemoryCacheInvalidationBroadcaster broadcasterA = new InMemoryCacheInvalidationBroadcaster();
+        InMemoryCacheInvalidationBroadcaster broadcasterB = broadcasterA.newPeer();
+
+        nodeA = new TieredCacheProvider(localA, remote, broadcasterA, properties);
+        nodeB = new TieredCacheProvider(localB, remote, broadcasterB, properties);
+    }
+
+    @Nested
+    @DisplayName("reads")
+    class Reads {
+
+        @Test
+        @DisplayName("should serve value written by another node from the remote tier")
+        void shouldReadThroughRemoteTier() {
+            nodeA.put(CACHE, "u1", "alice");
+
+            assertThat(nodeB.get(CACHE, "u1", String.class)).contains("alice");
+            assertThat(localB.exists(CACHE, "u1")).isTrue();
+        }
+
+        @Test
+        @DisplayName("should serve local hit without touching the remote tier")
+        void shouldServeLocalHit() {
+            nodeA.put(CACHE, "u1", "alice");
+            remote.evict(CACHE, "u1");
+
+            assertThat(nodeA.get(CACHE, "u1", String.class)).contains("alice");
+        }
+
+        @Test
+        @DisplayName("should normalise non-string keys in the local tier")
+        void shouldNormaliseKeys() {
+            nodeA.put(CACHE, 42L, "alice");
+
+            assertThat(localA.exists(CACHE, "42")).isTrue();
+            assertThat(nodeA.get(CACHE, 42L, String.class)).contains("alice");
+        }
+    }
+
+    @Test
+    @DisplayName("should expire local copies after the tiered local TTL")
+    void shouldExpireLocalTierAfterLocalTtl() throws InterruptedException {
+        CacheProperties properties = new CacheProperties();
+        properties.getTiered().setLocalTtlSeconds(1);
+        LocalCacheStrategy local = new LocalCacheStrategy();
+        TieredCacheProvider node = new TieredCacheProvider(local, remote,
+            new InMemoryCacheInvalidationBroadcaster(), properties);
+
+        node.put(CACHE, "u1", "alice", Duration.ofHours(1));
+        assertThat(local.exists(CACHE, "u1")).isTrue();
+
+        Thread.sleep(1100);
+
+        assertThat(local.exists(CACHE, "u1")).isFalse();
+        assertThat(remote.exists(CACHE, "u1")).isTrue();
+    }
+
+    @Nested
+    @DisplayName("invalidation")
+    class Invalidation {
+
+        @Test
+        @DisplayName("should drop peer local copy when a node overwrites a key")
+        void shouldInvalidatePeerOnPut() {
+            nodeA.put(CACHE, "u1", "alice");
+            nodeB.get(CACHE, "u1", String.class);
+
+            nodeA.put(CACHE, "u1", "alice-v2");
+
+            assertThat(localB.exists(CACHE, "u1")).isFalse();
+            assertThat(nodeB.get(CACHE, "u1", String.class)).contains("alice-v2");
+        }
+
+        @Test
+        @DisplayName("should drop peer local copy on evict")
+        void shouldInvalidatePeerOnEvict() {
+            nodeA.put(CACHE, "u1", "alice");
+            nodeB.get(CACHE, "u1", String.class);
+
+            nodeA.evict(CACHE, "u1");
+
+            assertThat(nodeB.get(CACHE, "u1", String.class)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should clear peer local tier on clear")
+        void shouldInvalidatePeerOnClear() {
+            nodeA.put(CACHE, "u1", "alice");
+            nodeA.put(CACHE, "u2", "bob");
+            nodeB.get(CACHE, "u1", String.class);
+            nodeB.get(CACHE, "u2", String.class);
+
+            nodeA.clear(CACHE);
+
+            assertThat(localB.getKeys(CACHE)).isEmpty();
+            assertThat(nodeB.exists(CACHE, "u1")).isFalse();
+        }
+
+        @Test
+        @DisplayName("should keep own local copy after own write")
+        void shouldKeepOwnLocalCopy() {
+            nodeA.put(CACHE, "u1", "alice");
+
+            assertThat(localA.exists(CACHE, "u1")).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("getOrCompute")
+    class GetOrCompute {
+
+        @Test
+        @DisplayName("should load once and share the value with the other node")
+        void shouldLoadOnce() {
+            AtomicInteger loads = new AtomicInteger();
+
+            String first = nodeA.getOrCompute(CACHE, "u1", () -> {
+                loads.incrementAndGet();
+                return "alice";
+            }, String.class);
+            String second = nodeB.getOrCompute(CACHE, "u1", () -> {
+                loads.incrementAndGet();
+                return "other";
+            }, String.class);
+
+            assertThat(first).isEqualTo("alice");
+            assertThat(second).isEqualTo("alice");
+            assertThat(loads.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should not cache null results")
+        void shouldNotCacheNull() {
+            assertThat(nodeA.getOrCompute(CACHE, "u1", () -> null, String.class)).isNull();
+            assertThat(nodeA.get(CACHE, "u1", String.class)).isEqualTo(Optional.empty());
+        }
+    }
+
+    @Test
+    @DisplayName("should report tier names and outrank the single-tier provider")
+    void shouldDescribeProvider() {
+        assertThat(nodeA.getName()).isEqualTo("Tiered-LocalCacheStrategy+LocalCacheStrategy");
+        assertThat(nodeA.getPriority()).isGreaterThan(100);
+        assertThat(nodeA.isAvailable()).isTrue();
+    }
+}
@@ -1,17 +1,36 @@
 package dev.simplecore.simplix.cache.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.simplecore.simplix.cache.codec.CacheValueSerializer;
+import dev.simplecore.simplix.cache.config.CacheProperties;
 import dev.simplecore.simplix.cache.service.CacheService;
 import dev.simplecore.simplix.cache.strategy.CacheStrategy;
+import dev.simplecore.simplix.cache.strategy.LocalCacheStrategy;
+import dev.simplecore.simplix.cache.strategy.SingleFlight;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.*;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -199,6 +218,7 @@ class CacheServiceTest {
         CacheStrategy.CacheStatistics stats = new CacheStrategy.CacheStatistics(
             20L,    // hits
             10L,    // misses
+            0L,     // negative hits
             5L,     // evictions
             30L,    // puts
             3L,     // removals
@@ -232,6 +252,18 @@ class CacheServiceTest {
         verify(cacheStrategy).getName();
     }
 
+    @Test
+    @DisplayName("Should delegate tagged put and tag eviction to strategy")
+    void shouldDelegateTagsToStrategy() {
+        Duration ttl = Duration.ofMinutes(5);
+
+        cacheService.put(CACHE_NAME, "key1", "value1", ttl, List.of("tenant:1"));
+        cacheService.evictByTag(CACHE_NAME, "tenant:1");
+
+        verify(cacheStrategy).put(CACHE_NAME, "key1", "value1", ttl, List.of("tenant:1"));
+        verify(cacheStrategy).evictByTag(CACHE_NAME, "tenant:1");
+    }
+
     @Test
     @DisplayName("Should check availability")
     void shouldCheckAvailability() {
@@ -242,4 +274,345 @@ class CacheServiceTest {
         assertThat(available).isTrue();
         verify(cacheStrategy).isAvailable();
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("refresh-ahead and stale-while-revalidate")
+    class BackgroundRefresh {
+
+        private static final String REFRESH_CACHE = "products";
+
+        private final MutableClock clock = new MutableClock();
+        private final List<Runnable> pendingRefreshes = new ArrayList<>();
+        private LocalCacheStrategy strategy;
+        private CacheService service;
+
+        @BeforeEach
+        void setUpRefresh() {
+            CacheProperties properties = new CacheProperties();
+            CacheProperties.CacheConfig config = new CacheProperties.CacheConfig(100L);
+            config.setRefreshAheadFraction(0.2);
+            config.setStaleWhileRevalidateSeconds(50L);
+            properties.getCacheConfigs().put(REFRESH_CACHE, config);
+
+            strategy = new LocalCacheStrategy();
+            service = new CacheService(strategy, properties, clock, pendingRefreshes::add);
+        }
+
+        @Test
+        @DisplayName("should load on miss and serve fresh entries without refreshing")
+        void shouldServeFreshEntries() {
+            AtomicInteger loads = new AtomicInteger();
+
+            assertThat(service.getOrCompute(REFRESH_CACHE, "p1", () -> "v" + loads.incrementAndGet(), String.class))
+                .isEqualTo("v1");
+            clock.advanceSeconds(79);
+            assertThat(service.getOrCompute(REFRESH_CACHE, "p1", () -> "v" + loads.incrementAndGet(), String.class))
+                .isEqualTo("v1");
+
+            assertThat(pendingRefreshes).isEmpty();
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("should refresh in the background when read within the refresh-ahead window")
+        void shouldRefreshAhead() {
+            service.getOrCompute(REFRESH_CACHE, "p1", () -> "v1", String.class);
+            clock.advanceSeconds(85);
+
+            assertThat(service.getOrCompute(REFRESH_CACHE, "p1", () -> "v2", String.class)).isEqualTo("v1");
+            assertThat(service.getOrCompute(REFRESH_CACHE, "p1", () -> "v3", String.class)).isEqualTo("v1");
+            assertThat(pendingRefreshes).hasSize(1);
+
+            pendingRefreshes.get(0).run();
+
+            assertThat(service.getOrCompute(REFRESH_CACHE, "p1", () -> "v4", String.class)).isEqualTo("v2");
+            assertThat(service.getRefreshStatistics().refreshes()).isEqualTo(1);
+            assertThat(service.getRefreshStatistics().pending()).isZero();
+        }
+
+        @Test
+        @DisplayName("should serve the stale value past its TTL while revalidating")
+        void shouldServeStaleWhileRevalidating() {
+            service.getOrCompute(REFRESH_CACHE, "p1", () -> "v1", String.class);
+            clock.advanceSeconds(120);
+
+            assertThat(service.getOrCompute(REFRESH_CACHE, "p1", () -> "v2", String.class)).isEqualTo("v1");
+            pendingRefreshes.forEach(Runnable::run);
+
+            assertThat(service.get(REFRESH_CACHE, "p1", String.class)).contains("v2");
+        }
+
+        @Test
+        @DisplayName("should load synchronously once past the stale window")
+        void shouldReloadPastStaleWindow() {
+            service.getOrCompute(REFRESH_CACHE, "p1", () -> "v1", String.class);
+            clock.advanceSeconds(151);
+
+            assertThat(service.getOrCompute(REFRESH_CACHE, "p1", () -> "v2", String.class)).isEqualTo("v2");
+            assertThat(pendingRefreshes).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should share one load among readers past the stale window")
+        void shouldCoalesceReloadsPastStaleWindow() throws Exception {
+            service.getOrCompute(REFRESH_CACHE, "p1", () -> "v1", String.class);
+            clock.advanceSeconds(151);
+            SingleFlight reloads = (SingleFlight) ReflectionTestUtils.getField(service, "reloads");
+            AtomicInteger loads = new AtomicInteger();
+            CountDownLatch releaseLoader = new CountDownLatch(1);
+            int readers = 4;
+            ExecutorService executor = Executors.newFixedThreadPool(readers);
+            try {
+                List<Future<String>> results = new ArrayList<>();
+                for (int i = 0; i < readers; i++) {
+                    results.add(executor.submit(() -> service.getOrCompute(REFRESH_CACHE, "p1", () -> {
+                        loads.incrementAndGet();
+                        releaseLoader.await();
+                        return "v2";
+                    }, String.class)));
+                }
+                while (reloads.getStatistics().coalescedLoads() < readers - 1) {
+                    Thread.sleep(1);
+                }
+                releaseLoader.countDown();
+
+                for (Future<String> result : results) {
+                    assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("v2");
+                }
+                assertThat(loads).hasValue(1);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("should keep serving the old value when a refresh fails")
+        void shouldKeepOldValueWhenRefreshFails() {
+            service.getOrCompute(REFRESH_CACHE, "p1", () -> "v1", String.class);
+            clock.advanceSeconds(90);
+
+            service.getOrCompute(REFRESH_CACHE, "p1", () -> {
+                throw new IllegalStateException("database down");
+            }, String.class);
+            pendingRefreshes.forEach(Runnable::run);
+
+            assertThat(service.get(REFRESH_CACHE, "p1", String.class)).contains("v1");
+            assertThat(service.getRefreshStatistics().pending()).isZero();
+        }
+
+        @Test
+        @DisplayName("should count refreshes skipped by a full queue")
+        void shouldCountSkippedRefreshes() {
+            CacheProperties properties = new CacheProperties();
+            CacheProperties.CacheConfig config = new CacheProperties.CacheConfig(100L);
+            config.setRefreshAheadFraction(0.5);
+            properties.getCacheConfigs().put(REFRESH_CACHE, config);
+            CacheService rejecting = new CacheService(strategy, properties, clock, runnable -> {
+                throw new RejectedExecutionException("full");
+            });
+            rejecting.put(REFRESH_CACHE, "p1", "v1");
+            clock.advanceSeconds(60);
+
+            assertThat(rejecting.getOrCompute(REFRESH_CACHE, "p1", () -> "v2", String.class)).isEqualTo("v1");
+            assertThat(rejecting.getRefreshStatistics().skippedRefreshes()).isEqualTo(1);
+            assertThat(rejecting.getRefreshStatistics().pending()).isZero();
+        }
+
+        @Test
+        @DisplayName("should read the value and its write time in one strategy call")
+        void shouldReadWriteTimeWithValue() {
+            CacheService mocked = new CacheService(cacheStrategy, properties(), clock, pendingRefreshes::add);
+            when(cacheStrategy.get(eq(REFRESH_CACHE), eq("p1"), any()))
+                .thenReturn(Optional.of(new CacheService.StampedValue("v1", clock.millis())));
+
+            assertThat(mocked.getOrCompute(REFRESH_CACHE, "p1", () -> "v2", String.class)).isEqualTo("v1");
+
+            verify(cacheStrategy, times(1)).get(anyString(), any(), any());
+            verify(cacheStrategy, never()).put(anyString(), any(), any(), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("should unwrap stamped values for get and getAll")
+        void shouldUnwrapStampedValues() {
+            service.put(REFRESH_CACHE, "p1", "v1");
+            service.putAll(REFRESH_CACHE, Map.of("p2", "v2"));
+
+            assertThat(service.get(REFRESH_CACHE, "p1", String.class)).contains("v1");
+            assertThat(service.getAll(REFRESH_CACHE, String.class)).containsOnly(
+                entry("p1", "v1"), entry("p2", "v2"));
+            assertThat(strategy.get(REFRESH_CACHE, "p1", Object.class)).get()
+                .isInstanceOf(CacheService.StampedValue.class);
+        }
+
+        @Test
+        @DisplayName("should store values without class names and convert them to the requested type")
+        void shouldRoundTripThroughJson() throws Exception {
+            CacheValueSerializer serializer = new CacheValueSerializer(new CacheProperties(), new ObjectMapper());
+            Product product = new Product("p1", 42L);
+
+            byte[] bytes = serializer.serialize(REFRESH_CACHE, new CacheService.StampedValue(product, clock.millis()));
+            CacheService.StampedValue decoded = serializer.deserialize(bytes, CacheService.StampedValue.class);
+
+            assertThat(new String(bytes, StandardCharsets.UTF_8))
+                .doesNotContain("@class")
+                .doesNotContain(Product.class.getName());
+            CacheService mocked = new CacheService(cacheStrategy, properties(), clock, pendingRefreshes::add);
+            when(cacheStrategy.get(eq(REFRESH_CACHE), eq("p1"), any())).thenReturn(Optional.of(decoded));
+            assertThat(mocked.get(REFRESH_CACHE, "p1", Product.class)).contains(product);
+            assertThat(mocked.getOrCompute(REFRESH_CACHE, "p1", () -> null, Product.class)).isEqualTo(product);
+        }
+
+        private CacheProperties properties() {
+            CacheProperties properties = new CacheProperties();
+            CacheProperties.CacheConfig config = new CacheProperties.CacheConfig(100L);
+            config.setRefreshAheadFraction(0.2);
+            properties.getCacheConfigs().put(REFRESH_CACHE, config);
+            return properties;
+        }
+    }
+
+    @Nested
+    @DisplayName("negative caching")
+    class NegativeCaching {
+
+        private static final String NEGATIVE_CACHE = "users";
+
+        private LocalCacheStrategy strategy;
+        private CacheService service;
+
+        @BeforeEach
+        void setUpNegativeCaching() {
+            CacheProperties properties = new CacheProperties();
+            CacheProperties.CacheConfig config = new CacheProperties.CacheConfig(600L);
+            config.setNegativeTtlSeconds(30L);
+            properties.getCacheConfigs().put(NEGATIVE_CACHE, config);
+
+            strategy = new LocalCacheStrategy();
+            service = new CacheService(strategy, properties);
+        }
+
+        @Test
+        @DisplayName("should not call the loader again for a key known to be absent")
+        void shouldRememberAbsentKeys() {
+            AtomicInteger loads = new AtomicInteger();
+            Callable<String> loader = () -> {
+                loads.incrementAndGet();
+                return null;
+            };
+
+            assertThat(service.getOrCompute(NEGATIVE_CACHE, "missing", loader, String.class)).isNull();
+            assertThat(service.getOrCompute(NEGATIVE_CACHE, "missing", loader, String.class)).isNull();
+            assertThat(service.getOrCompute(NEGATIVE_CACHE, "missing", loader, String.class, Duration.ofMinutes(1)))
+                .isNull();
+
+            assertThat(loads).hasValue(1);
+            assertThat(service.getNegativeCacheStatistics(NEGATIVE_CACHE))
+                .isEqualTo(new CacheService.NegativeCacheStatistics(2, 1));
+            assertThat(service.exists(NEGATIVE_CACHE, "missing")).isFalse();
+        }
+
+        @Test
+        @DisplayName("should count marker reads as negative hits, not hits")
+        void shouldCountMarkerReadsAsNegativeHits() {
+            service.getOrCompute(NEGATIVE_CACHE, "missing", () -> null, String.class);
+            service.put(NEGATIVE_CACHE, "u1", "alice");
+
+            service.getOrCompute(NEGATIVE_CACHE, "missing", () -> null, String.class);
+            assertThat(service.get(NEGATIVE_CACHE, "missing", String.class)).isEmpty();
+            assertThat(service.get(NEGATIVE_CACHE, "u1", String.class)).contains("alice");
+
+            CacheStrategy.CacheStatistics stats = service.getStatistics(NEGATIVE_CACHE);
+            assertThat(stats.hits()).isEqualTo(1);
+            assertThat(stats.negativeHits()).isEqualTo(2);
+            assertThat(stats.hitRate()).isEqualTo((double) stats.hits() / (stats.hits() + stats.misses()));
+        }
+
+        @Test
+        @DisplayName("should store the marker with the negative TTL in the value cache")
+        void shouldStoreMarkerWithNegativeTtl() {
+            CacheProperties properties = new CacheProperties();
+            properties.setNegativeTtlSeconds(30);
+            CacheService mocked = new CacheService(cacheStrategy, properties);
+            when(cacheStrategy.get(anyString(), any(), any())).thenReturn(Optional.empty());
+
+            mocked.getOrCompute(CACHE_NAME, "missing", () -> null, String.class);
+
+            verify(cacheStrategy).put(eq(CACHE_NAME), eq("missing"),
+                argThat(value -> value instanceof CacheService.StampedValue stamped && stamped.value() == null),
+                eq(Duration.ofSeconds(30)));
+            verify(cacheStrategy, times(1)).get(anyString(), any(), any());
+        }
+
+        @Test
+        @DisplayName("should load again once the key is written")
+        void shouldForgetAbsenceOnPut() {
+            service.getOrCompute(NEGATIVE_CACHE, "u1", () -> null, String.class);
+
+            service.put(NEGATIVE_CACHE, "u1", "alice");
+
+            assertThat(service.exists(NEGATIVE_CACHE, "u1")).isTrue();
+            assertThat(service.getOrCompute(NEGATIVE_CACHE, "u1", () -> "bob", String.class)).isEqualTo("alice");
+        }
+
+        @Test
+        @DisplayName("should load again after the key is evicted")
+        void shouldForgetAbsenceOnEvict() {
+            service.getOrCompute(NEGATIVE_CACHE, "u1", () -> null, String.class);
+
+            service.evict(NEGATIVE_CACHE, "u1");
+
+            assertThat(service.getOrCompute(NEGATIVE_CACHE, "u1", () -> "alice", String.class)).isEqualTo("alice");
+        }
+
+        @Test
+        @DisplayName("should leave caches without a negative TTL untouched")
+        void shouldNotCacheAbsenceByDefault() {
+            AtomicInteger loads = new AtomicInteger();
+            CacheService plain = new CacheService(strategy, new CacheProperties());
+
+            plain.getOrCompute("other", "missing", () -> {
+                loads.incrementAndGet();
+                return null;
+            }, String.class);
+            plain.getOrCompute("other", "missing", () -> {
+                loads.incrementAndGet();
+                return null;
+            }, String.class);
+
+            assertThat(loads).hasValue(2);
+            assertThat(strategy.exists("other", "missing")).isFalse();
+        }
+    }
+
+    record Product(String id, long price) {
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private long millis = 1_700_000_000_000L;
+
+        void advanceSeconds(long seconds) {
+            millis += seconds * 1000;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
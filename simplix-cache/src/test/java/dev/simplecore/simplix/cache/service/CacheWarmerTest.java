@@ -0,0 +1,167 @@
+package dev.simplecore.simplix.cache.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.simplecore.simplix.cache.config.CacheProperties;
+import dev.simplecore.simplix.cache.invalidation.InMemoryCacheInvalidationBroadcaster;
+import dev.simplecore.simplix.cache.strategy.CacheStrategy;
+import dev.simplecore.simplix.cache.strategy.LocalCacheStrategy;
+import dev.simplecore.simplix.cache.strategy.NearCacheStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CacheWarmer")
+class CacheWarmerTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    private CacheProperties properties;
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CacheProperties();
+        properties.getWarmUp().setEnabled(true);
+        properties.getWarmUp().setSnapshotPath(tempDir.resolve("snapshot.json").toString());
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    }
+
+    @Nested
+    @DisplayName("local strategy")
+    class LocalStrategyTest {
+
+        @Test
+        @DisplayName("should restore saved values with their remaining TTL")
+        void shouldRestoreValuesFromSnapshot() {
+            LocalCacheStrategy before = new LocalCacheStrategy();
+            before.put("users", "u1", "alice", Duration.ofMinutes(10));
+            before.put("users", "u2", 42L, Duration.ofMinutes(10));
+            warmer(before, NOW).saveSnapshot();
+
+            LocalCacheStrategy after = new LocalCacheStrategy();
+            CacheWarmer.WarmUpResult result = warmer(after, NOW.plusSeconds(60)).restore();
+
+            assertThat(result.restored()).isEqualTo(2);
+            assertThat(after.get("users", "u1", String.class)).contains("alice");
+            assertThat(after.get("users", "u2", Long.class)).contains(42L);
+        }
+
+        @Test
+        @DisplayName("should save at most the configured number of entries per cache")
+        void shouldLimitEntriesPerCache() throws Exception {
+            properties.getWarmUp().setHottestKeysPerCache(2);
+            LocalCacheStrategy before = new LocalCacheStrategy();
+            for (int i = 0; i < 5; i++) {
+                before.put("users", "u" + i, "user-" + i);
+            }
+            warmer(before, NOW).saveSnapshot();
+
+            CacheWarmer.Snapshot snapshot = objectMapper.readValue(
+                Path.of(properties.getWarmUp().getSnapshotPath()).toFile(), CacheWarmer.Snapshot.class);
+            assertThat(snapshot.caches().get("users")).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("should skip entries that expired since the snapshot")
+        void shouldSkipExpiredEntries() {
+            LocalCacheStrategy before = new LocalCacheStrategy();
+            before.put("users", "u1", "alice", Duration.ofSeconds(30));
+            warmer(before, NOW).saveSnapshot();
+
+            LocalCacheStrategy after = new LocalCacheStrategy();
+            CacheWarmer.WarmUpResult result = warmer(after, NOW.plusSeconds(60)).restore();
+
+            assertThat(result.restored()).isZero();
+            assertThat(result.missed()).isEqualTo(1);
+            assertThat(after.exists("users", "u1")).isFalse();
+        }
+
+        @Test
+        @DisplayName("should not save collection values")
+        void shouldSkipCollectionValues() {
+            LocalCacheStrategy before = new LocalCacheStrategy();
+            before.put("users", "all", List.of("alice", "bob"));
+            warmer(before, NOW).saveSnapshot();
+
+            LocalCacheStrategy after = new LocalCacheStrategy();
+            assertThat(warmer(after, NOW).restore().restored()).isZero();
+        }
+
+        @Test
+        @DisplayName("should ignore a snapshot older than the maximum age")
+        void shouldIgnoreStaleSnapshot() {
+            LocalCacheStrategy before = new LocalCacheStrategy();
+            before.put("users", "u1", "alice");
+            warmer(before, NOW).saveSnapshot();
+
+            LocalCacheStrategy after = new LocalCacheStrategy();
+            CacheWarmer.WarmUpResult result = warmer(after, NOW.plusSeconds(7200)).restore();
+
+            assertThat(result.restored()).isZero();
+            assertThat(after.exists("users", "u1")).isFalse();
+        }
+
+        @Test
+        @DisplayName("should complete immediately without a snapshot")
+        void shouldCompleteWithoutSnapshot() {
+            CacheWarmer warmer = warmer(new LocalCacheStrategy(), NOW);
+            assertThat(warmer.isComplete()).isFalse();
+
+            warmer.restore();
+
+            assertThat(warmer.isComplete()).isTrue();
+            assertThat(warmer.getResult()).isPresent();
+            assertThat(Files.exists(Path.of(properties.getWarmUp().getSnapshotPath()))).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("near strategy")
+    class NearStrategyTest {
+
+        @Test
+        @DisplayName("should reload saved keys from the remote tier")
+        void shouldReloadKeysFromRemoteTier() {
+            LocalCacheStrategy remote = new LocalCacheStrategy();
+            NearCacheStrategy before = nearCache(remote);
+            before.put("products", "p1", "apple");
+            before.put("products", "p2", "banana");
+            warmer(before, NOW).saveSnapshot();
+
+            remote.put("products", "p1", "apple v2");
+            remote.evict("products", "p2");
+            NearCacheStrategy after = nearCache(remote);
+            CacheWarmer.WarmUpResult result = warmer(after, NOW).restore();
+
+            assertThat(result.restored()).isEqualTo(1);
+            assertThat(result.missed()).isEqualTo(1);
+            assertThat(after.getLocalTier().get("products", "p1", String.class)).contains("apple v2");
+            assertThat(after.getLocalTier().exists("products", "p2")).isFalse();
+        }
+
+        private NearCacheStrategy nearCache(LocalCacheStrategy remote) {
+            return new NearCacheStrategy(new LocalCacheStrategy(100), remote,
+                new InMemoryCacheInvalidationBroadcaster(), new CacheProperties());
+        }
+    }
+
+    private CacheWarmer warmer(CacheStrategy strategy, Instant now) {
+        return new CacheWarmer(strategy, properties, objectMapper, Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
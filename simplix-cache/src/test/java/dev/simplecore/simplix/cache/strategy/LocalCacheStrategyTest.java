@@ -1,14 +1,19 @@
 package dev.simplecore.simplix.cache.strategy;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.simplecore.simplix.cache.codec.CacheValueSerializer;
+import dev.simplecore.simplix.cache.config.CacheProperties;
 import dev.simplecore.simplix.cache.strategy.CacheStrategy;
 import dev.simplecore.simplix.cache.strategy.LocalCacheStrategy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -226,7 +231,26 @@ class LocalCacheStrategyTest {
 
         assertThat(stats).isNotNull();
         assertThat(stats.size()).isEqualTo(1);
-        // Note: Hit/miss counts depend on Caffeine stats which may need recordStats() enabled
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.puts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should count loads and load failures of getOrCompute")
+    void shouldCountLoads() {
+        cacheStrategy.getOrCompute(CACHE_NAME, "key1", () -> "value1", String.class);
+        cacheStrategy.getOrCompute(CACHE_NAME, "key1", () -> "value2", String.class);
+        cacheStrategy.getOrCompute(CACHE_NAME, "key2", () -> {
+            throw new IllegalStateException("boom");
+        }, String.class);
+
+        CacheCounters.Snapshot counts = cacheStrategy.getCounters().orElseThrow().snapshot(CACHE_NAME);
+
+        assertThat(counts.hits()).isEqualTo(1);
+        assertThat(counts.misses()).isEqualTo(2);
+        assertThat(counts.loads()).isEqualTo(1);
+        assertThat(counts.loadFailures()).isEqualTo(1);
     }
 
     @Test
@@ -279,6 +303,303 @@ class LocalCacheStrategyTest {
         assertThat(cacheStrategy.get(CACHE_NAME, "objKey", TestObject.class)).contains(obj);
     }
 
+    @Nested
+    @DisplayName("tag eviction")
+    class TagEviction {
+
+        @Test
+        @DisplayName("should evict only entries put with the tag")
+        void shouldEvictOnlyTaggedEntries() {
+            cacheStrategy.put(CACHE_NAME, "k1", "v1", Duration.ofMinutes(5), List.of("tenant:1", "plan"));
+            cacheStrategy.put(CACHE_NAME, "k2", "v2", Duration.ofMinutes(5), List.of("tenant:2"));
+            cacheStrategy.put(CACHE_NAME, "k3", "v3");
+
+            cacheStrategy.evictByTag(CACHE_NAME, "tenant:1");
+
+            assertThat(cacheStrategy.exists(CACHE_NAME, "k1")).isFalse();
+            assertThat(cacheStrategy.exists(CACHE_NAME, "k2")).isTrue();
+            assertThat(cacheStrategy.exists(CACHE_NAME, "k3")).isTrue();
+        }
+
+        @Test
+        @DisplayName("should keep a key rewritten without the tag")
+        void shouldKeepKeyRewrittenWithoutTag() {
+            cacheStrategy.put(CACHE_NAME, "k1", "v1", Duration.ofMinutes(5), List.of("tenant:1"));
+            cacheStrategy.put(CACHE_NAME, "k1", "v2");
+
+            cacheStrategy.evictByTag(CACHE_NAME, "tenant:1");
+
+            assertThat(cacheStrategy.get(CACHE_NAME, "k1", String.class)).contains("v2");
+        }
+
+        @Test
+        @DisplayName("should be a no-op for an unknown tag")
+        void shouldIgnoreUnknownTag() {
+            cacheStrategy.put(CACHE_NAME, "k1", "v1");
+
+            cacheStrategy.evictByTag(CACHE_NAME, "missing");
+            cacheStrategy.evictByTag("otherCache", "missing");
+
+            assertThat(cacheStrategy.exists(CACHE_NAME, "k1")).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("per-cache configuration")
+    class PerCacheConfiguration {
+
+        private CacheProperties properties;
+        private AtomicLong nanos;
+        private LocalCacheStrategy strategy;
+
+        @BeforeEach
+        void setUp() {
+            properties = new CacheProperties();
+            nanos = new AtomicLong();
+            strategy = new LocalCacheStrategy(properties, 10000, List.of(new LengthWeigher()), nanos::get);
+        }
+
+        @Test
+        @DisplayName("should honour a different TTL per entry")
+        void shouldHonourPerEntryTtl() {
+            strategy.put(CACHE_NAME, "short", "a", Duration.ofSeconds(1));
+            strategy.put(CACHE_NAME, "long", "b", Duration.ofMinutes(10));
+
+            advance(Duration.ofSeconds(2));
+
+            assertThat(strategy.exists(CACHE_NAME, "short")).isFalse();
+            assertThat(strategy.exists(CACHE_NAME, "long")).isTrue();
+        }
+
+        @Test
+        @DisplayName("should use the configured TTL when none is given")
+        void shouldUseConfiguredTtl() {
+            properties.getCacheConfigs().put(CACHE_NAME, new CacheProperties.CacheConfig(30));
+
+            strategy.put(CACHE_NAME, "key", "value");
+            advance(Duration.ofSeconds(29));
+            assertThat(strategy.exists(CACHE_NAME, "key")).isTrue();
+
+            advance(Duration.ofSeconds(2));
+            assertThat(strategy.exists(CACHE_NAME, "key")).isFalse();
+        }
+
+        @Test
+        @DisplayName("should expire idle entries but never extend past the TTL")
+        void shouldExpireIdleEntries() {
+            CacheProperties.CacheConfig config = new CacheProperties.CacheConfig(60);
+            config.setExpireAfterAccessSeconds(10L);
+            properties.getCacheConfigs().put(CACHE_NAME, config);
+
+            strategy.put(CACHE_NAME, "idle", "a");
+            strategy.put(CACHE_NAME, "busy", "b");
+            for (int i = 0; i < 5; i++) {
+                advance(Duration.ofSeconds(8));
+                assertThat(strategy.get(CACHE_NAME, "busy", String.class)).contains("b");
+            }
+            assertThat(strategy.exists(CACHE_NAME, "idle")).isFalse();
+
+            // Read at 48s and 56s: still within the idle window, but the 60s TTL is a hard limit
+            advance(Duration.ofSeconds(8));
+            assertThat(strategy.exists(CACHE_NAME, "busy")).isTrue();
+            advance(Duration.ofSeconds(8));
+            assertThat(strategy.exists(CACHE_NAME, "busy")).isTrue();
+            advance(Duration.ofSeconds(5));
+            assertThat(strategy.exists(CACHE_NAME, "busy")).isFalse();
+        }
+
+        @Test
+        @DisplayName("should bound a cache by its configured maximum size")
+        void shouldBoundBySize() {
+            CacheProperties.CacheConfig config = new CacheProperties.CacheConfig();
+            config.setMaximumSize(10L);
+            properties.getCacheConfigs().put(CACHE_NAME, config);
+
+            for (int i = 0; i < 100; i++) {
+                strategy.put(CACHE_NAME, i, "value" + i);
+                strategy.put("otherCache", i, "value" + i);
+            }
+            strategy.cleanUp();
+
+            assertThat(strategy.getStatistics(CACHE_NAME).size()).isLessThanOrEqualTo(10);
+            assertThat(strategy.getStatistics(CACHE_NAME).evictions()).isGreaterThanOrEqualTo(90);
+            assertThat(strategy.getStatistics("otherCache").size()).isEqualTo(100);
+            assertThat(strategy.getStatistics("otherCache").evictions()).isZero();
+        }
+
+        @Test
+        @DisplayName("should bound a cache by total weight with the configured weigher")
+        void shouldBoundByWeight() {
+            CacheProperties.CacheConfig config = new CacheProperties.CacheConfig();
+            config.setMaximumWeight(1000L);
+            config.setWeigher(LengthWeigher.NAME);
+            properties.getCacheConfigs().put(CACHE_NAME, config);
+
+            for (int i = 0; i < 20; i++) {
+                strategy.put(CACHE_NAME, i, "x".repeat(100));
+            }
+            strategy.cleanUp();
+
+            assertThat(strategy.getStatistics(CACHE_NAME).size()).isLessThanOrEqualTo(10);
+            assertThat(strategy.getStatistics(CACHE_NAME).evictions()).isGreaterThanOrEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("should reject an unknown weigher")
+        void shouldRejectUnknownWeigher() {
+            CacheProperties.CacheConfig config = new CacheProperties.CacheConfig();
+            config.setMaximumWeight(1000L);
+            config.setWeigher("missing");
+            properties.getCacheConfigs().put(CACHE_NAME, config);
+
+            assertThatThrownBy(() -> strategy.put(CACHE_NAME, "key", "value"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("missing");
+        }
+
+        private void advance(Duration duration) {
+            nanos.addAndGet(duration.toNanos());
+        }
+    }
+
+    /**
+     * Weighs string values by their length.
+     */
+    @Nested
+    @DisplayName("off-heap tier")
+    class OffHeapTier {
+
+        private CacheProperties properties;
+        private AtomicLong nanos;
+        private LocalCacheStrategy strategy;
+
+        @BeforeEach
+        void setUp() {
+            properties = new CacheProperties();
+            properties.getOffHeap().setEnabled(true);
+            properties.getOffHeap().setCapacityBytes(64 * 1024);
+            properties.getOffHeap().setBlockSizeBytes(1024);
+            properties.getOffHeap().setThresholdBytes(4096);
+            nanos = new AtomicLong();
+            strategy = newStrategy();
+        }
+
+        private LocalCacheStrategy newStrategy() {
+            // Same-thread executor, so removal listeners have run when a call returns
+            return new LocalCacheStrategy(properties, 10000, List.of(new LengthWeigher()), nanos::get,
+                new CacheValueSerializer(properties, new ObjectMapper()), Runnable::run);
+        }
+
+        @Test
+        @DisplayName("should move values above the threshold off the heap and read them back")
+        void shouldStoreLargeValuesOffHeap() {
+            String report = "r".repeat(10_000);
+
+            strategy.put(CACHE_NAME, "report", report);
+            strategy.put(CACHE_NAME, "small", "s");
+
+            assertThat(strategy.get(CACHE_NAME, "report", String.class)).contains(report);
+            assertThat(strategy.get(CACHE_NAME, "small", String.class)).contains("s");
+            assertThat(strategy.getAll(CACHE_NAME, String.class)).containsEntry("report", report);
+            assertThat(strategy.getOffHeapStatistics()).hasValueSatisfying(stats -> {
+                assertThat(stats.entries()).isEqualTo(1);
+                assertThat(stats.usedBytes()).isEqualTo(10 * 1024);
+            });
+        }
+
+        @Test
+        @DisplayName("should move objects by their serialized size, not the approximate weight")
+        void shouldMeasureObjectsBySerializedSize() {
+            Report report = new Report("quarterly", Collections.nCopies(500, "line of the report"));
+
+            strategy.put(CACHE_NAME, "report", report);
+
+            assertThat(strategy.getOffHeapStatistics().orElseThrow().entries()).isEqualTo(1);
+            assertThat(strategy.get(CACHE_NAME, "report", Report.class)).contains(report);
+        }
+
+        @Test
+        @DisplayName("should let a configured weigher decide without serializing")
+        void shouldDecideByConfiguredWeigher() {
+            CacheProperties.CacheConfig config = new CacheProperties.CacheConfig(3600L);
+            config.setWeigher(LengthWeigher.NAME);
+            properties.getCacheConfigs().put("weighed", config);
+            strategy = newStrategy();
+
+            strategy.put("weighed", "report", new Report("weighs 1", Collections.nCopies(500, "line of the report")));
+            strategy.put("weighed", "long", "l".repeat(5000));
+
+            assertThat(strategy.getOffHeapStatistics().orElseThrow().entries()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should free off-heap blocks when entries are replaced, evicted or expire")
+        void shouldReleaseBlocksOnRemoval() {
+            strategy.put(CACHE_NAME, "a", "a".repeat(5000));
+            strategy.put(CACHE_NAME, "a", "b".repeat(5000));
+            strategy.put(CACHE_NAME, "c", "c".repeat(5000), Duration.ofSeconds(1));
+            strategy.put(CACHE_NAME, "d", "d".repeat(5000));
+            assertThat(strategy.getOffHeapStatistics().orElseThrow().entries()).isEqualTo(3);
+
+            strategy.evict(CACHE_NAME, "a");
+            nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+            strategy.cleanUp();
+            assertThat(strategy.getOffHeapStatistics().orElseThrow().entries()).isEqualTo(1);
+
+            strategy.clear(CACHE_NAME);
+            assertThat(strategy.getOffHeapStatistics().orElseThrow().usedBytes()).isZero();
+        }
+
+        @Test
+        @DisplayName("should keep values on the heap once the store is full")
+        void shouldKeepValuesOnHeapWhenFull() {
+            for (int i = 0; i < 10; i++) {
+                strategy.put(CACHE_NAME, i, "v".repeat(10_000));
+            }
+
+            LocalCacheStrategy.OffHeapStatistics stats = strategy.getOffHeapStatistics().orElseThrow();
+            assertThat(stats.entries()).isEqualTo(6);
+            assertThat(stats.rejected()).isEqualTo(4);
+            for (int i = 0; i < 10; i++) {
+                assertThat(strategy.get(CACHE_NAME, i, String.class)).hasValueSatisfying(v -> assertThat(v).hasSize(10_000));
+            }
+        }
+
+        @Test
+        @DisplayName("should return the loaded value and serve later hits from the store")
+        void shouldLoadIntoStore() {
+            String report = "l".repeat(8000);
+
+            assertThat(strategy.getOrCompute(CACHE_NAME, "report", () -> report, String.class)).isEqualTo(report);
+            assertThat(strategy.getOrCompute(CACHE_NAME, "report", () -> "other", String.class)).isEqualTo(report);
+            assertThat(strategy.getStatistics(CACHE_NAME).hits()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should report no off-heap statistics when disabled")
+        void shouldReportNothingWhenDisabled() {
+            assertThat(new LocalCacheStrategy().getOffHeapStatistics()).isEmpty();
+        }
+    }
+
+    record Report(String title, List<String> lines) {
+    }
+
+    static class LengthWeigher implements CacheWeigher {
+
+        static final String NAME = "length";
+
+        @Override
+        public String name() {
+            return NAME;
+        }
+
+        @Override
+        public int weigh(Object key, Object value) {
+            return value instanceof String text ? text.length() : 1;
+        }
+    }
+
     // Test helper class
     static class TestObject {
         String name;
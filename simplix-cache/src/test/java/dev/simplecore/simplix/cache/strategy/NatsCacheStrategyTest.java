@@ -4,28 +4,56 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import dev.simplecore.simplix.cache.config.CacheProperties;
 import io.nats.client.Connection;
+import io.nats.client.JetStream;
+import io.nats.client.JetStreamApiException;
 import io.nats.client.KeyValue;
 import io.nats.client.KeyValueManagement;
+import io.nats.client.Message;
+import io.nats.client.PublishOptions;
+import io.nats.client.api.KeyValueConfiguration;
 import io.nats.client.api.KeyValueEntry;
+import io.nats.client.api.KeyValueOperation;
 import io.nats.client.api.KeyValueStatus;
+import io.nats.client.api.KeyValueWatcher;
+import io.nats.client.api.PublishAck;
+import io.nats.client.impl.Headers;
+import io.nats.client.impl.NatsKeyValueWatchSubscription;
+import io.nats.client.impl.NatsMessage;
+import io.nats.client.support.Status;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.io.IOException;
+import java.lang.reflect.Proxy;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -47,6 +75,10 @@ class NatsCacheStrategyTest {
     @Mock
     private KeyValueStatus kvStatus;
 
+    @Mock
+    private JetStream jetStream;
+
+    private CacheProperties properties;
     private NatsCacheStrategy strategy;
 
     @BeforeEach
@@ -54,8 +86,18 @@ class NatsCacheStrategyTest {
         when(connection.keyValueManagement()).thenReturn(kvManagement);
         when(kvManagement.create(any())).thenReturn(kvStatus);
         when(connection.keyValue(anyString())).thenReturn(keyValue);
-
-        CacheProperties properties = new CacheProperties();
+        when(connection.jetStream()).thenReturn(jetStream);
+        when(jetStream.publishAsync(anyString(), any(byte[].class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(PublishAck.class)));
+        when(jetStream.publishAsync(anyString(), any(byte[].class), any(PublishOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(PublishAck.class)));
+        when(jetStream.publishAsync(anyString(), any(Headers.class), any()))
+                .thenReturn(CompletableFuture.completedFuture(mock(PublishAck.class)));
+        when(jetStream.publish(anyString(), any(Headers.class), any())).thenReturn(mock(PublishAck.class));
+        when(jetStream.publish(anyString(), any(byte[].class), any(PublishOptions.class)))
+                .thenReturn(mock(PublishAck.class));
+
+        properties = new CacheProperties();
         ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
         strategy = new NatsCacheStrategy(connection, properties, objectMapper);
     }
@@ -102,28 +144,463 @@ class NatsCacheStrategyTest {
     class Eviction {
 
         @Test
-        @DisplayName("evict removes single key")
+        @DisplayName("evict publishes a delete marker for a single key")
         void evictRemovesKey() throws Exception {
             strategy.evict("default", "k1");
-            verify(keyValue).delete(anyString());
+
+            ArgumentCaptor<Headers> headers = ArgumentCaptor.forClass(Headers.class);
+            verify(jetStream).publish(eq("$KV.simplix-cache-default.k1"), headers.capture(), any());
+            assertThat(headers.getValue().getFirst("KV-Operation")).isEqualTo("DEL");
+            assertThat(strategy.getStatistics("default").removals()).isEqualTo(1);
         }
 
         @Test
-        @DisplayName("evictAll removes multiple keys")
+        @DisplayName("evictAll publishes async delete markers")
         void evictAllRemovesMultipleKeys() throws Exception {
             strategy.evictAll("default", List.of("k1", "k2", "k3"));
-            verify(keyValue, times(3)).delete(anyString());
+
+            ArgumentCaptor<Headers> headers = ArgumentCaptor.forClass(Headers.class);
+            verify(jetStream).publishAsync(eq("$KV.simplix-cache-default.k1"), headers.capture(), any());
+            verify(jetStream, times(3)).publishAsync(anyString(), any(Headers.class), any());
+            verify(keyValue, never()).delete(anyString());
+            assertThat(headers.getValue().getFirst("KV-Operation")).isEqualTo("DEL");
+            assertThat(strategy.getStatistics("default").removals()).isEqualTo(3);
         }
 
         @Test
-        @DisplayName("clear iterates listed keys and deletes each")
+        @DisplayName("clear deletes every listed key asynchronously")
         void clearDeletesAll() throws Exception {
             when(keyValue.keys()).thenReturn(List.of("k1", "k2"));
             strategy.clear("default");
-            verify(keyValue, times(2)).delete(anyString());
+            verify(jetStream, times(2)).publishAsync(anyString(), any(Headers.class), any());
+            verify(keyValue, never()).delete(anyString());
+        }
+
+        @Test
+        @DisplayName("should count only acknowledged deletes")
+        void countsOnlyAcknowledgedDeletes() throws Exception {
+            when(jetStream.publishAsync(eq("$KV.simplix-cache-default.k2"), any(Headers.class), any()))
+                    .thenReturn(CompletableFuture.failedFuture(new IOException("no responders")));
+
+            strategy.evictAll("default", List.of("k1", "k2", "k3"));
+
+            assertThat(strategy.getStatistics("default").removals()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("bulk put")
+    class BulkPut {
+
+        @Test
+        @DisplayName("putAll publishes entries asynchronously to the bucket stream")
+        void putAllPublishesAsync() throws Exception {
+            Map<Object, String> entries = new LinkedHashMap<>();
+            entries.put("k1", "v1");
+            entries.put("k2", null);
+            entries.put("k3", "v3");
+
+            strategy.putAll("default", entries);
+
+            verify(jetStream).publishAsync(eq("$KV.simplix-cache-default.k1"), eq("\"v1\"".getBytes()));
+            verify(jetStream).publishAsync(eq("$KV.simplix-cache-default.k3"), any(byte[].class));
+            verify(keyValue, never()).put(anyString(), any(byte[].class));
+            assertThat(strategy.getStatistics("default").puts()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should wait for acknowledgements one window at a time")
+        void waitsForAcksPerWindow() throws Exception {
+            properties.getNats().setPublishWindow(2);
+            List<CompletableFuture<PublishAck>> acks = new ArrayList<>();
+            when(jetStream.publishAsync(anyString(), any(byte[].class))).thenAnswer(invocation -> {
+                // The previous window must be fully acknowledged before the next one starts
+                if (acks.size() % 2 == 0) {
+                    assertThat(acks).allMatch(CompletableFuture::isDone);
+                }
+                CompletableFuture<PublishAck> ack = new CompletableFuture<>();
+                CompletableFuture.runAsync(() -> ack.complete(mock(PublishAck.class)),
+                        CompletableFuture.delayedExecutor(5, TimeUnit.MILLISECONDS));
+                acks.add(ack);
+                return ack;
+            });
+            Map<Object, Integer> entries = new LinkedHashMap<>();
+            for (int i = 0; i < 5; i++) {
+                entries.put("k" + i, i);
+            }
+
+            strategy.putAll("default", entries);
+
+            assertThat(acks).hasSize(5).allMatch(CompletableFuture::isDone);
+            assertThat(strategy.getStatistics("default").puts()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("pipelined putAll should acknowledge every entry with simulated round trips")
+        void pipelinedThroughput() throws Exception {
+            int entriesCount = 2_000;
+            long roundTripMillis = 2;
+            PublishAck publishAck = mock(PublishAck.class);
+            when(jetStream.publishAsync(anyString(), any(byte[].class))).thenAnswer(invocation -> {
+                CompletableFuture<PublishAck> ack = new CompletableFuture<>();
+                CompletableFuture.runAsync(() -> ack.complete(publishAck),
+                        CompletableFuture.delayedExecutor(roundTripMillis, TimeUnit.MILLISECONDS));
+                return ack;
+            });
+            Map<Object, Integer> entries = new LinkedHashMap<>();
+            for (int i = 0; i < entriesCount; i++) {
+                entries.put("k" + i, i);
+            }
+
+            strategy.putAll("default", entries);
+
+            assertThat(strategy.getStatistics("default").puts()).isEqualTo(entriesCount);
         }
     }
 
+    @Nested
+    @DisplayName("per-entry TTL")
+    class PerEntryTtl {
+
+        @BeforeEach
+        void enablePerEntryTtl() {
+            properties.getNats().setPerEntryTtl(true);
+        }
+
+        @Test
+        @DisplayName("should send the TTL as a per-message TTL rounded up to seconds")
+        void putSendsMessageTtl() throws Exception {
+            strategy.put("default", "k1", "v1", Duration.ofMillis(1500));
+
+            ArgumentCaptor<PublishOptions> options = ArgumentCaptor.forClass(PublishOptions.class);
+            verify(jetStream).publish(eq("$KV.simplix-cache-default.k1"), any(byte[].class), options.capture());
+            verify(keyValue, never()).put(anyString(), any(byte[].class));
+            assertThat(options.getValue().getMessageTtl()).isEqualTo("2s");
+        }
+
+        @Test
+        @DisplayName("should create buckets that accept per-message TTLs")
+        void createsBucketWithLimitMarkers() throws Exception {
+            strategy.put("default", "k1", "v1", Duration.ofSeconds(30));
+
+            ArgumentCaptor<KeyValueConfiguration> config = ArgumentCaptor.forClass(KeyValueConfiguration.class);
+            verify(kvManagement).create(config.capture());
+            assertThat(config.getValue().getBackingConfig().isAllowMessageTtl()).isTrue();
+        }
+
+        @Test
+        @DisplayName("putAll should publish every entry with the TTL")
+        void putAllSendsMessageTtl() throws Exception {
+            strategy.putAll("default", Map.of("k1", "v1", "k2", "v2"), Duration.ofSeconds(30));
+
+            verify(jetStream, times(2)).publishAsync(anyString(), any(byte[].class),
+                    argThat(options -> "30s".equals(options.getMessageTtl())));
+        }
+    }
+
+    @Nested
+    @DisplayName("local mirror")
+    class LocalMirror {
+
+        private KeyValueWatcher watcher;
+        private NatsKeyValueWatchSubscription subscription;
+
+        @BeforeEach
+        void enableMirror() throws Exception {
+            properties.getNats().setLocalMirror(true);
+            subscription = mock(NatsKeyValueWatchSubscription.class);
+            when(keyValue.watchAll(any(KeyValueWatcher.class))).thenAnswer(invocation -> {
+                watcher = invocation.getArgument(0);
+                return subscription;
+            });
+        }
+
+        @Test
+        @DisplayName("should answer reads from watched entries without a server round trip")
+        void readsWatchedEntriesLocally() throws Exception {
+            strategy.exists("default", "warm-up");
+            watcher.watch(entry("k1", "\"v1\"", 1, KeyValueOperation.PUT));
+            watcher.endOfData();
+
+            assertThat(strategy.get("default", "k1", String.class)).contains("v1");
+            assertThat(strategy.get("default", "k2", String.class)).isEmpty();
+            verify(keyValue, times(1)).get(anyString());
+            assertThat(strategy.getMirrorStatistics("default")).hasValueSatisfying(stats -> {
+                assertThat(stats.size()).isEqualTo(1);
+                assertThat(stats.localReads()).isEqualTo(2);
+                assertThat(stats.remoteReads()).isEqualTo(1);
+                assertThat(stats.complete()).isTrue();
+            });
+        }
+
+        @Test
+        @DisplayName("should treat a deleted key as a miss")
+        void deleteEventIsTombstone() throws Exception {
+            strategy.exists("default", "warm-up");
+            watcher.watch(entry("k1", "\"v1\"", 1, KeyValueOperation.PUT));
+            watcher.watch(entry("k1", null, 2, KeyValueOperation.DELETE));
+
+            assertThat(strategy.get("default", "k1", String.class)).isEmpty();
+            verify(keyValue, times(1)).get(anyString());
+        }
+
+        @Test
+        @DisplayName("should ignore an event older than the mirrored revision")
+        void ignoresOlderRevision() throws Exception {
+            strategy.exists("default", "warm-up");
+            watcher.watch(entry("k1", "\"new\"", 5, KeyValueOperation.PUT));
+            watcher.watch(entry("k1", "\"old\"", 4, KeyValueOperation.PUT));
+
+            assertThat(strategy.get("default", "k1", String.class)).contains("new");
+        }
+
+        @Test
+        @DisplayName("should read unmirrored keys from the server until the watch catches up")
+        void fallsBackBeforeCaughtUp() throws Exception {
+            KeyValueEntry remote = entry("k1", "\"remote\"", 1, KeyValueOperation.PUT);
+            when(keyValue.get("k1")).thenReturn(remote);
+
+            assertThat(strategy.get("default", "k1", String.class)).contains("remote");
+            assertThat(strategy.getMirrorStatistics("default")).hasValueSatisfying(stats -> {
+                assertThat(stats.remoteReads()).isEqualTo(1);
+                assertThat(stats.complete()).isFalse();
+            });
+        }
+
+        @Test
+        @DisplayName("should treat unmirrored keys as misses when remote fallback is disabled")
+        void noFallbackWhenDisabled() throws Exception {
+            properties.getNats().setMirrorRemoteFallback(false);
+            KeyValueEntry remote = entry("k1", "\"remote\"", 1, KeyValueOperation.PUT);
+            when(keyValue.get(anyString())).thenReturn(remote);
+
+            assertThat(strategy.get("default", "k1", String.class)).isEmpty();
+            verify(keyValue, never()).get(anyString());
+        }
+
+        @Test
+        @DisplayName("should see its own writes and deletes immediately")
+        void readsOwnWrites() throws Exception {
+            when(keyValue.put(eq("k1"), any(byte[].class))).thenReturn(7L);
+            PublishAck deleteAck = mock(PublishAck.class);
+            when(deleteAck.getSeqno()).thenReturn(8L);
+            when(jetStream.publish(eq("$KV.simplix-cache-default.k1"), any(Headers.class), any()))
+                    .thenReturn(deleteAck);
+
+            strategy.put("default", "k1", "v1");
+            watcher.watch(entry("k1", "\"stale\"", 6, KeyValueOperation.PUT));
+            assertThat(strategy.get("default", "k1", String.class)).contains("v1");
+
+            strategy.evict("default", "k1");
+            assertThat(strategy.exists("default", "k1")).isFalse();
+            verify(keyValue, never()).get(anyString());
+        }
+
+        @Test
+        @DisplayName("should stop the watch on shutdown")
+        void shutdownStopsWatch() throws Exception {
+            strategy.exists("default", "warm-up");
+
+            strategy.shutdown();
+
+            verify(subscription).unsubscribe();
+            assertThat(strategy.getMirrorStatistics("default")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should read from the server when the watch cannot start")
+        void readsRemotelyWhenWatchFails() throws Exception {
+            when(keyValue.watchAll(any(KeyValueWatcher.class))).thenThrow(new IOException("no responders"));
+            KeyValueEntry remote = entry("k1", "\"remote\"", 1, KeyValueOperation.PUT);
+            when(keyValue.get("k1")).thenReturn(remote);
+
+            assertThat(strategy.get("default", "k1", String.class)).contains("remote");
+            assertThat(strategy.getMirrorStatistics("default")).isEmpty();
+        }
+
+        private KeyValueEntry entry(String key, String json, long revision, KeyValueOperation operation) {
+            KeyValueEntry entry = mock(KeyValueEntry.class);
+            when(entry.getKey()).thenReturn(key);
+            when(entry.getValue()).thenReturn(json != null ? json.getBytes() : null);
+            when(entry.getRevision()).thenReturn(revision);
+            when(entry.getOperation()).thenReturn(operation);
+            return entry;
+        }
+    }
+
+    @Nested
+    @DisplayName("async operations")
+    class AsyncOperations {
+
+        private static final String DIRECT_GET = "$JS.API.DIRECT.GET.KV_simplix-cache-default.$KV.simplix-cache-default.";
+
+        @Test
+        @DisplayName("getAsync should read with a JetStream direct get")
+        void getAsyncUsesDirectGet() throws Exception {
+            Message reply = reply("\"v1\"".getBytes(), null);
+            when(connection.requestWithTimeout(eq(DIRECT_GET + "k1"), any(), any(Duration.class)))
+                    .thenReturn(CompletableFuture.completedFuture(reply));
+
+            Optional<String> value = strategy.getAsync("default", "k1", String.class).toCompletableFuture().join();
+
+            assertThat(value).contains("v1");
+            verify(keyValue, never()).get(anyString());
+            assertThat(strategy.getStatistics("default").hits()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("getAsync should treat not-found replies and delete markers as misses")
+        void getAsyncMisses() throws Exception {
+            Message notFound = mock(Message.class);
+            when(notFound.isStatusMessage()).thenReturn(true);
+            when(notFound.getStatus()).thenReturn(new Status(Status.NOT_FOUND_CODE, "Message Not Found"));
+            Message deleted = reply(null, new Headers().put("KV-Operation", "DEL"));
+            when(connection.requestWithTimeout(eq(DIRECT_GET + "k1"), any(), any(Duration.class)))
+                    .thenReturn(CompletableFuture.completedFuture(notFound));
+            when(connection.requestWithTimeout(eq(DIRECT_GET + "k2"), any(), any(Duration.class)))
+                    .thenReturn(CompletableFuture.completedFuture(deleted));
+
+            assertThat(strategy.getAsync("default", "k1", String.class).toCompletableFuture().join()).isEmpty();
+            assertThat(strategy.getAsync("default", "k2", String.class).toCompletableFuture().join()).isEmpty();
+            assertThat(strategy.getStatistics("default").misses()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("getAsync should complete empty when the request fails")
+        void getAsyncFailure() throws Exception {
+            when(connection.requestWithTimeout(anyString(), any(), any(Duration.class)))
+                    .thenReturn(CompletableFuture.failedFuture(new IOException("timed out")));
+
+            assertThat(strategy.getAsync("default", "k1", String.class).toCompletableFuture().join()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("putAsync and evictAsync should publish without waiting")
+        void writesPublishAsync() throws Exception {
+            strategy.putAsync("default", "k1", "v1", Duration.ofMinutes(5)).toCompletableFuture().join();
+            strategy.evictAsync("default", "k1").toCompletableFuture().join();
+
+            verify(jetStream).publishAsync(eq("$KV.simplix-cache-default.k1"), eq("\"v1\"".getBytes()));
+            verify(jetStream).publishAsync(eq("$KV.simplix-cache-default.k1"), any(Headers.class), any());
+            verify(keyValue, never()).put(anyString(), any(byte[].class));
+            verify(jetStream, never()).publish(anyString(), any(Headers.class), any());
+            assertThat(strategy.getStatistics("default").puts()).isEqualTo(1);
+            assertThat(strategy.getStatistics("default").removals()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("putAllAsync should publish one window after another")
+        void putAllAsyncPublishesWindows() throws Exception {
+            properties.getNats().setPublishWindow(2);
+            Map<Object, Integer> entries = new LinkedHashMap<>();
+            for (int i = 0; i < 5; i++) {
+                entries.put("k" + i, i);
+            }
+
+            strategy.putAllAsync("default", entries, Duration.ofMinutes(5)).toCompletableFuture().join();
+
+            verify(jetStream, times(5)).publishAsync(anyString(), any(byte[].class));
+            assertThat(strategy.getStatistics("default").puts()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("getOrComputeAsync should run one load for concurrent misses")
+        void getOrComputeAsyncCoalesces() throws Exception {
+            Message notFound = mock(Message.class);
+            when(notFound.isStatusMessage()).thenReturn(true);
+            when(notFound.getStatus()).thenReturn(new Status(Status.NOT_FOUND_CODE, "Message Not Found"));
+            when(connection.requestWithTimeout(anyString(), any(), any(Duration.class)))
+                    .thenReturn(CompletableFuture.completedFuture(notFound));
+            CompletableFuture<String> load = new CompletableFuture<>();
+            AtomicInteger loads = new AtomicInteger();
+
+            CompletableFuture<String> first = strategy.getOrComputeAsync("default", "k1", () -> {
+                loads.incrementAndGet();
+                return load;
+            }, String.class, Duration.ofMinutes(5)).toCompletableFuture();
+            CompletableFuture<String> second = strategy.getOrComputeAsync("default", "k1", () -> {
+                loads.incrementAndGet();
+                return CompletableFuture.completedFuture("other");
+            }, String.class, Duration.ofMinutes(5)).toCompletableFuture();
+            load.complete("v1");
+
+            assertThat(first.join()).isEqualTo("v1");
+            assertThat(second.join()).isEqualTo("v1");
+            assertThat(loads).hasValue(1);
+            verify(jetStream).publishAsync(eq("$KV.simplix-cache-default.k1"), any(byte[].class));
+        }
+
+        @Test
+        @DisplayName("async and blocking gets should all hit under concurrency with simulated round trips")
+        void concurrentGetThroughput() throws Exception {
+            int requests = 2_000;
+            int threads = 32;
+            long roundTripMillis = 2;
+            ScheduledExecutorService server = Executors.newSingleThreadScheduledExecutor();
+            // Proxy fakes rather than mocks: a mock invocation costs more than the strategy itself
+            KeyValueEntry entry = mock(KeyValueEntry.class);
+            when(entry.getValue()).thenReturn("\"v\"".getBytes());
+            KeyValue benchBucket = fake(KeyValue.class, Map.of("get", args -> {
+                Thread.sleep(roundTripMillis);
+                return entry;
+            }));
+            Message reply = NatsMessage.builder().subject("_INBOX.reply").data("\"v\"".getBytes()).build();
+            Connection benchConnection = fake(Connection.class, Map.of(
+                    "keyValueManagement", args -> fake(KeyValueManagement.class, Map.of()),
+                    "keyValue", args -> benchBucket,
+                    "requestWithTimeout", args -> {
+                        CompletableFuture<Message> response = new CompletableFuture<>();
+                        server.schedule(() -> response.complete(reply), roundTripMillis, TimeUnit.MILLISECONDS);
+                        return response;
+                    }));
+            NatsCacheStrategy strategy = new NatsCacheStrategy(benchConnection, properties, new ObjectMapper());
+
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                for (int round = 0; round < 2; round++) {
+                    List<Future<Optional<String>>> blocking = new ArrayList<>();
+                    for (int i = 0; i < requests; i++) {
+                        String key = "k" + i;
+                        blocking.add(executor.submit(() -> strategy.get("default", key, String.class)));
+                    }
+                    for (Future<Optional<String>> result : blocking) {
+                        assertThat(result.get()).contains("v");
+                    }
+
+                    List<CompletableFuture<Optional<String>>> async = new ArrayList<>();
+                    for (int i = 0; i < requests; i++) {
+                        async.add(strategy.getAsync("default", "k" + i, String.class).toCompletableFuture());
+                    }
+                    CompletableFuture.allOf(async.toArray(CompletableFuture[]::new)).join();
+                    assertThat(async).allMatch(result -> result.join().isPresent());
+                }
+            } finally {
+                executor.shutdownNow();
+                server.shutdownNow();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T fake(Class<T> type, Map<String, Invocation> methods) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                Invocation invocation = methods.get(method.getName());
+                return invocation != null ? invocation.invoke(args) : null;
+            });
+        }
+
+        private Message reply(byte[] data, Headers headers) {
+            Message message = mock(Message.class);
+            when(message.getData()).thenReturn(data);
+            when(message.getHeaders()).thenReturn(headers);
+            return message;
+        }
+    }
+
+    @FunctionalInterface
+    interface Invocation {
+        Object invoke(Object[] args) throws Exception;
+    }
+
     @Nested
     @DisplayName("bucket lifecycle")
     class BucketLifecycle {
@@ -182,4 +659,201 @@ class NatsCacheStrategyTest {
             assertThat(stats.misses()).isEqualTo(2L);
         }
     }
+
+    @Nested
+    @DisplayName("tag eviction")
+    class TagEviction {
+
+        @Mock
+        private KeyValue tagBucket;
+
+        @BeforeEach
+        void setUpTagBucket() throws Exception {
+            when(connection.keyValue("simplix-cache-tag-generations")).thenReturn(tagBucket);
+            when(tagBucket.watchAll(any(KeyValueWatcher.class))).thenAnswer(invocation -> {
+                invocation.<KeyValueWatcher>getArgument(0).endOfData();
+                return mock(NatsKeyValueWatchSubscription.class);
+            });
+        }
+
+        @Test
+        @DisplayName("should read a tagged value until its tag is evicted")
+        void tagEvictionHidesTaggedValues() throws Exception {
+            ArgumentCaptor<byte[]> stored = ArgumentCaptor.forClass(byte[].class);
+            strategy.put("default", "k1", "hello", Duration.ofMinutes(1), List.of("tenant-1"));
+            verify(keyValue).put(eq("k1"), stored.capture());
+            KeyValueEntry entry = mock(KeyValueEntry.class);
+            when(entry.getValue()).thenReturn(stored.getValue());
+            when(keyValue.get("k1")).thenReturn(entry);
+            when(keyValue.keys()).thenReturn(List.of("k1"));
+
+            assertThat(strategy.get("default", "k1", String.class)).contains("hello");
+            assertThat(strategy.getAll("default", String.class)).containsEntry("k1", "hello");
+
+            when(tagBucket.put(eq("default.tenant-1"), any(byte[].class))).thenReturn(5L);
+            strategy.evictByTag("default", "tenant-1");
+
+            assertThat(strategy.get("default", "k1", String.class)).isEmpty();
+            assertThat(strategy.getAll("default", String.class)).isEmpty();
+            verify(keyValue, never()).delete(anyString());
+        }
+
+        @Test
+        @DisplayName("should keep values written after the eviction and values of other tags")
+        void tagEvictionKeepsNewerAndOtherValues() throws Exception {
+            when(tagBucket.put(eq("default.tenant-1"), any(byte[].class))).thenReturn(5L);
+            strategy.evictByTag("default", "tenant-1");
+
+            ArgumentCaptor<byte[]> stored = ArgumentCaptor.forClass(byte[].class);
+            strategy.put("default", "k1", "newer", Duration.ofMinutes(1), List.of("tenant-1"));
+            strategy.put("default", "k2", "other", Duration.ofMinutes(1), List.of("tenant-2"));
+            verify(keyValue, times(2)).put(anyString(), stored.capture());
+
+            assertThat(read(stored.getAllValues().get(0))).contains("newer");
+            assertThat(read(stored.getAllValues().get(1))).contains("other");
+        }
+
+        @Test
+        @DisplayName("putAsync should store the same tag header as put")
+        void putAsyncStoresTags() throws Exception {
+            strategy.put("default", "k1", "hello", Duration.ofMinutes(1), List.of("tenant-1"));
+            strategy.putAsync("default", "k1", "hello", Duration.ofMinutes(1), List.of("tenant-1"))
+                    .toCompletableFuture().join();
+
+            ArgumentCaptor<byte[]> blocking = ArgumentCaptor.forClass(byte[].class);
+            ArgumentCaptor<byte[]> async = ArgumentCaptor.forClass(byte[].class);
+            verify(keyValue).put(eq("k1"), blocking.capture());
+            verify(jetStream).publishAsync(eq("$KV.simplix-cache-default.k1"), async.capture());
+            assertThat(async.getValue()).isEqualTo(blocking.getValue());
+            assertThat(read(async.getValue())).contains("hello");
+
+            when(tagBucket.put(eq("default.tenant-1"), any(byte[].class))).thenReturn(5L);
+            strategy.evictByTag("default", "tenant-1");
+
+            assertThat(read(async.getValue())).isEmpty();
+        }
+
+        private Optional<String> read(byte[] stored) throws Exception {
+            KeyValueEntry entry = mock(KeyValueEntry.class);
+            when(entry.getValue()).thenReturn(stored);
+            when(keyValue.get("k")).thenReturn(entry);
+            return strategy.get("default", "k", String.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("getOrCompute load lock")
+    class LoadLock {
+
+        @Mock
+        private KeyValue lockBucket;
+
+        private NatsCacheStrategy lockingStrategy;
+
+        @BeforeEach
+        void setUpLock() throws Exception {
+            when(connection.keyValue("simplix-cache-load-locks")).thenReturn(lockBucket);
+
+            CacheProperties properties = new CacheProperties();
+            properties.getLoadLock().setEnabled(true);
+            properties.getLoadLock().setWaitMillis(1000);
+            properties.getLoadLock().setPollIntervalMillis(1);
+            lockingStrategy = new NatsCacheStrategy(connection, properties,
+                    new ObjectMapper().registerModule(new JavaTimeModule()));
+        }
+
+        @Test
+        @DisplayName("should load and release the lock by revision when the lock is won")
+        void loadsWhenLockIsWon() throws Exception {
+            when(keyValue.get(anyString())).thenReturn(null);
+            when(lockBucket.create(eq("default.k1"), any(byte[].class))).thenReturn(7L);
+
+            String value = lockingStrategy.getOrCompute("default", "k1", () -> "loaded", String.class);
+
+            assertThat(value).isEqualTo("loaded");
+            verify(keyValue).put(eq("k1"), any(byte[].class));
+            verify(lockBucket).delete("default.k1", 7L);
+            assertThat(lockingStrategy.getLoadStatistics().loads()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should wait for another node's load instead of running the loader")
+        void waitsWhenLockIsHeld() throws Exception {
+            KeyValueEntry entry = mock(KeyValueEntry.class);
+            when(entry.getValue()).thenReturn("\"remote\"".getBytes());
+            when(keyValue.get("k1")).thenReturn(null, null, entry);
+            when(lockBucket.create(anyString(), any(byte[].class))).thenThrow(mock(JetStreamApiException.class));
+
+            String value = lockingStrategy.getOrCompute("default", "k1", () -> {
+                throw new AssertionError("Loader should not run on this node");
+            }, String.class);
+
+            assertThat(value).isEqualTo("remote");
+            assertThat(lockingStrategy.getLoadStatistics().remoteCoalescedLoads()).isEqualTo(1);
+            assertThat(lockingStrategy.getLoadStatistics().loads()).isZero();
+            verify(keyValue, never()).put(anyString(), any(byte[].class));
+        }
+
+        @Test
+        @DisplayName("getOrComputeAsync should take and release the lock like getOrCompute")
+        void asyncLoadsWhenLockIsWon() throws Exception {
+            Message notFound = notFound();
+            when(connection.requestWithTimeout(anyString(), any(), any(Duration.class)))
+                    .thenReturn(CompletableFuture.completedFuture(notFound));
+            when(lockBucket.create(eq("default.k1"), any(byte[].class))).thenReturn(7L);
+
+            String value = lockingStrategy.getOrComputeAsync("default", "k1",
+                    () -> CompletableFuture.completedFuture("loaded"), String.class, Duration.ofMinutes(5))
+                    .toCompletableFuture().join();
+
+            assertThat(value).isEqualTo("loaded");
+            verify(jetStream).publishAsync(eq("$KV.simplix-cache-default.k1"), any(byte[].class));
+            verify(lockBucket).delete("default.k1", 7L);
+        }
+
+        @Test
+        @DisplayName("getOrComputeAsync should wait for another node's load instead of running the loader")
+        void asyncWaitsWhenLockIsHeld() throws Exception {
+            Message found = mock(Message.class);
+            when(found.getData()).thenReturn("\"remote\"".getBytes());
+            Message notFound = notFound();
+            when(connection.requestWithTimeout(anyString(), any(), any(Duration.class)))
+                    .thenReturn(CompletableFuture.completedFuture(notFound),
+                            CompletableFuture.completedFuture(notFound),
+                            CompletableFuture.completedFuture(found));
+            when(lockBucket.create(anyString(), any(byte[].class))).thenThrow(mock(JetStreamApiException.class));
+
+            String value = lockingStrategy.getOrComputeAsync("default", "k1",
+                    () -> CompletableFuture.failedFuture(new AssertionError("Loader should not run on this node")),
+                    String.class, Duration.ofMinutes(5)).toCompletableFuture().join();
+
+            assertThat(value).isEqualTo("remote");
+            assertThat(lockingStrategy.getLoadStatistics().remoteCoalescedLoads()).isEqualTo(1);
+            verify(jetStream, never()).publishAsync(anyString(), any(byte[].class));
+        }
+
+        private Message notFound() {
+            Message notFound = mock(Message.class);
+            when(notFound.isStatusMessage()).thenReturn(true);
+            when(notFound.getStatus()).thenReturn(new Status(Status.NOT_FOUND_CODE, "Message Not Found"));
+            return notFound;
+        }
+
+        @Test
+        @DisplayName("should load locally when the value does not appear within the wait")
+        void loadsAfterWaitTimesOut() throws Exception {
+            CacheProperties properties = new CacheProperties();
+            properties.getLoadLock().setEnabled(true);
+            properties.getLoadLock().setWaitMillis(5);
+            properties.getLoadLock().setPollIntervalMillis(1);
+            NatsCacheStrategy impatient = new NatsCacheStrategy(connection, properties, new ObjectMapper());
+            when(keyValue.get(anyString())).thenReturn(null);
+            when(lockBucket.create(anyString(), any(byte[].class))).thenThrow(mock(JetStreamApiException.class));
+
+            String value = impatient.getOrCompute("default", "k1", () -> "local", String.class);
+
+            assertThat(value).isEqualTo("local");
+            verify(keyValue).put(eq("k1"), any(byte[].class));
+        }
+    }
 }
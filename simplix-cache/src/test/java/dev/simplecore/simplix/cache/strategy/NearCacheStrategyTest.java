@@ -0,0 +1,276 @@
+package dev.simplecore.simplix.cache.strategy;
+
+import dev.simplecore.simplix.cache.config.CacheProperties;
+import dev.simplecore.simplix.cache.invalidation.InMemoryCacheInvalidationBroadcaster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Two near-cache nodes over one shared remote tier. The "remote" tier is an in-memory
+ * LocalCacheStrategy and invalidations go through an in-process hub.
+ */
+@DisplayName("NearCacheStrategy")
+class NearCacheStrategyTest {
+
+    private static final String CACHE = "products";
+
+    private LocalCacheStrategy remote;
+    private LocalCacheStrategy localA;
+    private LocalCacheStrategy localB;
+    private NearCacheStrategy nodeA;
+    private NearCacheStrategy nodeB;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties properties = new CacheProperties();
+        remote = new LocalCacheStrategy();
+        localA = new LocalCacheStrategy(100);
+        localB = new LocalCacheStrategy(100);
+
+        InMemoryCacheInvalidationBroadcaster broadcasterA = new InMemoryCacheInvalidationBroadcaster();
+        InMemoryCacheInvalidationBroadcaster broadcasterB = broadcasterA.newPeer();
+
+        nodeA = new NearCacheStrategy(localA, remote, broadcasterA, properties);
+        nodeB = new NearCacheStrategy(localB, remote, broadcasterB, properties);
+    }
+
+    @Nested
+    @DisplayName("tier statistics")
+    class TierStatisticsTest {
+
+        @Test
+        @DisplayName("should count local hits, remote hits and misses separately")
+        void shouldCountPerTier() {
+            nodeA.put(CACHE, "p1", "apple");
+
+            nodeB.get(CACHE, "p1", String.class);   // remote hit, populates local tier
+            nodeB.get(CACHE, "p1", String.class);   // local hit
+            nodeB.get(CACHE, "p1", String.class);   // local hit
+            nodeB.get(CACHE, "p2", String.class);   // miss
+
+            NearCacheStrategy.TierStatistics stats = nodeB.getTierStatistics(CACHE);
+            assertThat(stats.localHits()).isEqualTo(2);
+            assertThat(stats.remoteHits()).isEqualTo(1);
+            assertThat(stats.misses()).isEqualTo(1);
+            assertThat(stats.requests()).isEqualTo(4);
+            assertThat(stats.localHitRatio()).isCloseTo(0.5, within(0.0001));
+            assertThat(stats.remoteHitRatio()).isCloseTo(0.5, within(0.0001));
+        }
+
+        @Test
+        @DisplayName("should return zero statistics for an unused cache")
+        void shouldReturnZeroForUnusedCache() {
+            NearCacheStrategy.TierStatistics stats = nodeA.getTierStatistics("unused");
+
+            assertThat(stats.requests()).isZero();
+            assertThat(stats.localHitRatio()).isZero();
+            assertThat(stats.remoteHitRatio()).isZero();
+        }
+
+        @Test
+        @DisplayName("should combine both tiers in the standard statistics")
+        void shouldCombineTiersInStatistics() {
+            nodeA.put(CACHE, "p1", "apple");
+            nodeB.get(CACHE, "p1", String.class);
+            nodeB.get(CACHE, "p1", String.class);
+            nodeB.get(CACHE, "p2", String.class);
+
+            CacheStrategy.CacheStatistics stats = nodeB.getStatistics(CACHE);
+
+            assertThat(stats.hits()).isEqualTo(2);
+            assertThat(stats.misses()).isEqualTo(1);
+            assertThat(stats.hitRate()).isCloseTo(2.0 / 3, within(0.0001));
+            assertThat(nodeB.getCacheNames()).containsExactly(CACHE);
+        }
+    }
+
+    @Nested
+    @DisplayName("bulk operations")
+    class BulkOperations {
+
+        @Test
+        @DisplayName("putAll should write both tiers and invalidate peers")
+        void putAllShouldWriteBothTiersAndInvalidatePeers() {
+            nodeB.put(CACHE, "p1", "stale");
+            Map<Object, String> entries = new LinkedHashMap<>();
+            entries.put("p1", "apple");
+            entries.put(2, "banana");
+
+            nodeA.putAll(CACHE, entries);
+
+            assertThat(localA.exists(CACHE, "p1")).isTrue();
+            assertThat(localA.exists(CACHE, "2")).isTrue();
+            assertThat(localB.exists(CACHE, "p1")).isFalse();
+            assertThat(nodeB.get(CACHE, "p1", String.class)).contains("apple");
+        }
+
+        @Test
+        @DisplayName("evictAll should drop entries from both tiers on every node")
+        void evictAllShouldDropEverywhere() {
+            nodeA.put(CACHE, "p1", "apple");
+            nodeA.put(CACHE, "p2", "banana");
+            nodeB.get(CACHE, "p1", String.class);
+
+            nodeA.evictAll(CACHE, List.of("p1", "p2"));
+
+            assertThat(localA.exists(CACHE, "p1")).isFalse();
+            assertThat(localB.exists(CACHE, "p1")).isFalse();
+            assertThat(remote.exists(CACHE, "p2")).isFalse();
+        }
+
+        @Test
+        @DisplayName("clearAll should clear peers' local tiers, including caches this node never used")
+        void clearAllShouldClearPeers() {
+            remote.put(CACHE, "p1", "apple");
+            nodeB.get(CACHE, "p1", String.class);
+            assertThat(nodeA.getCacheNames()).doesNotContain(CACHE);
+
+            nodeA.clearAll();
+
+            assertThat(localB.exists(CACHE, "p1")).isFalse();
+            assertThat(nodeB.exists(CACHE, "p1")).isFalse();
+        }
+
+        @Test
+        @DisplayName("evictByTag should evict tagged remote entries and drop local copies on every node")
+        void evictByTagShouldDropTaggedEverywhere() {
+            nodeA.put(CACHE, "p1", "apple", Duration.ofMinutes(5), List.of("fruit"));
+            nodeA.put(CACHE, "p2", "carrot", Duration.ofMinutes(5), List.of("vegetable"));
+            nodeB.get(CACHE, "p1", String.class);
+
+            nodeA.evictByTag(CACHE, "fruit");
+
+            assertThat(remote.exists(CACHE, "p1")).isFalse();
+            assertThat(localA.exists(CACHE, "p1")).isFalse();
+            assertThat(localB.exists(CACHE, "p1")).isFalse();
+            assertThat(nodeB.get(CACHE, "p2", String.class)).contains("carrot");
+        }
+    }
+
+    @Nested
+    @DisplayName("async operations")
+    class AsyncOperations {
+
+        @Test
+        @DisplayName("getAsync should serve local hits and populate the local tier from remote hits")
+        void getAsyncShouldUseBothTiers() {
+            nodeA.putAsync(CACHE, "p1", "apple", Duration.ofMinutes(5)).toCompletableFuture().join();
+
+            assertThat(nodeB.getAsync(CACHE, "p1", String.class).toCompletableFuture().join()).contains("apple");
+            assertThat(localB.exists(CACHE, "p1")).isTrue();
+            assertThat(nodeB.getAsync(CACHE, "p1", String.class).toCompletableFuture().join()).contains("apple");
+
+            NearCacheStrategy.TierStatistics stats = nodeB.getTierStatistics(CACHE);
+            assertThat(stats.remoteHits()).isEqualTo(1);
+            assertThat(stats.localHits()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("putAsync and evictAsync should invalidate peers")
+        void writesShouldInvalidatePeers() {
+            nodeA.put(CACHE, "p1", "apple");
+            nodeB.get(CACHE, "p1", String.class);
+
+            nodeA.putAsync(CACHE, "p1", "banana", Duration.ofMinutes(5)).toCompletableFuture().join();
+            assertThat(localB.exists(CACHE, "p1")).isFalse();
+            assertThat(nodeB.get(CACHE, "p1", String.class)).contains("banana");
+
+            nodeA.evictAsync(CACHE, "p1").toCompletableFuture().join();
+            assertThat(localB.exists(CACHE, "p1")).isFalse();
+            assertThat(remote.exists(CACHE, "p1")).isFalse();
+        }
+
+        @Test
+        @DisplayName("getOrComputeAsync should load once and cache in both tiers")
+        void getOrComputeAsyncShouldPopulateBothTiers() {
+            String value = nodeA.getOrComputeAsync(CACHE, "p1", () -> CompletableFuture.completedFuture("apple"),
+                String.class, Duration.ofMinutes(5)).toCompletableFuture().join();
+
+            assertThat(value).isEqualTo("apple");
+            assertThat(remote.exists(CACHE, "p1")).isTrue();
+            assertThat(localA.exists(CACHE, "p1")).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("local TTL")
+    class LocalTtl {
+
+        private AtomicLong nanos;
+        private LocalCacheStrategy local;
+        private NearCacheStrategy node;
+
+        @BeforeEach
+        void setUp() {
+            CacheProperties properties = new CacheProperties();
+            properties.getNearCache().setLocalTtlSeconds(30);
+            nanos = new AtomicLong();
+            local = new LocalCacheStrategy(properties, 100, List.of(), nanos::get);
+            node = new NearCacheStrategy(local, remote, new InMemoryCacheInvalidationBroadcaster(), properties);
+        }
+
+        @Test
+        @DisplayName("should expire the local copy after the local TTL and pick up a missed change")
+        void shouldExpireLocalCopy() {
+            node.put(CACHE, "p1", "apple");
+            remote.put(CACHE, "p1", "pear");
+
+            assertThat(node.get(CACHE, "p1", String.class)).contains("apple");
+
+            nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+
+            assertThat(local.exists(CACHE, "p1")).isFalse();
+            assertThat(node.get(CACHE, "p1", String.class)).contains("pear");
+        }
+
+        @Test
+        @DisplayName("should not keep a local copy longer than a shorter write TTL")
+        void shouldCapLocalTtlAtWriteTtl() {
+            node.put(CACHE, "p1", "apple", Duration.ofSeconds(5));
+
+            nanos.addAndGet(Duration.ofSeconds(6).toNanos());
+
+            assertThat(local.exists(CACHE, "p1")).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("should not store null values")
+    void shouldNotStoreNullValues() {
+        nodeA.put(CACHE, "p1", null);
+
+        assertThat(nodeA.exists(CACHE, "p1")).isFalse();
+        assertThat(remote.exists(CACHE, "p1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("getOrCompute should load through the remote tier and cache locally")
+    void getOrComputeShouldPopulateBothTiers() {
+        String value = nodeA.getOrCompute(CACHE, "p1", () -> "apple", String.class);
+
+        assertThat(value).isEqualTo("apple");
+        assertThat(remote.exists(CACHE, "p1")).isTrue();
+        assertThat(localA.exists(CACHE, "p1")).isTrue();
+        assertThat(nodeA.getOrCompute(CACHE, "p1", () -> "other", String.class)).isEqualTo("apple");
+    }
+
+    @Test
+    @DisplayName("should report availability of the remote tier")
+    void shouldReportRemoteAvailability() {
+        assertThat(nodeA.isAvailable()).isTrue();
+        assertThat(nodeA.getName()).isEqualTo("NearCacheStrategy");
+        assertThat(nodeA.getRemoteTier()).isSameAs(remote);
+    }
+}
@@ -0,0 +1,74 @@
+package dev.simplecore.simplix.cache.strategy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OffHeapStore")
+class OffHeapStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("should read back values spanning several blocks")
+    void shouldRoundTripValues() throws Exception {
+        try (OffHeapStore store = new OffHeapStore(1024, 64, null)) {
+            byte[] value = "x".repeat(150).getBytes(StandardCharsets.UTF_8);
+
+            OffHeapStore.Handle handle = store.store(value);
+
+            assertThat(store.read(handle)).isEqualTo(value);
+            assertThat(store.usedBytes()).isEqualTo(192);
+            assertThat(store.entries()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("should reject values when too few blocks are free and reuse released blocks")
+    void shouldRejectWhenFullAndReuseReleasedBlocks() throws Exception {
+        try (OffHeapStore store = new OffHeapStore(256, 64, null)) {
+            OffHeapStore.Handle first = store.store(new byte[200]);
+
+            assertThat(store.store(new byte[100])).isNull();
+
+            store.release(first);
+            store.release(first);
+            OffHeapStore.Handle second = store.store(new byte[100]);
+
+            assertThat(second).isNotNull();
+            assertThat(store.read(first)).isNull();
+            assertThat(store.usedBytes()).isEqualTo(128);
+            assertThat(store.entries()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("should keep values in a memory-mapped file that does not outlive the store")
+    void shouldUseMappedFile() throws Exception {
+        Path file = tempDir.resolve("off-heap.bin");
+        OffHeapStore store = new OffHeapStore(4096, 512, file);
+        byte[] value = "report".repeat(200).getBytes(StandardCharsets.UTF_8);
+
+        OffHeapStore.Handle handle = store.store(value);
+
+        assertThat(store.read(handle)).isEqualTo(value);
+        assertThat(store.capacityBytes()).isEqualTo(4096);
+        store.close();
+        assertThat(Files.exists(file)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should refuse a capacity smaller than one block")
+    void shouldRefuseCapacityBelowOneBlock() {
+        assertThatThrownBy(() -> new OffHeapStore(100, 512, null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
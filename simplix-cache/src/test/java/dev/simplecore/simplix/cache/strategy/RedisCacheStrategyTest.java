@@ -5,20 +5,41 @@ import dev.simplecore.simplix.cache.strategy.CacheStrategy;
 import dev.simplecore.simplix.cache.strategy.RedisCacheStrategy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.ReactiveKeyCommands;
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.ReactiveScriptingCommands;
+import org.springframework.data.redis.connection.ReactiveStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
 import org.springframework.data.redis.connection.RedisServerCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -43,6 +64,9 @@ class RedisCacheStrategyTest {
     @Mock
     private RedisServerCommands serverCommands;
 
+    @Mock
+    private RedisStringCommands stringCommands;
+
     private RedisCacheStrategy cacheStrategy;
     private CacheProperties cacheProperties;
     private static final String CACHE_NAME = "testCache";
@@ -71,7 +95,7 @@ class RedisCacheStrategyTest {
     @Test
     @DisplayName("Should build cache key correctly")
     void shouldBuildCacheKeyCorrectly() {
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        givenConnection();
 
         String key = "key1";
         String expectedKey = CACHE_NAME + "::" + key;
@@ -79,13 +103,13 @@ class RedisCacheStrategyTest {
         cacheStrategy.put(CACHE_NAME, key, "value");
 
         // put() without TTL defaults to Duration.ofHours(1)
-        verify(valueOperations).set(eq(expectedKey), anyString(), any(Duration.class));
+        verify(stringCommands).set(eq(raw(expectedKey)), any(byte[].class), any(Expiration.class), eq(RedisStringCommands.SetOption.upsert()));
     }
 
     @Test
     @DisplayName("Should store and retrieve value")
     void shouldStoreAndRetrieveValue() {
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        givenConnection();
 
         String key = "key1";
         String value = "value1";
@@ -93,7 +117,7 @@ class RedisCacheStrategyTest {
         // JSON string for String.class deserialization
         String jsonValue = "\"value1\"";
 
-        when(valueOperations.get(fullKey)).thenReturn(jsonValue);
+        when(stringCommands.get(raw(fullKey))).thenReturn(raw(jsonValue));
 
         cacheStrategy.put(CACHE_NAME, key, value);
 
@@ -105,10 +129,10 @@ class RedisCacheStrategyTest {
     @Test
     @DisplayName("Should return empty for missing key")
     void shouldReturnEmptyForMissingKey() {
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        givenConnection();
 
         String fullKey = CACHE_NAME + "::nonexistent";
-        when(valueOperations.get(fullKey)).thenReturn(null);
+        when(stringCommands.get(raw(fullKey))).thenReturn(null);
 
         Optional<String> result = cacheStrategy.get(CACHE_NAME, "nonexistent", String.class);
         assertThat(result).isEmpty();
@@ -119,13 +143,13 @@ class RedisCacheStrategyTest {
     void shouldNotStoreNullValues() {
         cacheStrategy.put(CACHE_NAME, "nullKey", null);
 
-        verify(valueOperations, never()).set(anyString(), any());
+        verify(stringCommands, never()).set(any(byte[].class), any(byte[].class), any(Expiration.class), any(RedisStringCommands.SetOption.class));
     }
 
     @Test
     @DisplayName("Should set TTL when provided")
     void shouldSetTTLWhenProvided() {
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        givenConnection();
 
         String key = "key1";
         String value = "value1";
@@ -135,7 +159,7 @@ class RedisCacheStrategyTest {
         cacheStrategy.put(CACHE_NAME, key, value, ttl);
 
         // Duration.ofMinutes(5) = 300000 milliseconds
-        verify(valueOperations).set(eq(fullKey), anyString(), eq(ttl));
+        verify(stringCommands).set(eq(raw(fullKey)), any(byte[].class), eq(Expiration.from(ttl)), eq(RedisStringCommands.SetOption.upsert()));
     }
 
     @Test
@@ -144,53 +168,94 @@ class RedisCacheStrategyTest {
         String key = "key1";
         String fullKey = CACHE_NAME + "::" + key;
 
-        when(redisTemplate.delete(fullKey)).thenReturn(true);
+        RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+        when(redisConnection.keyCommands()).thenReturn(keyCommands);
+        when(redisTemplate.execute(any(RedisCallback.class))).thenAnswer(invocation ->
+            invocation.<RedisCallback<?>>getArgument(0).doInRedis(redisConnection));
+        when(keyCommands.unlink(raw(fullKey))).thenReturn(1L);
 
         cacheStrategy.evict(CACHE_NAME, key);
 
-        verify(redisTemplate).delete(fullKey);
+        verify(keyCommands).unlink(raw(fullKey));
+        assertThat(cacheStrategy.getCounters().orElseThrow().snapshot(CACHE_NAME).removals()).isEqualTo(1);
     }
 
     @Test
-    @DisplayName("Should evict multiple keys")
+    @DisplayName("Should evict multiple keys with pipelined UNLINK chunks")
     void shouldEvictMultipleKeys() {
-        List<String> keys = Arrays.asList("key1", "key2", "key3");
-        Set<String> fullKeys = new HashSet<>();
-        for (String key : keys) {
-            fullKeys.add(CACHE_NAME + "::" + key);
-        }
-
-        cacheStrategy.evictAll(CACHE_NAME, keys);
-
-        verify(redisTemplate).delete(fullKeys);
+        cacheProperties.getRedis().setPipelineChunkSize(2);
+        RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+        when(redisConnection.keyCommands()).thenReturn(keyCommands);
+        givenPipeline();
+
+        cacheStrategy.evictAll(CACHE_NAME, Arrays.asList("key1", "key2", "key3"));
+
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+        verify(keyCommands).unlink(raw(CACHE_NAME + "::key1"), raw(CACHE_NAME + "::key2"));
+        verify(keyCommands).unlink(raw(CACHE_NAME + "::key3"));
+        verify(redisTemplate, never()).delete(anyCollection());
+        assertThat(cacheStrategy.getLatencyHistogram(RedisCacheStrategy.Operation.EVICT_ALL).getCount()).isEqualTo(1);
     }
 
     @Test
     @DisplayName("Should clear entire cache")
     void shouldClearEntireCache() {
-        String pattern = CACHE_NAME + "::*";
-        Set<String> keys = new HashSet<>(Arrays.asList(
+        List<String> keys = Arrays.asList(
             CACHE_NAME + "::key1",
             CACHE_NAME + "::key2"
-        ));
+        );
+
+        List<Cursor<String>> cursors = givenScan(keys);
+
+        cacheStrategy.clear(CACHE_NAME);
+
+        verify(redisTemplate).unlink(keys);
+        verify(redisTemplate, never()).keys(anyString());
+        assertThat(cursors).singleElement().satisfies(cursor -> verify(cursor).close());
+    }
+
+    @Test
+    @DisplayName("Should scan with cache pattern and configured count")
+    void shouldScanWithCachePatternAndCount() {
+        cacheProperties.getRedis().setScanCount(250);
+        givenScan(List.of());
+
+        cacheStrategy.clear(CACHE_NAME);
 
-        when(redisTemplate.keys(pattern)).thenReturn(keys);
+        verify(redisTemplate).scan(argThat(options ->
+            (CACHE_NAME + "::*").equals(options.getPattern()) && Long.valueOf(250).equals(options.getCount())));
+        verify(redisTemplate, never()).unlink(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should unlink scanned keys in batches")
+    void shouldUnlinkScannedKeysInBatches() {
+        cacheProperties.getRedis().setDeleteBatchSize(2);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            keys.add(CACHE_NAME + "::key" + i);
+        }
+        givenScan(keys);
+        when(redisTemplate.unlink(anyCollection())).thenAnswer(invocation ->
+            (long) invocation.<Collection<?>>getArgument(0).size());
 
         cacheStrategy.clear(CACHE_NAME);
 
-        verify(redisTemplate).delete(keys);
+        verify(redisTemplate).unlink(keys.subList(0, 2));
+        verify(redisTemplate).unlink(keys.subList(2, 4));
+        verify(redisTemplate).unlink(keys.subList(4, 5));
     }
 
     @Test
     @DisplayName("Should compute value if absent")
     void shouldComputeValueIfAbsent() {
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        givenConnection();
 
         String key = "computeKey";
         String fullKey = CACHE_NAME + "::" + key;
         String expectedValue = "computedValue";
 
-        when(valueOperations.get(fullKey)).thenReturn(null);
+        when(stringCommands.get(raw(fullKey))).thenReturn(null);
 
         Callable<String> valueLoader = () -> expectedValue;
 
@@ -198,20 +263,20 @@ class RedisCacheStrategyTest {
 
         assertThat(result).isEqualTo(expectedValue);
         // getOrCompute() defaults to Duration.ofHours(1) TTL
-        verify(valueOperations).set(eq(fullKey), anyString(), any(Duration.class));
+        verify(stringCommands).set(eq(raw(fullKey)), any(byte[].class), any(Expiration.class), eq(RedisStringCommands.SetOption.upsert()));
     }
 
     @Test
     @DisplayName("Should not compute if value exists")
     void shouldNotComputeIfValueExists() {
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        givenConnection();
 
         String key = "existingKey";
         String fullKey = CACHE_NAME + "::" + key;
         // JSON string for String.class deserialization
         String existingValue = "\"existingValue\"";
 
-        when(valueOperations.get(fullKey)).thenReturn(existingValue);
+        when(stringCommands.get(raw(fullKey))).thenReturn(raw(existingValue));
 
         Callable<String> valueLoader = () -> {
             throw new AssertionError("Value loader should not be called");
@@ -225,12 +290,12 @@ class RedisCacheStrategyTest {
     @Test
     @DisplayName("Should handle computation exception")
     void shouldHandleComputationException() {
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        givenConnection();
 
         String key = "errorKey";
         String fullKey = CACHE_NAME + "::" + key;
 
-        when(valueOperations.get(fullKey)).thenReturn(null);
+        when(stringCommands.get(raw(fullKey))).thenReturn(null);
 
         Callable<String> failingLoader = () -> {
             throw new RuntimeException("Computation failed");
@@ -241,7 +306,56 @@ class RedisCacheStrategyTest {
         ).isInstanceOf(RuntimeException.class)
          .hasMessageContaining("Cache value computation failed");
 
-        verify(valueOperations, never()).set(anyString(), any());
+        verify(stringCommands, never()).set(any(byte[].class), any(byte[].class), any(Expiration.class), any(RedisStringCommands.SetOption.class));
+    }
+
+    @Test
+    @DisplayName("Should take a SET NX PX load lock and release it after loading")
+    void shouldTakeLoadLockWhenEnabled() {
+        cacheProperties.getLoadLock().setEnabled(true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        givenConnection();
+        String fullKey = CACHE_NAME + "::key";
+        String lockKey = "lock:" + CACHE_NAME + "::key";
+        when(stringCommands.get(raw(fullKey))).thenReturn(null);
+        when(valueOperations.setIfAbsent(eq(lockKey), anyString(), eq(Duration.ofMillis(10000)))).thenReturn(true);
+
+        String result = cacheStrategy.getOrCompute(CACHE_NAME, "key", () -> "loaded", String.class);
+
+        assertThat(result).isEqualTo("loaded");
+        verify(stringCommands).set(eq(raw(fullKey)), eq(raw("\"loaded\"")), any(Expiration.class), eq(RedisStringCommands.SetOption.upsert()));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(lockKey)), anyString());
+    }
+
+    @Test
+    @DisplayName("Should wait for the lock holder's value instead of loading")
+    void shouldWaitForLockHolder() {
+        cacheProperties.getLoadLock().setEnabled(true);
+        cacheProperties.getLoadLock().setPollIntervalMillis(1);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        givenConnection();
+        String fullKey = CACHE_NAME + "::key";
+        when(stringCommands.get(raw(fullKey))).thenReturn(null, null, raw("\"remote\""));
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        String result = cacheStrategy.getOrCompute(CACHE_NAME, "key", () -> {
+            throw new AssertionError("Loader should not run on this node");
+        }, String.class);
+
+        assertThat(result).isEqualTo("remote");
+        assertThat(cacheStrategy.getLoadStatistics().remoteCoalescedLoads()).isEqualTo(1);
+        verify(stringCommands, never()).set(any(byte[].class), any(byte[].class), any(Expiration.class), any(RedisStringCommands.SetOption.class));
+    }
+
+    @Test
+    @DisplayName("Should not take a load lock by default")
+    void shouldNotTakeLoadLockByDefault() {
+        givenConnection();
+
+        cacheStrategy.getOrCompute(CACHE_NAME, "key", () -> "loaded", String.class);
+
+        verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+        assertThat(cacheStrategy.getLoadStatistics().loads()).isEqualTo(1);
     }
 
     @Test
@@ -259,34 +373,81 @@ class RedisCacheStrategyTest {
     @Test
     @DisplayName("Should get all keys")
     void shouldGetAllKeys() {
-        String pattern = CACHE_NAME + "::*";
-        Set<String> fullKeys = new HashSet<>(Arrays.asList(
+        List<String> fullKeys = Arrays.asList(
             CACHE_NAME + "::key1",
             CACHE_NAME + "::key2",
             CACHE_NAME + "::key3"
-        ));
+        );
 
-        when(redisTemplate.keys(pattern)).thenReturn(fullKeys);
+        List<Cursor<String>> cursors = givenScan(fullKeys);
 
         Collection<Object> keys = cacheStrategy.getKeys(CACHE_NAME);
 
         assertThat(keys).containsExactlyInAnyOrder("key1", "key2", "key3");
+        assertThat(cursors).isNotEmpty().allSatisfy(cursor -> verify(cursor).close());
+    }
+
+    @Test
+    @DisplayName("Should return a key snapshot without holding the scan cursor open")
+    void shouldReturnKeySnapshot() {
+        List<Cursor<String>> cursors = givenScan(List.of(CACHE_NAME + "::key1", CACHE_NAME + "::key2"));
+
+        Collection<Object> keys = cacheStrategy.getKeys(CACHE_NAME);
+
+        assertThat(cursors).singleElement().satisfies(cursor -> verify(cursor).close());
+        assertThat(keys.stream().findFirst()).contains("key1");
+        assertThat(keys).hasSize(2).contains("key2");
+        verify(redisTemplate, times(1)).scan(any(ScanOptions.class));
+    }
+
+    @Test
+    @DisplayName("Should stream keys and close the scan cursor with the stream")
+    void shouldStreamKeys() {
+        List<Cursor<String>> cursors = givenScan(List.of(CACHE_NAME + "::key1", CACHE_NAME + "::key2"));
+
+        try (Stream<Object> keys = cacheStrategy.streamKeys(CACHE_NAME)) {
+            assertThat(keys.findFirst()).contains("key1");
+            verify(cursors.get(0), never()).close();
+        }
+
+        verify(cursors.get(0)).close();
+    }
+
+    @Test
+    @DisplayName("Should stream entries one MGET chunk at a time")
+    void shouldStreamEntriesLazily() {
+        cacheProperties.getRedis().setPipelineChunkSize(2);
+        givenConnection();
+        List<String> fullKeys = Arrays.asList(
+            CACHE_NAME + "::key1",
+            CACHE_NAME + "::key2",
+            CACHE_NAME + "::key3"
+        );
+        List<Cursor<String>> cursors = givenScan(fullKeys);
+        when(stringCommands.mGet(raw(fullKeys.get(0)), raw(fullKeys.get(1))))
+            .thenReturn(Arrays.asList(raw("\"v1\""), null));
+
+        try (Stream<Map.Entry<Object, String>> entries =
+                 cacheStrategy.streamAll(CACHE_NAME, String.class)) {
+            assertThat(entries.findFirst()).contains(Map.entry("key1", "v1"));
+        }
+
+        verify(stringCommands, never()).mGet(raw(fullKeys.get(2)));
+        verify(cursors.get(0)).close();
     }
 
     @Test
     @DisplayName("Should get all entries")
     void shouldGetAllEntries() {
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        givenConnection();
 
-        String pattern = CACHE_NAME + "::*";
-        Set<String> fullKeys = new LinkedHashSet<>(Arrays.asList(
+        List<String> fullKeys = Arrays.asList(
             CACHE_NAME + "::key1",
             CACHE_NAME + "::key2"
-        ));
-        List<String> values = Arrays.asList("\"value1\"", "\"value2\"");
-
-        when(redisTemplate.keys(pattern)).thenReturn(fullKeys);
-        when(valueOperations.multiGet(fullKeys)).thenReturn(values);
+        );
+        givenScan(fullKeys);
+        when(stringCommands.mGet(raw(fullKeys.get(0)), raw(fullKeys.get(1))))
+            .thenReturn(Arrays.asList(raw("\"value1\""), raw("\"value2\"")));
 
         Map<Object, String> entries = cacheStrategy.getAll(CACHE_NAME, String.class);
 
@@ -295,20 +456,64 @@ class RedisCacheStrategyTest {
     }
 
     @Test
-    @DisplayName("Should put all entries")
+    @DisplayName("Should put all entries with pipelined SET with expiry")
     void shouldPutAllEntries() {
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisConnection.stringCommands()).thenReturn(stringCommands);
+        givenPipeline();
 
         Map<Object, String> entries = new HashMap<>();
         entries.put("key1", "value1");
         entries.put("key2", "value2");
 
+        cacheStrategy.putAll(CACHE_NAME, entries, Duration.ofSeconds(30));
+
+        verify(stringCommands).set(eq(raw(CACHE_NAME + "::key1")), eq(raw("\"value1\"")),
+            eq(Expiration.seconds(30)), eq(RedisStringCommands.SetOption.upsert()));
+        verify(stringCommands).set(eq(raw(CACHE_NAME + "::key2")), eq(raw("\"value2\"")),
+            eq(Expiration.seconds(30)), eq(RedisStringCommands.SetOption.upsert()));
+        verify(redisTemplate, never()).expire(anyString(), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    @DisplayName("Should send one pipeline per chunk when putting many entries")
+    void shouldPipelinePutAllInChunks() {
+        cacheProperties.getRedis().setPipelineChunkSize(100);
+        when(redisConnection.stringCommands()).thenReturn(stringCommands);
+        givenPipeline();
+
+        Map<Object, Integer> entries = new HashMap<>();
+        for (int i = 0; i < 250; i++) {
+            entries.put("key" + i, i);
+        }
+
         cacheStrategy.putAll(CACHE_NAME, entries);
 
-        // Verify multiSet was called with serialized entries
-        verify(valueOperations).multiSet(anyMap());
-        // Verify expire was called for each key (twice for 2 entries)
-        verify(redisTemplate, times(2)).expire(anyString(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        verify(redisTemplate, times(3)).executePipelined(any(RedisCallback.class));
+        verify(stringCommands, times(250)).set(any(byte[].class), any(byte[].class),
+            any(Expiration.class), any(RedisStringCommands.SetOption.class));
+        assertThat(cacheStrategy.getLatencyHistogram(RedisCacheStrategy.Operation.PUT_ALL).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should fetch all entries with one MGET per chunk")
+    void shouldFetchAllEntriesInChunks() {
+        cacheProperties.getRedis().setPipelineChunkSize(2);
+        givenConnection();
+        List<String> fullKeys = Arrays.asList(
+            CACHE_NAME + "::key1",
+            CACHE_NAME + "::key2",
+            CACHE_NAME + "::key3"
+        );
+        givenScan(fullKeys);
+        when(stringCommands.mGet(raw(fullKeys.get(0)), raw(fullKeys.get(1))))
+            .thenReturn(List.of(raw("\"v\""), raw("\"v\"")));
+        when(stringCommands.mGet(raw(fullKeys.get(2)))).thenReturn(List.of(raw("\"v\"")));
+
+        Map<Object, String> entries = cacheStrategy.getAll(CACHE_NAME, String.class);
+
+        assertThat(entries).containsOnlyKeys("key1", "key2", "key3");
+        verify(stringCommands).mGet(raw(fullKeys.get(0)), raw(fullKeys.get(1)));
+        verify(stringCommands).mGet(raw(fullKeys.get(2)));
     }
 
     @Test
@@ -323,30 +528,80 @@ class RedisCacheStrategyTest {
     }
 
     @Test
-    @DisplayName("Should return statistics")
+    @DisplayName("Should return per-cache statistics with a counted size in small databases")
     void shouldReturnStatistics() {
-        String pattern = CACHE_NAME + "::*";
-        Set<String> keys = new HashSet<>(Arrays.asList(
+        List<String> keys = Arrays.asList(
             CACHE_NAME + "::key1",
             CACHE_NAME + "::key2"
-        ));
+        );
 
-        Properties redisInfo = new Properties();
-        redisInfo.setProperty("keyspace_hits", "100");
-        redisInfo.setProperty("keyspace_misses", "50");
-        redisInfo.setProperty("evicted_keys", "10");
+        givenConnection();
+        when(stringCommands.get(raw(CACHE_NAME + "::key1"))).thenReturn(raw("\"value1\""));
+        cacheStrategy.get(CACHE_NAME, "key1", String.class);
+        cacheStrategy.get(CACHE_NAME, "missing", String.class);
+        cacheStrategy.get("otherCache", "key1", String.class);
 
-        when(redisTemplate.keys(pattern)).thenReturn(keys);
-        // Mock server commands for statistics
+        givenScan(keys);
         when(redisConnection.serverCommands()).thenReturn(serverCommands);
-        when(serverCommands.info("stats")).thenReturn(redisInfo);
+        when(serverCommands.dbSize()).thenReturn(5L);
 
         CacheStrategy.CacheStatistics stats = cacheStrategy.getStatistics(CACHE_NAME);
 
         assertThat(stats).isNotNull();
         assertThat(stats.size()).isEqualTo(2);
-        assertThat(stats.hits()).isEqualTo(100);
-        assertThat(stats.misses()).isEqualTo(50);
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(1);
+        verify(serverCommands, never()).info(anyString());
+        verify(redisTemplate, never()).keys(anyString());
+    }
+
+    @Test
+    @DisplayName("Should count hits, loads and bytes without querying the server")
+    void shouldCountOperationsWithoutQueryingServer() {
+        givenConnection();
+        byte[] stored = raw("\"value1\"");
+        when(stringCommands.get(raw(CACHE_NAME + "::key1"))).thenReturn(stored);
+
+        cacheStrategy.get(CACHE_NAME, "key1", String.class);
+        cacheStrategy.put(CACHE_NAME, "key2", "value2");
+        cacheStrategy.getOrCompute(CACHE_NAME, "key3", () -> "loaded", String.class);
+        assertThatThrownBy(() -> cacheStrategy.getOrCompute(CACHE_NAME, "key4", () -> {
+            throw new IllegalStateException("boom");
+        }, String.class)).isInstanceOf(RuntimeException.class);
+
+        CacheCounters.Snapshot counts = cacheStrategy.getCounters().orElseThrow().snapshot(CACHE_NAME);
+
+        assertThat(counts.hits()).isEqualTo(1);
+        assertThat(counts.misses()).isEqualTo(2);
+        assertThat(counts.loads()).isEqualTo(1);
+        assertThat(counts.loadFailures()).isEqualTo(1);
+        assertThat(counts.puts()).isEqualTo(2);
+        assertThat(counts.bytesRead()).isEqualTo(stored.length);
+        assertThat(counts.bytesWritten()).isEqualTo(raw("\"value2\"").length + raw("\"loaded\"").length);
+        verify(redisConnection, never()).serverCommands();
+    }
+
+    @Test
+    @DisplayName("Should estimate cache size by sampling random keys in large databases")
+    void shouldEstimateSizeBySampling() {
+        cacheProperties.getRedis().setStatisticsSampleSize(4);
+        RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+
+        when(redisConnection.serverCommands()).thenReturn(serverCommands);
+        when(redisConnection.keyCommands()).thenReturn(keyCommands);
+        when(serverCommands.dbSize()).thenReturn(20_000_000L);
+        when(redisConnection.closePipeline()).thenReturn(List.of(
+            (CACHE_NAME + "::a").getBytes(StandardCharsets.UTF_8),
+            "otherCache::b".getBytes(StandardCharsets.UTF_8),
+            "otherCache::c".getBytes(StandardCharsets.UTF_8),
+            "otherCache::d".getBytes(StandardCharsets.UTF_8)
+        ));
+
+        CacheStrategy.CacheStatistics stats = cacheStrategy.getStatistics(CACHE_NAME);
+
+        assertThat(stats.size()).isEqualTo(5_000_000L);
+        verify(keyCommands, times(4)).randomKey();
+        verify(redisTemplate, never()).scan(any(ScanOptions.class));
     }
 
     @Test
@@ -368,27 +623,337 @@ class RedisCacheStrategyTest {
 
         RedisCacheStrategy strategyWithPrefix = new RedisCacheStrategy(redisTemplate, propsWithPrefix);
 
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        givenConnection();
 
         String key = "key1";
         String expectedKey = "myapp:" + CACHE_NAME + "::" + key;
 
         strategyWithPrefix.put(CACHE_NAME, key, "value");
 
-        verify(valueOperations).set(eq(expectedKey), anyString(), any(Duration.class));
+        verify(stringCommands).set(eq(raw(expectedKey)), any(byte[].class), any(Expiration.class), eq(RedisStringCommands.SetOption.upsert()));
     }
 
     @Test
     @DisplayName("Should not apply Redis key prefix when disabled")
     void shouldNotApplyRedisKeyPrefixWhenDisabled() {
         // Already configured in setUp with useKeyPrefix=false
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        givenConnection();
 
         String key = "key1";
         String expectedKey = CACHE_NAME + "::" + key;
 
         cacheStrategy.put(CACHE_NAME, key, "value");
 
-        verify(valueOperations).set(eq(expectedKey), anyString(), any(Duration.class));
+        verify(stringCommands).set(eq(raw(expectedKey)), any(byte[].class), any(Expiration.class), eq(RedisStringCommands.SetOption.upsert()));
+    }
+
+    @Test
+    @DisplayName("Should add the key to each tag set in the put pipeline")
+    void shouldIndexTaggedPut() {
+        RedisScriptingCommands scriptingCommands = mock(RedisScriptingCommands.class);
+        when(redisConnection.stringCommands()).thenReturn(stringCommands);
+        when(redisConnection.scriptingCommands()).thenReturn(scriptingCommands);
+        givenPipeline();
+
+        cacheStrategy.put(CACHE_NAME, "key1", "value", Duration.ofSeconds(30), List.of("tenant:1", "tenant:1", "plan"));
+
+        verify(stringCommands).set(eq(raw(CACHE_NAME + "::key1")), eq(raw("\"value\"")),
+            eq(Expiration.seconds(30)), eq(RedisStringCommands.SetOption.upsert()));
+        verify(scriptingCommands).eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1),
+            eq(raw("tag:" + CACHE_NAME + "::tenant:1")), eq(raw(CACHE_NAME + "::key1")), eq(raw("30000")));
+        verify(scriptingCommands).eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1),
+            eq(raw("tag:" + CACHE_NAME + "::plan")), eq(raw(CACHE_NAME + "::key1")), eq(raw("30000")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("Should unlink the members of a tag set")
+    void shouldEvictByTag() {
+        RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+        when(redisConnection.keyCommands()).thenReturn(keyCommands);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("tag:" + CACHE_NAME + "::tenant:1"))))
+            .thenReturn(List.of(CACHE_NAME + "::key1", CACHE_NAME + "::key2"));
+        givenPipeline();
+
+        cacheStrategy.evictByTag(CACHE_NAME, "tenant:1");
+
+        verify(keyCommands).unlink(raw(CACHE_NAME + "::key1"), raw(CACHE_NAME + "::key2"));
+        assertThat(cacheStrategy.getLatencyHistogram(RedisCacheStrategy.Operation.EVICT_BY_TAG).getCount())
+            .isEqualTo(1);
+    }
+
+    /**
+     * Run pipelined callbacks against the mocked connection.
+     */
+    private void givenPipeline() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            invocation.<RedisCallback<?>>getArgument(0).doInRedis(redisConnection);
+            return List.of();
+        });
+    }
+
+    /**
+     * Run single-command callbacks against the mocked connection.
+     */
+    @SuppressWarnings("unchecked")
+    @Nested
+    @DisplayName("async operations")
+    class AsyncOperations {
+
+        private ReactiveRedisConnection reactiveConnection;
+        private ReactiveStringCommands reactiveStrings;
+        private ReactiveKeyCommands reactiveKeys;
+        private ReactiveScriptingCommands reactiveScripting;
+        private RedisCacheStrategy asyncStrategy;
+
+        @BeforeEach
+        void setUpReactiveConnection() {
+            RedisConnectionFactory reactiveFactory = mock(RedisConnectionFactory.class,
+                withSettings().extraInterfaces(ReactiveRedisConnectionFactory.class));
+            reactiveConnection = mock(ReactiveRedisConnection.class);
+            reactiveStrings = mock(ReactiveStringCommands.class);
+            reactiveKeys = mock(ReactiveKeyCommands.class);
+            reactiveScripting = mock(ReactiveScriptingCommands.class);
+            when(((ReactiveRedisConnectionFactory) reactiveFactory).getReactiveConnection()).thenReturn(reactiveConnection);
+            lenient().when(reactiveConnection.stringCommands()).thenReturn(reactiveStrings);
+            lenient().when(reactiveConnection.keyCommands()).thenReturn(reactiveKeys);
+            lenient().when(reactiveConnection.scriptingCommands()).thenReturn(reactiveScripting);
+            when(redisTemplate.getConnectionFactory()).thenReturn(reactiveFactory);
+
+            asyncStrategy = new RedisCacheStrategy(redisTemplate, cacheProperties);
+        }
+
+        @Test
+        @DisplayName("getAsync should read through the reactive connection")
+        void getAsyncShouldUseReactiveConnection() {
+            when(reactiveStrings.get(buffer(CACHE_NAME + "::key1"))).thenReturn(Mono.just(buffer("\"value1\"")));
+            when(reactiveStrings.get(buffer(CACHE_NAME + "::key2"))).thenReturn(Mono.empty());
+
+            assertThat(asyncStrategy.getAsync(CACHE_NAME, "key1", String.class).toCompletableFuture().join())
+                .contains("value1");
+            assertThat(asyncStrategy.getAsync(CACHE_NAME, "key2", String.class).toCompletableFuture().join())
+                .isEmpty();
+            verify(redisTemplate, never()).execute(any(RedisCallback.class));
+        }
+
+        @Test
+        @DisplayName("getAsync should complete empty when the command fails")
+        void getAsyncShouldSwallowFailures() {
+            when(reactiveStrings.get(any(ByteBuffer.class))).thenReturn(Mono.error(new IllegalStateException("down")));
+
+            assertThat(asyncStrategy.getAsync(CACHE_NAME, "key1", String.class).toCompletableFuture().join())
+                .isEmpty();
+        }
+
+        @Test
+        @DisplayName("putAsync and evictAsync should send SET with expiry and UNLINK")
+        void putAndEvictAsync() {
+            when(reactiveStrings.set(any(ByteBuffer.class), any(ByteBuffer.class), any(Expiration.class),
+                eq(RedisStringCommands.SetOption.upsert()))).thenReturn(Mono.just(true));
+            when(reactiveKeys.unlink(any(ByteBuffer.class))).thenReturn(Mono.just(1L));
+
+            asyncStrategy.putAsync(CACHE_NAME, "key1", "value1", Duration.ofMinutes(5)).toCompletableFuture().join();
+            asyncStrategy.evictAsync(CACHE_NAME, "key1").toCompletableFuture().join();
+
+            verify(reactiveStrings).set(buffer(CACHE_NAME + "::key1"), buffer("\"value1\""),
+                Expiration.from(Duration.ofMinutes(5)), RedisStringCommands.SetOption.upsert());
+            verify(reactiveKeys).unlink(buffer(CACHE_NAME + "::key1"));
+        }
+
+        @Test
+        @DisplayName("putAsync with tags should add the key to each tag set")
+        void putAsyncShouldIndexTags() {
+            when(reactiveStrings.set(any(ByteBuffer.class), any(ByteBuffer.class), any(Expiration.class),
+                eq(RedisStringCommands.SetOption.upsert()))).thenReturn(Mono.just(true));
+            when(reactiveScripting.eval(any(ByteBuffer.class), eq(ReturnType.INTEGER), eq(1), any(ByteBuffer[].class)))
+                .thenReturn(Flux.just(1L));
+
+            asyncStrategy.putAsync(CACHE_NAME, "key1", "value", Duration.ofSeconds(30), List.of("tenant:1", "plan"))
+                .toCompletableFuture().join();
+
+            verify(reactiveStrings).set(buffer(CACHE_NAME + "::key1"), buffer("\"value\""),
+                Expiration.from(Duration.ofSeconds(30)), RedisStringCommands.SetOption.upsert());
+            verify(reactiveScripting).eval(any(ByteBuffer.class), eq(ReturnType.INTEGER), eq(1),
+                eq(buffer("tag:" + CACHE_NAME + "::tenant:1")), eq(buffer(CACHE_NAME + "::key1")), eq(buffer("30000")));
+            verify(reactiveScripting).eval(any(ByteBuffer.class), eq(ReturnType.INTEGER), eq(1),
+                eq(buffer("tag:" + CACHE_NAME + "::plan")), eq(buffer(CACHE_NAME + "::key1")), eq(buffer("30000")));
+        }
+
+        @Test
+        @DisplayName("getOrComputeAsync should take the SET NX PX load lock and release it")
+        void getOrComputeAsyncShouldTakeLoadLock() {
+            cacheProperties.getLoadLock().setEnabled(true);
+            String lockKey = "lock:" + CACHE_NAME + "::key1";
+            when(reactiveStrings.get(any(ByteBuffer.class))).thenReturn(Mono.empty());
+            when(reactiveStrings.set(eq(buffer(lockKey)), any(ByteBuffer.class), eq(Expiration.milliseconds(10000)),
+                eq(RedisStringCommands.SetOption.ifAbsent()))).thenReturn(Mono.just(true));
+            when(reactiveStrings.set(eq(buffer(CACHE_NAME + "::key1")), any(ByteBuffer.class), any(Expiration.class),
+                eq(RedisStringCommands.SetOption.upsert()))).thenReturn(Mono.just(true));
+            when(reactiveScripting.eval(any(ByteBuffer.class), eq(ReturnType.INTEGER), eq(1), any(ByteBuffer[].class)))
+                .thenReturn(Flux.just(1L));
+
+            String value = asyncStrategy.getOrComputeAsync(CACHE_NAME, "key1",
+                () -> CompletableFuture.completedFuture("loaded"), String.class, Duration.ofMinutes(5))
+                .toCompletableFuture().join();
+
+            assertThat(value).isEqualTo("loaded");
+            verify(reactiveScripting).eval(any(ByteBuffer.class), eq(ReturnType.INTEGER), eq(1),
+                eq(buffer(lockKey)), any(ByteBuffer.class));
+        }
+
+        @Test
+        @DisplayName("getOrComputeAsync should wait for the lock holder's value instead of loading")
+        void getOrComputeAsyncShouldWaitForLockHolder() {
+            cacheProperties.getLoadLock().setEnabled(true);
+            cacheProperties.getLoadLock().setPollIntervalMillis(1);
+            when(reactiveStrings.get(any(ByteBuffer.class)))
+                .thenReturn(Mono.empty(), Mono.empty(), Mono.just(buffer("\"remote\"")));
+            when(reactiveStrings.set(any(ByteBuffer.class), any(ByteBuffer.class), any(Expiration.class),
+                eq(RedisStringCommands.SetOption.ifAbsent()))).thenReturn(Mono.just(false));
+
+            String value = asyncStrategy.getOrComputeAsync(CACHE_NAME, "key1",
+                () -> CompletableFuture.failedFuture(new AssertionError("Loader should not run on this node")),
+                String.class, Duration.ofMinutes(5)).toCompletableFuture().join();
+
+            assertThat(value).isEqualTo("remote");
+            assertThat(asyncStrategy.getLoadStatistics().remoteCoalescedLoads()).isEqualTo(1);
+            verify(reactiveStrings, never()).set(any(ByteBuffer.class), any(ByteBuffer.class), any(Expiration.class),
+                eq(RedisStringCommands.SetOption.upsert()));
+        }
+
+        @Test
+        @DisplayName("putAllAsync should send one SET per entry without the blocking pipeline")
+        void putAllAsyncShouldSetEveryEntry() {
+            cacheProperties.getRedis().setPipelineChunkSize(2);
+            when(reactiveStrings.set(any(ByteBuffer.class), any(ByteBuffer.class), any(Expiration.class),
+                any(RedisStringCommands.SetOption.class))).thenReturn(Mono.just(true));
+            Map<Object, String> entries = new LinkedHashMap<>();
+            entries.put("k1", "v1");
+            entries.put("k2", null);
+            entries.put("k3", "v3");
+            entries.put("k4", "v4");
+
+            asyncStrategy.putAllAsync(CACHE_NAME, entries, Duration.ofMinutes(5)).toCompletableFuture().join();
+
+            verify(reactiveStrings, times(3)).set(any(ByteBuffer.class), any(ByteBuffer.class), any(Expiration.class),
+                any(RedisStringCommands.SetOption.class));
+            verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+        }
+
+        @Test
+        @DisplayName("getAllAsync should scan keys and MGET their values")
+        void getAllAsyncShouldScanAndMget() {
+            when(reactiveKeys.scan(any(ScanOptions.class)))
+                .thenReturn(Flux.just(buffer(CACHE_NAME + "::k1"), buffer(CACHE_NAME + "::k2")));
+            when(reactiveStrings.mGet(List.of(buffer(CACHE_NAME + "::k1"), buffer(CACHE_NAME + "::k2"))))
+                .thenReturn(Mono.just(List.of(buffer("\"v1\""), ByteBuffer.allocate(0))));
+
+            Map<Object, String> all = asyncStrategy.getAllAsync(CACHE_NAME, String.class).toCompletableFuture().join();
+
+            assertThat(all).containsExactly(Map.entry("k1", "v1"));
+        }
+
+        @Test
+        @DisplayName("getOrComputeAsync should load once for concurrent misses")
+        void getOrComputeAsyncShouldCoalesce() {
+            when(reactiveStrings.get(any(ByteBuffer.class))).thenReturn(Mono.empty());
+            when(reactiveStrings.set(any(ByteBuffer.class), any(ByteBuffer.class), any(Expiration.class),
+                any(RedisStringCommands.SetOption.class))).thenReturn(Mono.just(true));
+            CompletableFuture<String> load = new CompletableFuture<>();
+
+            CompletableFuture<String> first = asyncStrategy.getOrComputeAsync(CACHE_NAME, "key1", () -> load,
+                String.class, Duration.ofMinutes(5)).toCompletableFuture();
+            CompletableFuture<String> second = asyncStrategy.getOrComputeAsync(CACHE_NAME, "key1",
+                () -> CompletableFuture.completedFuture("other"), String.class, Duration.ofMinutes(5))
+                .toCompletableFuture();
+            load.complete("value1");
+
+            assertThat(first.join()).isEqualTo("value1");
+            assertThat(second.join()).isEqualTo("value1");
+            assertThat(asyncStrategy.getLoadStatistics().coalescedLoads()).isEqualTo(1);
+            verify(reactiveStrings, times(1)).set(any(ByteBuffer.class), any(ByteBuffer.class),
+                any(Expiration.class), any(RedisStringCommands.SetOption.class));
+        }
+
+        @Test
+        @DisplayName("shutdown should close the reactive connection")
+        void shutdownShouldCloseReactiveConnection() {
+            when(reactiveStrings.get(any(ByteBuffer.class))).thenReturn(Mono.empty());
+            asyncStrategy.getAsync(CACHE_NAME, "key1", String.class).toCompletableFuture().join();
+
+            asyncStrategy.shutdown();
+
+            verify(reactiveConnection).close();
+        }
+    }
+
+    @Test
+    @DisplayName("getAsync should read through the template off the caller's thread without a reactive connection factory")
+    void getAsyncShouldUseTemplateOnAsyncThreads() {
+        when(redisConnection.stringCommands()).thenReturn(stringCommands);
+        List<String> threads = new ArrayList<>();
+        when(redisTemplate.execute(any(RedisCallback.class))).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            return invocation.<RedisCallback<?>>getArgument(0).doInRedis(redisConnection);
+        });
+        when(stringCommands.get(raw(CACHE_NAME + "::key1"))).thenReturn(raw("\"value1\""));
+
+        assertThat(cacheStrategy.getAsync(CACHE_NAME, "key1", String.class).toCompletableFuture().join())
+            .contains("value1");
+        assertThat(threads).singleElement().asString().startsWith("simplix-cache-redis-async-");
+    }
+
+    @Test
+    @DisplayName("getOrComputeAsync should take the load lock through the template without a reactive connection factory")
+    void getOrComputeAsyncShouldTakeLoadLockThroughTemplate() {
+        cacheProperties.getLoadLock().setEnabled(true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        givenConnection();
+        String lockKey = "lock:" + CACHE_NAME + "::key";
+        when(stringCommands.get(raw(CACHE_NAME + "::key"))).thenReturn(null);
+        when(valueOperations.setIfAbsent(eq(lockKey), anyString(), eq(Duration.ofMillis(10000)))).thenReturn(true);
+
+        String result = cacheStrategy.getOrComputeAsync(CACHE_NAME, "key",
+            () -> CompletableFuture.completedFuture("loaded"), String.class, Duration.ofMinutes(5))
+            .toCompletableFuture().join();
+
+        assertThat(result).isEqualTo("loaded");
+        verify(stringCommands).set(eq(raw(CACHE_NAME + "::key")), eq(raw("\"loaded\"")), any(Expiration.class),
+            eq(RedisStringCommands.SetOption.upsert()));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(lockKey)), anyString());
+    }
+
+    private static ByteBuffer buffer(String value) {
+        return ByteBuffer.wrap(raw(value));
+    }
+
+    private void givenConnection() {
+        when(redisConnection.stringCommands()).thenReturn(stringCommands);
+        when(redisTemplate.execute(any(RedisCallback.class))).thenAnswer(invocation ->
+            invocation.<RedisCallback<?>>getArgument(0).doInRedis(redisConnection));
+    }
+
+    private static byte[] raw(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Every SCAN opens a new cursor over the given keys.
+     *
+     * @return the cursors opened so far
+     */
+    @SuppressWarnings("unchecked")
+    private List<Cursor<String>> givenScan(List<String> keys) {
+        List<Cursor<String>> cursors = new ArrayList<>();
+        when(redisTemplate.scan(any(ScanOptions.class))).thenAnswer(invocation -> {
+            // Real default methods, so forEachRemaining walks hasNext/next
+            Cursor<String> cursor = mock(Cursor.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
+            Iterator<String> iterator = keys.iterator();
+            lenient().when(cursor.hasNext()).thenAnswer(call -> iterator.hasNext());
+            lenient().when(cursor.next()).thenAnswer(call -> iterator.next());
+            cursors.add(cursor);
+            return cursor;
+        });
+        return cursors;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,147 @@
+package dev.simplecore.simplix.cache.strategy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlight")
+class SingleFlightTest {
+
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    @Test
+    @DisplayName("should run the loader once for concurrent callers of the same key")
+    void shouldCoalesceConcurrentLoads() throws Exception {
+        int callers = 8;
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        AtomicInteger invocations = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> singleFlight.execute("users::1", () -> {
+                invocations.incrementAndGet();
+                loaderStarted.countDown();
+                releaseLoader.await(5, TimeUnit.SECONDS);
+                return "alice";
+            })));
+            assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("users::1", () -> {
+                    invocations.incrementAndGet();
+                    return "other";
+                })));
+            }
+            while (singleFlight.getStatistics().coalescedLoads() < callers - 1) {
+                Thread.sleep(1);
+            }
+            releaseLoader.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("alice");
+            }
+            assertThat(invocations).hasValue(1);
+            assertThat(singleFlight.getStatistics().loads()).isEqualTo(1);
+            assertThat(singleFlight.getInFlightCount()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("should load again once the previous flight completed")
+    void shouldLoadAgainAfterCompletion() throws Exception {
+        assertThat(singleFlight.execute("k", () -> "first")).isEqualTo("first");
+        assertThat(singleFlight.execute("k", () -> "second")).isEqualTo("second");
+
+        assertThat(singleFlight.getStatistics().loads()).isEqualTo(2);
+        assertThat(singleFlight.getStatistics().coalescedLoads()).isZero();
+    }
+
+    @Test
+    @DisplayName("should rethrow the loader's exception and release the key")
+    void shouldRethrowLoaderException() throws Exception {
+        assertThatThrownBy(() -> singleFlight.execute("k", () -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("database down");
+
+        assertThat(singleFlight.getInFlightCount()).isZero();
+        assertThat(singleFlight.execute("k", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    @Test
+    @DisplayName("should count a value loaded by another node as a remote coalesced load")
+    void shouldCountRemoteCoalescedLoad() {
+        AtomicInteger reads = new AtomicInteger();
+
+        Optional<String> value = singleFlight.awaitRemoteLoad(
+            () -> reads.incrementAndGet() < 3 ? Optional.empty() : Optional.of("remote"),
+            Duration.ofSeconds(1), Duration.ofMillis(1));
+
+        assertThat(value).contains("remote");
+        assertThat(singleFlight.getStatistics().remoteCoalescedLoads()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should give up waiting after the wait elapses")
+    void shouldGiveUpAfterWait() {
+        Optional<String> value = singleFlight.awaitRemoteLoad(Optional::empty,
+            Duration.ofMillis(5), Duration.ofMillis(1));
+
+        assertThat(value).isEmpty();
+        assertThat(singleFlight.getStatistics().remoteCoalescedLoads()).isZero();
+    }
+
+    @Test
+    @DisplayName("should share one async load between callers of the same key")
+    void shouldCoalesceAsyncLoads() {
+        CompletableFuture<String> load = new CompletableFuture<>();
+        AtomicInteger invocations = new AtomicInteger();
+
+        CompletableFuture<String> first = singleFlight.executeAsync("users::1", () -> {
+            invocations.incrementAndGet();
+            return load;
+        });
+        CompletableFuture<String> second = singleFlight.executeAsync("users::1", () -> {
+            invocations.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+        assertThat(first).isNotDone();
+        load.complete("alice");
+
+        assertThat(first.join()).isEqualTo("alice");
+        assertThat(second.join()).isEqualTo("alice");
+        assertThat(invocations).hasValue(1);
+        assertThat(singleFlight.getStatistics().coalescedLoads()).isEqualTo(1);
+        assertThat(singleFlight.getInFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("should fail every async caller with the loader's failure and release the key")
+    void shouldPropagateAsyncFailure() {
+        CompletableFuture<String> failed = singleFlight.executeAsync("k", () -> {
+            throw new IllegalStateException("database down");
+        });
+
+        assertThat(failed).isCompletedExceptionally();
+        assertThatThrownBy(failed::join).hasRootCauseInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.getInFlightCount()).isZero();
+        assertThat(singleFlight.executeAsync("k", () -> CompletableFuture.completedFuture("recovered")).join())
+            .isEqualTo("recovered");
+    }
+}
@@ -11,17 +11,36 @@ import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * JPA AttributeConverter for reversible masking of sensitive data.
  * Stores encrypted data in database and provides masked representation for display.
  * Uses AES-GCM for authenticated encryption with integrity protection.
+ * <p>
+ * Values are only decrypted when unmasking is requested; otherwise the stored ciphertext is
+ * never touched on read. Each value handed to an entity is remembered, by identity and weakly,
+ * together with the ciphertext it came from, so an entity that is loaded and written back with
+ * the attribute unchanged keeps its stored ciphertext instead of being re-encrypted. A mapping
+ * lives as long as the entity's value does.
+ * <p>
+ * The masked placeholder is never encrypted: written back without its mapping, e.g. after being
+ * copied into another entity or with write-back disabled, it is refused with an exception
+ * rather than stored over the real data.
+ * <p>
+ * An optional bounded cache of decrypted values keyed by stored ciphertext avoids repeating
+ * the decryption when the same rows are read again.
  */
 @Converter
 @Component
@@ -33,6 +52,7 @@ public class MaskingConverter implements AttributeConverter<String, String> {
     private static final int IV_LENGTH_BYTE = 12;
     private static final String PREFIX = "MASKED:";
     private static final char MASK_CHAR = '*';
+    private static final String MASKED_VALUE = "****MASKED****";
 
     // Legacy keys (core.masking.*) are kept as nested fallback for existing consumers.
     @Value("${simplix.core.masking.enabled:${core.masking.enabled:true}}")
@@ -41,13 +61,37 @@ public class MaskingConverter implements AttributeConverter<String, String> {
     @Value("${simplix.core.masking.key:${core.masking.key:#{null}}}")
     private String maskingKey;
 
+    /**
+     * Whether entity values are remembered for unchanged write-back.
+     */
+    @Value("${simplix.core.masking.write-back-enabled:true}")
+    private boolean writeBackEnabled = true;
+
+    /**
+     * Maximum number of decrypted values cached by stored ciphertext (0 disables).
+     */
+    @Value("${simplix.core.masking.decrypt-cache-size:0}")
+    private int decryptCacheSize;
+
     private final SecureRandom secureRandom = new SecureRandom();
-    private SecretKey secretKey;
+    private volatile SecretKey secretKey;
+
+    // AES-GCM cipher lookups are costly; reuse one instance per thread and re-init it per use
+    private final ThreadLocal<Cipher> cipherHolder = ThreadLocal.withInitial(() -> {
+        try {
+            return Cipher.getInstance(ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES-GCM cipher is not available", e);
+        }
+    });
+
+    private final WeakIdentityMap writeBack = new WeakIdentityMap();
+    private volatile LruCache<String, String> decryptCache;
 
     /**
      * Initialize the masking key
      */
-    private void initializeKey() {
+    private synchronized void initializeKey() {
         if (secretKey == null) {
             if (maskingKey != null && maskingKey.length() >= 32) {
                 // Use configured key
@@ -75,15 +119,30 @@ public class MaskingConverter implements AttributeConverter<String, String> {
             return attribute;
         }
 
+        // Unchanged value previously produced by convertToEntityAttribute: keep the stored ciphertext
+        if (writeBackEnabled) {
+            String stored = writeBack.get(attribute);
+            if (stored != null) {
+                return stored;
+            }
+        }
+        if (MASKED_VALUE.equals(attribute)) {
+            log.error("✖ Refusing to store the masked placeholder - its original ciphertext is unknown");
+            throw new IllegalStateException("Masked placeholder cannot be stored; "
+                    + "write back the loaded value unchanged or set the real value");
+        }
+
         try {
-            initializeKey();
+            if (secretKey == null) {
+                initializeKey();
+            }
 
             // Generate random IV
             byte[] iv = new byte[IV_LENGTH_BYTE];
             secureRandom.nextBytes(iv);
 
             // Encrypt
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
+            Cipher cipher = cipherHolder.get();
             GCMParameterSpec parameterSpec = new GCMParameterSpec(TAG_LENGTH_BIT, iv);
             cipher.init(Cipher.ENCRYPT_MODE, secretKey, parameterSpec);
 
@@ -118,25 +177,53 @@ public class MaskingConverter implements AttributeConverter<String, String> {
             return dbData;
         }
 
+        String value;
+        boolean shared;
         try {
             // Check if we should unmask (based on security context)
             if (shouldUnmask()) {
-                return decrypt(dbData);
+                LruCache<String, String> cache = decryptCache();
+                String cached = cache != null ? cache.get(dbData) : null;
+                shared = cached != null || cache != null;
+                value = cached != null ? cached : decrypt(dbData);
+                if (cached == null && cache != null) {
+                    cache.put(dbData, value);
+                }
             } else {
                 // Return masked representation
-                return getMaskedRepresentation(dbData);
+                value = getMaskedRepresentation(dbData);
+                shared = true;
             }
         } catch (GeneralSecurityException | IllegalArgumentException | BufferUnderflowException e) {
             log.error("✖ Failed to process masked data", e);
-            return getMaskedRepresentation(dbData);
+            value = getMaskedRepresentation(dbData);
+            shared = true;
         }
+        return rememberForWriteBack(value, shared, dbData);
+    }
+
+    /**
+     * Records which ciphertext an entity value came from, so that writing the same instance back
+     * returns the stored ciphertext instead of encrypting again. Identity is what ties a value
+     * to its row, so a value that may be handed to other rows as well (the masked placeholder,
+     * a cached decryption) is copied into a distinct instance first.
+     */
+    private String rememberForWriteBack(String value, boolean shared, String dbData) {
+        if (!writeBackEnabled) {
+            return value;
+        }
+        String instance = shared ? new String(value) : value;
+        writeBack.put(instance, dbData);
+        return instance;
     }
 
     /**
      * Decrypts the encrypted value
      */
     private String decrypt(String encryptedData) throws GeneralSecurityException {
-        initializeKey();
+        if (secretKey == null) {
+            initializeKey();
+        }
 
         String encoded = encryptedData.substring(PREFIX.length());
         byte[] cipherMessage = Base64.getDecoder().decode(encoded);
@@ -151,7 +238,7 @@ public class MaskingConverter implements AttributeConverter<String, String> {
         byteBuffer.get(cipherText);
 
         // Decrypt
-        Cipher cipher = Cipher.getInstance(ALGORITHM);
+        Cipher cipher = cipherHolder.get();
         GCMParameterSpec parameterSpec = new GCMParameterSpec(TAG_LENGTH_BIT, iv);
         cipher.init(Cipher.DECRYPT_MODE, secretKey, parameterSpec);
 
@@ -182,7 +269,101 @@ public class MaskingConverter implements AttributeConverter<String, String> {
      */
     private String getMaskedRepresentation(String encryptedData) {
         // Return a consistent masked value
-        return "****MASKED****";
+        return MASKED_VALUE;
+    }
+
+    private LruCache<String, String> decryptCache() {
+        LruCache<String, String> cache = decryptCache;
+        if (cache == null && decryptCacheSize > 0) {
+            synchronized (this) {
+                if (decryptCache == null) {
+                    decryptCache = new LruCache<>(decryptCacheSize);
+                }
+                cache = decryptCache;
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Size-bounded, access-ordered map guarded by its own monitor. Only backs the opt-in decrypt cache.
+     */
+    private static final class LruCache<K, V> {
+
+        private final Map<K, V> entries;
+
+        LruCache(int maxSize) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        synchronized V get(K key) {
+            return entries.get(key);
+        }
+
+        synchronized void put(K key, V value) {
+            entries.put(key, value);
+        }
+    }
+
+    /**
+     * Concurrent map from string instances, compared by reference, to the ciphertext they came from.
+     * Keys are held weakly, so an entry goes away with the entity value it describes.
+     */
+    private static final class WeakIdentityMap {
+
+        private final Map<IdentityKey, String> entries = new ConcurrentHashMap<>();
+        private final ReferenceQueue<String> collected = new ReferenceQueue<>();
+
+        String get(String value) {
+            return entries.get(new IdentityKey(value, null));
+        }
+
+        void put(String value, String dbData) {
+            expunge();
+            entries.put(new IdentityKey(value, collected), dbData);
+        }
+
+        private void expunge() {
+            Reference<? extends String> reference;
+            while ((reference = collected.poll()) != null) {
+                entries.remove(reference);
+            }
+        }
+    }
+
+    /**
+     * Weak map key comparing strings by reference rather than content.
+     */
+    private static final class IdentityKey extends WeakReference<String> {
+
+        private final int hash;
+
+        IdentityKey(String value, ReferenceQueue<String> queue) {
+            super(value, queue);
+            this.hash = System.identityHashCode(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof IdentityKey other) || other.hash != hash) {
+                return false;
+            }
+            String value = get();
+            return value != null && value == other.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
     }
 
     /**
@@ -7,6 +7,9 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Tracks pending asynchronous requests and correlates them with responses.
@@ -14,46 +17,67 @@ import java.util.concurrent.TimeUnit;
  * <p>When a request is issued, a {@link CompletableFuture} is registered under a unique ID.
  * When the corresponding response arrives, {@link #complete(String)} resolves the future.
  *
- * <p>Futures automatically time out and are removed from the tracking map after the
- * configured timeout period.
+ * <p>Timeouts are driven by a {@link HashedTimeoutWheel} (the {@linkplain HashedTimeoutWheel#shared()
+ * shared wheel} by default) instead of one {@code orTimeout} task per query, so tracking and
+ * completing a query is O(1) regardless of how many are in flight. A query that is not
+ * completed in time fails with a {@link TimeoutException} and is removed from the tracking map.
+ *
+ * <p>The tracker also keeps completion and timeout counters and a latency histogram of
+ * completed queries for diagnostics.
  */
 public class AsyncQueryTracker {
 
     private static final Logger log = LoggerFactory.getLogger(AsyncQueryTracker.class);
 
-    private final ConcurrentMap<String, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, PendingQuery> pending = new ConcurrentHashMap<>();
     private final long timeoutMs;
+    private final HashedTimeoutWheel timeoutWheel;
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder timedOutCount = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
 
     /**
-     * Create a new tracker with the specified timeout.
+     * Create a new tracker with the specified timeout, using the shared timeout wheel.
      *
      * @param timeoutMs timeout in milliseconds for pending queries
      */
     public AsyncQueryTracker(long timeoutMs) {
+        this(timeoutMs, HashedTimeoutWheel.shared());
+    }
+
+    /**
+     * Create a new tracker with the specified timeout and timeout wheel.
+     *
+     * @param timeoutMs    timeout in milliseconds for pending queries
+     * @param timeoutWheel the wheel that drives query timeouts
+     */
+    public AsyncQueryTracker(long timeoutMs, HashedTimeoutWheel timeoutWheel) {
         this.timeoutMs = timeoutMs;
+        this.timeoutWheel = timeoutWheel;
     }
 
     /**
      * Register a query for tracking and return a future that completes when
      * the corresponding response is received.
      *
+     * <p>Registering an ID that is already pending replaces the earlier entry; the earlier
+     * future can then no longer be completed and will time out.
+     *
      * @param queryId the unique query identifier
      * @return a future that completes when the response arrives or times out
      */
     public CompletableFuture<Void> track(String queryId) {
-        CompletableFuture<Void> future = new CompletableFuture<>();
-        pending.put(queryId, future);
+        PendingQuery query = new PendingQuery(queryId);
+        query.timeout = timeoutWheel.schedule(query, timeoutMs, TimeUnit.MILLISECONDS);
+        pending.put(queryId, query);
 
-        future.orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
-                .whenComplete((result, ex) -> {
-                    pending.remove(queryId);
-                    if (ex != null) {
-                        log.warn("Query timed out after {}ms [queryId={}]", timeoutMs, queryId);
-                    }
-                });
+        // Guard against a timeout that fired before the entry was published
+        if (query.isFinished()) {
+            pending.remove(queryId, query);
+        }
 
         log.debug("Tracking query [queryId={}, timeout={}ms]", queryId, timeoutMs);
-        return future;
+        return query.future;
     }
 
     /**
@@ -68,9 +92,17 @@ public class AsyncQueryTracker {
             return;
         }
 
-        CompletableFuture<Void> future = pending.remove(queryId);
-        if (future != null) {
-            future.complete(null);
+        PendingQuery query = pending.remove(queryId);
+        if (query == null) {
+            return;
+        }
+
+        query.timeout.cancel();
+        if (query.finish()) {
+            // Count before completing, so callers woken by the future see the counters
+            completedCount.increment();
+            latency.recordNanos(System.nanoTime() - query.startNanos);
+            query.future.complete(null);
             log.debug("Query completed [queryId={}]", queryId);
         }
     }
@@ -83,4 +115,81 @@ public class AsyncQueryTracker {
     public int getPendingCount() {
         return pending.size();
     }
+
+    /**
+     * Get the number of queries completed by a response.
+     *
+     * @return the completed query count
+     */
+    public long getCompletedCount() {
+        return completedCount.sum();
+    }
+
+    /**
+     * Get the number of queries that timed out.
+     *
+     * @return the timed-out query count
+     */
+    public long getTimedOutCount() {
+        return timedOutCount.sum();
+    }
+
+    /**
+     * Get the fraction of finished queries that timed out.
+     *
+     * @return the timeout rate in the range [0, 1], or 0 if no query has finished
+     */
+    public double getTimeoutRate() {
+        long timedOut = timedOutCount.sum();
+        long finished = timedOut + completedCount.sum();
+        return finished == 0 ? 0.0 : (double) timedOut / finished;
+    }
+
+    /**
+     * Get the response latency of completed queries at the given percentile.
+     *
+     * @param percentile the percentile in the range [0, 100]
+     * @return the latency in microseconds, or 0 if no query has completed
+     */
+    public long getLatencyPercentileMicros(double percentile) {
+        return latency.getPercentileMicros(percentile);
+    }
+
+    private final class PendingQuery implements Runnable {
+
+        private final String queryId;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private final long startNanos = System.nanoTime();
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private HashedTimeoutWheel.Timeout timeout;
+
+        private PendingQuery(String queryId) {
+            this.queryId = queryId;
+        }
+
+        /**
+         * Invoked by the timeout wheel when the query was not completed in time.
+         */
+        @Override
+        public void run() {
+            pending.remove(queryId, this);
+            if (finish()) {
+                timedOutCount.increment();
+                future.completeExceptionally(new TimeoutException(
+                        "Query timed out after " + timeoutMs + "ms [queryId=" + queryId + "]"));
+                log.warn("Query timed out after {}ms [queryId={}]", timeoutMs, queryId);
+            }
+        }
+
+        /**
+         * Claim the outcome of this query; only the first of response and timeout wins.
+         */
+        private boolean finish() {
+            return finished.compareAndSet(false, true);
+        }
+
+        private boolean isFinished() {
+            return finished.get();
+        }
+    }
 }
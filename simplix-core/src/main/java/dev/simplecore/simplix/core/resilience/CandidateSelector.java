@@ -0,0 +1,73 @@
+package dev.simplecore.simplix.core.resilience;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Strategy for choosing among a list of candidates (resources, endpoints, reconciliation targets).
+ *
+ * <p>Implementations range from the stateless {@link RoundRobinSelector} to strategies that
+ * learn from outcome callbacks ({@link PowerOfTwoChoicesSelector}, {@link WeightedRoundRobinSelector},
+ * {@link LeastInFlightSelector}). Callers that want the adaptive strategies to work report each
+ * operation with {@link #onStart(Object)} and {@link #onComplete(Object, long, boolean)}.
+ *
+ * <p>Adaptive strategies keep per-candidate state keyed by the candidate itself, so candidates
+ * must have stable {@code equals}/{@code hashCode} across calls (value objects or string keys).
+ * {@link #select(List)} does not allocate once every candidate has been seen.
+ */
+public interface CandidateSelector {
+
+    /**
+     * Select a single candidate.
+     *
+     * @param items the candidates to choose from
+     * @param <R>   the candidate type
+     * @return the selected candidate, or null if {@code items} is null or empty
+     */
+    <R> R select(List<R> items);
+
+    /**
+     * Select up to {@code batchSize} distinct candidates.
+     *
+     * <p>The default implementation repeatedly applies {@link #select(List)} to the
+     * candidates not yet chosen.
+     *
+     * @param items     the full list of items to select from
+     * @param batchSize the maximum number of items to select
+     * @param <R>       the candidate type
+     * @return the selected candidates (may be smaller than batchSize if items is smaller)
+     */
+    default <R> List<R> selectBatch(List<R> items, int batchSize) {
+        if (items == null || items.isEmpty() || batchSize <= 0) {
+            return List.of();
+        }
+
+        int effectiveBatch = Math.min(batchSize, items.size());
+        List<R> remaining = new ArrayList<>(items);
+        List<R> batch = new ArrayList<>(effectiveBatch);
+        for (int i = 0; i < effectiveBatch; i++) {
+            R picked = select(remaining);
+            remaining.remove(picked);
+            batch.add(picked);
+        }
+        return batch;
+    }
+
+    /**
+     * Notify the selector that an operation against a candidate has started.
+     *
+     * @param candidate the candidate being used
+     */
+    default void onStart(Object candidate) {
+    }
+
+    /**
+     * Notify the selector that an operation started with {@link #onStart(Object)} has finished.
+     *
+     * @param candidate    the candidate that was used
+     * @param latencyNanos the elapsed time of the operation in nanoseconds
+     * @param success      whether the operation succeeded
+     */
+    default void onComplete(Object candidate, long latencyNanos, boolean success) {
+    }
+}
@@ -0,0 +1,356 @@
+package dev.simplecore.simplix.core.resilience;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed timing wheel for scheduling large numbers of short-lived timeouts.
+ *
+ * <p>Timeouts are hashed into a fixed ring of buckets by their deadline tick. A single
+ * daemon worker advances one bucket per tick and fires the entries whose deadline has
+ * passed, so scheduling and cancellation are O(1) and no per-timeout task is queued on a
+ * {@link java.util.concurrent.ScheduledExecutorService}. The price is precision: a timeout
+ * fires up to one tick after its deadline.
+ *
+ * <p>Callers never touch the buckets directly. New and cancelled timeouts are handed to the
+ * worker through lock-free queues and linked into (or unlinked from) their bucket on the
+ * next tick, so the bucket lists are only ever mutated by the worker thread.
+ *
+ * <p>Timeout tasks run on the worker thread and must be short and non-blocking. Use
+ * {@link #shared()} for the process-wide wheel, or create a dedicated instance and
+ * {@link #stop()} it when it is no longer needed.
+ */
+public class HashedTimeoutWheel {
+
+    private static final Logger log = LoggerFactory.getLogger(HashedTimeoutWheel.class);
+
+    private static final int STATE_INIT = 0;
+    private static final int STATE_STARTED = 1;
+    private static final int STATE_STOPPED = 2;
+
+    /**
+     * Upper bound of new timeouts linked per tick, so a burst of scheduling cannot
+     * starve expiry of the current bucket.
+     */
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private static final AtomicInteger INSTANCE_COUNTER = new AtomicInteger();
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timeout> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> pendingCancels = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger scheduledCount = new AtomicInteger();
+    private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+    private final long startNanos;
+    private final Thread worker;
+
+    /**
+     * Create a new timing wheel.
+     *
+     * @param tickDuration the duration of one tick (the timeout resolution)
+     * @param unit         the unit of {@code tickDuration}
+     * @param ticksPerWheel the number of buckets, rounded up to a power of two
+     */
+    public HashedTimeoutWheel(long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be positive: " + tickDuration);
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > (1 << 30)) {
+            throw new IllegalArgumentException("ticksPerWheel must be in (0, 2^30]: " + ticksPerWheel);
+        }
+
+        int size = Integer.highestOneBit(ticksPerWheel);
+        if (size < ticksPerWheel) {
+            size <<= 1;
+        }
+
+        this.tickNanos = Math.max(unit.toNanos(tickDuration), TimeUnit.MILLISECONDS.toNanos(1));
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::runWorker,
+                "simplix-timeout-wheel-" + INSTANCE_COUNTER.incrementAndGet());
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * Get the process-wide wheel (10 ms ticks, 512 buckets).
+     *
+     * <p>The shared wheel runs on a daemon thread for the lifetime of the JVM and
+     * cannot be stopped.
+     *
+     * @return the shared timing wheel
+     */
+    public static HashedTimeoutWheel shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * Schedule a task to run once after the given delay.
+     *
+     * @param task  the task to run on expiry
+     * @param delay the delay before the task runs
+     * @param unit  the unit of {@code delay}
+     * @return a handle that can be used to cancel the timeout
+     * @throws IllegalStateException if the wheel has been stopped
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        Objects.requireNonNull(task, "task must not be null");
+        start();
+
+        long deadline = System.nanoTime() + unit.toNanos(Math.max(delay, 0)) - startNanos;
+        if (delay > 0 && deadline < 0) {
+            deadline = Long.MAX_VALUE;
+        }
+
+        Timeout timeout = new Timeout(this, task, deadline);
+        scheduledCount.incrementAndGet();
+        pendingAdds.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Get the number of scheduled timeouts that have neither expired nor been cancelled.
+     *
+     * @return the pending timeout count
+     */
+    public int getPendingTimeouts() {
+        return scheduledCount.get();
+    }
+
+    /**
+     * Stop the worker thread. Timeouts that have not yet expired are discarded without
+     * running their tasks.
+     *
+     * @throws IllegalStateException if called on the {@link #shared()} wheel
+     */
+    public void stop() {
+        if (this == SharedHolder.INSTANCE) {
+            throw new IllegalStateException("The shared timeout wheel cannot be stopped");
+        }
+        int previous = state.getAndSet(STATE_STOPPED);
+        if (previous == STATE_STARTED) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    private void start() {
+        int current = state.get();
+        if (current == STATE_STARTED) {
+            return;
+        }
+        if (current == STATE_STOPPED) {
+            throw new IllegalStateException("Timeout wheel has been stopped");
+        }
+        if (state.compareAndSet(STATE_INIT, STATE_STARTED)) {
+            worker.start();
+        } else if (state.get() == STATE_STOPPED) {
+            throw new IllegalStateException("Timeout wheel has been stopped");
+        }
+    }
+
+    private void runWorker() {
+        long tick = 0;
+        while (state.get() == STATE_STARTED) {
+            long tickDeadline = awaitTick(tick);
+            if (tickDeadline < 0) {
+                break;
+            }
+            processCancelled();
+            transferPending(tick);
+            wheel[(int) (tick & mask)].expire(tickDeadline);
+            tick++;
+        }
+        log.debug("Timeout wheel stopped [thread={}]", worker.getName());
+    }
+
+    /**
+     * Park until the end of the given tick.
+     *
+     * @return the elapsed time since start in nanoseconds, or -1 if stopped while waiting
+     */
+    private long awaitTick(long tick) {
+        long tickDeadline = tickNanos * (tick + 1);
+        while (true) {
+            long elapsed = System.nanoTime() - startNanos;
+            long sleepNanos = tickDeadline - elapsed;
+            if (sleepNanos <= 0) {
+                return elapsed;
+            }
+            LockSupport.parkNanos(this, sleepNanos);
+            if (state.get() != STATE_STARTED) {
+                return -1;
+            }
+        }
+    }
+
+    private void processCancelled() {
+        Timeout timeout;
+        while ((timeout = pendingCancels.poll()) != null) {
+            Bucket bucket = timeout.bucket;
+            if (bucket != null) {
+                bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void transferPending(long tick) {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = pendingAdds.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state != Timeout.ST_INIT) {
+                continue;
+            }
+
+            long expiryTick = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (expiryTick - tick) / wheel.length;
+            // Deadlines already in the past land in the current bucket and fire this tick
+            long targetTick = Math.max(expiryTick, tick);
+            wheel[(int) (targetTick & mask)].add(timeout);
+        }
+    }
+
+    /**
+     * Handle to a scheduled timeout.
+     */
+    public static final class Timeout {
+
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE_UPDATER =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final HashedTimeoutWheel owner;
+        private final Runnable task;
+        private final long deadline;
+        private volatile int state = ST_INIT;
+
+        // Worker-thread only
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(HashedTimeoutWheel owner, Runnable task, long deadline) {
+            this.owner = owner;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancel this timeout. Has no effect if it has already expired or been cancelled.
+         *
+         * @return true if this call cancelled the timeout
+         */
+        public boolean cancel() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            owner.scheduledCount.decrementAndGet();
+            owner.pendingCancels.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state == ST_CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state == ST_EXPIRED;
+        }
+
+        private void expire() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            owner.scheduledCount.decrementAndGet();
+            try {
+                task.run();
+            } catch (Throwable t) {
+                log.warn("Timeout task threw an exception", t);
+            }
+        }
+    }
+
+    /**
+     * Doubly-linked list of timeouts hashed to the same slot. Accessed only by the worker.
+     */
+    private static final class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            Timeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        void expire(long tickDeadline) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.state != Timeout.ST_INIT) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds <= 0) {
+                    if (timeout.deadline <= tickDeadline) {
+                        remove(timeout);
+                        timeout.expire();
+                    }
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+    }
+
+    private static final class SharedHolder {
+        private static final HashedTimeoutWheel INSTANCE =
+                new HashedTimeoutWheel(10, TimeUnit.MILLISECONDS, 512);
+    }
+}
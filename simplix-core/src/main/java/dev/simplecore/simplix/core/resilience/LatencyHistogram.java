@@ -0,0 +1,108 @@
+package dev.simplecore.simplix.core.resilience;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size, lock-free latency histogram with log-linear buckets.
+ *
+ * <p>Values are recorded in microseconds. Values below 16&micro;s are counted exactly;
+ * above that, each power of two is split into 8 linear sub-buckets, which bounds the
+ * relative error of a reported percentile to 12.5% while keeping the whole histogram
+ * in a single array of under 500 counters. Recording is one array increment and never
+ * allocates.
+ */
+public class LatencyHistogram {
+
+    private static final int LINEAR_LIMIT = 16;
+    private static final int LINEAR_EXPONENT = 4;
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (Long.SIZE - LINEAR_EXPONENT) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+
+    /**
+     * Record a latency measured with {@link System#nanoTime()}.
+     *
+     * @param nanos the elapsed time in nanoseconds
+     */
+    public void recordNanos(long nanos) {
+        long micros = Math.max(0, nanos / 1_000);
+        counts.incrementAndGet(indexOf(micros));
+        totalCount.increment();
+    }
+
+    /**
+     * Get the number of recorded values.
+     *
+     * @return the total count
+     */
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * Get the value at the given percentile.
+     *
+     * <p>The result is the upper bound of the bucket containing the percentile, so it
+     * never under-reports. Concurrent recording may make the result slightly stale.
+     *
+     * @param percentile the percentile in the range [0, 100]
+     * @return the latency in microseconds, or 0 if nothing has been recorded
+     */
+    public long getPercentileMicros(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be in [0, 100]: " + percentile);
+        }
+
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += counts.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return upperBoundOf(i);
+            }
+        }
+        return upperBoundOf(BUCKET_COUNT - 1);
+    }
+
+    /**
+     * Clear all recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        totalCount.reset();
+    }
+
+    static int indexOf(long micros) {
+        if (micros < LINEAR_LIMIT) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_LIMIT + (exponent - LINEAR_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int offset = index - LINEAR_LIMIT;
+        int exponent = offset / SUB_BUCKETS + LINEAR_EXPONENT;
+        int subBucket = offset % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (1L << exponent) + (subBucket + 1) * width - 1;
+    }
+}
@@ -0,0 +1,45 @@
+package dev.simplecore.simplix.core.resilience;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Selector that picks the candidate with the fewest operations in flight.
+ *
+ * <p>In-flight counts come from {@link #onStart(Object)} and
+ * {@link #onComplete(Object, long, boolean)}. Ties are broken by a rotating start offset
+ * so that idle candidates share work evenly instead of the first one absorbing it all.
+ */
+public class LeastInFlightSelector extends OutcomeAwareSelector {
+
+    private final AtomicInteger offset = new AtomicInteger(0);
+
+    public LeastInFlightSelector() {
+        super(DEFAULT_ALPHA);
+    }
+
+    @Override
+    public <R> R select(List<R> items) {
+        if (items == null || items.isEmpty()) {
+            return null;
+        }
+
+        int total = items.size();
+        int start = Math.floorMod(offset.getAndIncrement(), total);
+
+        R best = null;
+        int bestInFlight = Integer.MAX_VALUE;
+        for (int i = 0; i < total; i++) {
+            R candidate = items.get((start + i) % total);
+            int inFlight = getInFlight(candidate);
+            if (inFlight < bestInFlight) {
+                best = candidate;
+                bestInFlight = inFlight;
+                if (inFlight == 0) {
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,122 @@
+package dev.simplecore.simplix.core.resilience;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Base class for selectors that track per-candidate in-flight counts and an
+ * exponentially weighted moving average (EWMA) of latency from outcome callbacks.
+ *
+ * <p>A failed operation is recorded as a latency sample of at least twice the current
+ * average, so failing candidates lose preference without a separate health signal.
+ */
+public abstract class OutcomeAwareSelector implements CandidateSelector {
+
+    /** Default EWMA smoothing factor (weight of the newest sample). */
+    public static final double DEFAULT_ALPHA = 0.3;
+
+    private static final Function<Object, CandidateStats> NEW_STATS = key -> new CandidateStats();
+
+    /** Shared read-only stats for candidates that have not reported any outcome yet. */
+    private static final CandidateStats UNSEEN = new CandidateStats();
+
+    private final ConcurrentMap<Object, CandidateStats> stats = new ConcurrentHashMap<>();
+    private final double alpha;
+
+    protected OutcomeAwareSelector(double alpha) {
+        if (alpha <= 0 || alpha > 1) {
+            throw new IllegalArgumentException("alpha must be in (0, 1]: " + alpha);
+        }
+        this.alpha = alpha;
+    }
+
+    @Override
+    public void onStart(Object candidate) {
+        statsFor(candidate).inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void onComplete(Object candidate, long latencyNanos, boolean success) {
+        CandidateStats candidateStats = statsFor(candidate);
+        candidateStats.inFlight.updateAndGet(c -> Math.max(0, c - 1));
+
+        long sample = Math.max(0, latencyNanos);
+        long current;
+        long updated;
+        do {
+            current = candidateStats.ewmaNanos.get();
+            long effectiveSample = success ? sample : Math.max(sample, current * 2);
+            updated = current == 0
+                    ? effectiveSample
+                    : (long) (alpha * effectiveSample + (1 - alpha) * current);
+        } while (!candidateStats.ewmaNanos.compareAndSet(current, updated));
+    }
+
+    /**
+     * Get the number of operations currently in flight against a candidate.
+     *
+     * @param candidate the candidate
+     * @return the in-flight count, or 0 for an unknown candidate
+     */
+    public int getInFlight(Object candidate) {
+        return peekStats(candidate).inFlight.get();
+    }
+
+    /**
+     * Get the latency moving average for a candidate.
+     *
+     * @param candidate the candidate
+     * @return the EWMA latency in nanoseconds, or 0 if no outcome has been reported
+     */
+    public long getLatencyEwmaNanos(Object candidate) {
+        return peekStats(candidate).ewmaNanos.get();
+    }
+
+    /**
+     * Drop the tracked state of a candidate that is no longer in use.
+     *
+     * @param candidate the candidate to forget
+     */
+    public void removeCandidate(Object candidate) {
+        stats.remove(candidate);
+    }
+
+    /**
+     * Drop the tracked state of all candidates.
+     */
+    public void resetStatistics() {
+        stats.clear();
+    }
+
+    /**
+     * Get the stats of a candidate, creating them on first use.
+     */
+    protected CandidateStats statsFor(Object candidate) {
+        return stats.computeIfAbsent(candidate, NEW_STATS);
+    }
+
+    /**
+     * Get the stats of a candidate without creating them. Unknown candidates share a
+     * read-only zero instance that must not be modified.
+     */
+    protected CandidateStats peekStats(Object candidate) {
+        CandidateStats candidateStats = candidate == null ? null : stats.get(candidate);
+        return candidateStats != null ? candidateStats : UNSEEN;
+    }
+
+    /**
+     * Mutable per-candidate state shared by the outcome-aware strategies.
+     */
+    protected static final class CandidateStats {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicLong ewmaNanos = new AtomicLong();
+
+        // Guarded by the owning WeightedRoundRobinSelector
+        int weight = 1;
+        int effectiveWeight = 1;
+        int currentWeight;
+    }
+}
@@ -0,0 +1,67 @@
+package dev.simplecore.simplix.core.resilience;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Power-of-two-choices selector scored by latency EWMA.
+ *
+ * <p>Each selection samples two distinct candidates at random and picks the one with the
+ * lower load score, {@code ewmaLatency * (inFlight + 1)}. Sampling two instead of scanning
+ * every candidate keeps selection O(1) while still steering work away from slow or busy
+ * candidates; the randomness prevents every caller from herding onto the same "best" one.
+ * A candidate without any completed outcome borrows the latency average of the other
+ * sample as its prior, so a new or hung candidate is scored by its in-flight count instead
+ * of winning every comparison. Equal scores go to the candidate with fewer in-flight operations.
+ */
+public class PowerOfTwoChoicesSelector extends OutcomeAwareSelector {
+
+    public PowerOfTwoChoicesSelector() {
+        this(DEFAULT_ALPHA);
+    }
+
+    /**
+     * Create a selector with a custom EWMA smoothing factor.
+     *
+     * @param alpha weight of the newest latency sample, in (0, 1]
+     */
+    public PowerOfTwoChoicesSelector(double alpha) {
+        super(alpha);
+    }
+
+    @Override
+    public <R> R select(List<R> items) {
+        if (items == null || items.isEmpty()) {
+            return null;
+        }
+
+        int total = items.size();
+        if (total == 1) {
+            return items.get(0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(total);
+        int second = random.nextInt(total - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        R a = items.get(first);
+        R b = items.get(second);
+        CandidateStats statsA = peekStats(a);
+        CandidateStats statsB = peekStats(b);
+        int inFlightA = statsA.inFlight.get();
+        int inFlightB = statsB.inFlight.get();
+        long ewmaA = statsA.ewmaNanos.get();
+        long ewmaB = statsB.ewmaNanos.get();
+
+        // Without a latency sample, assume the other candidate's average
+        double scoreA = (double) (ewmaA == 0 ? ewmaB : ewmaA) * (inFlightA + 1);
+        double scoreB = (double) (ewmaB == 0 ? ewmaA : ewmaB) * (inFlightB + 1);
+        if (scoreA == scoreB) {
+            return inFlightB < inFlightA ? b : a;
+        }
+        return scoreB < scoreA ? b : a;
+    }
+}
@@ -12,11 +12,29 @@ import java.util.concurrent.atomic.AtomicInteger;
  *
  * <p>Handles dynamic list sizes gracefully — if the list shrinks between calls,
  * the cursor is normalized to prevent index-out-of-bounds errors.
+ *
+ * <p>Ignores outcome callbacks; use one of the other {@link CandidateSelector} strategies
+ * when candidates differ in speed or health.
  */
-public class RoundRobinSelector {
+public class RoundRobinSelector implements CandidateSelector {
 
     private final AtomicInteger cursor = new AtomicInteger(0);
 
+    @Override
+    public <R> R select(List<R> items) {
+        if (items == null || items.isEmpty()) {
+            return null;
+        }
+
+        int total = items.size();
+        // Explicit CAS loop: a capturing lambda would allocate on every selection
+        int current;
+        do {
+            current = cursor.get();
+        } while (!cursor.compareAndSet(current, ((current % total) + 1) % total));
+        return items.get(current % total);
+    }
+
     /**
      * Select the next batch of items using round-robin ordering.
      *
@@ -25,6 +43,7 @@ public class RoundRobinSelector {
      * @param <R>       the item type
      * @return a list of selected items (may be smaller than batchSize if items is smaller)
      */
+    @Override
     public <R> List<R> selectBatch(List<R> items, int batchSize) {
         if (items == null || items.isEmpty()) {
             return List.of();
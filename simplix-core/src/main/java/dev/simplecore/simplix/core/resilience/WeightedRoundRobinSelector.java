@@ -0,0 +1,94 @@
+package dev.simplecore.simplix.core.resilience;
+
+import java.util.List;
+
+/**
+ * Smooth weighted round-robin selector.
+ *
+ * <p>Uses the interleaving algorithm popularized by nginx: on every selection each candidate's
+ * running weight grows by its effective weight, the candidate with the highest running weight
+ * is picked and the sum of effective weights is subtracted from it. With weights 5, 1, 1 this
+ * yields {@code A A B A C A A} rather than five consecutive {@code A}s.
+ *
+ * <p>Static weights are assigned with {@link #setWeight(Object, int)} (default 1). Outcome
+ * callbacks adapt the effective weight: a failure halves it, and each success restores one
+ * unit until the configured weight is reached again.
+ *
+ * <p>Selection is serialized on the selector; it is O(n) in the number of candidates.
+ */
+public class WeightedRoundRobinSelector extends OutcomeAwareSelector {
+
+    public WeightedRoundRobinSelector() {
+        super(DEFAULT_ALPHA);
+    }
+
+    /**
+     * Set the static weight of a candidate.
+     *
+     * @param candidate the candidate
+     * @param weight    the relative weight (must be positive)
+     */
+    public void setWeight(Object candidate, int weight) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("weight must be positive: " + weight);
+        }
+        CandidateStats stats = statsFor(candidate);
+        synchronized (this) {
+            stats.weight = weight;
+            stats.effectiveWeight = weight;
+        }
+    }
+
+    /**
+     * Get the current effective weight of a candidate.
+     *
+     * @param candidate the candidate
+     * @return the effective weight (1 for an unknown candidate)
+     */
+    public synchronized int getEffectiveWeight(Object candidate) {
+        return peekStats(candidate).effectiveWeight;
+    }
+
+    @Override
+    public <R> R select(List<R> items) {
+        if (items == null || items.isEmpty()) {
+            return null;
+        }
+        if (items.size() == 1) {
+            return items.get(0);
+        }
+
+        synchronized (this) {
+            R best = null;
+            CandidateStats bestStats = null;
+            int totalWeight = 0;
+            for (int i = 0, n = items.size(); i < n; i++) {
+                R candidate = items.get(i);
+                CandidateStats stats = statsFor(candidate);
+                stats.currentWeight += stats.effectiveWeight;
+                totalWeight += stats.effectiveWeight;
+                if (bestStats == null || stats.currentWeight > bestStats.currentWeight) {
+                    best = candidate;
+                    bestStats = stats;
+                }
+            }
+            bestStats.currentWeight -= totalWeight;
+            return best;
+        }
+    }
+
+    @Override
+    public void onComplete(Object candidate, long latencyNanos, boolean success) {
+        super.onComplete(candidate, latencyNanos, success);
+        CandidateStats stats = statsFor(candidate);
+        synchronized (this) {
+            if (success) {
+                if (stats.effectiveWeight < stats.weight) {
+                    stats.effectiveWeight++;
+                }
+            } else {
+                stats.effectiveWeight = Math.max(1, stats.effectiveWeight / 2);
+            }
+        }
+    }
+}
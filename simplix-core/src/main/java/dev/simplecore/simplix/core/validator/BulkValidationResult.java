@@ -0,0 +1,78 @@
+package dev.simplecore.simplix.core.validator;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Result of validating a collection with {@link BulkValidator}.
+ * <p>
+ * Violations are ordered by row index, then by property path.
+ */
+public class BulkValidationResult {
+
+    private static final Comparator<BulkViolation> ORDER = Comparator
+            .comparingInt(BulkViolation::rowIndex)
+            .thenComparing(BulkViolation::propertyPath);
+
+    private final int rowCount;
+    private final List<BulkViolation> violations;
+    private final Map<Integer, List<BulkViolation>> violationsByRow;
+
+    BulkValidationResult(int rowCount, List<BulkViolation> violations) {
+        this.rowCount = rowCount;
+        this.violations = violations.stream().sorted(ORDER).toList();
+        this.violationsByRow = Collections.unmodifiableMap(this.violations.stream()
+                .collect(Collectors.groupingBy(BulkViolation::rowIndex, LinkedHashMap::new, Collectors.toList())));
+    }
+
+    /**
+     * @return true if no row has a violation
+     */
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    /**
+     * @return the number of validated rows
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return all violations, ordered by row index
+     */
+    public List<BulkViolation> getViolations() {
+        return violations;
+    }
+
+    /**
+     * Returns the violations of one row.
+     *
+     * @param rowIndex zero-based row index
+     * @return the row's violations, or an empty list if the row is valid
+     */
+    public List<BulkViolation> getViolations(int rowIndex) {
+        return violationsByRow.getOrDefault(rowIndex, List.of());
+    }
+
+    /**
+     * @return the violations grouped by row index, in row order
+     */
+    public Map<Integer, List<BulkViolation>> getViolationsByRow() {
+        return violationsByRow;
+    }
+
+    /**
+     * @return the indexes of rows that have at least one violation
+     */
+    public SortedSet<Integer> getInvalidRowIndexes() {
+        return Collections.unmodifiableSortedSet(new TreeSet<>(violationsByRow.keySet()));
+    }
+}
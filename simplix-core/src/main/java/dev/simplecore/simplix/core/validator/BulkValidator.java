@@ -0,0 +1,451 @@
+package dev.simplecore.simplix.core.validator;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.groups.Default;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.PropertyAccessor;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.util.StringUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Validates whole collections of DTOs, such as bulk API payloads and spreadsheet imports.
+ * <p>
+ * Validating rows one by one issues one {@code COUNT} query per {@link Unique} /
+ * {@link UniqueFields} constraint per row, which dominates the cost of large uploads.
+ * This validator instead splits the work by constraint type:
+ * <ul>
+ *   <li>Database-backed uniqueness constraints are deferred and checked once for the
+ *       whole collection: the values of each constraint are collected and looked up with
+ *       chunked {@code IN} queries. Duplicates within the collection itself are reported too.</li>
+ *   <li>All other (CPU-only) constraints, including the sanitization validators, are run
+ *       by the Bean Validation {@link Validator} on contiguous slices of the collection
+ *       in parallel, with at most {@code parallelism} slices in flight on the executor.</li>
+ * </ul>
+ * Uniqueness queries run on the calling thread, so they see the caller's transaction.
+ * Rows whose type carries {@link UniqueComposites} or {@link ValidateWith} constraints,
+ * which may also touch the database, are validated on the calling thread as well.
+ * <p>
+ * Violations are reported by zero-based row index in a {@link BulkValidationResult}.
+ * <p>
+ * Usage example:
+ * <pre>{@code
+ * BulkValidationResult result = bulkValidator.validate(rows);
+ * result.getViolationsByRow().forEach((row, violations) -> ...);
+ * }</pre>
+ *
+ * @see Unique
+ * @see UniqueFields
+ */
+public class BulkValidator {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkValidator.class);
+
+    /**
+     * Default maximum number of values bound to one {@code IN} clause.
+     */
+    public static final int DEFAULT_IN_CLAUSE_SIZE = 1000;
+
+    /**
+     * Smallest slice worth handing to another thread.
+     */
+    private static final int MIN_SLICE_SIZE = 256;
+
+    private static final Class<?>[] DEFAULT_GROUPS = {Default.class};
+
+    /**
+     * Set while the Bean Validation pass of a bulk validation runs on the current thread,
+     * telling {@link UniqueValidator} and {@link UniqueFieldsValidator} to defer their checks.
+     */
+    private static final ThreadLocal<Boolean> DEFERRING_UNIQUE_CHECKS = ThreadLocal.withInitial(() -> false);
+
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final MessageSource messageSource;
+    private final Executor executor;
+    private final int parallelism;
+    private final int inClauseSize;
+    private final ConcurrentMap<Class<?>, TypeDescriptor> descriptors = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a bulk validator that runs CPU-only constraints on the common fork-join pool.
+     *
+     * @param validator     the Bean Validation validator
+     * @param entityManager the entity manager for uniqueness queries, or null to leave
+     *                      uniqueness checks to the per-row validators
+     */
+    public BulkValidator(Validator validator, EntityManager entityManager) {
+        this(validator, entityManager, null, ForkJoinPool.commonPool(),
+                Runtime.getRuntime().availableProcessors(), DEFAULT_IN_CLAUSE_SIZE);
+    }
+
+    /**
+     * Creates a bulk validator.
+     *
+     * @param validator     the Bean Validation validator
+     * @param entityManager the entity manager for uniqueness queries, or null to leave
+     *                      uniqueness checks to the per-row validators
+     * @param messageSource the message source used to resolve uniqueness messages, or null
+     * @param executor      the executor running CPU-only validation slices
+     * @param parallelism   the maximum number of slices validated concurrently
+     * @param inClauseSize  the maximum number of values bound to one {@code IN} clause
+     */
+    public BulkValidator(Validator validator,
+                         EntityManager entityManager,
+                         MessageSource messageSource,
+                         Executor executor,
+                         int parallelism,
+                         int inClauseSize) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        if (inClauseSize < 1) {
+            throw new IllegalArgumentException("inClauseSize must be positive: " + inClauseSize);
+        }
+        this.validator = Objects.requireNonNull(validator, "validator must not be null");
+        this.entityManager = entityManager;
+        this.messageSource = messageSource;
+        this.executor = Objects.requireNonNull(executor, "executor must not be null");
+        this.parallelism = parallelism;
+        this.inClauseSize = inClauseSize;
+    }
+
+    /**
+     * Validates every row of the collection.
+     *
+     * @param rows   the rows to validate (null rows are skipped)
+     * @param groups the validation groups (Default when empty)
+     * @return the violations of all rows, by row index
+     */
+    public BulkValidationResult validate(List<?> rows, Class<?>... groups) {
+        if (rows.isEmpty()) {
+            return new BulkValidationResult(0, List.of());
+        }
+
+        long start = System.nanoTime();
+        Map<Class<?>, List<Integer>> rowsByType = groupRowsByType(rows);
+
+        List<Integer> parallelRows = new ArrayList<>(rows.size());
+        List<Integer> callerThreadRows = new ArrayList<>();
+        rowsByType.forEach((type, indexes) ->
+                (descriptorFor(type).callerThreadOnly() ? callerThreadRows : parallelRows).addAll(indexes));
+
+        List<BulkViolation> violations = new ArrayList<>(validateInParallel(rows, parallelRows, groups));
+        violations.addAll(validateSlice(rows, callerThreadRows, groups, null));
+        if (entityManager != null) {
+            rowsByType.forEach((type, indexes) -> violations.addAll(checkUniqueness(rows, type, indexes, groups)));
+        }
+
+        log.debug("Bulk validated {} rows in {}ms [violations={}]",
+                rows.size(), (System.nanoTime() - start) / 1_000_000, violations.size());
+        return new BulkValidationResult(rows.size(), violations);
+    }
+
+    /**
+     * Returns whether the current thread is inside the Bean Validation pass of a bulk
+     * validation, in which uniqueness validators should defer to the set queries.
+     */
+    static boolean isDeferringUniqueChecks() {
+        return DEFERRING_UNIQUE_CHECKS.get();
+    }
+
+    // ---------------------------------------------------------------------
+    // CPU-only constraints
+    // ---------------------------------------------------------------------
+
+    private List<BulkViolation> validateInParallel(List<?> rows, List<Integer> indexes, Class<?>[] groups) {
+        int sliceCount = Math.min(parallelism, (indexes.size() + MIN_SLICE_SIZE - 1) / MIN_SLICE_SIZE);
+        if (sliceCount <= 1) {
+            return validateSlice(rows, indexes, groups, null);
+        }
+
+        Locale locale = LocaleContextHolder.getLocale();
+        int sliceSize = (indexes.size() + sliceCount - 1) / sliceCount;
+        List<CompletableFuture<List<BulkViolation>>> futures = new ArrayList<>(sliceCount);
+        for (int from = 0; from < indexes.size(); from += sliceSize) {
+            List<Integer> slice = indexes.subList(from, Math.min(from + sliceSize, indexes.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> validateSlice(rows, slice, groups, locale), executor));
+        }
+
+        List<BulkViolation> violations = new ArrayList<>();
+        try {
+            for (CompletableFuture<List<BulkViolation>> future : futures) {
+                violations.addAll(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return violations;
+    }
+
+    /**
+     * Runs the Bean Validation pass over the given rows.
+     *
+     * @param locale the caller's locale to propagate to a worker thread, or null when
+     *               running on the calling thread
+     */
+    private List<BulkViolation> validateSlice(List<?> rows, List<Integer> indexes, Class<?>[] groups, Locale locale) {
+        if (indexes.isEmpty()) {
+            return List.of();
+        }
+
+        boolean previous = DEFERRING_UNIQUE_CHECKS.get();
+        DEFERRING_UNIQUE_CHECKS.set(entityManager != null);
+        // A caller-runs executor may run the slice on the caller's own thread
+        LocaleContext previousLocale = LocaleContextHolder.getLocaleContext();
+        if (locale != null) {
+            LocaleContextHolder.setLocale(locale);
+        }
+        try {
+            List<BulkViolation> violations = new ArrayList<>();
+            for (int index : indexes) {
+                for (ConstraintViolation<Object> violation : validator.validate(rows.get(index), groups)) {
+                    violations.add(new BulkViolation(
+                            index,
+                            violation.getPropertyPath().toString(),
+                            violation.getMessage(),
+                            violation.getMessageTemplate(),
+                            violation.getInvalidValue(),
+                            violation.getConstraintDescriptor().getAnnotation().annotationType()));
+                }
+            }
+            return violations;
+        } finally {
+            if (locale != null) {
+                LocaleContextHolder.setLocaleContext(previousLocale);
+            }
+            if (previous) {
+                DEFERRING_UNIQUE_CHECKS.set(true);
+            } else {
+                DEFERRING_UNIQUE_CHECKS.remove();
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Database-backed uniqueness constraints
+    // ---------------------------------------------------------------------
+
+    private List<BulkViolation> checkUniqueness(List<?> rows, Class<?> type, List<Integer> indexes, Class<?>[] groups) {
+        List<BulkViolation> violations = new ArrayList<>();
+        for (UniqueCheck check : descriptorFor(type).uniqueChecks()) {
+            if (check.appliesTo(groups)) {
+                violations.addAll(checkUniqueness(rows, indexes, check));
+            }
+        }
+        return violations;
+    }
+
+    private List<BulkViolation> checkUniqueness(List<?> rows, List<Integer> indexes, UniqueCheck check) {
+        Map<Object, List<Integer>> rowsByValue = new LinkedHashMap<>();
+        Map<Integer, Object> idByRow = new LinkedHashMap<>();
+
+        for (int index : indexes) {
+            PropertyAccessor accessor = check.fieldAccess()
+                    ? PropertyAccessorFactory.forDirectFieldAccess(rows.get(index))
+                    : PropertyAccessorFactory.forBeanPropertyAccess(rows.get(index));
+            if (!accessor.isReadableProperty(check.property())) {
+                continue;
+            }
+
+            Object value = accessor.getPropertyValue(check.property());
+            if (value == null || (value instanceof String s && !StringUtils.hasText(s))) {
+                continue;
+            }
+            rowsByValue.computeIfAbsent(value, v -> new ArrayList<>()).add(index);
+
+            if (check.excludesSelf() && accessor.isReadableProperty(check.idProperty())) {
+                idByRow.put(index, accessor.getPropertyValue(check.idProperty()));
+            }
+        }
+        if (rowsByValue.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Object, List<Object>> existing = findExisting(check, new ArrayList<>(rowsByValue.keySet()));
+        String message = resolveMessage(check.messageTemplate());
+
+        List<BulkViolation> violations = new ArrayList<>();
+        rowsByValue.forEach((value, valueRows) -> {
+            List<Object> ownerIds = existing.get(value);
+            for (int i = 0; i < valueRows.size(); i++) {
+                int index = valueRows.get(i);
+                // Later occurrences of a value already used earlier in the collection also conflict
+                boolean duplicateInBatch = i > 0;
+                boolean existsInDatabase = ownerIds != null
+                        && ownerIds.stream().anyMatch(ownerId -> !sameId(ownerId, idByRow.get(index)));
+                if (duplicateInBatch || existsInDatabase) {
+                    violations.add(new BulkViolation(index, check.property(), message,
+                            check.messageTemplate(), value, check.constraintType()));
+                }
+            }
+        });
+        return violations;
+    }
+
+    /**
+     * Looks up which of the values already exist, in chunks of {@code inClauseSize}.
+     *
+     * @return the existing values mapped to the IDs of the entities holding them
+     *         (a list of nulls when the check does not exclude the row's own entity)
+     */
+    private Map<Object, List<Object>> findExisting(UniqueCheck check, List<Object> values) {
+        StringBuilder jpql = new StringBuilder();
+        jpql.append("SELECT e.").append(check.field());
+        if (check.excludesSelf()) {
+            jpql.append(", e.").append(check.idField());
+        }
+        jpql.append(" FROM ").append(check.entity().getSimpleName())
+            .append(" e WHERE e.").append(check.field()).append(" IN :values");
+        UniqueValidator.appendSoftDeleteCondition(jpql, check.softDeleteField(), check.softDeleteType());
+
+        Map<Object, List<Object>> existing = new LinkedHashMap<>();
+        for (int from = 0; from < values.size(); from += inClauseSize) {
+            List<Object> chunk = values.subList(from, Math.min(from + inClauseSize, values.size()));
+            if (check.excludesSelf()) {
+                for (Object[] row : entityManager.createQuery(jpql.toString(), Object[].class)
+                        .setParameter("values", chunk)
+                        .getResultList()) {
+                    existing.computeIfAbsent(row[0], v -> new ArrayList<>()).add(row[1]);
+                }
+            } else {
+                for (Object value : entityManager.createQuery(jpql.toString(), Object.class)
+                        .setParameter("values", chunk)
+                        .getResultList()) {
+                    existing.computeIfAbsent(value, v -> new ArrayList<>()).add(null);
+                }
+            }
+        }
+
+        log.trace("Bulk unique check on {}.{} - {} values, {} existing",
+                check.entity().getSimpleName(), check.field(), values.size(), existing.size());
+        return existing;
+    }
+
+    private static boolean sameId(Object ownerId, Object rowId) {
+        if (ownerId == null || rowId == null) {
+            return false;
+        }
+        // DTO IDs are often strings or differently-boxed numbers
+        return ownerId.equals(rowId) || String.valueOf(ownerId).equals(String.valueOf(rowId));
+    }
+
+    private String resolveMessage(String messageTemplate) {
+        if (messageSource == null || !messageTemplate.startsWith("{") || !messageTemplate.endsWith("}")) {
+            return messageTemplate;
+        }
+        String key = messageTemplate.substring(1, messageTemplate.length() - 1);
+        return messageSource.getMessage(key, null, messageTemplate, LocaleContextHolder.getLocale());
+    }
+
+    // ---------------------------------------------------------------------
+    // Type metadata
+    // ---------------------------------------------------------------------
+
+    private static Map<Class<?>, List<Integer>> groupRowsByType(List<?> rows) {
+        Map<Class<?>, List<Integer>> rowsByType = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Object row = rows.get(i);
+            if (row != null) {
+                rowsByType.computeIfAbsent(row.getClass(), t -> new ArrayList<>()).add(i);
+            }
+        }
+        return rowsByType;
+    }
+
+    private TypeDescriptor descriptorFor(Class<?> type) {
+        return descriptors.computeIfAbsent(type, BulkValidator::describe);
+    }
+
+    private static TypeDescriptor describe(Class<?> type) {
+        List<UniqueCheck> checks = new ArrayList<>();
+        boolean callerThreadOnly = false;
+
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            UniqueFields uniqueFields = current.getAnnotation(UniqueFields.class);
+            if (uniqueFields != null) {
+                for (UniqueField field : uniqueFields.value()) {
+                    checks.add(new UniqueCheck(UniqueFields.class, field.entity(), field.field(),
+                            field.property(), false, field.idField(), field.idProperty(),
+                            field.softDeleteField(), field.softDeleteType(), field.message(),
+                            uniqueFields.groups()));
+                }
+            }
+            if (current.isAnnotationPresent(UniqueComposites.class) || current.isAnnotationPresent(ValidateWith.class)) {
+                callerThreadOnly = true;
+            }
+
+            for (Field field : current.getDeclaredFields()) {
+                Unique unique = field.getAnnotation(Unique.class);
+                if (unique != null) {
+                    // Field-level @Unique does not exclude the row's own entity, as in UniqueValidator
+                    checks.add(new UniqueCheck(Unique.class, unique.entity(), unique.field(),
+                            field.getName(), true, unique.idField(), "",
+                            unique.softDeleteField(), unique.softDeleteType(), unique.message(),
+                            unique.groups()));
+                }
+                if (field.isAnnotationPresent(ValidateWith.class)) {
+                    callerThreadOnly = true;
+                }
+            }
+        }
+        return new TypeDescriptor(List.copyOf(checks), callerThreadOnly);
+    }
+
+    private record TypeDescriptor(List<UniqueCheck> uniqueChecks, boolean callerThreadOnly) {
+    }
+
+    private record UniqueCheck(
+            Class<? extends Annotation> constraintType,
+            Class<?> entity,
+            String field,
+            String property,
+            boolean fieldAccess,
+            String idField,
+            String idProperty,
+            String softDeleteField,
+            SoftDeleteType softDeleteType,
+            String messageTemplate,
+            Class<?>[] groups) {
+
+        boolean excludesSelf() {
+            return StringUtils.hasText(idProperty);
+        }
+
+        boolean appliesTo(Class<?>[] requestedGroups) {
+            Class<?>[] requested = requestedGroups.length == 0 ? DEFAULT_GROUPS : requestedGroups;
+            Class<?>[] declared = groups.length == 0 ? DEFAULT_GROUPS : groups;
+            for (Class<?> r : requested) {
+                for (Class<?> d : declared) {
+                    if (r.equals(d)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
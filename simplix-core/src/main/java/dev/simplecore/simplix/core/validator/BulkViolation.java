@@ -0,0 +1,22 @@
+package dev.simplecore.simplix.core.validator;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * A single constraint violation found by {@link BulkValidator}, tied to the row it belongs to.
+ *
+ * @param rowIndex        zero-based index of the row in the validated collection
+ * @param propertyPath    the violating property path (empty for class-level constraints)
+ * @param message         the resolved violation message
+ * @param messageTemplate the unresolved message template
+ * @param invalidValue    the rejected value
+ * @param constraintType  the constraint annotation type that failed
+ */
+public record BulkViolation(
+        int rowIndex,
+        String propertyPath,
+        String message,
+        String messageTemplate,
+        Object invalidValue,
+        Class<? extends Annotation> constraintType) {
+}
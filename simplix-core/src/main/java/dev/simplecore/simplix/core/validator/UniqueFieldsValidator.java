@@ -18,6 +18,8 @@ import org.springframework.util.StringUtils;
  * Validates multiple unique field constraints at the class level.
  * Has access to the full DTO object, enabling reliable ID extraction
  * for update exclusion scenarios.
+ * <p>
+ * When run by {@link BulkValidator}, the checks are deferred to set queries per collection.
  *
  * @see UniqueFields
  * @see UniqueField
@@ -43,6 +45,11 @@ public class UniqueFieldsValidator implements ConstraintValidator<UniqueFields,
             return true;
         }
 
+        // Checked for the whole collection with set queries by BulkValidator
+        if (BulkValidator.isDeferringUniqueChecks()) {
+            return true;
+        }
+
         BeanWrapper wrapper = new BeanWrapperImpl(dto);
         boolean allValid = true;
 
@@ -16,6 +16,9 @@ import org.springframework.util.StringUtils;
  * Note: This field-level validator does NOT support ID exclusion for update operations.
  * For update scenarios where you need to exclude the current entity from uniqueness check,
  * use the class-level {@link UniqueFields} annotation instead.
+ * <p>
+ * When run by {@link BulkValidator}, the check is deferred to a single set query per
+ * collection instead of one query per value.
  *
  * @see Unique
  * @see UniqueFields
@@ -51,6 +54,11 @@ public class UniqueValidator implements ConstraintValidator<Unique, Object> {
             return true;
         }
 
+        // Checked for the whole collection with a set query by BulkValidator
+        if (BulkValidator.isDeferringUniqueChecks()) {
+            return true;
+        }
+
         return isUnique(value);
     }
 
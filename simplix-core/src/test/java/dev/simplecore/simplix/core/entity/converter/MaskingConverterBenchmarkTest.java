@@ -0,0 +1,106 @@
+package dev.simplecore.simplix.core.entity.converter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bulk-read workload for {@link MaskingConverter}: hydrates 100k masked rows the way an
+ * entity load does, then writes them back unchanged. Only correctness is asserted, so the
+ * test stays stable on slow machines.
+ */
+@DisplayName("MaskingConverter - 100k row bulk read benchmark")
+class MaskingConverterBenchmarkTest {
+
+    private static final int ROWS = 100_000;
+    private static final String UNMASK_PROPERTY = "simplix.core.masking.unmask";
+
+    private MaskingConverter converter;
+    private List<String> stored;
+    private String previousUnmask;
+
+    @BeforeEach
+    void setUp() {
+        converter = newConverter(0);
+        stored = new ArrayList<>(ROWS);
+        // Phone-number-like values with heavily repeated prefixes
+        for (int i = 0; i < ROWS; i++) {
+            stored.add(converter.convertToDatabaseColumn(String.format("010-%04d-%04d", i % 100, i)));
+        }
+        previousUnmask = System.getProperty(UNMASK_PROPERTY, "false");
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setProperty(UNMASK_PROPERTY, previousUnmask);
+    }
+
+    @Test
+    @DisplayName("masked bulk read and unchanged write-back should not encrypt or decrypt")
+    void maskedBulkRead() {
+        System.setProperty(UNMASK_PROPERTY, "false");
+
+        List<String> values = readAll(converter);
+        List<String> written = writeAll(converter, values);
+
+        assertThat(values).allMatch("****MASKED****"::equals);
+        assertThat(written).isEqualTo(stored);
+    }
+
+    @Test
+    @DisplayName("unmasked bulk read should decrypt once per row and write back without re-encrypting")
+    void unmaskedBulkRead() {
+        System.setProperty(UNMASK_PROPERTY, "true");
+
+        List<String> values = readAll(converter);
+        List<String> written = writeAll(converter, values);
+
+        assertThat(values.get(12_345)).isEqualTo("010-0045-12345");
+        assertThat(written).isEqualTo(stored);
+    }
+
+    @Test
+    @DisplayName("repeated unmasked bulk read should be served from the decrypt cache")
+    void repeatedUnmaskedBulkReadWithDecryptCache() {
+        System.setProperty(UNMASK_PROPERTY, "true");
+        MaskingConverter uncached = newConverter(0);
+        MaskingConverter cached = newConverter(ROWS);
+        readAll(cached);
+
+        List<String> uncachedValues = readAll(uncached);
+        List<String> cachedValues = readAll(cached);
+
+        assertThat(cachedValues).isEqualTo(uncachedValues);
+    }
+
+    private MaskingConverter newConverter(int decryptCacheSize) {
+        MaskingConverter conv = new MaskingConverter();
+        ReflectionTestUtils.setField(conv, "maskingEnabled", true);
+        ReflectionTestUtils.setField(conv, "maskingKey", "BenchmarkMaskingKeyForUnitTest12");
+        ReflectionTestUtils.setField(conv, "decryptCacheSize", decryptCacheSize);
+        return conv;
+    }
+
+    private List<String> readAll(MaskingConverter conv) {
+        List<String> values = new ArrayList<>(ROWS);
+        for (String dbData : stored) {
+            values.add(conv.convertToEntityAttribute(dbData));
+        }
+        return values;
+    }
+
+    private static List<String> writeAll(MaskingConverter conv, List<String> values) {
+        List<String> written = new ArrayList<>(values.size());
+        for (String value : values) {
+            written.add(conv.convertToDatabaseColumn(value));
+        }
+        return written;
+    }
+}
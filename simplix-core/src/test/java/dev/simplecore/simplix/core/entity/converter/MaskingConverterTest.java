@@ -6,7 +6,11 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("MaskingConverter")
 class MaskingConverterTest {
@@ -137,6 +141,125 @@ class MaskingConverterTest {
         }
     }
 
+    @Nested
+    @DisplayName("write-back of unchanged values")
+    class WriteBack {
+
+        @Test
+        @DisplayName("should keep the stored ciphertext when a masked value is written back unchanged")
+        void shouldKeepCiphertextForMaskedValue() {
+            String encrypted = converter.convertToDatabaseColumn("original-value");
+            String masked = converter.convertToEntityAttribute(encrypted);
+
+            assertThat(converter.convertToDatabaseColumn(masked)).isEqualTo(encrypted);
+        }
+
+        @Test
+        @DisplayName("should keep each row's own ciphertext for identical masked values")
+        void shouldKeepOwnCiphertextPerRow() {
+            String first = converter.convertToDatabaseColumn("first");
+            String second = converter.convertToDatabaseColumn("second");
+
+            String maskedFirst = converter.convertToEntityAttribute(first);
+            String maskedSecond = converter.convertToEntityAttribute(second);
+
+            assertThat(maskedFirst).isEqualTo(maskedSecond);
+            assertThat(converter.convertToDatabaseColumn(maskedFirst)).isEqualTo(first);
+            assertThat(converter.convertToDatabaseColumn(maskedSecond)).isEqualTo(second);
+        }
+
+        @Test
+        @DisplayName("should keep the stored ciphertext when a decrypted value is written back unchanged")
+        void shouldKeepCiphertextForDecryptedValue() {
+            String encrypted = converter.convertToDatabaseColumn("original-value");
+
+            String previousValue = System.getProperty("simplix.core.masking.unmask", "false");
+            try {
+                System.setProperty("simplix.core.masking.unmask", "true");
+                String decrypted = converter.convertToEntityAttribute(encrypted);
+                assertThat(converter.convertToDatabaseColumn(decrypted)).isEqualTo(encrypted);
+            } finally {
+                System.setProperty("simplix.core.masking.unmask", previousValue);
+            }
+        }
+
+        @Test
+        @DisplayName("should encrypt again when the value was changed")
+        void shouldEncryptChangedValue() {
+            String encrypted = converter.convertToDatabaseColumn("original-value");
+            converter.convertToEntityAttribute(encrypted);
+
+            String result = converter.convertToDatabaseColumn("new-value");
+
+            assertThat(result).startsWith("MASKED:").isNotEqualTo(encrypted);
+        }
+
+        @Test
+        @DisplayName("should keep the stored ciphertext however many values were read since")
+        void shouldKeepCiphertextAfterManyReads() {
+            String encrypted = converter.convertToDatabaseColumn("original-value");
+            String masked = converter.convertToEntityAttribute(encrypted);
+
+            String other = converter.convertToDatabaseColumn("other-value");
+            List<String> laterValues = new ArrayList<>();
+            for (int i = 0; i < 20_000; i++) {
+                laterValues.add(converter.convertToEntityAttribute(other));
+            }
+
+            assertThat(laterValues).hasSize(20_000);
+            assertThat(converter.convertToDatabaseColumn(masked)).isEqualTo(encrypted);
+        }
+
+        @Test
+        @DisplayName("should refuse to encrypt a masked placeholder it did not hand out")
+        void shouldRefuseUnknownPlaceholder() {
+            String encrypted = converter.convertToDatabaseColumn("original-value");
+            String copied = new String(converter.convertToEntityAttribute(encrypted));
+
+            assertThatThrownBy(() -> converter.convertToDatabaseColumn(copied))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("should refuse the placeholder and re-encrypt other values when write-back is disabled")
+        void shouldRefusePlaceholderWhenWriteBackDisabled() {
+            ReflectionTestUtils.setField(converter, "writeBackEnabled", false);
+            String encrypted = converter.convertToDatabaseColumn("original-value");
+            String masked = converter.convertToEntityAttribute(encrypted);
+
+            assertThat(masked).isSameAs(converter.convertToEntityAttribute(encrypted));
+            assertThatThrownBy(() -> converter.convertToDatabaseColumn(masked))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(converter.convertToDatabaseColumn("original-value")).isNotEqualTo(encrypted);
+        }
+    }
+
+    @Nested
+    @DisplayName("decrypt cache")
+    class DecryptCache {
+
+        @Test
+        @DisplayName("should return the cached decryption for a repeated ciphertext")
+        void shouldReturnCachedDecryption() {
+            ReflectionTestUtils.setField(converter, "decryptCacheSize", 16);
+            String encrypted = converter.convertToDatabaseColumn("original-value");
+
+            String previousValue = System.getProperty("simplix.core.masking.unmask", "false");
+            try {
+                System.setProperty("simplix.core.masking.unmask", "true");
+                String first = converter.convertToEntityAttribute(encrypted);
+                String second = converter.convertToEntityAttribute(encrypted);
+
+                assertThat(first).isEqualTo("original-value").isEqualTo(second);
+                // Distinct instances, so each read keeps its own write-back mapping
+                assertThat(first).isNotSameAs(second);
+                assertThat(converter.convertToDatabaseColumn(second)).isEqualTo(encrypted);
+            } finally {
+                System.setProperty("simplix.core.masking.unmask", previousValue);
+            }
+        }
+    }
+
     @Nested
     @DisplayName("static masking methods")
     class StaticMaskingMethods {
@@ -66,4 +66,44 @@ class AsyncQueryTrackerTest {
         tracker.complete("q-1");
         assertThat(tracker.getPendingCount()).isEqualTo(1);
     }
+
+    @Test
+    @DisplayName("should count completions and record latency")
+    void shouldCountCompletions() {
+        tracker.track("q-1");
+        tracker.track("q-2");
+        tracker.complete("q-1");
+        tracker.complete("q-2");
+
+        assertThat(tracker.getCompletedCount()).isEqualTo(2);
+        assertThat(tracker.getTimedOutCount()).isZero();
+        assertThat(tracker.getTimeoutRate()).isZero();
+        assertThat(tracker.getLatencyPercentileMicros(99)).isLessThan(500_000L);
+    }
+
+    @Test
+    @DisplayName("should count timeouts and remove them from pending")
+    void shouldCountTimeouts() throws Exception {
+        AsyncQueryTracker shortTracker = new AsyncQueryTracker(20);
+        CompletableFuture<Void> timedOut = shortTracker.track("q-1");
+        shortTracker.track("q-2");
+        shortTracker.complete("q-2");
+
+        assertThatThrownBy(() -> timedOut.get(1, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(shortTracker.getPendingCount()).isZero();
+        assertThat(shortTracker.getTimedOutCount()).isEqualTo(1);
+        assertThat(shortTracker.getTimeoutRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("should not time out a completed query")
+    void shouldNotTimeOutCompletedQuery() throws Exception {
+        CompletableFuture<Void> future = tracker.track("q-1");
+        tracker.complete("q-1");
+
+        Thread.sleep(700);
+        assertThat(future.isCompletedExceptionally()).isFalse();
+        assertThat(tracker.getTimedOutCount()).isZero();
+    }
 }
@@ -0,0 +1,118 @@
+package dev.simplecore.simplix.core.resilience;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HashedTimeoutWheelTest {
+
+    private HashedTimeoutWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HashedTimeoutWheel(5, TimeUnit.MILLISECONDS, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    @DisplayName("should fire timeout after delay")
+    void shouldFireAfterDelay() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        HashedTimeoutWheel.Timeout timeout = wheel.schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(50);
+        assertThat(timeout.isExpired()).isTrue();
+        assertThat(wheel.getPendingTimeouts()).isZero();
+    }
+
+    @Test
+    @DisplayName("should fire timeouts spanning multiple wheel rounds")
+    void shouldFireAcrossRounds() throws Exception {
+        // 8 buckets of 5ms = 40ms per round
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        wheel.schedule(latch::countDown, 130, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(130);
+    }
+
+    @Test
+    @DisplayName("should not run cancelled timeout")
+    void shouldNotRunCancelled() throws Exception {
+        AtomicInteger fired = new AtomicInteger();
+
+        HashedTimeoutWheel.Timeout timeout = wheel.schedule(fired::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+        assertThat(timeout.cancel()).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+
+        Thread.sleep(80);
+        assertThat(fired.get()).isZero();
+        assertThat(timeout.isCancelled()).isTrue();
+        assertThat(wheel.getPendingTimeouts()).isZero();
+    }
+
+    @Test
+    @DisplayName("should fire many concurrent timeouts exactly once")
+    void shouldFireManyTimeouts() throws Exception {
+        int count = 10_000;
+        CountDownLatch latch = new CountDownLatch(count);
+        AtomicInteger fired = new AtomicInteger();
+
+        for (int i = 0; i < count; i++) {
+            wheel.schedule(() -> {
+                fired.incrementAndGet();
+                latch.countDown();
+            }, i % 100, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(20);
+        assertThat(fired.get()).isEqualTo(count);
+    }
+
+    @Test
+    @DisplayName("should keep running after a task throws")
+    void shouldSurviveFailingTask() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        wheel.schedule(() -> {
+            throw new IllegalStateException("boom");
+        }, 5, TimeUnit.MILLISECONDS);
+        wheel.schedule(latch::countDown, 20, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should reject scheduling after stop")
+    void shouldRejectAfterStop() {
+        wheel.stop();
+
+        assertThatThrownBy(() -> wheel.schedule(() -> { }, 10, TimeUnit.MILLISECONDS))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("should not allow stopping the shared wheel")
+    void shouldNotStopSharedWheel() {
+        assertThatThrownBy(() -> HashedTimeoutWheel.shared().stop())
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
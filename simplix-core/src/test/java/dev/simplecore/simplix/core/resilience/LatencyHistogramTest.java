@@ -0,0 +1,75 @@
+package dev.simplecore.simplix.core.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("should return zero when empty")
+    void shouldReturnZeroWhenEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertThat(histogram.getCount()).isZero();
+        assertThat(histogram.getPercentileMicros(99)).isZero();
+    }
+
+    @Test
+    @DisplayName("should record small values exactly")
+    void shouldRecordSmallValuesExactly() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordNanos(7_000);
+
+        assertThat(histogram.getPercentileMicros(50)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("should report percentiles within bucket precision")
+    void shouldReportPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.recordNanos(i * 1_000_000L);
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(1000);
+        assertThat(histogram.getPercentileMicros(50)).isBetween(500_000L, 562_500L);
+        assertThat(histogram.getPercentileMicros(99)).isBetween(990_000L, 1_113_750L);
+        assertThat(histogram.getPercentileMicros(100)).isGreaterThanOrEqualTo(1_000_000L);
+    }
+
+    @Test
+    @DisplayName("should map every value into a bucket whose upper bound covers it")
+    void shouldCoverValues() {
+        long[] samples = {0, 1, 15, 16, 17, 31, 32, 1_000, 65_535, 1L << 40, Long.MAX_VALUE};
+        for (long value : samples) {
+            int index = LatencyHistogram.indexOf(value);
+            assertThat(LatencyHistogram.upperBoundOf(index)).isGreaterThanOrEqualTo(value);
+            if (index > 0) {
+                assertThat(LatencyHistogram.upperBoundOf(index - 1)).isLessThan(value);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should clear recorded values on reset")
+    void shouldReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordNanos(5_000_000);
+        histogram.reset();
+
+        assertThat(histogram.getCount()).isZero();
+        assertThat(histogram.getPercentileMicros(50)).isZero();
+    }
+
+    @Test
+    @DisplayName("should reject out-of-range percentile")
+    void shouldRejectInvalidPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertThatThrownBy(() -> histogram.getPercentileMicros(101))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
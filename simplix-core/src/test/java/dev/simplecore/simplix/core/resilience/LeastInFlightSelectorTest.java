@@ -0,0 +1,62 @@
+package dev.simplecore.simplix.core.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeastInFlightSelectorTest {
+
+    private LeastInFlightSelector selector;
+
+    @BeforeEach
+    void setUp() {
+        selector = new LeastInFlightSelector();
+    }
+
+    @Test
+    @DisplayName("should pick candidate with fewest in-flight operations")
+    void shouldPickLeastLoaded() {
+        selector.onStart("A");
+        selector.onStart("A");
+        selector.onStart("B");
+        selector.onStart("C");
+        selector.onStart("C");
+
+        assertThat(selector.select(List.of("A", "B", "C"))).isEqualTo("B");
+    }
+
+    @Test
+    @DisplayName("should spread ties across idle candidates")
+    void shouldSpreadTies() {
+        List<String> items = List.of("A", "B", "C");
+        Set<String> picks = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            picks.add(selector.select(items));
+        }
+        assertThat(picks).containsExactlyInAnyOrder("A", "B", "C");
+    }
+
+    @Test
+    @DisplayName("should prefer candidate again once its operations complete")
+    void shouldReleaseOnComplete() {
+        selector.onStart("A");
+        selector.onStart("B");
+        selector.onStart("B");
+        selector.onComplete("B", 1_000, true);
+        selector.onComplete("B", 1_000, true);
+
+        assertThat(selector.select(List.of("A", "B"))).isEqualTo("B");
+    }
+
+    @Test
+    @DisplayName("should return null for empty list")
+    void shouldReturnNullForEmpty() {
+        assertThat(selector.<String>select(List.of())).isNull();
+    }
+}
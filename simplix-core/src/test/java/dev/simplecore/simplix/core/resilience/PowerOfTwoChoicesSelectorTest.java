@@ -0,0 +1,117 @@
+package dev.simplecore.simplix.core.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PowerOfTwoChoicesSelectorTest {
+
+    private PowerOfTwoChoicesSelector selector;
+
+    @BeforeEach
+    void setUp() {
+        selector = new PowerOfTwoChoicesSelector();
+    }
+
+    @Test
+    @DisplayName("should return null for empty or null list")
+    void shouldReturnNullForEmpty() {
+        assertThat(selector.<String>select(List.of())).isNull();
+        assertThat(selector.<String>select(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("should return the only candidate")
+    void shouldReturnSingleCandidate() {
+        assertThat(selector.select(List.of("A"))).isEqualTo("A");
+    }
+
+    @Test
+    @DisplayName("should always prefer the faster of two candidates")
+    void shouldPreferFasterCandidate() {
+        selector.onComplete("A", 1_000_000, true);
+        selector.onComplete("B", 50_000_000, true);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(selector.select(List.of("A", "B"))).isEqualTo("A");
+        }
+    }
+
+    @Test
+    @DisplayName("should never pick the slowest of three candidates")
+    void shouldAvoidSlowestCandidate() {
+        selector.onComplete("A", 1_000_000, true);
+        selector.onComplete("B", 2_000_000, true);
+        selector.onComplete("C", 100_000_000, true);
+
+        for (int i = 0; i < 200; i++) {
+            assertThat(selector.select(List.of("A", "B", "C"))).isNotEqualTo("C");
+        }
+    }
+
+    @Test
+    @DisplayName("should not send traffic to a candidate that never completes")
+    void shouldAvoidCandidateThatNeverCompletes() {
+        selector.onComplete("A", 5_000_000, true);
+        for (int i = 0; i < 3; i++) {
+            selector.onStart("B");
+        }
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(selector.select(List.of("A", "B"))).isEqualTo("A");
+        }
+    }
+
+    @Test
+    @DisplayName("should prefer fewer in-flight operations among candidates without samples")
+    void shouldBreakTiesOnInFlight() {
+        selector.onStart("A");
+        selector.onStart("A");
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(selector.select(List.of("A", "B"))).isEqualTo("B");
+        }
+    }
+
+    @Test
+    @DisplayName("should penalize failures in the latency average")
+    void shouldPenalizeFailures() {
+        selector.onComplete("A", 10_000_000, true);
+        selector.onComplete("A", 1_000_000, false);
+
+        assertThat(selector.getLatencyEwmaNanos("A")).isGreaterThan(10_000_000L);
+    }
+
+    @Test
+    @DisplayName("should track in-flight operations")
+    void shouldTrackInFlight() {
+        selector.onStart("A");
+        selector.onStart("A");
+        assertThat(selector.getInFlight("A")).isEqualTo(2);
+
+        selector.onComplete("A", 1_000, true);
+        assertThat(selector.getInFlight("A")).isEqualTo(1);
+
+        selector.removeCandidate("A");
+        assertThat(selector.getInFlight("A")).isZero();
+    }
+
+    @Test
+    @DisplayName("should select distinct candidates in a batch")
+    void shouldSelectDistinctBatch() {
+        List<String> batch = selector.selectBatch(List.of("A", "B", "C", "D"), 3);
+        assertThat(batch).hasSize(3).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("should reject invalid smoothing factor")
+    void shouldRejectInvalidAlpha() {
+        assertThatThrownBy(() -> new PowerOfTwoChoicesSelector(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
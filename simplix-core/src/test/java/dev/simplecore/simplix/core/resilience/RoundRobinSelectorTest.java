@@ -75,4 +75,15 @@ class RoundRobinSelectorTest {
         selector.resetCursor();
         assertThat(selector.getCursorPosition()).isEqualTo(0);
     }
+
+    @Test
+    @DisplayName("should select single items in rotation")
+    void shouldSelectSingleItems() {
+        List<String> items = List.of("A", "B", "C");
+        assertThat(selector.select(items)).isEqualTo("A");
+        assertThat(selector.select(items)).isEqualTo("B");
+        assertThat(selector.select(items)).isEqualTo("C");
+        assertThat(selector.select(items)).isEqualTo("A");
+        assertThat(selector.<String>select(List.of())).isNull();
+    }
 }
@@ -0,0 +1,74 @@
+package dev.simplecore.simplix.core.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WeightedRoundRobinSelectorTest {
+
+    private WeightedRoundRobinSelector selector;
+
+    @BeforeEach
+    void setUp() {
+        selector = new WeightedRoundRobinSelector();
+    }
+
+    @Test
+    @DisplayName("should rotate evenly with default weights")
+    void shouldRotateEvenly() {
+        List<String> items = List.of("A", "B", "C");
+        List<String> picks = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            picks.add(selector.select(items));
+        }
+        assertThat(picks).containsExactly("A", "B", "C", "A", "B", "C");
+    }
+
+    @Test
+    @DisplayName("should interleave picks smoothly by weight")
+    void shouldInterleaveByWeight() {
+        selector.setWeight("A", 5);
+        List<String> items = List.of("A", "B", "C");
+        List<String> picks = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            picks.add(selector.select(items));
+        }
+        assertThat(picks).containsExactly("A", "A", "B", "A", "C", "A", "A");
+    }
+
+    @Test
+    @DisplayName("should halve effective weight on failure and recover on success")
+    void shouldAdaptEffectiveWeight() {
+        selector.setWeight("A", 8);
+
+        selector.onComplete("A", 1_000, false);
+        assertThat(selector.getEffectiveWeight("A")).isEqualTo(4);
+
+        selector.onComplete("A", 1_000, true);
+        assertThat(selector.getEffectiveWeight("A")).isEqualTo(5);
+
+        for (int i = 0; i < 10; i++) {
+            selector.onComplete("A", 1_000, true);
+        }
+        assertThat(selector.getEffectiveWeight("A")).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("should reject non-positive weight")
+    void shouldRejectInvalidWeight() {
+        assertThatThrownBy(() -> selector.setWeight("A", 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should return null for empty list")
+    void shouldReturnNullForEmpty() {
+        assertThat(selector.<String>select(List.of())).isNull();
+    }
+}
@@ -0,0 +1,248 @@
+package dev.simplecore.simplix.core.validator;
+
+import dev.simplecore.simplix.core.validator.dto.BulkUserDto;
+import dev.simplecore.simplix.core.validator.dto.UpdateUserDto;
+import dev.simplecore.simplix.core.validator.entity.TestUser;
+import dev.simplecore.simplix.core.validator.repository.TestUserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotBlank;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for {@link BulkValidator}.
+ */
+@SpringBootTest(classes = ValidatorTestApplication.class)
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Bulk Validator Tests")
+class BulkValidatorTest {
+
+    @Autowired
+    private TestUserRepository userRepository;
+
+    @Autowired
+    private Validator validator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private BulkValidator bulkValidator;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        entityManager.flush();
+        entityManager.clear();
+        bulkValidator = new BulkValidator(validator, entityManager);
+    }
+
+    private void givenExistingUser(String email, String username) {
+        userRepository.saveAndFlush(new TestUser(email, username, "Existing"));
+        entityManager.clear();
+    }
+
+    @Nested
+    @DisplayName("CPU-only constraints")
+    class CpuConstraintsTest {
+
+        @Test
+        @DisplayName("should pass when all rows are valid")
+        void shouldPassWhenAllRowsAreValid() {
+            List<BulkUserDto> rows = List.of(
+                new BulkUserDto("a@example.com", "A"),
+                new BulkUserDto("b@example.com", "B"));
+
+            BulkValidationResult result = bulkValidator.validate(rows);
+
+            assertThat(result.isValid()).isTrue();
+            assertThat(result.getRowCount()).isEqualTo(2);
+            assertThat(result.getInvalidRowIndexes()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should report violations by row index across parallel slices")
+        void shouldReportViolationsByRowIndexAcrossParallelSlices() {
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                BulkValidator parallel = new BulkValidator(validator, entityManager, null, executor, 4, 100);
+                List<BulkUserDto> rows = new ArrayList<>();
+                for (int i = 0; i < 2000; i++) {
+                    rows.add(new BulkUserDto("user" + i + "@example.com", i % 500 == 7 ? "" : "User " + i));
+                }
+
+                BulkValidationResult result = parallel.validate(rows);
+
+                assertThat(result.getInvalidRowIndexes()).containsExactly(7, 507, 1007, 1507);
+                assertThat(result.getViolations(507)).singleElement().satisfies(violation -> {
+                    assertThat(violation.propertyPath()).isEqualTo("name");
+                    assertThat(violation.message()).isEqualTo("Name is required");
+                    assertThat(violation.constraintType()).isEqualTo(NotBlank.class);
+                });
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("should keep the caller's locale context when slices run on the calling thread")
+        void shouldKeepCallerLocaleWithDirectExecutor() {
+            BulkValidator direct = new BulkValidator(validator, entityManager, null, Runnable::run, 4, 100);
+            List<BulkUserDto> rows = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                rows.add(new BulkUserDto("user" + i + "@example.com", "User " + i));
+            }
+            LocaleContextHolder.setLocale(Locale.KOREA);
+            try {
+                direct.validate(rows);
+
+                assertThat(LocaleContextHolder.getLocaleContext()).isNotNull();
+                assertThat(LocaleContextHolder.getLocale()).isEqualTo(Locale.KOREA);
+            } finally {
+                LocaleContextHolder.resetLocaleContext();
+            }
+        }
+
+        @Test
+        @DisplayName("should skip null rows")
+        void shouldSkipNullRows() {
+            List<BulkUserDto> rows = new ArrayList<>();
+            rows.add(null);
+            rows.add(new BulkUserDto("a@example.com", ""));
+
+            BulkValidationResult result = bulkValidator.validate(rows);
+
+            assertThat(result.getInvalidRowIndexes()).containsExactly(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("@Unique set queries")
+    class UniqueSetQueryTest {
+
+        @Test
+        @DisplayName("should report rows whose value already exists")
+        void shouldReportRowsWhoseValueAlreadyExists() {
+            givenExistingUser("taken@example.com", "taken");
+
+            List<BulkUserDto> rows = List.of(
+                new BulkUserDto("free@example.com", "A"),
+                new BulkUserDto("taken@example.com", "B"),
+                new BulkUserDto(null, "C"));
+
+            BulkValidationResult result = bulkValidator.validate(rows);
+
+            assertThat(result.getInvalidRowIndexes()).containsExactly(1);
+            assertThat(result.getViolations(1)).singleElement().satisfies(violation -> {
+                assertThat(violation.propertyPath()).isEqualTo("email");
+                assertThat(violation.message()).isEqualTo("Email already exists");
+                assertThat(violation.invalidValue()).isEqualTo("taken@example.com");
+                assertThat(violation.constraintType()).isEqualTo(Unique.class);
+            });
+        }
+
+        @Test
+        @DisplayName("should report later duplicates within the collection")
+        void shouldReportLaterDuplicatesWithinCollection() {
+            List<BulkUserDto> rows = List.of(
+                new BulkUserDto("dup@example.com", "A"),
+                new BulkUserDto("other@example.com", "B"),
+                new BulkUserDto("dup@example.com", "C"));
+
+            BulkValidationResult result = bulkValidator.validate(rows);
+
+            assertThat(result.getInvalidRowIndexes()).containsExactly(2);
+        }
+
+        @Test
+        @DisplayName("should chunk IN queries larger than the clause size")
+        void shouldChunkInQueries() {
+            givenExistingUser("user42@example.com", "u42");
+            givenExistingUser("user2501@example.com", "u2501");
+            List<BulkUserDto> rows = new ArrayList<>();
+            for (int i = 0; i < 3000; i++) {
+                rows.add(new BulkUserDto("user" + i + "@example.com", "User"));
+            }
+
+            BulkValidationResult result = bulkValidator.validate(rows);
+
+            assertThat(result.getInvalidRowIndexes()).containsExactly(42, 2501);
+        }
+
+        @Test
+        @DisplayName("should combine unique and CPU-only violations of the same row")
+        void shouldCombineViolationsOfSameRow() {
+            givenExistingUser("taken@example.com", "taken");
+
+            BulkValidationResult result = bulkValidator.validate(
+                List.of(new BulkUserDto("taken@example.com", "")));
+
+            assertThat(result.getViolations(0))
+                .extracting(BulkViolation::propertyPath)
+                .containsExactly("email", "name");
+        }
+
+        @Test
+        @DisplayName("should fall back to per-row validators without an entity manager")
+        void shouldFallBackWithoutEntityManager() {
+            givenExistingUser("taken@example.com", "taken");
+            BulkValidator withoutDatabase = new BulkValidator(validator, null);
+
+            BulkValidationResult result = withoutDatabase.validate(
+                List.of(new BulkUserDto("taken@example.com", "A")));
+
+            assertThat(result.getViolations(0))
+                .extracting(BulkViolation::message)
+                .containsExactly("Email already exists");
+        }
+    }
+
+    @Nested
+    @DisplayName("@UniqueFields set queries")
+    class UniqueFieldsSetQueryTest {
+
+        @Test
+        @DisplayName("should exclude the row's own entity")
+        void shouldExcludeRowsOwnEntity() {
+            TestUser existing = userRepository.saveAndFlush(new TestUser("me@example.com", "me", "Me"));
+            entityManager.clear();
+
+            List<UpdateUserDto> rows = List.of(
+                new UpdateUserDto(existing.getId(), "me@example.com", "me", "Me"),
+                new UpdateUserDto(existing.getId() + 1, "me@example.com", "someone", "Someone"));
+
+            BulkValidationResult result = bulkValidator.validate(rows);
+
+            assertThat(result.getInvalidRowIndexes()).containsExactly(1);
+            assertThat(result.getViolations(1)).singleElement().satisfies(violation -> {
+                assertThat(violation.propertyPath()).isEqualTo("email");
+                assertThat(violation.constraintType()).isEqualTo(UniqueFields.class);
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("should reject non-positive parallelism")
+    void shouldRejectNonPositiveParallelism() {
+        assertThatThrownBy(() -> new BulkValidator(validator, entityManager, null, Runnable::run, 0, 100))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
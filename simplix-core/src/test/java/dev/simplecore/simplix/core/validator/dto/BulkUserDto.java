@@ -0,0 +1,25 @@
+package dev.simplecore.simplix.core.validator.dto;
+
+import dev.simplecore.simplix.core.validator.Unique;
+import dev.simplecore.simplix.core.validator.entity.TestUser;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for bulk validation tests, mixing database-backed and CPU-only constraints.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUserDto {
+
+    @Unique(entity = TestUser.class, field = "email", message = "Email already exists")
+    private String email;
+
+    @NotBlank(message = "Name is required")
+    @Size(max = 20, message = "Name is too long")
+    private String name;
+}
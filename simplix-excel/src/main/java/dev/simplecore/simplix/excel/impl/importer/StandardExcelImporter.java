@@ -3,6 +3,8 @@ package dev.simplecore.simplix.excel.impl.importer;
 import dev.simplecore.simplix.core.convert.bool.BooleanConverter;
 import dev.simplecore.simplix.core.convert.datetime.DateTimeConverter;
 import dev.simplecore.simplix.core.convert.enumeration.EnumConverter;
+import dev.simplecore.simplix.core.validator.BulkValidationResult;
+import dev.simplecore.simplix.core.validator.BulkValidator;
 import dev.simplecore.simplix.excel.annotation.ExcelColumn;
 import lombok.Getter;
 import lombok.Setter;
@@ -48,6 +50,9 @@ public class StandardExcelImporter<T> {
     @Getter @Setter
     private ZoneId applicationZoneId = ZoneId.systemDefault();
 
+    @Getter @Setter
+    private BulkValidator bulkValidator;
+
     public StandardExcelImporter(Class<T> dataClass) {
         this.dataClass = dataClass;
         this.columnMapping = new HashMap<>();
@@ -102,6 +107,25 @@ public class StandardExcelImporter<T> {
         }
     }
 
+    /**
+     * Validates imported rows in a single bulk pass using the configured {@link BulkValidator},
+     * instead of validating each row on its own.
+     * <p>
+     * Row indexes in the result are positions in {@code rows}, not sheet row numbers:
+     * the header row and blank sheet rows are not part of the imported list.
+     *
+     * @param rows   rows returned by {@link #importFromExcel} or {@link #importFromCsv}
+     * @param groups the validation groups (Default when empty)
+     * @return the violations by row index
+     * @throws IllegalStateException if no bulk validator has been set
+     */
+    public BulkValidationResult validate(List<T> rows, Class<?>... groups) {
+        if (bulkValidator == null) {
+            throw new IllegalStateException("No BulkValidator configured for " + dataClass.getSimpleName() + " import");
+        }
+        return bulkValidator.validate(rows, groups);
+    }
+
     public void setColumnMapping(Map<Integer, String> mapping) {
         columnMapping.clear();
         mapping.forEach((column, fieldName) -> {
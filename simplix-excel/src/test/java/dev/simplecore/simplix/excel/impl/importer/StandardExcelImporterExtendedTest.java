@@ -1,5 +1,7 @@
 package dev.simplecore.simplix.excel.impl.importer;
 
+import dev.simplecore.simplix.core.validator.BulkValidationResult;
+import dev.simplecore.simplix.core.validator.BulkValidator;
 import dev.simplecore.simplix.excel.annotation.ExcelColumn;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -21,6 +23,9 @@ import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @DisplayName("StandardExcelImporter - Extended Coverage")
 class StandardExcelImporterExtendedTest {
@@ -371,6 +376,34 @@ class StandardExcelImporterExtendedTest {
         }
     }
 
+    @Nested
+    @DisplayName("Bulk validation of imported rows")
+    class BulkValidationTests {
+
+        @Test
+        @DisplayName("should delegate imported rows to the bulk validator")
+        void shouldDelegateToBulkValidator() {
+            StandardExcelImporter<StringEntity> importer = new StandardExcelImporter<>(StringEntity.class);
+            List<StringEntity> rows = List.of(new StringEntity());
+
+            BulkValidator bulkValidator = mock(BulkValidator.class);
+            BulkValidationResult expected = mock(BulkValidationResult.class);
+            when(bulkValidator.validate(rows)).thenReturn(expected);
+            importer.setBulkValidator(bulkValidator);
+
+            assertThat(importer.validate(rows)).isSameAs(expected);
+        }
+
+        @Test
+        @DisplayName("should fail when no bulk validator is configured")
+        void shouldFailWithoutBulkValidator() {
+            StandardExcelImporter<StringEntity> importer = new StandardExcelImporter<>(StringEntity.class);
+
+            assertThatThrownBy(() -> importer.validate(List.of(new StringEntity())))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
     // --- Helper methods ---
 
     private ByteArrayOutputStream createExcelWithNumericRow(double value) throws IOException {
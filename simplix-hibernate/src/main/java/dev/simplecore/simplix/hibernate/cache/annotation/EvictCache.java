@@ -27,6 +27,11 @@ import java.lang.annotation.Target;
  *     @Query("DELETE FROM User u WHERE u.deletedAt < :date")
  *     @EvictCache(User.class)
  *     int deleteOldUsers(@Param("date") LocalDateTime date);
+ *
+ *     @Modifying
+ *     @Query(value = "UPDATE users SET status = 'INACTIVE' WHERE last_login < :date", nativeQuery = true)
+ *     @EvictCache(tables = "users")
+ *     int deactivateUsers(@Param("date") LocalDateTime date);
  * }
  * }</pre>
  *
@@ -35,6 +40,8 @@ import java.lang.annotation.Target;
  *   <li>Eviction is performed <strong>after</strong> the method returns successfully</li>
  *   <li>If transaction is active, eviction happens after transaction commit</li>
  *   <li>Entire entity cache region is evicted (not individual entries)</li>
+ *   <li>Native statements carry the query spaces of the modified tables, so Hibernate
+ *       only invalidates cached query results that read those tables</li>
  *   <li>Works with distributed cache - eviction is broadcast to other nodes</li>
  * </ul>
  *
@@ -63,11 +70,26 @@ public @interface EvictCache {
     /**
      * The entity classes whose caches should be evicted.
      *
-     * <p>Multiple classes can be specified if the query affects multiple entity types.</p>
+     * <p>Multiple classes can be specified if the query affects multiple entity types.
+     * May be left empty when {@link #tables()} is given or the target can be read from
+     * the method's {@code @Query}.</p>
      *
      * @return array of entity classes to evict from cache
      */
-    Class<?>[] value();
+    Class<?>[] value() default {};
+
+    /**
+     * Tables modified by the query.
+     *
+     * <p>Resolved through the Hibernate metamodel to the cached entities mapped to these
+     * tables, whose regions are evicted, and to the query spaces declared on a native
+     * statement as its synchronized spaces. If neither tables nor entity classes are given, the target table or entity is
+     * read from the {@code UPDATE}, {@code DELETE} or {@code INSERT} statement of the
+     * method's {@code @Query}.</p>
+     *
+     * @return modified table names, or empty to use the entity classes or the query
+     */
+    String[] tables() default {};
 
     /**
      * Optional cache region names to evict.
@@ -83,7 +105,9 @@ public @interface EvictCache {
      * Whether to also evict query cache regions associated with the entities.
      *
      * <p>Defaults to {@code true} since bulk operations typically invalidate
-     * query results that reference the modified entities.</p>
+     * query results that reference the modified entities. Hibernate invalidates the query
+     * spaces of the statement itself; for a native statement these are the spaces of the
+     * modified tables and entities, not the whole query cache.</p>
      *
      * @return true to evict associated query caches, false to only evict entity cache
      */
@@ -1,17 +1,26 @@
 package dev.simplecore.simplix.hibernate.cache.aspect;
 
 import dev.simplecore.simplix.hibernate.cache.annotation.EvictCache;
+import dev.simplecore.simplix.hibernate.cache.core.QuerySpaceInvalidator;
 import dev.simplecore.simplix.hibernate.cache.event.PendingEviction;
 import dev.simplecore.simplix.hibernate.cache.transaction.TransactionAwareCacheEvictionCollector;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotations;
 import org.springframework.core.annotation.Order;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * AOP Aspect for handling cache eviction via @EvictCache annotation.
@@ -38,27 +47,64 @@ import java.lang.reflect.Method;
  * @Query(value = "UPDATE users SET status = 'INACTIVE' WHERE ...", nativeQuery = true)
  * @EvictCache(User.class)
  * int bulkUpdateUsers();
+ *
+ * // Or name the modified tables, or let the target be read from the query
+ * @Modifying
+ * @Query(value = "DELETE FROM user_sessions WHERE expires_at < :now", nativeQuery = true)
+ * @EvictCache
+ * int deleteExpiredSessions(@Param("now") Instant now);
  * }</pre>
  *
  * <h3>Processing Flow</h3>
  * <ol>
  *   <li>Method with @EvictCache is invoked</li>
+ *   <li>The modified tables are resolved to query spaces and bound to the thread</li>
  *   <li>Original method executes (query runs)</li>
  *   <li>On success: pending evictions are collected via TransactionAwareCacheEvictionCollector</li>
  *   <li>On transaction commit: evictions are executed</li>
  *   <li>On exception/rollback: no eviction occurs</li>
  * </ol>
  *
+ * <h3>Table-Level Invalidation</h3>
+ * <p>With a {@link QuerySpaceInvalidator}, the modified tables are mapped to query spaces and
+ * to the cached entities stored in them, whose regions are evicted as well. The spaces are
+ * attached to the native statement while the method runs, so Hibernate's bulk cleanup only
+ * invalidates those spaces instead of the whole query cache and every region. Query results
+ * that read other tables stay cached. JPQL statements are narrowed by Hibernate already.</p>
+ *
  * @see EvictCache
  * @see TransactionAwareCacheEvictionCollector
  */
 @Slf4j
 @Aspect
 @Order(100) // Run after transaction advice
-@RequiredArgsConstructor
 public class ModifyingQueryCacheEvictionAspect {
 
+    private static final String QUERY_ANNOTATION = "org.springframework.data.jpa.repository.Query";
+
+    /**
+     * Target of an UPDATE, DELETE or INSERT statement, in JPQL or SQL.
+     */
+    private static final Pattern MODIFIED_TARGET = Pattern.compile(
+            "^\\s*(?:update|delete\\s+from|delete|insert\\s+into)\\s+([\\w.$\"`\\[\\]]+)",
+            Pattern.CASE_INSENSITIVE);
+
     private final TransactionAwareCacheEvictionCollector evictionCollector;
+    private final QuerySpaceInvalidator querySpaceInvalidator;
+
+    public ModifyingQueryCacheEvictionAspect(TransactionAwareCacheEvictionCollector evictionCollector) {
+        this(evictionCollector, null);
+    }
+
+    /**
+     * @param querySpaceInvalidator resolves modified tables and invalidates their query spaces,
+     *                              or {@code null} to evict the listed entity classes only
+     */
+    public ModifyingQueryCacheEvictionAspect(TransactionAwareCacheEvictionCollector evictionCollector,
+                                             QuerySpaceInvalidator querySpaceInvalidator) {
+        this.evictionCollector = evictionCollector;
+        this.querySpaceInvalidator = querySpaceInvalidator;
+    }
 
     /**
      * Intercepts methods annotated with @EvictCache.
@@ -73,17 +119,28 @@ public class ModifyingQueryCacheEvictionAspect {
      */
     @Around("@annotation(dev.simplecore.simplix.hibernate.cache.annotation.EvictCache)")
     public Object handleEvictCache(ProceedingJoinPoint joinPoint) throws Throwable {
-        // Execute the original method first
-        Object result = joinPoint.proceed();
-
         // Get @EvictCache annotation
         EvictCache evictCache = getEvictCacheAnnotation(joinPoint);
         if (evictCache == null) {
-            return result;
+            return joinPoint.proceed();
+        }
+
+        // Resolve the modified tables before the statement is created
+        QuerySpaceInvalidator.Target target = resolveTarget(evictCache, joinPoint);
+
+        // Execute the original method, with the query spaces bound for native statements
+        Object result;
+        if (target == null || target.querySpaces().isEmpty()) {
+            result = joinPoint.proceed();
+        } else {
+            try (QuerySpaceInvalidator.Binding binding = querySpaceInvalidator.bind(target)) {
+                result = joinPoint.proceed();
+                querySpaceInvalidator.record(binding);
+            }
         }
 
         // Collect evictions for each specified entity class
-        collectEvictions(evictCache, joinPoint);
+        collectEvictions(evictCache, target, joinPoint);
 
         return result;
     }
@@ -103,10 +160,30 @@ public class ModifyingQueryCacheEvictionAspect {
     }
 
     /**
-     * Collects pending evictions for all entity classes specified in @EvictCache.
+     * Resolves the modified tables and entity classes to query spaces and cached entities,
+     * or returns {@code null} without a {@link QuerySpaceInvalidator}.
+     */
+    private QuerySpaceInvalidator.Target resolveTarget(EvictCache evictCache, ProceedingJoinPoint joinPoint) {
+        if (querySpaceInvalidator == null) {
+            return null;
+        }
+        List<String> tables = modifiedTables(evictCache, joinPoint);
+        try {
+            return querySpaceInvalidator.resolve(tables, Arrays.asList(evictCache.value()));
+        } catch (Exception e) {
+            log.warn("⚠ Could not resolve modified tables {} on {}: {}",
+                    tables, joinPoint.getSignature().toShortString(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Collects pending evictions for all entity classes specified in @EvictCache,
+     * and for the cached entities of its modified tables.
      * Respects the evictQueryCache attribute to control query cache eviction.
      */
-    private void collectEvictions(EvictCache evictCache, ProceedingJoinPoint joinPoint) {
+    private void collectEvictions(EvictCache evictCache, QuerySpaceInvalidator.Target target,
+                                  ProceedingJoinPoint joinPoint) {
         Class<?>[] entityClasses = evictCache.value();
         String[] regions = evictCache.regions();
         boolean evictQueryCache = evictCache.evictQueryCache();
@@ -135,6 +212,54 @@ public class ModifyingQueryCacheEvictionAspect {
             log.trace("✔ Collected bulk eviction for {} via @EvictCache on {} (evictQueryCache={})",
                     entityClass.getSimpleName(), methodName, evictQueryCache);
         }
+
+        if (target == null) {
+            return;
+        }
+        Set<Class<?>> listed = new LinkedHashSet<>(Arrays.asList(entityClasses));
+        for (Class<?> entityClass : target.entityClasses()) {
+            if (listed.add(entityClass)) {
+                evictionCollector.collect(PendingEviction.of(entityClass, null, null, operation, evictQueryCache));
+                log.trace("✔ Collected bulk eviction for {} of modified query spaces {} on {}",
+                        entityClass.getSimpleName(), target.querySpaces(), methodName);
+            }
+        }
+    }
+
+    /**
+     * The declared tables, or the target of the method's {@code @Query} when neither
+     * tables nor entity classes are declared.
+     */
+    private List<String> modifiedTables(EvictCache evictCache, ProceedingJoinPoint joinPoint) {
+        List<String> tables = new ArrayList<>(Arrays.asList(evictCache.tables()));
+        if (tables.isEmpty() && evictCache.value().length == 0
+                && joinPoint.getSignature() instanceof MethodSignature signature) {
+            String target = parseModifiedTarget(signature.getMethod());
+            if (target != null) {
+                tables.add(target);
+            } else {
+                log.warn("⚠ @EvictCache on {} names no entities or tables and none could be read from @Query",
+                        joinPoint.getSignature().toShortString());
+            }
+        }
+        return tables;
+    }
+
+    /**
+     * Reads the table or entity modified by the statement of a Spring Data {@code @Query}.
+     *
+     * @return the target name without quotes, or {@code null} if there is none
+     */
+    static String parseModifiedTarget(Method method) {
+        MergedAnnotation<?> query = MergedAnnotations.from(method).get(QUERY_ANNOTATION);
+        if (!query.isPresent()) {
+            return null;
+        }
+        Matcher matcher = MODIFIED_TARGET.matcher(query.getString("value"));
+        if (!matcher.find()) {
+            return null;
+        }
+        return matcher.group(1).replaceAll("[\"`\\[\\]]", "");
     }
 
     /**
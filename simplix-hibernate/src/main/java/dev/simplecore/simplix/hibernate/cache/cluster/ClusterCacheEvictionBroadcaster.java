@@ -0,0 +1,525 @@
+package dev.simplecore.simplix.hibernate.cache.cluster;
+
+import dev.simplecore.simplix.hibernate.cache.core.HibernateCacheManager;
+import dev.simplecore.simplix.hibernate.cache.event.PendingEviction;
+import dev.simplecore.simplix.hibernate.cache.event.PendingEvictionCompletedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Propagates second-level cache evictions of this node to the other nodes of a deployment.
+ *
+ * <p>Hibernate invalidates its local L2 cache on update and delete, and
+ * {@link dev.simplecore.simplix.hibernate.cache.handler.PostCommitCacheEvictionHandler} does so
+ * for {@code @EvictCache} queries, but with a node-local provider such as Ehcache the other
+ * nodes keep serving the old state. This broadcaster collects the evicted entity ids of a
+ * transaction, along with the collection cache roles and query spaces the transaction made
+ * stale, publishes them through an {@link EvictionTransport} after commit as compact
+ * {@link EntityEvictionMessage}s, and applies the messages of other nodes to the local cache.</p>
+ *
+ * <h3>Sources</h3>
+ * <ul>
+ *   <li>Entity updates and deletes of cacheable entities, via Hibernate post-update and
+ *       post-delete listeners</li>
+ *   <li>Changes of cached collections, via Hibernate post-collection listeners</li>
+ *   <li>Query spaces of every inserted, updated or deleted entity and changed collection,
+ *       when the query cache is enabled</li>
+ *   <li>Cached collections holding a changed entity, when
+ *       {@code hibernate.cache.auto_evict_collection_cache} is enabled, as Hibernate does locally</li>
+ *   <li>{@code @EvictCache} evictions, via {@link PendingEvictionCompletedEvent}</li>
+ * </ul>
+ *
+ * <h3>Receiving</h3>
+ * <p>Messages carrying this node's id are skipped. Entity names are resolved against the
+ * JPA metamodel only, so a message can never load an arbitrary class, and ids are converted
+ * back to the entity's id type. An id that cannot be converted, such as an embedded id,
+ * evicts the whole entity region instead. Collection roles not cached here are skipped; the
+ * others are evicted as whole regions, and query spaces are invalidated in the timestamps
+ * cache, which makes the cached query results over them stale.</p>
+ */
+@Slf4j
+public class ClusterCacheEvictionBroadcaster implements AutoCloseable {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final EvictionTransport transport;
+    private final HibernateCacheManager cacheManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final int maxIdsPerMessage;
+
+    private volatile Map<String, EntityType<?>> entities = Map.of();
+    private volatile Map<String, Related> relatedByEntity = Map.of();
+    private volatile Map<String, Related> relatedByRole = Map.of();
+    private volatile boolean queryCacheEnabled;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public ClusterCacheEvictionBroadcaster(EvictionTransport transport,
+                                           HibernateCacheManager cacheManager,
+                                           EntityManagerFactory entityManagerFactory,
+                                           int maxIdsPerMessage) {
+        this.transport = transport;
+        this.cacheManager = cacheManager;
+        this.entityManagerFactory = entityManagerFactory;
+        this.maxIdsPerMessage = Math.max(1, maxIdsPerMessage);
+    }
+
+    /**
+     * Index the entities, subscribe to the transport and register the Hibernate listeners.
+     */
+    public void start() {
+        Map<String, EntityType<?>> index = new HashMap<>();
+        for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+            if (entity.getJavaType() != null) {
+                index.put(entity.getJavaType().getName(), entity);
+            }
+        }
+        entities = index;
+        indexRelated();
+
+        transport.subscribe(this::receive);
+        registerEntityListeners();
+        log.info("✔ L2 cache eviction broadcast started on node {}", nodeId);
+    }
+
+    @Override
+    public void close() {
+        transport.close();
+    }
+
+    /**
+     * @return the id this node stamps on its messages
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public Stats getStats() {
+        return new Stats(published.sum(), received.sum(), applied.sum(), failures.sum());
+    }
+
+    /**
+     * Broadcast the evictions of a committed {@code @EvictCache} transaction.
+     *
+     * <p>The event is published from {@code afterCommit}, so it is sent right away.</p>
+     */
+    @EventListener
+    public void onPendingEvictions(PendingEvictionCompletedEvent event) {
+        Batch batch = new Batch();
+        for (PendingEviction pending : event.getPendingEvictions()) {
+            if (pending == null || pending.getEntityClassName() == null) {
+                continue;
+            }
+            boolean bulk = pending.getOperation() == PendingEviction.EvictionOperation.BULK_UPDATE
+                    || pending.getOperation() == PendingEviction.EvictionOperation.BULK_DELETE;
+            batch.add(pending.getEntityClassName(), bulk ? null : pending.getEntityId());
+            batch.add(relatedByEntity.getOrDefault(pending.getEntityClassName(), Related.NONE));
+        }
+        publish(batch);
+    }
+
+    /**
+     * Record an entity change to broadcast: after commit inside a transaction, right away outside.
+     *
+     * @param entityName fully qualified entity class name
+     * @param id         the entity id, or {@code null} for the whole entity region
+     */
+    void entityChanged(String entityName, Object id) {
+        String encodedId = id != null ? String.valueOf(id) : null;
+        Related related = relatedByEntity.getOrDefault(entityName, Related.NONE);
+        record(batch -> {
+            batch.add(entityName, encodedId);
+            batch.add(related);
+        });
+    }
+
+    /**
+     * Record a write of an entity whose own cache entry needs no eviction, such as an insert
+     * or a change of a non-cached entity, for the collection roles and query spaces it affects.
+     *
+     * @param entityName fully qualified entity class name
+     */
+    void entityWritten(String entityName) {
+        Related related = relatedByEntity.getOrDefault(entityName, Related.NONE);
+        if (!related.isEmpty()) {
+            record(batch -> batch.add(related));
+        }
+    }
+
+    /**
+     * Record a change of a collection for its cache region and query spaces.
+     *
+     * @param role the collection role
+     */
+    void collectionChanged(String role) {
+        Related related = relatedByRole.getOrDefault(role, Related.NONE);
+        if (!related.isEmpty()) {
+            record(batch -> batch.add(related));
+        }
+    }
+
+    private void record(Consumer<Batch> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Batch batch = new Batch();
+            change.accept(batch);
+            publish(batch);
+            return;
+        }
+        Batch batch = (Batch) TransactionSynchronizationManager.getResource(this);
+        if (batch == null) {
+            Batch created = new Batch();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    publish(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ClusterCacheEvictionBroadcaster.this);
+                }
+            });
+            batch = created;
+        }
+        change.accept(batch);
+    }
+
+    /**
+     * Apply a message received from the transport.
+     */
+    void receive(byte[] payload) {
+        EntityEvictionMessage message;
+        try {
+            message = EntityEvictionMessage.decode(payload);
+        } catch (IllegalArgumentException e) {
+            failures.increment();
+            log.warn("⚠ Ignoring malformed L2 cache eviction message: {}", e.getMessage());
+            return;
+        }
+        if (nodeId.equals(message.origin())) {
+            return;
+        }
+        received.increment();
+
+        for (Map.Entry<String, Set<String>> entry : message.entities().entrySet()) {
+            EntityType<?> entity = entities.get(entry.getKey());
+            if (entity == null) {
+                log.debug("Skipping eviction of unknown entity {}", entry.getKey());
+                continue;
+            }
+            Class<?> entityClass = entity.getJavaType();
+            Class<?> idType = idTypeOf(entity);
+            if (entry.getValue().isEmpty() || idType == null) {
+                cacheManager.evictEntityCache(entityClass);
+                applied.increment();
+                continue;
+            }
+            for (String id : entry.getValue()) {
+                Object converted = convertId(id, idType);
+                if (converted == null) {
+                    cacheManager.evictEntityCache(entityClass);
+                    applied.increment();
+                    break;
+                }
+                cacheManager.evictEntity(entityClass, converted);
+                applied.increment();
+            }
+        }
+        for (String role : message.collectionRoles()) {
+            if (!relatedByRole.getOrDefault(role, Related.NONE).collectionRoles().contains(role)) {
+                log.debug("Skipping eviction of uncached collection {}", role);
+                continue;
+            }
+            cacheManager.evictCollectionRegion(role);
+            applied.increment();
+        }
+        if (queryCacheEnabled && !message.querySpaces().isEmpty()) {
+            cacheManager.invalidateQuerySpaces(message.querySpaces());
+            applied.increment();
+        }
+        log.trace("✔ Applied L2 cache evictions from node {}", message.origin());
+    }
+
+    private void publish(Batch batch) {
+        for (EntityEvictionMessage message : batch.toMessages(nodeId, maxIdsPerMessage)) {
+            try {
+                transport.send(message.encode());
+                published.increment();
+            } catch (Exception e) {
+                failures.increment();
+                log.error("✖ Failed to broadcast L2 cache evictions, other nodes may serve stale entries: {}",
+                        e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Index the collection roles and query spaces that a change of each entity and collection
+     * makes stale.
+     */
+    private void indexRelated() {
+        try {
+            SessionFactoryImplementor factory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+            boolean queryCache = factory.getSessionFactoryOptions().isQueryCacheEnabled();
+            boolean autoEvictCollections = factory.getSessionFactoryOptions().isAutoEvictCollectionCache();
+            MappingMetamodel metamodel = factory.getMappingMetamodel();
+
+            Map<String, Related> byRole = new HashMap<>();
+            Map<String, Set<String>> rolesByElement = new HashMap<>();
+            metamodel.forEachCollectionDescriptor(collection -> {
+                Set<String> roles = collection.hasCache() ? Set.of(collection.getRole()) : Set.of();
+                Set<String> spaces = queryCache ? Set.of(collection.getCollectionSpaces()) : Set.of();
+                byRole.put(collection.getRole(), new Related(roles, spaces));
+                boolean association = collection.isOneToMany() || collection.isManyToMany();
+                if (autoEvictCollections && collection.hasCache() && association) {
+                    rolesByElement.computeIfAbsent(collection.getElementClass().getName(), name -> new LinkedHashSet<>())
+                            .add(collection.getRole());
+                }
+            });
+
+            Map<String, Related> byEntity = new HashMap<>();
+            metamodel.forEachEntityDescriptor(persister -> {
+                if (persister.getMappedClass() == null) {
+                    return;
+                }
+                Set<String> spaces = new LinkedHashSet<>();
+                if (queryCache) {
+                    for (Serializable space : persister.getQuerySpaces()) {
+                        spaces.add(String.valueOf(space));
+                    }
+                }
+                String entityName = persister.getMappedClass().getName();
+                byEntity.put(entityName, new Related(rolesByElement.getOrDefault(entityName, Set.of()), spaces));
+            });
+
+            relatedByRole = byRole;
+            relatedByEntity = byEntity;
+            queryCacheEnabled = queryCache;
+        } catch (Exception e) {
+            log.warn("⚠ Could not index collection caches and query spaces, only entity evictions are broadcast: {}",
+                    e.getMessage());
+        }
+    }
+
+    private void registerEntityListeners() {
+        try {
+            EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getServiceRegistry()
+                    .getService(EventListenerRegistry.class);
+            EntityChangeListener listener = new EntityChangeListener();
+            registry.appendListeners(EventType.POST_INSERT, listener);
+            registry.appendListeners(EventType.POST_UPDATE, listener);
+            registry.appendListeners(EventType.POST_DELETE, listener);
+            registry.appendListeners(EventType.POST_COLLECTION_RECREATE, listener);
+            registry.appendListeners(EventType.POST_COLLECTION_UPDATE, listener);
+            registry.appendListeners(EventType.POST_COLLECTION_REMOVE, listener);
+        } catch (Exception e) {
+            log.warn("⚠ Could not register Hibernate listeners, only @EvictCache evictions are broadcast: {}",
+                    e.getMessage());
+        }
+    }
+
+    private static Class<?> idTypeOf(EntityType<?> entity) {
+        try {
+            return entity.getIdType() != null ? entity.getIdType().getJavaType() : null;
+        } catch (RuntimeException e) {
+            // @IdClass entities have no single id type
+            return null;
+        }
+    }
+
+    private static Object convertId(String id, Class<?> idType) {
+        try {
+            if (idType == String.class) {
+                return id;
+            } else if (idType == Long.class || idType == long.class) {
+                return Long.valueOf(id);
+            } else if (idType == Integer.class || idType == int.class) {
+                return Integer.valueOf(id);
+            } else if (idType == Short.class || idType == short.class) {
+                return Short.valueOf(id);
+            } else if (idType == UUID.class) {
+                return UUID.fromString(id);
+            }
+        } catch (IllegalArgumentException e) {
+            log.debug("Cannot convert id {} to {}", id, idType.getSimpleName());
+        }
+        return null;
+    }
+
+    /**
+     * Broadcast counters since startup.
+     *
+     * @param published messages sent
+     * @param received  messages received from other nodes
+     * @param applied   evictions applied to the local cache
+     * @param failures  messages that could not be sent or decoded
+     */
+    public record Stats(long published, long received, long applied, long failures) {
+    }
+
+    /**
+     * Collection roles and query spaces made stale by a change.
+     */
+    private record Related(Set<String> collectionRoles, Set<String> querySpaces) {
+
+        static final Related NONE = new Related(Set.of(), Set.of());
+
+        boolean isEmpty() {
+            return collectionRoles.isEmpty() && querySpaces.isEmpty();
+        }
+    }
+
+    /**
+     * Evictions of one transaction, with ids merged per entity.
+     */
+    private static final class Batch {
+
+        private final Map<String, Set<String>> ids = new LinkedHashMap<>();
+        private final Set<String> wholeEntities = new LinkedHashSet<>();
+        private final Set<String> collectionRoles = new LinkedHashSet<>();
+        private final Set<String> querySpaces = new LinkedHashSet<>();
+
+        void add(Related related) {
+            collectionRoles.addAll(related.collectionRoles());
+            querySpaces.addAll(related.querySpaces());
+        }
+
+        void add(String entityName, String id) {
+            if (id == null) {
+                wholeEntities.add(entityName);
+                ids.remove(entityName);
+            } else if (!wholeEntities.contains(entityName)) {
+                ids.computeIfAbsent(entityName, name -> new LinkedHashSet<>()).add(id);
+            }
+        }
+
+        List<EntityEvictionMessage> toMessages(String origin, int maxIds) {
+            List<EntityEvictionMessage> messages = new ArrayList<>();
+            Map<String, Set<String>> current = new LinkedHashMap<>();
+            for (String entityName : wholeEntities) {
+                current.put(entityName, Set.of());
+            }
+            int count = 0;
+            for (Map.Entry<String, Set<String>> entry : ids.entrySet()) {
+                Set<String> chunk = new LinkedHashSet<>();
+                for (String id : entry.getValue()) {
+                    if (count == maxIds) {
+                        if (!chunk.isEmpty()) {
+                            current.put(entry.getKey(), chunk);
+                        }
+                        messages.add(new EntityEvictionMessage(origin, current));
+                        current = new LinkedHashMap<>();
+                        chunk = new LinkedHashSet<>();
+                        count = 0;
+                    }
+                    chunk.add(id);
+                    count++;
+                }
+                current.put(entry.getKey(), chunk);
+            }
+            if (!current.isEmpty()) {
+                messages.add(new EntityEvictionMessage(origin, current));
+            }
+            if (!collectionRoles.isEmpty() || !querySpaces.isEmpty()) {
+                // Roles and spaces ride on the first message
+                Map<String, Set<String>> first = messages.isEmpty() ? Map.of() : messages.remove(0).entities();
+                messages.add(0, new EntityEvictionMessage(origin, first, collectionRoles, querySpaces));
+            }
+            return messages;
+        }
+    }
+
+    /**
+     * Records entity writes and collection changes.
+     */
+    private final class EntityChangeListener implements PostInsertEventListener, PostUpdateEventListener,
+            PostDeleteEventListener, PostCollectionRecreateEventListener, PostCollectionUpdateEventListener,
+            PostCollectionRemoveEventListener {
+
+        @Override
+        public void onPostInsert(PostInsertEvent event) {
+            if (event.getPersister().getMappedClass() != null) {
+                entityWritten(event.getPersister().getMappedClass().getName());
+            }
+        }
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            changed(event.getPersister(), event.getId());
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            changed(event.getPersister(), event.getId());
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            return false;
+        }
+
+        @Override
+        public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+            collectionChanged(event.getCollection().getRole());
+        }
+
+        @Override
+        public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+            collectionChanged(event.getCollection().getRole());
+        }
+
+        @Override
+        public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+            collectionChanged(event.getCollection().getRole());
+        }
+
+        private void changed(EntityPersister persister, Object id) {
+            if (persister.getMappedClass() == null) {
+                return;
+            }
+            if (persister.canWriteToCache()) {
+                entityChanged(persister.getMappedClass().getName(), id);
+            } else {
+                entityWritten(persister.getMappedClass().getName());
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package dev.simplecore.simplix.hibernate.cache.cluster;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Batch of second-level cache evictions exchanged between nodes.
+ *
+ * <p>Encoded as a compact binary frame rather than JSON, so a batch costs little more than
+ * its ids: a version byte, the origin, then per entity its class name, whether the whole
+ * entity region is evicted, and its ids, followed by the collection roles and query spaces.
+ * The last two sections are appended after the entities, so nodes that predate them read
+ * the entities and ignore the rest.
+ *
+ * @param origin          identifier of the publishing node, used to skip self-delivery
+ * @param entities        ids to evict per entity class name; an empty set evicts the whole region
+ * @param collectionRoles collection cache regions to evict
+ * @param querySpaces     query spaces to invalidate in the timestamps cache
+ */
+public record EntityEvictionMessage(String origin, Map<String, Set<String>> entities,
+                                    Set<String> collectionRoles, Set<String> querySpaces) {
+
+    private static final byte VERSION = 1;
+
+    public EntityEvictionMessage {
+        entities = Collections.unmodifiableMap(new LinkedHashMap<>(entities));
+        collectionRoles = Collections.unmodifiableSet(new LinkedHashSet<>(collectionRoles));
+        querySpaces = Collections.unmodifiableSet(new LinkedHashSet<>(querySpaces));
+    }
+
+    public EntityEvictionMessage(String origin, Map<String, Set<String>> entities) {
+        this(origin, entities, Set.of(), Set.of());
+    }
+
+    /**
+     * @return the number of ids and whole-region evictions, collection roles and query spaces in this message
+     */
+    public int size() {
+        return entities.values().stream().mapToInt(ids -> Math.max(1, ids.size())).sum()
+                + collectionRoles.size() + querySpaces.size();
+    }
+
+    public byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + size() * 16);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeUTF(origin);
+            out.writeInt(entities.size());
+            for (Map.Entry<String, Set<String>> entity : entities.entrySet()) {
+                out.writeUTF(entity.getKey());
+                out.writeInt(entity.getValue().size());
+                for (String id : entity.getValue()) {
+                    out.writeUTF(id);
+                }
+            }
+            writeNames(out, collectionRoles);
+            writeNames(out, querySpaces);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException if the payload is not an eviction message
+     */
+    public static EntityEvictionMessage decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            if (in.readByte() != VERSION) {
+                throw new IllegalArgumentException("Unsupported eviction message version");
+            }
+            String origin = in.readUTF();
+            int entityCount = in.readInt();
+            Map<String, Set<String>> entities = new LinkedHashMap<>();
+            for (int i = 0; i < entityCount; i++) {
+                String entityName = in.readUTF();
+                int idCount = in.readInt();
+                Set<String> ids = new LinkedHashSet<>();
+                for (int j = 0; j < idCount; j++) {
+                    ids.add(in.readUTF());
+                }
+                entities.put(entityName, Collections.unmodifiableSet(ids));
+            }
+            if (in.available() == 0) {
+                // Sent by a node without collection roles and query spaces
+                return new EntityEvictionMessage(origin, entities);
+            }
+            Set<String> collectionRoles = readNames(in);
+            return new EntityEvictionMessage(origin, entities, collectionRoles, readNames(in));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed eviction message", e);
+        }
+    }
+
+    private static void writeNames(DataOutputStream out, Set<String> names) throws IOException {
+        out.writeInt(names.size());
+        for (String name : names) {
+            out.writeUTF(name);
+        }
+    }
+
+    private static Set<String> readNames(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        Set<String> names = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            names.add(in.readUTF());
+        }
+        return names;
+    }
+}
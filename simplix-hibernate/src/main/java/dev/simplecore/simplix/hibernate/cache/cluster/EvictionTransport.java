@@ -0,0 +1,32 @@
+package dev.simplecore.simplix.hibernate.cache.cluster;
+
+import java.util.function.Consumer;
+
+/**
+ * Moves encoded second-level cache eviction messages between the nodes of a deployment.
+ *
+ * <p>Delivery is best-effort pub/sub: every node subscribed at the time of publishing
+ * receives the message, including the publisher itself, which
+ * {@link ClusterCacheEvictionBroadcaster} filters out. Redis pub/sub and core NATS
+ * implementations are provided; register a bean of your own to use another channel,
+ * such as simplix-messaging.
+ */
+public interface EvictionTransport {
+
+    /**
+     * Publish an encoded message.
+     *
+     * @throws Exception if the message could not be handed to the transport
+     */
+    void send(byte[] payload) throws Exception;
+
+    /**
+     * Start delivering received messages to the receiver.
+     */
+    void subscribe(Consumer<byte[]> receiver);
+
+    /**
+     * Release the underlying subscription.
+     */
+    void close();
+}
@@ -0,0 +1,53 @@
+package dev.simplecore.simplix.hibernate.cache.cluster;
+
+import io.nats.client.Connection;
+import io.nats.client.Dispatcher;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.Consumer;
+
+/**
+ * Eviction transport over a core NATS subject.
+ *
+ * <p>Core NATS rather than JetStream: an eviction only matters to nodes running now,
+ * and a node that starts later begins with an empty local cache.
+ */
+@Slf4j
+public class NatsEvictionTransport implements EvictionTransport {
+
+    private final Connection connection;
+    private final String subject;
+    private Dispatcher dispatcher;
+
+    public NatsEvictionTransport(Connection connection, String subject) {
+        this.connection = connection;
+        this.subject = subject;
+    }
+
+    @Override
+    public void send(byte[] payload) {
+        connection.publish(subject, payload);
+    }
+
+    @Override
+    public synchronized void subscribe(Consumer<byte[]> receiver) {
+        if (dispatcher != null) {
+            return;
+        }
+        dispatcher = connection.createDispatcher(msg -> receiver.accept(msg.getData()));
+        dispatcher.subscribe(subject);
+        log.info("✔ Subscribed to L2 cache eviction subject {}", subject);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (dispatcher != null) {
+            try {
+                connection.closeDispatcher(dispatcher);
+            } catch (Exception e) {
+                log.debug("Failed to close NATS eviction dispatcher: {}", e.getMessage());
+            }
+            dispatcher = null;
+        }
+    }
+}
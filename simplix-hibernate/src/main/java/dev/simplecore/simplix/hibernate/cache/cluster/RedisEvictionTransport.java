@@ -0,0 +1,62 @@
+package dev.simplecore.simplix.hibernate.cache.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Eviction transport over a Redis pub/sub channel.
+ *
+ * <p>Messages are published as raw bytes; the listener container is started on
+ * {@link #subscribe(Consumer)}, so a publish-only node opens no subscriber connection.
+ */
+@Slf4j
+public class RedisEvictionTransport implements EvictionTransport {
+
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private RedisMessageListenerContainer container;
+
+    public RedisEvictionTransport(StringRedisTemplate redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    @Override
+    public void send(byte[] payload) {
+        byte[] rawChannel = channel.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(rawChannel, payload));
+    }
+
+    @Override
+    public synchronized void subscribe(Consumer<byte[]> receiver) {
+        if (container != null) {
+            return;
+        }
+        RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(redisTemplate.getConnectionFactory());
+        listenerContainer.addMessageListener((message, pattern) -> receiver.accept(message.getBody()),
+                new ChannelTopic(channel));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        container = listenerContainer;
+        log.info("✔ Subscribed to L2 cache eviction channel {}", channel);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (container != null) {
+            try {
+                container.destroy();
+            } catch (Exception e) {
+                log.debug("Failed to stop Redis eviction listener: {}", e.getMessage());
+            }
+            container = null;
+        }
+    }
+}
@@ -8,7 +8,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *
  * <p>This module focuses on @Modifying query cache eviction support.
  * For distributed cache synchronization, use Hibernate's native integration
- * with cache providers (Ehcache, Hazelcast, Infinispan, etc.).</p>
+ * with cache providers (Hazelcast, Infinispan, etc.), or enable {@link Cluster}
+ * to broadcast evictions of a node-local provider such as Ehcache.</p>
  */
 @Data
 @ConfigurationProperties(prefix = "simplix.hibernate.cache")
@@ -20,7 +21,8 @@ public class HibernateCacheProperties {
     private boolean disabled = false;
 
     /**
-     * Enable query cache auto-eviction
+     * Declare the query spaces of the tables modified by native @EvictCache queries,
+     * so only those are invalidated in the query cache
      */
     private boolean queryCacheAutoEviction = true;
 
@@ -28,4 +30,62 @@ public class HibernateCacheProperties {
      * Packages to scan for @Cache entities
      */
     private String[] scanPackages;
+
+    /**
+     * Distinct ids of one entity region in a transaction above which the whole region is evicted
+     */
+    private int evictionCoalesceThreshold = 500;
+
+    /**
+     * Post-commit eviction on a background thread
+     */
+    private AsyncEviction asyncEviction = new AsyncEviction();
+
+    /**
+     * Cluster-wide eviction broadcast
+     */
+    private Cluster cluster = new Cluster();
+
+    @Data
+    public static class Cluster {
+
+        /**
+         * Broadcast L2 cache evictions to the other nodes and apply theirs
+         */
+        private boolean enabled = false;
+
+        /**
+         * Transport of eviction messages: redis or nats
+         */
+        private String transport = "redis";
+
+        /**
+         * Redis channel or NATS subject of eviction messages
+         */
+        private String channel = "simplix.hibernate.cache.evictions";
+
+        /**
+         * Maximum entity ids per message; larger batches are split
+         */
+        private int maxIdsPerMessage = 1000;
+    }
+
+    @Data
+    public static class AsyncEviction {
+
+        /**
+         * Execute post-commit evictions on a background thread instead of the committing thread
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum queued evictions; evictions beyond it run on the committing thread
+         */
+        private int queueCapacity = 10000;
+
+        /**
+         * Maximum evictions taken from the queue at once
+         */
+        private int batchSize = 500;
+    }
 }
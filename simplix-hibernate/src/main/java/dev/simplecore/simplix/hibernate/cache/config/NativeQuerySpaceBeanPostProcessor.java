@@ -0,0 +1,49 @@
+package dev.simplecore.simplix.hibernate.cache.config;
+
+import dev.simplecore.simplix.hibernate.cache.core.QuerySpaceInvalidator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * BeanPostProcessor that lets {@link QuerySpaceInvalidator} attach query spaces to native queries.
+ *
+ * <p>Wraps the shared entity managers, including the ones Spring Data JPA hands to its
+ * repositories, so that every query returned by {@code createNativeQuery} is passed to
+ * {@link QuerySpaceInvalidator#attach(Query)}. Without a binding on the current thread
+ * the query is left as created.</p>
+ */
+@Slf4j
+public class NativeQuerySpaceBeanPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<QuerySpaceInvalidator> querySpaceInvalidator;
+
+    public NativeQuerySpaceBeanPostProcessor(ObjectProvider<QuerySpaceInvalidator> querySpaceInvalidator) {
+        this.querySpaceInvalidator = querySpaceInvalidator;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (!(bean instanceof EntityManager)) {
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            Object result = invocation.proceed();
+            if (result instanceof Query query && invocation.getMethod().getName().equals("createNativeQuery")) {
+                QuerySpaceInvalidator invalidator = querySpaceInvalidator.getIfAvailable();
+                if (invalidator != null) {
+                    invalidator.attach(query);
+                }
+            }
+            return result;
+        });
+        log.debug("Wrapped entity manager {} for native query spaces", beanName);
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+}
@@ -1,28 +1,43 @@
 package dev.simplecore.simplix.hibernate.cache.config;
 
 import dev.simplecore.simplix.hibernate.cache.aspect.ModifyingQueryCacheEvictionAspect;
+import dev.simplecore.simplix.hibernate.cache.cluster.ClusterCacheEvictionBroadcaster;
+import dev.simplecore.simplix.hibernate.cache.cluster.EvictionTransport;
+import dev.simplecore.simplix.hibernate.cache.cluster.NatsEvictionTransport;
+import dev.simplecore.simplix.hibernate.cache.cluster.RedisEvictionTransport;
+import dev.simplecore.simplix.hibernate.cache.core.EntityCacheMetadataRegistry;
 import dev.simplecore.simplix.hibernate.cache.core.EntityCacheScanner;
 import dev.simplecore.simplix.hibernate.cache.core.HibernateCacheManager;
+import dev.simplecore.simplix.hibernate.cache.core.QuerySpaceInvalidator;
+import dev.simplecore.simplix.hibernate.cache.handler.AsyncEvictionQueue;
 import dev.simplecore.simplix.hibernate.cache.handler.PostCommitCacheEvictionHandler;
 import dev.simplecore.simplix.hibernate.cache.strategy.CacheEvictionStrategy;
 import dev.simplecore.simplix.hibernate.cache.transaction.TransactionAwareCacheEvictionCollector;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.nats.client.Connection;
 import jakarta.persistence.EntityManagerFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.Cache;
 import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.context.event.ContextClosedEvent;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
 /**
  * Spring Boot Auto-configuration for SimpliX Hibernate Cache Management.
@@ -31,6 +46,8 @@ import org.springframework.context.event.EventListener;
  * <ul>
  *   <li>{@code @EvictCache} annotation support for @Modifying queries</li>
  *   <li>Manual cache eviction API via {@link HibernateCacheManager}</li>
+ *   <li>Cluster-wide eviction broadcast via {@link ClusterCacheEvictionBroadcaster}
+ *       when {@code simplix.hibernate.cache.cluster.enabled=true}</li>
  * </ul>
  *
  * <p>For save()/delete() operations, Hibernate's native L2 cache management handles
@@ -39,9 +56,11 @@ import org.springframework.context.event.EventListener;
  *
  * @see ModifyingQueryCacheEvictionAspect
  * @see HibernateCacheManager
+ * @see ClusterCacheEvictionBroadcaster
  */
 @Slf4j
-@AutoConfiguration(after = HibernateJpaAutoConfiguration.class)
+@AutoConfiguration(after = HibernateJpaAutoConfiguration.class,
+        afterName = "org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration")
 @ConditionalOnClass({EntityManagerFactory.class, Cache.class})
 @ConditionalOnBean(EntityManagerFactory.class)
 @ConditionalOnProperty(prefix = "simplix.hibernate.cache", name = "disabled", havingValue = "false", matchIfMissing = true)
@@ -75,31 +94,64 @@ public class SimpliXHibernateCacheAutoConfiguration {
     public TransactionAwareCacheEvictionCollector transactionAwareCacheEvictionCollector(
             ApplicationEventPublisher eventPublisher) {
         log.info("✔ Configuring Transaction-Aware Cache Eviction Collector");
-        return new TransactionAwareCacheEvictionCollector(eventPublisher);
+        return new TransactionAwareCacheEvictionCollector(eventPublisher,
+                properties.getEvictionCoalesceThreshold());
     }
 
     /**
      * Handler for post-commit cache eviction events.
-     * Executes actual cache eviction after transaction successfully commits.
+     * Executes actual cache eviction after transaction successfully commits,
+     * on the committing thread or, with async-eviction enabled, on a background thread.
      */
     @Bean
     @ConditionalOnBean(CacheEvictionStrategy.class)
     public PostCommitCacheEvictionHandler postCommitCacheEvictionHandler(
             CacheEvictionStrategy evictionStrategy) {
+        HibernateCacheProperties.AsyncEviction async = properties.getAsyncEviction();
+        if (async.isEnabled()) {
+            log.info("✔ Configuring Post-Commit Cache Eviction Handler (async, queue capacity {})",
+                    async.getQueueCapacity());
+            return new PostCommitCacheEvictionHandler(evictionStrategy, async.getQueueCapacity(),
+                    async.getBatchSize());
+        }
         log.info("✔ Configuring Post-Commit Cache Eviction Handler");
         return new PostCommitCacheEvictionHandler(evictionStrategy);
     }
 
     /**
      * AOP aspect for @EvictCache annotation handling.
-     * Requires explicit @EvictCache annotation to specify which entities to evict.
+     * Requires explicit @EvictCache annotation to specify which entities or tables to evict.
      */
     @Bean
     @ConditionalOnBean(TransactionAwareCacheEvictionCollector.class)
     public ModifyingQueryCacheEvictionAspect modifyingQueryCacheEvictionAspect(
-            TransactionAwareCacheEvictionCollector evictionCollector) {
+            TransactionAwareCacheEvictionCollector evictionCollector,
+            ObjectProvider<QuerySpaceInvalidator> querySpaceInvalidator) {
         log.info("✔ Configuring @EvictCache Annotation Aspect");
-        return new ModifyingQueryCacheEvictionAspect(evictionCollector);
+        return new ModifyingQueryCacheEvictionAspect(evictionCollector, querySpaceInvalidator.getIfAvailable());
+    }
+
+    /**
+     * Table-level query cache invalidation for @EvictCache, keyed by Hibernate query spaces.
+     */
+    @Bean
+    @ConditionalOnBean(EntityManagerFactory.class)
+    @ConditionalOnProperty(prefix = "simplix.hibernate.cache", name = "query-cache-auto-eviction",
+            havingValue = "true", matchIfMissing = true)
+    public QuerySpaceInvalidator querySpaceInvalidator(EntityManagerFactory entityManagerFactory) {
+        return new QuerySpaceInvalidator(entityManagerFactory);
+    }
+
+    /**
+     * Wraps the shared entity managers so native @EvictCache statements carry their query spaces.
+     * Static so that it is registered before the repositories and their entity managers are created.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "simplix.hibernate.cache", name = "query-cache-auto-eviction",
+            havingValue = "true", matchIfMissing = true)
+    public static NativeQuerySpaceBeanPostProcessor nativeQuerySpaceBeanPostProcessor(
+            ObjectProvider<QuerySpaceInvalidator> querySpaceInvalidator) {
+        return new NativeQuerySpaceBeanPostProcessor(querySpaceInvalidator);
     }
 
     @Bean
@@ -108,11 +160,38 @@ public class SimpliXHibernateCacheAutoConfiguration {
         return new EntityCacheScanner();
     }
 
+    /**
+     * Resolved cache metadata of the entities found by the {@link EntityCacheScanner}.
+     * Loaded after the scan on context refresh.
+     */
+    @Bean
+    @ConditionalOnBean(EntityManagerFactory.class)
+    public EntityCacheMetadataRegistry entityCacheMetadataRegistry(EntityManagerFactory entityManagerFactory) {
+        return new EntityCacheMetadataRegistry(entityManagerFactory);
+    }
+
     @Bean
     @ConditionalOnBean(HibernateCacheManager.class)
-    public CacheEvictionStrategy cacheEvictionStrategy(HibernateCacheManager cacheManager) {
+    public CacheEvictionStrategy cacheEvictionStrategy(HibernateCacheManager cacheManager,
+                                                       ObjectProvider<EntityCacheMetadataRegistry> metadataRegistry) {
         log.info("✔ Configuring Cache Eviction Strategy");
-        return new CacheEvictionStrategy(cacheManager);
+        return new CacheEvictionStrategy(cacheManager, metadataRegistry.getIfAvailable());
+    }
+
+    /**
+     * Broadcaster of L2 cache evictions to the other nodes of the deployment.
+     * Requires an {@link EvictionTransport}, either configured below or user-defined.
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "simplix.hibernate.cache.cluster", name = "enabled", havingValue = "true")
+    @ConditionalOnBean(HibernateCacheManager.class)
+    public ClusterCacheEvictionBroadcaster clusterCacheEvictionBroadcaster(
+            EvictionTransport evictionTransport,
+            HibernateCacheManager cacheManager,
+            EntityManagerFactory entityManagerFactory) {
+        log.info("✔ Configuring L2 Cache Eviction Broadcaster");
+        return new ClusterCacheEvictionBroadcaster(evictionTransport, cacheManager, entityManagerFactory,
+                properties.getCluster().getMaxIdsPerMessage());
     }
 
     @Bean
@@ -144,6 +223,8 @@ public class SimpliXHibernateCacheAutoConfiguration {
         }
 
         scanner.scanForCachedEntities(basePackages);
+        context.getBeanProvider(EntityCacheMetadataRegistry.class)
+                .ifAvailable(registry -> registry.load(scanner.getCachedEntities()));
 
         log.info("✔ SimpliX Hibernate Cache Module activated");
         log.info("  @EvictCache annotation support enabled for @Modifying queries");
@@ -171,4 +252,112 @@ public class SimpliXHibernateCacheAutoConfiguration {
         HibernateCacheHolder.reset();
         log.info("✔ HibernateCacheHolder reset on context close");
     }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class EvictionMetricsConfiguration {
+
+        /**
+         * Counts of collected and published evictions, their ratio, and the async eviction queue.
+         */
+        @Bean
+        @ConditionalOnBean(TransactionAwareCacheEvictionCollector.class)
+        public MeterBinder hibernateCacheEvictionMetrics(TransactionAwareCacheEvictionCollector collector,
+                                                         ObjectProvider<PostCommitCacheEvictionHandler> handler) {
+            return registry -> {
+                handler.ifAvailable(available -> available.getAsyncQueue().ifPresent(queue -> {
+                    Gauge.builder("simplix.hibernate.cache.evictions.queue.depth", queue,
+                                    AsyncEvictionQueue::getQueueDepth)
+                            .description("Evictions waiting for the background thread")
+                            .register(registry);
+                    Gauge.builder("simplix.hibernate.cache.evictions.lag", queue,
+                                    AsyncEvictionQueue::getOldestAgeMillis)
+                            .description("Age of the oldest queued eviction")
+                            .baseUnit("milliseconds")
+                            .register(registry);
+                    FunctionCounter.builder("simplix.hibernate.cache.evictions.queue.overflow", queue,
+                                    AsyncEvictionQueue::getOverflowCount)
+                            .description("Evictions executed synchronously because the queue was full")
+                            .register(registry);
+                }));
+                FunctionCounter.builder("simplix.hibernate.cache.evictions.collected", collector,
+                                TransactionAwareCacheEvictionCollector::getCollectedCount)
+                        .description("Evictions collected, duplicates and coalesced ones included")
+                        .register(registry);
+                FunctionCounter.builder("simplix.hibernate.cache.evictions.published", collector,
+                                TransactionAwareCacheEvictionCollector::getPublishedCount)
+                        .description("Evictions executed after deduplication and coalescing")
+                        .register(registry);
+                Gauge.builder("simplix.hibernate.cache.evictions.coalescing.ratio", collector,
+                                TransactionAwareCacheEvictionCollector::getCoalescingRatio)
+                        .description("Collected evictions per executed eviction")
+                        .register(registry);
+            };
+        }
+
+        /**
+         * What table-level invalidations evicted, and what a full clear would also have removed.
+         */
+        @Bean
+        @ConditionalOnBean(QuerySpaceInvalidator.class)
+        public MeterBinder hibernateCacheTableInvalidationMetrics(QuerySpaceInvalidator invalidator) {
+            return registry -> {
+                FunctionCounter.builder("simplix.hibernate.cache.table-invalidation.count", invalidator,
+                                i -> i.getStats().invalidations())
+                        .description("Native @EvictCache statements run with their query spaces attached")
+                        .register(registry);
+                FunctionCounter.builder("simplix.hibernate.cache.table-invalidation.query-spaces.invalidated",
+                                invalidator, i -> i.getStats().spacesInvalidated())
+                        .description("Query spaces invalidated")
+                        .register(registry);
+                FunctionCounter.builder("simplix.hibernate.cache.table-invalidation.query-spaces.retained",
+                                invalidator, i -> i.getStats().spacesRetained())
+                        .description("Query spaces a full clear would also have invalidated")
+                        .register(registry);
+                FunctionCounter.builder("simplix.hibernate.cache.table-invalidation.regions.evicted",
+                                invalidator, i -> i.getStats().regionsEvicted())
+                        .description("Entity regions Hibernate evicted with the modified tables")
+                        .register(registry);
+                FunctionCounter.builder("simplix.hibernate.cache.table-invalidation.regions.retained",
+                                invalidator, i -> i.getStats().regionsRetained())
+                        .description("Entity regions a full clear would also have evicted")
+                        .register(registry);
+                FunctionCounter.builder("simplix.hibernate.cache.table-invalidation.entries.retained",
+                                invalidator, i -> i.getStats().entriesRetained())
+                        .description("Entries kept in retained regions, with Hibernate statistics enabled")
+                        .register(registry);
+            };
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.data.redis.core.StringRedisTemplate")
+    @ConditionalOnProperty(prefix = "simplix.hibernate.cache.cluster", name = "enabled", havingValue = "true")
+    static class RedisEvictionTransportConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(EvictionTransport.class)
+        @ConditionalOnProperty(prefix = "simplix.hibernate.cache.cluster", name = "transport",
+                havingValue = "redis", matchIfMissing = true)
+        public EvictionTransport redisEvictionTransport(StringRedisTemplate redisTemplate,
+                                                        HibernateCacheProperties properties) {
+            log.info("✔ Configuring Redis L2 Cache Eviction Transport");
+            return new RedisEvictionTransport(redisTemplate, properties.getCluster().getChannel());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.nats.client.Connection")
+    @ConditionalOnProperty(prefix = "simplix.hibernate.cache.cluster", name = "enabled", havingValue = "true")
+    static class NatsEvictionTransportConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(EvictionTransport.class)
+        @ConditionalOnProperty(prefix = "simplix.hibernate.cache.cluster", name = "transport", havingValue = "nats")
+        public EvictionTransport natsEvictionTransport(Connection connection,
+                                                       HibernateCacheProperties properties) {
+            log.info("✔ Configuring NATS L2 Cache Eviction Transport");
+            return new NatsEvictionTransport(connection, properties.getCluster().getChannel());
+        }
+    }
 }
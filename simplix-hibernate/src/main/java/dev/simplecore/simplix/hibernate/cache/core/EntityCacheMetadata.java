@@ -0,0 +1,59 @@
+package dev.simplecore.simplix.hibernate.cache.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * Resolved second-level cache metadata of one cached entity.
+ *
+ * <p>Holds what an eviction needs, so evicting is a call on the region's access strategy
+ * without class loading or metamodel lookups. Ids given as strings, as carried by
+ * {@link dev.simplecore.simplix.hibernate.cache.event.PendingEviction}, are converted to the
+ * entity's id type; an id that cannot be converted evicts the whole entity region.</p>
+ *
+ * @param entityClass the entity class
+ * @param region      the entity cache region name
+ * @param persister   the entity persister
+ * @param factory     the session factory the persister belongs to
+ */
+@Slf4j
+public record EntityCacheMetadata(Class<?> entityClass,
+                                  String region,
+                                  EntityPersister persister,
+                                  SessionFactoryImplementor factory) {
+
+    /**
+     * Evict one entity, or the whole region when {@code id} is null.
+     */
+    public void evict(Object id) {
+        EntityDataAccess access = persister.getCacheAccessStrategy();
+        if (access == null) {
+            return;
+        }
+        Object identifier = id != null ? toIdentifier(id) : null;
+        if (identifier == null) {
+            access.evictAll();
+            log.trace("✔ Evicted all entity cache: {}", entityClass.getSimpleName());
+            return;
+        }
+        access.evict(access.generateCacheKey(identifier, persister, factory, null));
+        log.trace("✔ Evicted entity cache: {}[{}]", entityClass.getSimpleName(), identifier);
+    }
+
+    private Object toIdentifier(Object id) {
+        JavaType<?> idType = persister.getIdentifierMapping().getJavaType();
+        if (idType.getJavaTypeClass().isInstance(id)) {
+            return id;
+        }
+        try {
+            return idType.fromString(String.valueOf(id));
+        } catch (RuntimeException e) {
+            log.debug("Cannot convert id {} of {}, evicting the whole region: {}",
+                    id, entityClass.getSimpleName(), e.getMessage());
+            return null;
+        }
+    }
+}
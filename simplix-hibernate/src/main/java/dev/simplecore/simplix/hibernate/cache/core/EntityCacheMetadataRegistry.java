@@ -0,0 +1,61 @@
+package dev.simplecore.simplix.hibernate.cache.core;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lookup of {@link EntityCacheMetadata} by entity class name.
+ *
+ * <p>Loaded once at startup from the entities found by {@link EntityCacheScanner}, so the
+ * eviction path resolves an entity with a single map lookup. Entities that are not cached,
+ * or not known to the entity manager factory, are left out.</p>
+ */
+@Slf4j
+public class EntityCacheMetadataRegistry {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final Map<String, EntityCacheMetadata> metadata = new ConcurrentHashMap<>();
+
+    public EntityCacheMetadataRegistry(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Resolve and register the metadata of the given entity classes.
+     */
+    public void load(Collection<Class<?>> entityClasses) {
+        SessionFactoryImplementor factory;
+        try {
+            factory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        } catch (Exception e) {
+            log.warn("⚠ Could not resolve cached entity metadata: {}", e.getMessage());
+            return;
+        }
+        for (Class<?> entityClass : entityClasses) {
+            EntityPersister persister = factory.getMappingMetamodel().findEntityDescriptor(entityClass);
+            if (persister == null || persister.getCacheAccessStrategy() == null) {
+                continue;
+            }
+            String region = persister.getCacheAccessStrategy().getRegion().getName();
+            metadata.put(entityClass.getName(), new EntityCacheMetadata(entityClass, region, persister, factory));
+        }
+        log.info("✔ Resolved cache metadata of {} entities", metadata.size());
+    }
+
+    /**
+     * @return the metadata of a cached entity, or {@code null} if it is not registered
+     */
+    public EntityCacheMetadata find(String entityClassName) {
+        return entityClassName != null ? metadata.get(entityClassName) : null;
+    }
+
+    public int size() {
+        return metadata.size();
+    }
+}
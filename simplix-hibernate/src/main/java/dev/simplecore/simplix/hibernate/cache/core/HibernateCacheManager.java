@@ -5,7 +5,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.Cache;
 import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
 
+import java.util.Collection;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -96,6 +99,36 @@ public class HibernateCacheManager {
         }
     }
 
+    /**
+     * Evict all entries of a collection cache region
+     */
+    public void evictCollectionRegion(String role) {
+        try {
+            Cache hibernateCache = getHibernateCache();
+            if (hibernateCache != null) {
+                hibernateCache.evictCollectionData(role);
+                log.trace("✔ Evicted collection cache: {}", role);
+            }
+        } catch (Exception e) {
+            log.error("✖ Failed to evict collection cache: {}", role, e);
+        }
+    }
+
+    /**
+     * Invalidate query spaces in the timestamps cache, so cached query results over them go stale
+     */
+    public void invalidateQuerySpaces(Collection<String> querySpaces) {
+        try {
+            SessionFactoryImplementor factory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+            try (SessionImplementor session = factory.openTemporarySession()) {
+                factory.getCache().getTimestampsCache().invalidate(querySpaces.toArray(String[]::new), session);
+            }
+            log.trace("✔ Invalidated query spaces: {}", querySpaces);
+        } catch (Exception e) {
+            log.error("✖ Failed to invalidate query spaces: {}", querySpaces, e);
+        }
+    }
+
     /**
      * Check if entity is in cache
      */
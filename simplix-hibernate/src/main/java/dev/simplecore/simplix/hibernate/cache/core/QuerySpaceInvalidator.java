@@ -0,0 +1,336 @@
+package dev.simplecore.simplix.hibernate.cache.core;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Query;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Narrows the cache invalidation of native bulk statements to the tables they modify.
+ *
+ * <p>Hibernate tags every cached query result with its query spaces, the tables it read, and
+ * treats a result as stale once one of those spaces is invalidated in the timestamps cache.
+ * A native bulk statement without synchronized query spaces makes Hibernate invalidate every
+ * space and evict every entity and collection region; a JPQL bulk statement is already
+ * narrowed to the tables of its entity. This invalidator maps the modified tables to the
+ * query spaces and cached entities of the Hibernate metamodel and declares those spaces on
+ * the native statement itself, so Hibernate's cleanup only drops the results and regions
+ * that depend on them.</p>
+ *
+ * <h3>Binding</h3>
+ * <p>{@link #bind(Target)} holds the spaces for the current thread while a repository
+ * method runs; {@link #attach(Query)} adds them to each native query created meanwhile
+ * through an entity manager wrapped for that purpose.</p>
+ *
+ * <h3>Lookup</h3>
+ * <p>A name is matched, case-insensitively, against the query spaces of the entity persisters,
+ * then against entity names and class names, with a schema prefix dropped if the qualified
+ * name is not mapped. Unknown names are kept as query spaces
+ * as given, since other native queries may have declared them as synchronized spaces.</p>
+ *
+ * <h3>Metrics</h3>
+ * <p>Each statement run with its spaces attached also counts what the full clear would have
+ * removed but this one kept: the untouched query spaces and entity regions, and, with
+ * Hibernate statistics enabled, the entries held in memory by the untouched regions.</p>
+ */
+@Slf4j
+public class QuerySpaceInvalidator {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ThreadLocal<Binding> bound = new ThreadLocal<>();
+    private volatile Index index;
+
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder spacesInvalidated = new LongAdder();
+    private final LongAdder spacesRetained = new LongAdder();
+    private final LongAdder regionsEvicted = new LongAdder();
+    private final LongAdder regionsRetained = new LongAdder();
+    private final LongAdder entriesRetained = new LongAdder();
+
+    public QuerySpaceInvalidator(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Resolve tables or entity names, and entity classes, to query spaces and cached entities.
+     *
+     * @param tables        modified tables, or entity names of a JPQL statement
+     * @param entityClasses modified entity classes
+     * @return the query spaces to invalidate and the cached entities stored in them
+     */
+    public Target resolve(Collection<String> tables, Collection<Class<?>> entityClasses) {
+        Index current = index();
+        Set<String> spaces = new LinkedHashSet<>();
+        Set<Class<?>> entities = new LinkedHashSet<>();
+
+        for (String table : tables) {
+            String key = normalize(table);
+            if (key.isEmpty()) {
+                continue;
+            }
+            if (!current.isKnown(key) && key.indexOf('.') > 0) {
+                // schema-qualified table mapped without its schema
+                String unqualified = key.substring(key.lastIndexOf('.') + 1);
+                key = current.isKnown(unqualified) ? unqualified : key;
+            }
+            Set<Class<?>> tableEntities = current.entitiesBySpace().get(key);
+            Set<String> entitySpaces = current.spacesByEntity().get(key);
+            if (tableEntities != null) {
+                spaces.add(current.spaceNames().get(key));
+                entities.addAll(tableEntities);
+            } else if (entitySpaces != null) {
+                spaces.addAll(entitySpaces);
+                entities.addAll(current.entitiesByName().getOrDefault(key, Set.of()));
+            } else {
+                spaces.add(table.trim());
+            }
+        }
+        for (Class<?> entityClass : entityClasses) {
+            spaces.addAll(current.spacesByEntity().getOrDefault(normalize(entityClass.getName()), Set.of()));
+            if (current.regions().containsKey(entityClass)) {
+                entities.add(entityClass);
+            }
+        }
+        return new Target(spaces, entities);
+    }
+
+    /**
+     * Attach the query spaces of a target to the native queries created on this thread
+     * until the returned binding is closed.
+     */
+    public Binding bind(Target target) {
+        Binding binding = new Binding(target, bound.get());
+        bound.set(binding);
+        return binding;
+    }
+
+    /**
+     * Declare the bound query spaces as synchronized spaces of a native query.
+     * Does nothing without a binding or for a query that is not a Hibernate native query.
+     */
+    public void attach(Query query) {
+        Binding binding = bound.get();
+        if (binding == null || binding.target.querySpaces().isEmpty()) {
+            return;
+        }
+        NativeQuery<?> nativeQuery;
+        try {
+            nativeQuery = query.unwrap(NativeQuery.class);
+        } catch (RuntimeException e) {
+            log.debug("Query is not a Hibernate native query, spaces not attached: {}", e.getMessage());
+            return;
+        }
+        binding.target.querySpaces().forEach(nativeQuery::addSynchronizedQuerySpace);
+        binding.attached = true;
+        log.trace("✔ Attached query spaces {} to native statement", binding.target.querySpaces());
+    }
+
+    /**
+     * Count what Hibernate's narrowed cleanup kept, once the statement of a binding has run.
+     * Bindings whose spaces never reached a native statement are not counted.
+     */
+    public void record(Binding binding) {
+        if (!binding.isAttached()) {
+            return;
+        }
+        try {
+            record(entityManagerFactory.unwrap(SessionFactoryImplementor.class), binding.target);
+        } catch (Exception e) {
+            log.warn("⚠ Failed to record query space invalidation {}: {}",
+                    binding.target.querySpaces(), e.getMessage());
+        }
+    }
+
+    public Stats getStats() {
+        return new Stats(invalidations.sum(), spacesInvalidated.sum(), spacesRetained.sum(),
+                regionsEvicted.sum(), regionsRetained.sum(), entriesRetained.sum());
+    }
+
+    private void record(SessionFactoryImplementor factory, Target target) {
+        Index current = index();
+        Set<String> evictedRegions = new LinkedHashSet<>();
+        for (Class<?> entityClass : target.entityClasses()) {
+            String region = current.regions().get(entityClass);
+            if (region != null) {
+                evictedRegions.add(region);
+            }
+        }
+        Set<String> retainedRegions = new LinkedHashSet<>(current.regions().values());
+        retainedRegions.removeAll(evictedRegions);
+        long knownSpaces = target.querySpaces().stream()
+                .filter(space -> current.spaceNames().containsKey(normalize(space)))
+                .count();
+
+        invalidations.increment();
+        spacesInvalidated.add(target.querySpaces().size());
+        spacesRetained.add(current.spaceNames().size() - knownSpaces);
+        regionsEvicted.add(evictedRegions.size());
+        regionsRetained.add(retainedRegions.size());
+        entriesRetained.add(countEntries(factory, retainedRegions));
+    }
+
+    private static long countEntries(SessionFactoryImplementor factory, Set<String> regions) {
+        Statistics statistics = factory.getStatistics();
+        if (statistics == null || !statistics.isStatisticsEnabled()) {
+            return 0;
+        }
+        long entries = 0;
+        for (String region : regions) {
+            try {
+                CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+                long count = regionStatistics != null ? regionStatistics.getElementCountInMemory() : -1;
+                if (count > 0) {
+                    entries += count;
+                }
+            } catch (RuntimeException e) {
+                log.debug("No statistics for cache region {}", region);
+            }
+        }
+        return entries;
+    }
+
+    private Index index() {
+        Index current = index;
+        if (current == null) {
+            current = buildIndex();
+            index = current;
+        }
+        return current;
+    }
+
+    private Index buildIndex() {
+        Map<String, String> spaceNames = new HashMap<>();
+        Map<String, Set<Class<?>>> entitiesBySpace = new HashMap<>();
+        Map<String, Set<String>> spacesByEntity = new HashMap<>();
+        Map<String, Set<Class<?>>> entitiesByName = new HashMap<>();
+        Map<Class<?>, String> regions = new HashMap<>();
+
+        Map<Class<?>, String> jpaNames = new HashMap<>();
+        for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+            if (entity.getJavaType() != null) {
+                jpaNames.put(entity.getJavaType(), entity.getName());
+            }
+        }
+
+        SessionFactoryImplementor factory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        factory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+            Class<?> entityClass = persister.getMappedClass();
+            boolean cached = entityClass != null && persister.getCacheAccessStrategy() != null;
+            if (cached) {
+                regions.put(entityClass, persister.getCacheAccessStrategy().getRegion().getName());
+            }
+
+            Set<String> spaces = new LinkedHashSet<>();
+            for (Serializable space : persister.getQuerySpaces()) {
+                String name = String.valueOf(space);
+                spaces.add(name);
+                spaceNames.putIfAbsent(normalize(name), name);
+                Set<Class<?>> spaceEntities = entitiesBySpace.computeIfAbsent(normalize(name),
+                        key -> new LinkedHashSet<>());
+                if (cached) {
+                    spaceEntities.add(entityClass);
+                }
+            }
+            for (String name : entityNames(persister, jpaNames.get(entityClass))) {
+                spacesByEntity.computeIfAbsent(name, key -> new LinkedHashSet<>()).addAll(spaces);
+                if (cached) {
+                    entitiesByName.computeIfAbsent(name, key -> new LinkedHashSet<>()).add(entityClass);
+                }
+            }
+        });
+        log.debug("Indexed {} query spaces of {} cached entity regions", spaceNames.size(), regions.size());
+        return new Index(spaceNames, entitiesBySpace, spacesByEntity, entitiesByName, regions);
+    }
+
+    private static Set<String> entityNames(EntityPersister persister, String jpaName) {
+        Set<String> names = new LinkedHashSet<>();
+        names.add(normalize(persister.getEntityName()));
+        if (jpaName != null) {
+            names.add(normalize(jpaName));
+        }
+        return names;
+    }
+
+    private static String normalize(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * What one statement invalidates.
+     *
+     * @param querySpaces   query spaces to invalidate in the timestamps cache
+     * @param entityClasses cached entities whose regions are evicted
+     */
+    public record Target(Set<String> querySpaces, Set<Class<?>> entityClasses) {
+    }
+
+    /**
+     * Query spaces bound to the current thread, restoring the outer binding on close.
+     */
+    public final class Binding implements AutoCloseable {
+
+        private final Target target;
+        private final Binding outer;
+        private volatile boolean attached;
+
+        private Binding(Target target, Binding outer) {
+            this.target = target;
+            this.outer = outer;
+        }
+
+        /**
+         * Whether the spaces were attached to a native statement.
+         */
+        public boolean isAttached() {
+            return attached;
+        }
+
+        @Override
+        public void close() {
+            if (outer != null) {
+                bound.set(outer);
+            } else {
+                bound.remove();
+            }
+        }
+    }
+
+    /**
+     * Invalidation counters since startup.
+     *
+     * @param invalidations      native statements run with their query spaces attached
+     * @param spacesInvalidated  query spaces invalidated
+     * @param spacesRetained     mapped query spaces a full clear would also have invalidated
+     * @param regionsEvicted     cached entity regions Hibernate evicted along with the spaces
+     * @param regionsRetained    cached entity regions a full clear would also have evicted
+     * @param entriesRetained    entries held by the retained regions, if statistics are enabled
+     */
+    public record Stats(long invalidations, long spacesInvalidated, long spacesRetained,
+                        long regionsEvicted, long regionsRetained, long entriesRetained) {
+    }
+
+    private record Index(Map<String, String> spaceNames,
+                         Map<String, Set<Class<?>>> entitiesBySpace,
+                         Map<String, Set<String>> spacesByEntity,
+                         Map<String, Set<Class<?>>> entitiesByName,
+                         Map<Class<?>, String> regions) {
+
+        boolean isKnown(String key) {
+            return entitiesBySpace.containsKey(key) || spacesByEntity.containsKey(key);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package dev.simplecore.simplix.hibernate.cache.handler;
+
+import dev.simplecore.simplix.hibernate.cache.event.PendingEviction;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Bounded queue of post-commit evictions drained in batches by a single consumer thread.
+ *
+ * <p>Offering never blocks: when the queue is full, {@link #offer(PendingEviction)} returns
+ * {@code false} and the caller evicts synchronously, so an eviction is never lost. Evictions
+ * still queued on {@link #close()} are executed on the closing thread.</p>
+ */
+@Slf4j
+public class AsyncEvictionQueue implements AutoCloseable {
+
+    private static final long POLL_TIMEOUT_MS = 500;
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+
+    private final BlockingQueue<Queued> queue;
+    private final int batchSize;
+    private final Consumer<PendingEviction> processor;
+    private final Thread consumer;
+    private volatile boolean running = true;
+
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder overflows = new LongAdder();
+    private volatile long lastLagMillis;
+
+    /**
+     * @param capacity  maximum queued evictions
+     * @param batchSize maximum evictions taken from the queue at once
+     * @param processor executes one eviction; exceptions are logged and skipped
+     */
+    public AsyncEvictionQueue(int capacity, int batchSize, Consumer<PendingEviction> processor) {
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.processor = processor;
+        this.consumer = new Thread(this::consume, "simplix-l2-eviction");
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    /**
+     * Queue an eviction without blocking.
+     *
+     * @return {@code false} if the queue is full or closed
+     */
+    public boolean offer(PendingEviction eviction) {
+        if (running && queue.offer(new Queued(eviction, System.nanoTime()))) {
+            return true;
+        }
+        overflows.increment();
+        return false;
+    }
+
+    /**
+     * @return evictions waiting in the queue
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * @return milliseconds the oldest queued eviction has waited, or 0 when the queue is empty
+     */
+    public long getOldestAgeMillis() {
+        Queued head = queue.peek();
+        return head != null ? TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - head.enqueuedAt()) : 0;
+    }
+
+    /**
+     * @return milliseconds between queuing and executing the last eviction processed
+     */
+    public long getLastLagMillis() {
+        return lastLagMillis;
+    }
+
+    public long getProcessedCount() {
+        return processed.sum();
+    }
+
+    /**
+     * @return evictions refused because the queue was full, and executed synchronously instead
+     */
+    public long getOverflowCount() {
+        return overflows.sum();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        consumer.interrupt();
+        try {
+            consumer.join(SHUTDOWN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<Queued> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.info("ℹ Executing {} queued cache evictions on shutdown", remaining.size());
+            remaining.forEach(this::execute);
+        }
+    }
+
+    private void consume() {
+        List<Queued> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Queued first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                batch.forEach(this::execute);
+                log.trace("✔ Executed {} queued cache evictions", batch.size());
+            } catch (InterruptedException e) {
+                // close() interrupts to stop; remaining evictions are executed there
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void execute(Queued queued) {
+        try {
+            processor.accept(queued.eviction());
+        } catch (Exception e) {
+            log.error("✖ Failed to evict cache for {} [{}]: {}",
+                    queued.eviction().getEntityClassName(), queued.eviction().getEntityId(), e.getMessage());
+        }
+        processed.increment();
+        lastLagMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - queued.enqueuedAt());
+    }
+
+    private record Queued(PendingEviction eviction, long enqueuedAt) {
+    }
+}
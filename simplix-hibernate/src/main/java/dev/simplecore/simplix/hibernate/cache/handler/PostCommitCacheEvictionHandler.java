@@ -3,10 +3,11 @@ package dev.simplecore.simplix.hibernate.cache.handler;
 import dev.simplecore.simplix.hibernate.cache.event.PendingEviction;
 import dev.simplecore.simplix.hibernate.cache.event.PendingEvictionCompletedEvent;
 import dev.simplecore.simplix.hibernate.cache.strategy.CacheEvictionStrategy;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 
+import java.util.Optional;
+
 /**
  * Handles cache eviction after transaction commit.
  *
@@ -20,6 +21,13 @@ import org.springframework.context.event.EventListener;
  * {@code @EventListener} instead of {@code @TransactionalEventListener(phase = AFTER_COMMIT)}.
  * The transaction-awareness is handled by the collector, not the handler.</p>
  *
+ * <h3>Asynchronous Mode</h3>
+ * <p>By default evictions run on the committing thread, so the caller sees them applied
+ * when the commit returns. With a queue capacity, they are handed to an
+ * {@link AsyncEvictionQueue} instead and the commit returns at once; the cache may then
+ * serve the old state until the queue catches up. Evictions that do not fit the queue
+ * run synchronously.</p>
+ *
  * <h3>Eviction Flow</h3>
  * <pre>
  * Transaction commits
@@ -44,10 +52,43 @@ import org.springframework.context.event.EventListener;
  * @see dev.simplecore.simplix.hibernate.cache.transaction.TransactionAwareCacheEvictionCollector
  */
 @Slf4j
-@RequiredArgsConstructor
-public class PostCommitCacheEvictionHandler {
+public class PostCommitCacheEvictionHandler implements AutoCloseable {
 
     private final CacheEvictionStrategy evictionStrategy;
+    private final AsyncEvictionQueue asyncQueue;
+
+    public PostCommitCacheEvictionHandler(CacheEvictionStrategy evictionStrategy) {
+        this.evictionStrategy = evictionStrategy;
+        this.asyncQueue = null;
+    }
+
+    /**
+     * Creates a handler that executes evictions on a background thread.
+     *
+     * @param queueCapacity maximum queued evictions; beyond it evictions run synchronously
+     * @param batchSize     maximum evictions taken from the queue at once
+     */
+    public PostCommitCacheEvictionHandler(CacheEvictionStrategy evictionStrategy, int queueCapacity, int batchSize) {
+        this.evictionStrategy = evictionStrategy;
+        this.asyncQueue = new AsyncEvictionQueue(queueCapacity, batchSize, this::processEviction);
+    }
+
+    /**
+     * @return the eviction queue in asynchronous mode
+     */
+    public Optional<AsyncEvictionQueue> getAsyncQueue() {
+        return Optional.ofNullable(asyncQueue);
+    }
+
+    /**
+     * Executes any queued evictions and stops the background thread.
+     */
+    @Override
+    public void close() {
+        if (asyncQueue != null) {
+            asyncQueue.close();
+        }
+    }
 
     /**
      * Handles cache eviction after transaction commit.
@@ -66,6 +107,7 @@ public class PostCommitCacheEvictionHandler {
 
         int successCount = 0;
         int failureCount = 0;
+        int queuedCount = 0;
 
         log.trace("✔ Processing {} post-commit cache evictions", event.getEvictionCount());
 
@@ -76,6 +118,11 @@ public class PostCommitCacheEvictionHandler {
                 continue;
             }
 
+            if (asyncQueue != null && asyncQueue.offer(pending)) {
+                queuedCount++;
+                continue;
+            }
+
             try {
                 processEviction(pending);
                 successCount++;
@@ -89,11 +136,16 @@ public class PostCommitCacheEvictionHandler {
             }
         }
 
+        if (asyncQueue != null && queuedCount < event.getEvictionCount()) {
+            log.warn("⚠ Eviction queue full, executed {} evictions synchronously",
+                    event.getEvictionCount() - queuedCount);
+        }
+
         if (failureCount > 0) {
             log.warn("⚠ Completed post-commit eviction: {} success, {} failures",
                     successCount, failureCount);
         } else {
-            log.trace("✔ Completed post-commit eviction: {} success", successCount);
+            log.trace("✔ Completed post-commit eviction: {} success, {} queued", successCount, queuedCount);
         }
     }
 
@@ -103,29 +155,28 @@ public class PostCommitCacheEvictionHandler {
      * @param pending the pending eviction to process
      */
     private void processEviction(PendingEviction pending) {
-        Class<?> entityClass = pending.getEntityClass();
+        String entityClassName = pending.getEntityClassName();
         String entityId = pending.getEntityId();
         String region = pending.getRegion();
 
-        if (entityClass == null) {
-            log.warn("⚠ Cannot process eviction: entity class not found for {}",
-                    pending.getEntityClassName());
+        if (entityClassName == null || entityClassName.isEmpty()) {
+            log.warn("⚠ Cannot process eviction: entity class name is missing");
             return;
         }
 
         log.trace("ℹ Evicting cache: {} [{}] operation={} region={}",
-                entityClass.getSimpleName(),
+                getEntitySimpleName(pending),
                 entityId,
                 pending.getOperation(),
                 region);
 
-        // Handle bulk operations differently
+        // Resolved by name in the strategy, which caches entity metadata and classes
         if (isBulkOperation(pending)) {
             // For bulk operations, evict entire entity cache
-            evictionStrategy.evict(entityClass, null);
+            evictionStrategy.evict(entityClassName, null);
         } else {
             // For single entity operations, evict specific entity
-            evictionStrategy.evict(entityClass, entityId);
+            evictionStrategy.evict(entityClassName, entityId);
         }
     }
 
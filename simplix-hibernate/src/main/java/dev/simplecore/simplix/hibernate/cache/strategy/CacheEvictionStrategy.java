@@ -1,9 +1,14 @@
 package dev.simplecore.simplix.hibernate.cache.strategy;
 
+import dev.simplecore.simplix.hibernate.cache.core.EntityCacheMetadata;
+import dev.simplecore.simplix.hibernate.cache.core.EntityCacheMetadataRegistry;
 import dev.simplecore.simplix.hibernate.cache.core.HibernateCacheManager;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Strategy for cache eviction.
  *
@@ -11,17 +16,37 @@ import lombok.extern.slf4j.Slf4j;
  * It is called by {@link dev.simplecore.simplix.hibernate.cache.handler.PostCommitCacheEvictionHandler}
  * to perform local cache eviction.</p>
  *
+ * <p>Entities registered in the {@link EntityCacheMetadataRegistry} are evicted directly
+ * through their resolved metadata. Other entities go through {@link HibernateCacheManager},
+ * with their classes loaded once and remembered.</p>
+ *
  * <p>For distributed cache synchronization, use Hibernate's native integration with
  * distributed cache providers (Hazelcast, Infinispan, etc.) which handle cluster-wide
- * cache invalidation automatically.</p>
+ * cache invalidation automatically. With a node-local provider, enable
+ * {@link dev.simplecore.simplix.hibernate.cache.cluster.ClusterCacheEvictionBroadcaster}
+ * to propagate evictions to the other nodes.</p>
  *
  * @see dev.simplecore.simplix.hibernate.cache.handler.PostCommitCacheEvictionHandler
  */
 @Slf4j
-@RequiredArgsConstructor
 public class CacheEvictionStrategy {
 
     private final HibernateCacheManager cacheManager;
+    private final EntityCacheMetadataRegistry metadataRegistry;
+
+    /**
+     * Entity classes resolved by name, absent ones as {@link Optional#empty()}.
+     */
+    private final Map<String, Optional<Class<?>>> resolvedClasses = new ConcurrentHashMap<>();
+
+    public CacheEvictionStrategy(HibernateCacheManager cacheManager) {
+        this(cacheManager, null);
+    }
+
+    public CacheEvictionStrategy(HibernateCacheManager cacheManager, EntityCacheMetadataRegistry metadataRegistry) {
+        this.cacheManager = cacheManager;
+        this.metadataRegistry = metadataRegistry;
+    }
 
     /**
      * Evict cache for the given entity.
@@ -36,7 +61,10 @@ public class CacheEvictionStrategy {
         }
 
         try {
-            if (entityId != null) {
+            EntityCacheMetadata metadata = findMetadata(entityClass.getName());
+            if (metadata != null) {
+                metadata.evict(entityId);
+            } else if (entityId != null) {
                 // Single entity eviction
                 cacheManager.evictEntity(entityClass, entityId);
                 log.trace("✔ Evicted entity cache: {}[{}]", entityClass.getSimpleName(), entityId);
@@ -63,7 +91,15 @@ public class CacheEvictionStrategy {
         }
 
         try {
-            Class<?> entityClass = loadEntityClass(entityClassName);
+            EntityCacheMetadata metadata = findMetadata(entityClassName);
+            if (metadata != null) {
+                metadata.evict(entityId);
+                return;
+            }
+
+            Class<?> entityClass = resolvedClasses
+                    .computeIfAbsent(entityClassName, name -> Optional.ofNullable(loadEntityClass(name)))
+                    .orElse(null);
             if (entityClass != null) {
                 evict(entityClass, entityId);
             } else {
@@ -74,6 +110,10 @@ public class CacheEvictionStrategy {
         }
     }
 
+    private EntityCacheMetadata findMetadata(String entityClassName) {
+        return metadataRegistry != null ? metadataRegistry.find(entityClassName) : null;
+    }
+
     /**
      * Loads entity class using multiple ClassLoader strategies.
      */
@@ -0,0 +1,129 @@
+package dev.simplecore.simplix.hibernate.cache.transaction;
+
+import dev.simplecore.simplix.hibernate.cache.event.PendingEviction;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Pending evictions of one transaction, deduplicated and coalesced per entity region.
+ *
+ * <p>Evictions are keyed by entity, region and id, so repeating an eviction adds nothing.
+ * Once the distinct ids of one entity region exceed the coalesce threshold, or the set
+ * reaches its size limit, they are replaced by a single bulk eviction of that region,
+ * which also absorbs any later id of the region. A bulk eviction collected directly
+ * absorbs the region the same way.</p>
+ *
+ * <p>Not thread-safe: each instance belongs to the thread of one transaction.</p>
+ */
+class PendingEvictionSet {
+
+    private final int coalesceThreshold;
+    private final int maxSize;
+    private final Map<Key, PendingEviction> evictions = new LinkedHashMap<>();
+    private final Map<Key, Integer> idCounts = new HashMap<>();
+    private int collected;
+
+    /**
+     * @param coalesceThreshold distinct ids of one region above which the region is evicted whole
+     * @param maxSize           total evictions above which the region of a new id is evicted whole
+     */
+    PendingEvictionSet(int coalesceThreshold, int maxSize) {
+        this.coalesceThreshold = coalesceThreshold;
+        this.maxSize = maxSize;
+    }
+
+    void add(PendingEviction eviction) {
+        collected++;
+        Key region = new Key(eviction.getEntityClassName(), eviction.getRegion(), null);
+
+        PendingEviction bulk = evictions.get(region);
+        if (bulk != null) {
+            mergeQueryCacheFlag(bulk, eviction);
+            return;
+        }
+        if (eviction.getEntityId() == null) {
+            coalesce(region, eviction);
+            return;
+        }
+
+        Key key = new Key(eviction.getEntityClassName(), eviction.getRegion(), eviction.getEntityId());
+        PendingEviction existing = evictions.get(key);
+        if (existing != null) {
+            mergeQueryCacheFlag(existing, eviction);
+            return;
+        }
+        int ids = idCounts.merge(region, 1, Integer::sum);
+        if (ids > coalesceThreshold || evictions.size() >= maxSize) {
+            coalesce(region, eviction);
+            return;
+        }
+        evictions.put(key, eviction);
+    }
+
+    /**
+     * @return the evictions to execute, in collection order
+     */
+    List<PendingEviction> toList() {
+        return new ArrayList<>(evictions.values());
+    }
+
+    /**
+     * @return the number of distinct evictions held
+     */
+    int size() {
+        return evictions.size();
+    }
+
+    /**
+     * @return the number of evictions added, duplicates and coalesced ones included
+     */
+    int collected() {
+        return collected;
+    }
+
+    /**
+     * Replace every eviction of a region by one bulk eviction.
+     */
+    private void coalesce(Key region, PendingEviction trigger) {
+        boolean evictQueryCache = trigger.isEvictQueryCache();
+        var iterator = evictions.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, PendingEviction> entry = iterator.next();
+            if (entry.getKey().sameRegion(region)) {
+                evictQueryCache |= entry.getValue().isEvictQueryCache();
+                iterator.remove();
+            }
+        }
+        idCounts.remove(region);
+
+        PendingEviction bulk = trigger.getEntityId() == null
+                ? trigger
+                : PendingEviction.builder()
+                        .entityClassName(trigger.getEntityClassName())
+                        .region(trigger.getRegion())
+                        .operation(PendingEviction.EvictionOperation.BULK_UPDATE)
+                        .timestamp(System.currentTimeMillis())
+                        .build();
+        bulk.setEvictQueryCache(evictQueryCache);
+        evictions.put(region, bulk);
+    }
+
+    private static void mergeQueryCacheFlag(PendingEviction target, PendingEviction source) {
+        if (source.isEvictQueryCache() && !target.isEvictQueryCache()) {
+            target.setEvictQueryCache(true);
+        }
+    }
+
+    private record Key(String entityClassName, String region, String entityId) {
+
+        boolean sameRegion(Key other) {
+            return Objects.equals(entityClassName, other.entityClassName)
+                    && Objects.equals(region, other.region);
+        }
+    }
+}
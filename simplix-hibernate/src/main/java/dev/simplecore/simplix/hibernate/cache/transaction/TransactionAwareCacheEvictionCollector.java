@@ -2,14 +2,13 @@ package dev.simplecore.simplix.hibernate.cache.transaction;
 
 import dev.simplecore.simplix.hibernate.cache.event.PendingEviction;
 import dev.simplecore.simplix.hibernate.cache.event.PendingEvictionCompletedEvent;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Collects pending cache evictions during a transaction and publishes them after commit.
@@ -21,7 +20,8 @@ import java.util.List;
  * <h3>How It Works</h3>
  * <ol>
  *   <li>@EvictCache annotated methods trigger eviction via ModifyingQueryCacheEvictionAspect</li>
- *   <li>Evictions are collected via {@link #collect(PendingEviction)} into ThreadLocal storage</li>
+ *   <li>Evictions are collected via {@link #collect(PendingEviction)} into ThreadLocal storage,
+ *       deduplicated by entity, region and id</li>
  *   <li>A TransactionSynchronization is registered on first collection</li>
  *   <li>On commit: {@link PendingEvictionCompletedEvent} is published</li>
  *   <li>On rollback: Collected evictions are silently discarded</li>
@@ -31,26 +31,30 @@ import java.util.List;
  * <p>Uses ThreadLocal to isolate pending evictions per transaction thread.
  * Each transaction has its own independent list of pending evictions.</p>
  *
- * <h3>Memory Safety</h3>
- * <p>To prevent OOM in large batch operations, pending evictions are limited to
- * {@link #MAX_PENDING_EVICTIONS}. When exceeded, entire entity cache is evicted instead.</p>
+ * <h3>Coalescing</h3>
+ * <p>When the distinct ids of one entity region exceed the coalesce threshold, they collapse
+ * into a single eviction of the whole region. The same happens when a transaction reaches
+ * {@link #MAX_PENDING_EVICTIONS}, which keeps large batch operations from exhausting memory.
+ * {@link #getCoalescingRatio()} reports how many collected evictions each executed one stands for.</p>
  *
  * @see PendingEviction
  * @see PendingEvictionCompletedEvent
  * @see dev.simplecore.simplix.hibernate.cache.handler.PostCommitCacheEvictionHandler
  */
 @Slf4j
-@RequiredArgsConstructor
 public class TransactionAwareCacheEvictionCollector {
 
-    private final ApplicationEventPublisher eventPublisher;
-
     /**
      * Maximum number of pending evictions per transaction to prevent OOM.
      * When exceeded, switches to bulk eviction strategy.
      */
     private static final int MAX_PENDING_EVICTIONS = 10000;
 
+    /**
+     * Default number of distinct ids of one entity region above which the region is evicted whole.
+     */
+    public static final int DEFAULT_COALESCE_THRESHOLD = 500;
+
     /**
      * Maximum retry attempts for event publishing.
      * Single retry for transient failures (network hiccup, temporary thread contention).
@@ -59,10 +63,10 @@ public class TransactionAwareCacheEvictionCollector {
 
     /**
      * ThreadLocal storage for pending evictions per transaction.
-     * Each thread (transaction) has its own list.
+     * Each thread (transaction) has its own set.
      * Uses plain ThreadLocal to avoid auto-initialization on get().
      */
-    private static final ThreadLocal<List<PendingEviction>> PENDING_EVICTIONS = new ThreadLocal<>();
+    private static final ThreadLocal<PendingEvictionSet> PENDING_EVICTIONS = new ThreadLocal<>();
 
     /**
      * Tracks whether TransactionSynchronization has been registered for current transaction.
@@ -71,6 +75,27 @@ public class TransactionAwareCacheEvictionCollector {
      */
     private static final ThreadLocal<Boolean> SYNCHRONIZATION_REGISTERED = new ThreadLocal<>();
 
+    private final ApplicationEventPublisher eventPublisher;
+    private final int coalesceThreshold;
+
+    /**
+     * Evictions collected in committed transactions, and the evictions they were reduced to.
+     */
+    private final LongAdder collectedCount = new LongAdder();
+    private final LongAdder publishedCount = new LongAdder();
+
+    public TransactionAwareCacheEvictionCollector(ApplicationEventPublisher eventPublisher) {
+        this(eventPublisher, DEFAULT_COALESCE_THRESHOLD);
+    }
+
+    /**
+     * @param coalesceThreshold distinct ids of one entity region above which the region is evicted whole
+     */
+    public TransactionAwareCacheEvictionCollector(ApplicationEventPublisher eventPublisher, int coalesceThreshold) {
+        this.eventPublisher = eventPublisher;
+        this.coalesceThreshold = Math.max(1, coalesceThreshold);
+    }
+
     /**
      * Collects a pending cache eviction to be executed after transaction commit.
      *
@@ -112,27 +137,15 @@ public class TransactionAwareCacheEvictionCollector {
             return;
         }
 
-        // Initialize ThreadLocal list if not exists
-        List<PendingEviction> pendingList = PENDING_EVICTIONS.get();
-        if (pendingList == null) {
-            pendingList = new ArrayList<>();
-            PENDING_EVICTIONS.set(pendingList);
+        // Initialize ThreadLocal set if not exists
+        PendingEvictionSet pendingSet = PENDING_EVICTIONS.get();
+        if (pendingSet == null) {
+            pendingSet = new PendingEvictionSet(coalesceThreshold, MAX_PENDING_EVICTIONS);
+            PENDING_EVICTIONS.set(pendingSet);
         }
 
-        // Check size limit to prevent OOM in large batch operations
-        if (pendingList.size() >= MAX_PENDING_EVICTIONS) {
-            log.warn("⚠ Pending evictions limit ({}) reached, switching to bulk eviction for {}",
-                    MAX_PENDING_EVICTIONS, eviction.getEntityClassName());
-            // Convert to bulk eviction (null entityId means evict entire cache)
-            eviction = PendingEviction.of(
-                    eviction.getEntityClass(),
-                    null,
-                    eviction.getRegion(),
-                    PendingEviction.EvictionOperation.BULK_UPDATE);
-        }
-
-        // Add to pending list
-        pendingList.add(eviction);
+        // Duplicates are dropped, and large regions collapse into one bulk eviction
+        pendingSet.add(eviction);
         log.trace("✔ Collected pending eviction: {} [{}] operation={}",
                 getSimpleClassName(eviction.getEntityClassName()),
                 eviction.getEntityId(),
@@ -168,15 +181,18 @@ public class TransactionAwareCacheEvictionCollector {
                 // even if OutOfMemoryError or other fatal errors occur.
                 try {
                     // Null-safe access to ThreadLocal
-                    List<PendingEviction> evictions = PENDING_EVICTIONS.get();
-                    if (evictions == null || evictions.isEmpty()) {
+                    PendingEvictionSet evictions = PENDING_EVICTIONS.get();
+                    if (evictions == null || evictions.size() == 0) {
                         return;
                     }
 
-                    log.trace("✔ Transaction committed, publishing {} pending evictions", evictions.size());
+                    log.trace("✔ Transaction committed, publishing {} pending evictions ({} collected)",
+                            evictions.size(), evictions.collected());
+                    collectedCount.add(evictions.collected());
+                    publishedCount.add(evictions.size());
 
                     // Create immutable copy for the event
-                    List<PendingEviction> evictionsCopy = new ArrayList<>(evictions);
+                    List<PendingEviction> evictionsCopy = evictions.toList();
                     PendingEvictionCompletedEvent event =
                             new PendingEvictionCompletedEvent(this, evictionsCopy);
 
@@ -216,7 +232,7 @@ public class TransactionAwareCacheEvictionCollector {
                 // Always cleanup ThreadLocal after transaction completes (commit or rollback)
                 try {
                     // Null-safe access to ThreadLocal
-                    List<PendingEviction> evictions = PENDING_EVICTIONS.get();
+                    PendingEvictionSet evictions = PENDING_EVICTIONS.get();
                     int evictionCount = (evictions != null) ? evictions.size() : 0;
                     if (status == STATUS_ROLLED_BACK && evictionCount > 0) {
                         log.trace("ℹ Transaction rolled back, discarding {} pending evictions", evictionCount);
@@ -237,6 +253,8 @@ public class TransactionAwareCacheEvictionCollector {
      * Includes simple retry for transient failures.
      */
     private void publishImmediately(PendingEviction eviction) {
+        collectedCount.increment();
+        publishedCount.increment();
         List<PendingEviction> singleEviction = List.of(eviction);
         PendingEvictionCompletedEvent event =
                 new PendingEvictionCompletedEvent(this, singleEviction);
@@ -273,14 +291,14 @@ public class TransactionAwareCacheEvictionCollector {
     }
 
     /**
-     * Returns the current number of pending evictions in this thread's transaction.
+     * Returns the current number of distinct pending evictions in this thread's transaction.
      * Useful for debugging and metrics.
      * Returns 0 if ThreadLocal is not initialized (no active transaction context).
      *
      * @return count of pending evictions, or 0 if no transaction context
      */
     public int getPendingCount() {
-        List<PendingEviction> evictions = PENDING_EVICTIONS.get();
+        PendingEvictionSet evictions = PENDING_EVICTIONS.get();
         return (evictions != null) ? evictions.size() : 0;
     }
 
@@ -291,8 +309,38 @@ public class TransactionAwareCacheEvictionCollector {
      * @return true if there are pending evictions
      */
     public boolean hasPendingEvictions() {
-        List<PendingEviction> evictions = PENDING_EVICTIONS.get();
-        return evictions != null && !evictions.isEmpty();
+        PendingEvictionSet evictions = PENDING_EVICTIONS.get();
+        return evictions != null && evictions.size() > 0;
+    }
+
+    /**
+     * Returns the number of evictions collected in committed transactions or outside one.
+     *
+     * @return collected evictions, duplicates and coalesced ones included
+     */
+    public long getCollectedCount() {
+        return collectedCount.sum();
+    }
+
+    /**
+     * Returns the number of evictions handed to the eviction handler after deduplication
+     * and coalescing.
+     *
+     * @return published evictions
+     */
+    public long getPublishedCount() {
+        return publishedCount.sum();
+    }
+
+    /**
+     * Returns how many collected evictions each published eviction stands for.
+     * 1.0 means nothing was deduplicated or coalesced.
+     *
+     * @return collected / published, or 1.0 before the first publication
+     */
+    public double getCoalescingRatio() {
+        long published = publishedCount.sum();
+        return published == 0 ? 1.0 : (double) collectedCount.sum() / published;
     }
 
     /**
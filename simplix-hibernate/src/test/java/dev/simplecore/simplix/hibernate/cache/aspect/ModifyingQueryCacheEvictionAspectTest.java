@@ -1,6 +1,7 @@
 package dev.simplecore.simplix.hibernate.cache.aspect;
 
 import dev.simplecore.simplix.hibernate.cache.annotation.EvictCache;
+import dev.simplecore.simplix.hibernate.cache.core.QuerySpaceInvalidator;
 import dev.simplecore.simplix.hibernate.cache.event.PendingEviction;
 import dev.simplecore.simplix.hibernate.cache.transaction.TransactionAwareCacheEvictionCollector;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -11,24 +12,29 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.jpa.repository.Query;
 
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 /**
  * Tests for ModifyingQueryCacheEvictionAspect.
  *
  * <p>This aspect handles cache eviction via @EvictCache annotation only.
- * JPQL parsing was removed for reliability - developers must explicitly
- * declare which entities to evict using @EvictCache annotation.</p>
+ * Entities or tables are declared on the annotation; the @Query statement is only
+ * read for its target table when neither is declared.</p>
  */
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -38,6 +44,9 @@ class ModifyingQueryCacheEvictionAspectTest {
     @Mock
     private TransactionAwareCacheEvictionCollector evictionCollector;
 
+    @Mock
+    private QuerySpaceInvalidator querySpaceInvalidator;
+
     @Mock
     private ProceedingJoinPoint joinPoint;
 
@@ -295,6 +304,127 @@ class ModifyingQueryCacheEvictionAspectTest {
         }
     }
 
+    @Nested
+    @DisplayName("Table-level invalidation tests")
+    class TableInvalidationTests {
+
+        private final QuerySpaceInvalidator.Target ordersTarget =
+                new QuerySpaceInvalidator.Target(Set.of("orders"), Set.of(Order.class));
+
+        @Mock
+        private QuerySpaceInvalidator.Binding binding;
+
+        private ModifyingQueryCacheEvictionAspect tableAspect;
+
+        @BeforeEach
+        void setUp() {
+            tableAspect = new ModifyingQueryCacheEvictionAspect(evictionCollector, querySpaceInvalidator);
+            when(querySpaceInvalidator.resolve(List.of("orders"), List.of())).thenReturn(ordersTarget);
+            when(querySpaceInvalidator.bind(any())).thenReturn(binding);
+        }
+
+        @Test
+        @DisplayName("Should bind the query spaces of declared tables around the call and evict their entities")
+        void shouldBindDeclaredTables() throws Throwable {
+            when(methodSignature.getMethod()).thenReturn(TestRepository.class.getMethod("evictTables"));
+            when(joinPoint.proceed()).thenReturn("result");
+
+            Object result = tableAspect.handleEvictCache(joinPoint);
+
+            assertThat(result).isEqualTo("result");
+            InOrder inOrder = inOrder(querySpaceInvalidator, joinPoint, binding);
+            inOrder.verify(querySpaceInvalidator).bind(ordersTarget);
+            inOrder.verify(joinPoint).proceed();
+            inOrder.verify(querySpaceInvalidator).record(binding);
+            inOrder.verify(binding).close();
+
+            ArgumentCaptor<PendingEviction> captor = ArgumentCaptor.forClass(PendingEviction.class);
+            verify(evictionCollector).collect(captor.capture());
+            assertThat(captor.getValue().getEntityClassName()).isEqualTo(Order.class.getName());
+            assertThat(captor.getValue().getEntityId()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should read the modified table from a native @Query")
+        void shouldReadTableFromQuery() throws Throwable {
+            when(methodSignature.getMethod()).thenReturn(TestRepository.class.getMethod("deleteFromQuery"));
+
+            tableAspect.handleEvictCache(joinPoint);
+
+            verify(querySpaceInvalidator).resolve(List.of("orders"), List.of());
+            verify(querySpaceInvalidator).bind(ordersTarget);
+        }
+
+        @Test
+        @DisplayName("Should still narrow the statement's query spaces when evictQueryCache=false")
+        void shouldBindWhenQueryCacheEvictionDisabled() throws Throwable {
+            when(methodSignature.getMethod()).thenReturn(TestRepository.class.getMethod("evictTablesNoQueryCache"));
+
+            tableAspect.handleEvictCache(joinPoint);
+
+            ArgumentCaptor<PendingEviction> captor = ArgumentCaptor.forClass(PendingEviction.class);
+            verify(evictionCollector).collect(captor.capture());
+            assertThat(captor.getValue().isEvictQueryCache()).isFalse();
+            verify(querySpaceInvalidator).bind(ordersTarget);
+        }
+
+        @Test
+        @DisplayName("Should bind the query spaces of listed entity classes without collecting them twice")
+        void shouldBindListedEntities() throws Throwable {
+            QuerySpaceInvalidator.Target target = new QuerySpaceInvalidator.Target(
+                    Set.of("users", "orders"), Set.of(User.class, Order.class));
+            when(querySpaceInvalidator.resolve(anyList(), anyList())).thenReturn(target);
+            when(methodSignature.getMethod()).thenReturn(TestRepository.class.getMethod("evictCacheMethod"));
+
+            tableAspect.handleEvictCache(joinPoint);
+
+            verify(querySpaceInvalidator).resolve(List.of(), List.of(User.class, Order.class));
+            verify(evictionCollector, times(2)).collect(any(PendingEviction.class));
+            verify(querySpaceInvalidator).bind(target);
+        }
+
+        @Test
+        @DisplayName("Should release the binding without recording or evicting when the method fails")
+        void shouldReleaseBindingOnFailure() throws Throwable {
+            when(methodSignature.getMethod()).thenReturn(TestRepository.class.getMethod("evictTables"));
+            when(joinPoint.proceed()).thenThrow(new RuntimeException("Query error"));
+
+            assertThatThrownBy(() -> tableAspect.handleEvictCache(joinPoint))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessage("Query error");
+
+            verify(binding).close();
+            verify(querySpaceInvalidator, never()).record(any());
+            verify(evictionCollector, never()).collect(any());
+        }
+
+        @Test
+        @DisplayName("Should not bind when no query space could be resolved")
+        void shouldNotBindEmptyTarget() throws Throwable {
+            when(querySpaceInvalidator.resolve(List.of("orders"), List.of()))
+                    .thenReturn(new QuerySpaceInvalidator.Target(Set.of(), Set.of()));
+            when(methodSignature.getMethod()).thenReturn(TestRepository.class.getMethod("evictTables"));
+            when(joinPoint.proceed()).thenReturn("result");
+
+            assertThat(tableAspect.handleEvictCache(joinPoint)).isEqualTo("result");
+
+            verify(querySpaceInvalidator, never()).bind(any());
+        }
+
+        @Test
+        @DisplayName("Should parse the target of JPQL and SQL statements only")
+        void shouldParseModifiedTarget() throws Exception {
+            assertThat(ModifyingQueryCacheEvictionAspect.parseModifiedTarget(
+                    TestRepository.class.getMethod("deleteFromQuery"))).isEqualTo("orders");
+            assertThat(ModifyingQueryCacheEvictionAspect.parseModifiedTarget(
+                    TestRepository.class.getMethod("updateFromJpql"))).isEqualTo("User");
+            assertThat(ModifyingQueryCacheEvictionAspect.parseModifiedTarget(
+                    TestRepository.class.getMethod("selectQuery"))).isNull();
+            assertThat(ModifyingQueryCacheEvictionAspect.parseModifiedTarget(
+                    TestRepository.class.getMethod("evictCacheMethod"))).isNull();
+        }
+    }
+
     // Test repository interface with @EvictCache annotations
     interface TestRepository {
 
@@ -317,6 +447,24 @@ class ModifyingQueryCacheEvictionAspectTest {
         String evictMultipleWithPartialRegions();
 
         String noAnnotationMethod();
+
+        @EvictCache(tables = "orders")
+        String evictTables();
+
+        @EvictCache(tables = "orders", evictQueryCache = false)
+        String evictTablesNoQueryCache();
+
+        @Query(value = "DELETE FROM \"orders\" WHERE created_at < now()", nativeQuery = true)
+        @EvictCache
+        String deleteFromQuery();
+
+        @Query("UPDATE User u SET u.name = 'x'")
+        @EvictCache
+        String updateFromJpql();
+
+        @Query("SELECT u FROM User u")
+        @EvictCache
+        String selectQuery();
     }
 
     // Test entity classes
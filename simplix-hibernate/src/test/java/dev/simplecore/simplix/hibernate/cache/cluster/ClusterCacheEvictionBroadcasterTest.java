@@ -0,0 +1,313 @@
+package dev.simplecore.simplix.hibernate.cache.cluster;
+
+import dev.simplecore.simplix.hibernate.cache.core.HibernateCacheManager;
+import dev.simplecore.simplix.hibernate.cache.event.PendingEviction;
+import dev.simplecore.simplix.hibernate.cache.event.PendingEvictionCompletedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.Type;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for ClusterCacheEvictionBroadcaster with two nodes sharing an in-memory transport.
+ */
+@DisplayName("ClusterCacheEvictionBroadcaster Tests")
+class ClusterCacheEvictionBroadcasterTest {
+
+    private LoopbackTransport transport;
+    private HibernateCacheManager localCache;
+    private HibernateCacheManager peerCache;
+    private ClusterCacheEvictionBroadcaster local;
+    private ClusterCacheEvictionBroadcaster peer;
+
+    @BeforeEach
+    void setUp() {
+        transport = new LoopbackTransport();
+        localCache = mock(HibernateCacheManager.class);
+        peerCache = mock(HibernateCacheManager.class);
+        local = new ClusterCacheEvictionBroadcaster(transport, localCache, entityManagerFactory(), 2);
+        peer = new ClusterCacheEvictionBroadcaster(transport, peerCache, entityManagerFactory(), 2);
+        local.start();
+        peer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("Entity changes")
+    class EntityChangeTests {
+
+        @Test
+        @DisplayName("Should evict changed entities on the peer but not on the publishing node")
+        void shouldApplyOnPeerOnly() {
+            local.entityChanged(TestEntity.class.getName(), 42L);
+
+            verify(peerCache).evictEntity(TestEntity.class, 42L);
+            verifyNoInteractions(localCache);
+            assertThat(local.getStats().published()).isEqualTo(1);
+            assertThat(peer.getStats().received()).isEqualTo(1);
+            assertThat(peer.getStats().applied()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should publish a transaction's changes once after commit, split by the id limit")
+        void shouldBatchUntilCommit() {
+            TransactionSynchronizationManager.initSynchronization();
+
+            local.entityChanged(TestEntity.class.getName(), 1L);
+            local.entityChanged(TestEntity.class.getName(), 2L);
+            local.entityChanged(TestEntity.class.getName(), 2L);
+            local.entityChanged(TestEntity.class.getName(), 3L);
+
+            assertThat(transport.sent).isEmpty();
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+
+            assertThat(transport.sent).hasSize(2);
+            verify(peerCache).evictEntity(TestEntity.class, 1L);
+            verify(peerCache).evictEntity(TestEntity.class, 2L);
+            verify(peerCache).evictEntity(TestEntity.class, 3L);
+            assertThat(TransactionSynchronizationManager.getResource(local)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should publish nothing when the transaction rolls back")
+        void shouldDropOnRollback() {
+            TransactionSynchronizationManager.initSynchronization();
+
+            local.entityChanged(TestEntity.class.getName(), 1L);
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            assertThat(transport.sent).isEmpty();
+            assertThat(TransactionSynchronizationManager.getResource(local)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("@EvictCache evictions")
+    class PendingEvictionTests {
+
+        @Test
+        @DisplayName("Should broadcast bulk evictions as whole-region evictions")
+        void shouldBroadcastBulkEvictions() {
+            local.onPendingEvictions(new PendingEvictionCompletedEvent(this, List.of(
+                    PendingEviction.of(TestEntity.class, 7L, null, PendingEviction.EvictionOperation.UPDATE),
+                    PendingEviction.of(TestEntity.class, null, null, PendingEviction.EvictionOperation.BULK_UPDATE))));
+
+            verify(peerCache).evictEntityCache(TestEntity.class);
+            verify(peerCache, never()).evictEntity(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Receiving")
+    class ReceiveTests {
+
+        @Test
+        @DisplayName("Should ignore entities that are not in the metamodel")
+        void shouldIgnoreUnknownEntities() {
+            byte[] payload = new EntityEvictionMessage("other",
+                    Map.of("java.lang.Runtime", Set.of("1"))).encode();
+
+            peer.receive(payload);
+
+            verifyNoInteractions(peerCache);
+        }
+
+        @Test
+        @DisplayName("Should evict the whole region when an id cannot be converted")
+        void shouldFallBackToRegionEviction() {
+            byte[] payload = new EntityEvictionMessage("other",
+                    Map.of(TestEntity.class.getName(), Set.of("not-a-number"))).encode();
+
+            peer.receive(payload);
+
+            verify(peerCache).evictEntityCache(TestEntity.class);
+        }
+
+        @Test
+        @DisplayName("Should count malformed messages as failures")
+        void shouldCountMalformedMessages() {
+            peer.receive(new byte[]{42});
+
+            assertThat(peer.getStats().failures()).isEqualTo(1);
+            verifyNoInteractions(peerCache);
+        }
+    }
+
+    @Nested
+    @DisplayName("Collection roles and query spaces")
+    class RelatedCacheTests {
+
+        private static final String ROLE = "com.example.Team.members";
+
+        @BeforeEach
+        void setUpRelated() {
+            transport.close();
+            local = new ClusterCacheEvictionBroadcaster(transport, localCache, entityManagerFactoryWithQueryCache(), 2);
+            peer = new ClusterCacheEvictionBroadcaster(transport, peerCache, entityManagerFactoryWithQueryCache(), 2);
+            local.start();
+            peer.start();
+        }
+
+        @Test
+        @DisplayName("Should invalidate the query spaces and holding collections of a changed entity on the peer")
+        void shouldBroadcastRelatedCaches() {
+            local.entityChanged(TestEntity.class.getName(), 42L);
+
+            verify(peerCache).evictEntity(TestEntity.class, 42L);
+            verify(peerCache).evictCollectionRegion(ROLE);
+            verify(peerCache).invalidateQuerySpaces(Set.of("test_entity"));
+            verifyNoInteractions(localCache);
+        }
+
+        @Test
+        @DisplayName("Should publish collection changes of a transaction once after commit")
+        void shouldBroadcastCollectionChanges() {
+            TransactionSynchronizationManager.initSynchronization();
+
+            local.collectionChanged(ROLE);
+            local.entityWritten(TestEntity.class.getName());
+            assertThat(transport.sent).isEmpty();
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+
+            assertThat(transport.sent).hasSize(1);
+            verify(peerCache).evictCollectionRegion(ROLE);
+            verify(peerCache).invalidateQuerySpaces(Set.of("team_members", "test_entity"));
+            verify(peerCache, never()).evictEntity(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should publish nothing for writes that affect no cache")
+        void shouldSkipUnrelatedWrites() {
+            local.entityWritten("com.example.Unmapped");
+            local.collectionChanged("com.example.Unmapped.items");
+
+            assertThat(transport.sent).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should skip collection roles that are not cached on the receiving node")
+        void shouldSkipUnknownRoles() {
+            peer.receive(new EntityEvictionMessage("other", Map.of(),
+                    Set.of("com.example.Unmapped.items"), Set.of()).encode());
+
+            verify(peerCache, never()).evictCollectionRegion(any());
+        }
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static EntityManagerFactory entityManagerFactory() {
+        EntityType<TestEntity> entityType = mock(EntityType.class);
+        Type<Long> idType = mock(Type.class);
+        when(entityType.getJavaType()).thenReturn(TestEntity.class);
+        when(idType.getJavaType()).thenReturn(Long.class);
+        doReturn(idType).when(entityType).getIdType();
+
+        Metamodel metamodel = mock(Metamodel.class);
+        doReturn(Set.of(entityType)).when(metamodel).getEntities();
+
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.getMetamodel()).thenReturn(metamodel);
+        return entityManagerFactory;
+    }
+
+    /**
+     * Metamodel with a query cache, auto-evicted collection caches and a cached collection of TestEntity.
+     */
+    private static EntityManagerFactory entityManagerFactoryWithQueryCache() {
+        EntityManagerFactory entityManagerFactory = entityManagerFactory();
+        SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class);
+        SessionFactoryOptions options = mock(SessionFactoryOptions.class);
+        MappingMetamodelImplementor mappingMetamodel = mock(MappingMetamodelImplementor.class);
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getSessionFactoryOptions()).thenReturn(options);
+        when(options.isQueryCacheEnabled()).thenReturn(true);
+        when(options.isAutoEvictCollectionCache()).thenReturn(true);
+        when(sessionFactory.getMappingMetamodel()).thenReturn(mappingMetamodel);
+
+        CollectionPersister members = mock(CollectionPersister.class);
+        when(members.getRole()).thenReturn(RelatedCacheTests.ROLE);
+        when(members.hasCache()).thenReturn(true);
+        when(members.isOneToMany()).thenReturn(true);
+        doReturn(TestEntity.class).when(members).getElementClass();
+        when(members.getCollectionSpaces()).thenReturn(new String[]{"team_members"});
+        doAnswer(invocation -> {
+            invocation.<Consumer<CollectionPersister>>getArgument(0).accept(members);
+            return null;
+        }).when(mappingMetamodel).forEachCollectionDescriptor(any());
+
+        EntityPersister persister = mock(EntityPersister.class);
+        doReturn(TestEntity.class).when(persister).getMappedClass();
+        when(persister.getQuerySpaces()).thenReturn(new String[]{"test_entity"});
+        doAnswer(invocation -> {
+            invocation.<Consumer<EntityPersister>>getArgument(0).accept(persister);
+            return null;
+        }).when(mappingMetamodel).forEachEntityDescriptor(any());
+        return entityManagerFactory;
+    }
+
+    static class TestEntity {
+    }
+
+    /**
+     * Delivers every message synchronously to all subscribers, the sender included.
+     */
+    static class LoopbackTransport implements EvictionTransport {
+
+        private final List<Consumer<byte[]>> receivers = new CopyOnWriteArrayList<>();
+        private final List<byte[]> sent = new ArrayList<>();
+
+        @Override
+        public void send(byte[] payload) {
+            sent.add(payload);
+            receivers.forEach(receiver -> receiver.accept(payload));
+        }
+
+        @Override
+        public void subscribe(Consumer<byte[]> receiver) {
+            receivers.add(receiver);
+        }
+
+        @Override
+        public void close() {
+            receivers.clear();
+        }
+    }
+}
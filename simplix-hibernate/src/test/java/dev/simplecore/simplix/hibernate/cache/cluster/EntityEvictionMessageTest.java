@@ -0,0 +1,80 @@
+package dev.simplecore.simplix.hibernate.cache.cluster;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for EntityEvictionMessage.
+ */
+@DisplayName("EntityEvictionMessage Tests")
+class EntityEvictionMessageTest {
+
+    @Test
+    @DisplayName("Should round-trip ids and whole-region evictions")
+    void shouldRoundTrip() {
+        Map<String, Set<String>> entities = new LinkedHashMap<>();
+        entities.put("com.example.User", Set.of("1", "2"));
+        entities.put("com.example.Order", Set.of());
+        EntityEvictionMessage message = new EntityEvictionMessage("node-1", entities);
+
+        EntityEvictionMessage decoded = EntityEvictionMessage.decode(message.encode());
+
+        assertThat(decoded.origin()).isEqualTo("node-1");
+        assertThat(decoded.entities()).containsOnlyKeys("com.example.User", "com.example.Order");
+        assertThat(decoded.entities().get("com.example.User")).containsExactlyInAnyOrder("1", "2");
+        assertThat(decoded.entities().get("com.example.Order")).isEmpty();
+        assertThat(decoded.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should round-trip collection roles and query spaces")
+    void shouldRoundTripRolesAndSpaces() {
+        EntityEvictionMessage message = new EntityEvictionMessage("node-1",
+                Map.of("com.example.User", Set.of("1")), Set.of("com.example.Team.members"), Set.of("app_users"));
+
+        EntityEvictionMessage decoded = EntityEvictionMessage.decode(message.encode());
+
+        assertThat(decoded.collectionRoles()).containsExactly("com.example.Team.members");
+        assertThat(decoded.querySpaces()).containsExactly("app_users");
+        assertThat(decoded.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should read messages of nodes that send entities only")
+    void shouldReadEntityOnlyMessages() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(1);
+            out.writeUTF("old-node");
+            out.writeInt(1);
+            out.writeUTF("com.example.User");
+            out.writeInt(1);
+            out.writeUTF("7");
+        }
+
+        EntityEvictionMessage decoded = EntityEvictionMessage.decode(bytes.toByteArray());
+
+        assertThat(decoded.entities().get("com.example.User")).containsExactly("7");
+        assertThat(decoded.collectionRoles()).isEmpty();
+        assertThat(decoded.querySpaces()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject payloads that are not eviction messages")
+    void shouldRejectMalformedPayload() {
+        assertThatThrownBy(() -> EntityEvictionMessage.decode(new byte[]{9, 1, 2}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EntityEvictionMessage.decode(new byte[]{1, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -33,6 +33,22 @@ class HibernateCachePropertiesTest {
             HibernateCacheProperties properties = new HibernateCacheProperties();
             assertThat(properties.getScanPackages()).isNull();
         }
+
+        @Test
+        @DisplayName("should have cluster eviction broadcast disabled over redis by default")
+        void shouldHaveClusterBroadcastDisabled() {
+            HibernateCacheProperties properties = new HibernateCacheProperties();
+            assertThat(properties.getCluster().isEnabled()).isFalse();
+            assertThat(properties.getCluster().getTransport()).isEqualTo("redis");
+            assertThat(properties.getCluster().getMaxIdsPerMessage()).isEqualTo(1000);
+        }
+
+        @Test
+        @DisplayName("should coalesce evictions above 500 ids per region by default")
+        void shouldHaveDefaultCoalesceThreshold() {
+            HibernateCacheProperties properties = new HibernateCacheProperties();
+            assertThat(properties.getEvictionCoalesceThreshold()).isEqualTo(500);
+        }
     }
 
     @Nested
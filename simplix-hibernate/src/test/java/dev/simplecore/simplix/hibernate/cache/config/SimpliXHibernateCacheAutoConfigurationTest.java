@@ -1,11 +1,16 @@
 package dev.simplecore.simplix.hibernate.cache.config;
 
 import dev.simplecore.simplix.hibernate.cache.aspect.ModifyingQueryCacheEvictionAspect;
+import dev.simplecore.simplix.hibernate.cache.cluster.ClusterCacheEvictionBroadcaster;
+import dev.simplecore.simplix.hibernate.cache.cluster.EvictionTransport;
+import dev.simplecore.simplix.hibernate.cache.core.EntityCacheMetadataRegistry;
 import dev.simplecore.simplix.hibernate.cache.core.EntityCacheScanner;
 import dev.simplecore.simplix.hibernate.cache.core.HibernateCacheManager;
+import dev.simplecore.simplix.hibernate.cache.core.QuerySpaceInvalidator;
 import dev.simplecore.simplix.hibernate.cache.handler.PostCommitCacheEvictionHandler;
 import dev.simplecore.simplix.hibernate.cache.strategy.CacheEvictionStrategy;
 import dev.simplecore.simplix.hibernate.cache.transaction.TransactionAwareCacheEvictionCollector;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityManagerFactory;
 import org.hibernate.Cache;
 import org.hibernate.SessionFactory;
@@ -19,6 +24,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.ContextClosedEvent;
@@ -66,6 +72,8 @@ class SimpliXHibernateCacheAutoConfigurationTest {
     void setUp() {
         properties = new HibernateCacheProperties();
         autoConfiguration = new SimpliXHibernateCacheAutoConfiguration(properties);
+        when(applicationContext.getBeanProvider(EntityCacheMetadataRegistry.class))
+                .thenReturn(new StaticListableBeanFactory().getBeanProvider(EntityCacheMetadataRegistry.class));
     }
 
     @AfterEach
@@ -126,7 +134,8 @@ class SimpliXHibernateCacheAutoConfigurationTest {
                     new TransactionAwareCacheEvictionCollector(eventPublisher);
 
             ModifyingQueryCacheEvictionAspect result =
-                    autoConfiguration.modifyingQueryCacheEvictionAspect(collector);
+                    autoConfiguration.modifyingQueryCacheEvictionAspect(collector,
+                            new StaticListableBeanFactory().getBeanProvider(QuerySpaceInvalidator.class));
 
             assertThat(result).isNotNull();
         }
@@ -142,7 +151,8 @@ class SimpliXHibernateCacheAutoConfigurationTest {
         @Test
         @DisplayName("Should create CacheEvictionStrategy bean")
         void shouldCreateCacheEvictionStrategyBean() {
-            CacheEvictionStrategy result = autoConfiguration.cacheEvictionStrategy(cacheManager);
+            CacheEvictionStrategy result = autoConfiguration.cacheEvictionStrategy(cacheManager,
+                    new StaticListableBeanFactory().getBeanProvider(EntityCacheMetadataRegistry.class));
 
             assertThat(result).isNotNull();
         }
@@ -157,6 +167,70 @@ class SimpliXHibernateCacheAutoConfigurationTest {
 
             assertThat(result).isNotNull();
         }
+
+        @Test
+        @DisplayName("Should register eviction coalescing meters")
+        void shouldRegisterEvictionMetrics() {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            TransactionAwareCacheEvictionCollector collector =
+                    new TransactionAwareCacheEvictionCollector(eventPublisher);
+
+            new SimpliXHibernateCacheAutoConfiguration.EvictionMetricsConfiguration()
+                    .hibernateCacheEvictionMetrics(collector, new StaticListableBeanFactory()
+                            .getBeanProvider(PostCommitCacheEvictionHandler.class))
+                    .bindTo(registry);
+
+            assertThat(registry.get("simplix.hibernate.cache.evictions.coalescing.ratio").gauge().value())
+                    .isEqualTo(1.0);
+            assertThat(registry.find("simplix.hibernate.cache.evictions.collected").functionCounter()).isNotNull();
+            assertThat(registry.find("simplix.hibernate.cache.evictions.queue.depth").gauge()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should register table-level invalidation meters")
+        void shouldRegisterTableInvalidationMetrics() {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+            new SimpliXHibernateCacheAutoConfiguration.EvictionMetricsConfiguration()
+                    .hibernateCacheTableInvalidationMetrics(
+                            autoConfiguration.querySpaceInvalidator(entityManagerFactory))
+                    .bindTo(registry);
+
+            assertThat(registry.get("simplix.hibernate.cache.table-invalidation.regions.retained")
+                    .functionCounter().count()).isZero();
+            assertThat(registry.find("simplix.hibernate.cache.table-invalidation.entries.retained")
+                    .functionCounter()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("Should create an asynchronous PostCommitCacheEvictionHandler with its queue meters")
+        void shouldCreateAsyncPostCommitCacheEvictionHandler() {
+            properties.getAsyncEviction().setEnabled(true);
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+
+            try (PostCommitCacheEvictionHandler handler = autoConfiguration.postCommitCacheEvictionHandler(
+                    new CacheEvictionStrategy(cacheManager))) {
+                beanFactory.addBean("postCommitCacheEvictionHandler", handler);
+                new SimpliXHibernateCacheAutoConfiguration.EvictionMetricsConfiguration()
+                        .hibernateCacheEvictionMetrics(new TransactionAwareCacheEvictionCollector(eventPublisher),
+                                beanFactory.getBeanProvider(PostCommitCacheEvictionHandler.class))
+                        .bindTo(registry);
+
+                assertThat(handler.getAsyncQueue()).isPresent();
+                assertThat(registry.get("simplix.hibernate.cache.evictions.queue.depth").gauge().value()).isZero();
+                assertThat(registry.get("simplix.hibernate.cache.evictions.lag").gauge().value()).isZero();
+            }
+        }
+
+        @Test
+        @DisplayName("Should create ClusterCacheEvictionBroadcaster bean")
+        void shouldCreateClusterCacheEvictionBroadcasterBean() {
+            ClusterCacheEvictionBroadcaster result = autoConfiguration.clusterCacheEvictionBroadcaster(
+                    mock(EvictionTransport.class), cacheManager, entityManagerFactory);
+
+            assertThat(result).isNotNull();
+        }
     }
 
     @Nested
@@ -0,0 +1,151 @@
+package dev.simplecore.simplix.hibernate.cache.core;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.descriptor.java.LongJavaType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for EntityCacheMetadataRegistry and EntityCacheMetadata.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("EntityCacheMetadataRegistry Tests")
+class EntityCacheMetadataRegistryTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactoryImplementor sessionFactory;
+
+    @Mock
+    private MappingMetamodelImplementor mappingMetamodel;
+
+    @Mock
+    private EntityPersister persister;
+
+    @Mock
+    private EntityDataAccess cacheAccess;
+
+    @Mock
+    private DomainDataRegion region;
+
+    @Mock
+    private EntityIdentifierMapping identifierMapping;
+
+    private EntityCacheMetadataRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getMappingMetamodel()).thenReturn(mappingMetamodel);
+        when(mappingMetamodel.findEntityDescriptor(CachedEntity.class)).thenReturn(persister);
+        when(persister.getCacheAccessStrategy()).thenReturn(cacheAccess);
+        when(cacheAccess.getRegion()).thenReturn(region);
+        when(region.getName()).thenReturn("cached-region");
+        when(persister.getIdentifierMapping()).thenReturn(identifierMapping);
+        doReturn(LongJavaType.INSTANCE).when(identifierMapping).getJavaType();
+        when(cacheAccess.generateCacheKey(any(), eq(persister), eq(sessionFactory), any()))
+                .thenAnswer(invocation -> "key-" + invocation.getArgument(0));
+
+        registry = new EntityCacheMetadataRegistry(entityManagerFactory);
+    }
+
+    @Nested
+    @DisplayName("load() tests")
+    class LoadTests {
+
+        @Test
+        @DisplayName("Should register cached entities by class name with their region")
+        void shouldRegisterCachedEntities() {
+            registry.load(List.of(CachedEntity.class, UnmappedEntity.class));
+
+            EntityCacheMetadata metadata = registry.find(CachedEntity.class.getName());
+            assertThat(metadata).isNotNull();
+            assertThat(metadata.entityClass()).isEqualTo(CachedEntity.class);
+            assertThat(metadata.region()).isEqualTo("cached-region");
+            assertThat(registry.find(UnmappedEntity.class.getName())).isNull();
+            assertThat(registry.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should skip entities without a cache access strategy")
+        void shouldSkipUncachedEntities() {
+            when(persister.getCacheAccessStrategy()).thenReturn(null);
+
+            registry.load(List.of(CachedEntity.class));
+
+            assertThat(registry.find(CachedEntity.class.getName())).isNull();
+        }
+
+        @Test
+        @DisplayName("Should return null for a null class name")
+        void shouldReturnNullForNullName() {
+            assertThat(registry.find(null)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("EntityCacheMetadata.evict() tests")
+    class EvictTests {
+
+        @Test
+        @DisplayName("Should convert a string id to the entity id type")
+        void shouldConvertStringId() {
+            registry.load(List.of(CachedEntity.class));
+
+            registry.find(CachedEntity.class.getName()).evict("42");
+
+            verify(cacheAccess).generateCacheKey(eq(42L), eq(persister), eq(sessionFactory), any());
+            verify(cacheAccess).evict("key-42");
+        }
+
+        @Test
+        @DisplayName("Should evict the whole region for a null id")
+        void shouldEvictRegionForNullId() {
+            registry.load(List.of(CachedEntity.class));
+
+            registry.find(CachedEntity.class.getName()).evict(null);
+
+            verify(cacheAccess).evictAll();
+            verify(cacheAccess, never()).evict(any());
+        }
+
+        @Test
+        @DisplayName("Should evict the whole region when the id cannot be converted")
+        void shouldEvictRegionForUnconvertibleId() {
+            registry.load(List.of(CachedEntity.class));
+
+            registry.find(CachedEntity.class.getName()).evict("not-a-number");
+
+            verify(cacheAccess).evictAll();
+        }
+    }
+
+    private static class CachedEntity {
+    }
+
+    private static class UnmappedEntity {
+    }
+}
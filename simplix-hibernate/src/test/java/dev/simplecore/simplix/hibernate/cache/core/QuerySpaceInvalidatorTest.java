@@ -0,0 +1,262 @@
+package dev.simplecore.simplix.hibernate.cache.core;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Query;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.spi.StatisticsImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for QuerySpaceInvalidator.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("QuerySpaceInvalidator Tests")
+class QuerySpaceInvalidatorTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactoryImplementor sessionFactory;
+
+    @Mock
+    private MappingMetamodelImplementor mappingMetamodel;
+
+    @Mock
+    private Metamodel metamodel;
+
+    @Mock
+    private StatisticsImplementor statistics;
+
+    private QuerySpaceInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        EntityPersister userPersister = persister(User.class, "user-region", "app_users");
+        EntityPersister orderPersister = persister(Order.class, "order-region", "orders");
+        EntityPersister auditPersister = persister(Audit.class, null, "audit_log");
+
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        when(entityManagerFactory.getMetamodel()).thenReturn(metamodel);
+        EntityType<?> userType = entityType(User.class, "AppUser");
+        doReturn(Set.of(userType)).when(metamodel).getEntities();
+
+        when(sessionFactory.getMappingMetamodel()).thenReturn(mappingMetamodel);
+        doAnswer(invocation -> {
+            Consumer<EntityPersister> consumer = invocation.getArgument(0);
+            List.of(userPersister, orderPersister, auditPersister).forEach(consumer);
+            return null;
+        }).when(mappingMetamodel).forEachEntityDescriptor(any());
+
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+
+        invalidator = new QuerySpaceInvalidator(entityManagerFactory);
+    }
+
+    @Nested
+    @DisplayName("resolve() tests")
+    class ResolveTests {
+
+        @Test
+        @DisplayName("Should map tables case-insensitively to their query spaces and cached entities")
+        void shouldMapTables() {
+            QuerySpaceInvalidator.Target target = invalidator.resolve(List.of("APP_USERS", "audit_log"), List.of());
+
+            assertThat(target.querySpaces()).containsExactly("app_users", "audit_log");
+            assertThat(target.entityClasses()).containsExactly(User.class);
+        }
+
+        @Test
+        @DisplayName("Should map JPA entity names and entity classes to their query spaces")
+        void shouldMapEntityNames() {
+            QuerySpaceInvalidator.Target target = invalidator.resolve(List.of("AppUser"), List.of(Order.class));
+
+            assertThat(target.querySpaces()).containsExactly("app_users", "orders");
+            assertThat(target.entityClasses()).containsExactly(User.class, Order.class);
+        }
+
+        @Test
+        @DisplayName("Should drop an unmapped schema prefix and keep unknown tables as query spaces")
+        void shouldHandleSchemaAndUnknownTables() {
+            QuerySpaceInvalidator.Target target = invalidator.resolve(
+                    List.of("public.orders", "user_roles"), List.of());
+
+            assertThat(target.querySpaces()).containsExactly("orders", "user_roles");
+            assertThat(target.entityClasses()).containsExactly(Order.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("bind() and attach() tests")
+    class AttachTests {
+
+        @Mock
+        private NativeQuery<?> nativeQuery;
+
+        @Test
+        @DisplayName("Should add the bound query spaces to a native query")
+        void shouldAttachBoundSpaces() {
+            doReturn(nativeQuery).when(nativeQuery).unwrap(NativeQuery.class);
+
+            try (QuerySpaceInvalidator.Binding binding =
+                         invalidator.bind(invalidator.resolve(List.of("app_users", "user_roles"), List.of()))) {
+                invalidator.attach(nativeQuery);
+
+                assertThat(binding.isAttached()).isTrue();
+            }
+
+            verify(nativeQuery).addSynchronizedQuerySpace("app_users");
+            verify(nativeQuery).addSynchronizedQuerySpace("user_roles");
+        }
+
+        @Test
+        @DisplayName("Should leave queries untouched without a binding or after it is closed")
+        void shouldNotAttachWithoutBinding() {
+            doReturn(nativeQuery).when(nativeQuery).unwrap(NativeQuery.class);
+
+            invalidator.attach(nativeQuery);
+            invalidator.bind(invalidator.resolve(List.of("orders"), List.of())).close();
+            invalidator.attach(nativeQuery);
+
+            verify(nativeQuery, never()).addSynchronizedQuerySpace(any());
+        }
+
+        @Test
+        @DisplayName("Should restore the outer binding when a nested one is closed")
+        void shouldRestoreOuterBinding() {
+            doReturn(nativeQuery).when(nativeQuery).unwrap(NativeQuery.class);
+
+            try (QuerySpaceInvalidator.Binding outer =
+                         invalidator.bind(invalidator.resolve(List.of("orders"), List.of()))) {
+                invalidator.bind(invalidator.resolve(List.of("app_users"), List.of())).close();
+                invalidator.attach(nativeQuery);
+
+                assertThat(outer.isAttached()).isTrue();
+            }
+
+            verify(nativeQuery).addSynchronizedQuerySpace("orders");
+            verify(nativeQuery, never()).addSynchronizedQuerySpace("app_users");
+        }
+
+        @Test
+        @DisplayName("Should skip queries that are not Hibernate native queries")
+        void shouldSkipOtherQueries() {
+            Query query = mock(Query.class);
+            when(query.unwrap(NativeQuery.class)).thenThrow(new PersistenceException("Unrecognized unwrap type"));
+
+            try (QuerySpaceInvalidator.Binding binding =
+                         invalidator.bind(invalidator.resolve(List.of("orders"), List.of()))) {
+                invalidator.attach(query);
+
+                assertThat(binding.isAttached()).isFalse();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("record() tests")
+    class RecordTests {
+
+        @Test
+        @DisplayName("Should count what the narrowed cleanup retained for an attached statement")
+        void shouldRecordAttachedStatement() {
+            CacheRegionStatistics orderStatistics = mock(CacheRegionStatistics.class);
+            when(statistics.isStatisticsEnabled()).thenReturn(true);
+            when(statistics.getDomainDataRegionStatistics("order-region")).thenReturn(orderStatistics);
+            when(orderStatistics.getElementCountInMemory()).thenReturn(42L);
+
+            invalidator.record(attachedBinding(List.of("app_users")));
+
+            assertThat(invalidator.getStats())
+                    .isEqualTo(new QuerySpaceInvalidator.Stats(1, 1, 2, 1, 1, 42));
+        }
+
+        @Test
+        @DisplayName("Should not count retained entries without Hibernate statistics")
+        void shouldSkipEntriesWithoutStatistics() {
+            invalidator.record(attachedBinding(List.of("orders")));
+
+            assertThat(invalidator.getStats().entriesRetained()).isZero();
+            verify(statistics, never()).getDomainDataRegionStatistics(any());
+        }
+
+        @Test
+        @DisplayName("Should not count a binding whose spaces never reached a native statement")
+        void shouldIgnoreUnattachedBinding() {
+            QuerySpaceInvalidator.Binding binding = invalidator.bind(invalidator.resolve(List.of("orders"), List.of()));
+            binding.close();
+
+            invalidator.record(binding);
+
+            assertThat(invalidator.getStats()).isEqualTo(new QuerySpaceInvalidator.Stats(0, 0, 0, 0, 0, 0));
+        }
+
+        private QuerySpaceInvalidator.Binding attachedBinding(List<String> tables) {
+            NativeQuery<?> nativeQuery = mock(NativeQuery.class);
+            doReturn(nativeQuery).when(nativeQuery).unwrap(NativeQuery.class);
+            try (QuerySpaceInvalidator.Binding binding = invalidator.bind(invalidator.resolve(tables, List.of()))) {
+                invalidator.attach(nativeQuery);
+                return binding;
+            }
+        }
+    }
+
+    private static EntityPersister persister(Class<?> entityClass, String region, String table) {
+        EntityPersister persister = mock(EntityPersister.class);
+        doReturn(entityClass).when(persister).getMappedClass();
+        when(persister.getEntityName()).thenReturn(entityClass.getName());
+        when(persister.getQuerySpaces()).thenReturn(new Serializable[]{table});
+        if (region != null) {
+            EntityDataAccess access = mock(EntityDataAccess.class);
+            DomainDataRegion domainRegion = mock(DomainDataRegion.class);
+            when(persister.getCacheAccessStrategy()).thenReturn(access);
+            when(access.getRegion()).thenReturn(domainRegion);
+            when(domainRegion.getName()).thenReturn(region);
+        }
+        return persister;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static EntityType<?> entityType(Class<?> entityClass, String name) {
+        EntityType<Object> type = mock(EntityType.class);
+        doReturn(entityClass).when(type).getJavaType();
+        when(type.getName()).thenReturn(name);
+        return type;
+    }
+
+    static class User {
+    }
+
+    static class Order {
+    }
+
+    static class Audit {
+    }
+}
@@ -14,8 +14,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 /**
@@ -54,7 +60,7 @@ class PostCommitCacheEvictionHandlerTest {
             handler.handlePostCommitEviction(event);
 
             // Then
-            verify(evictionStrategy, times(3)).evict(any(Class.class), any());
+            verify(evictionStrategy, times(3)).evict(anyString(), any());
         }
 
         @Test
@@ -68,7 +74,7 @@ class PostCommitCacheEvictionHandlerTest {
             handler.handlePostCommitEviction(event);
 
             // Then
-            verify(evictionStrategy, never()).evict(any(Class.class), any());
+            verify(evictionStrategy, never()).evict(anyString(), any());
         }
 
         @Test
@@ -84,7 +90,7 @@ class PostCommitCacheEvictionHandlerTest {
             handler.handlePostCommitEviction(event);
 
             // Then - should evict with null entityId for bulk
-            verify(evictionStrategy).evict(TestEntity.class, null);
+            verify(evictionStrategy).evict(TestEntity.class.getName(), null);
         }
 
         @Test
@@ -100,7 +106,7 @@ class PostCommitCacheEvictionHandlerTest {
             handler.handlePostCommitEviction(event);
 
             // Then - should evict with null entityId for bulk
-            verify(evictionStrategy).evict(TestEntity.class, null);
+            verify(evictionStrategy).evict(TestEntity.class.getName(), null);
         }
 
         @Test
@@ -118,7 +124,7 @@ class PostCommitCacheEvictionHandlerTest {
             handler.handlePostCommitEviction(event);
 
             // Then - should only process 2 valid evictions
-            verify(evictionStrategy, times(2)).evict(any(Class.class), any());
+            verify(evictionStrategy, times(2)).evict(anyString(), any());
         }
 
         @Test
@@ -136,18 +142,18 @@ class PostCommitCacheEvictionHandlerTest {
             doNothing()
                     .doThrow(new RuntimeException("Eviction failed"))
                     .doNothing()
-                    .when(evictionStrategy).evict(any(Class.class), any());
+                    .when(evictionStrategy).evict(anyString(), any());
 
             // When
             handler.handlePostCommitEviction(event);
 
             // Then - all three should be attempted
-            verify(evictionStrategy, times(3)).evict(any(Class.class), any());
+            verify(evictionStrategy, times(3)).evict(anyString(), any());
         }
 
         @Test
-        @DisplayName("Should skip eviction when entity class cannot be resolved")
-        void shouldSkipEvictionWhenEntityClassCannotBeResolved() {
+        @DisplayName("Should leave resolution of the entity class to the strategy")
+        void shouldDelegateEntityClassResolutionToStrategy() {
             // Given
             PendingEviction evictionWithBadClass = PendingEviction.builder()
                     .entityClassName("com.nonexistent.FakeClass")
@@ -160,10 +166,92 @@ class PostCommitCacheEvictionHandlerTest {
             // When
             handler.handlePostCommitEviction(event);
 
-            // Then - should not attempt eviction since class can't be resolved
+            // Then - no class loading in the handler; the strategy skips unknown classes
+            verify(evictionStrategy).evict("com.nonexistent.FakeClass", "123");
             verify(evictionStrategy, never()).evict(any(Class.class), any());
         }
 
+        @Test
+        @DisplayName("Should skip eviction when entity class name is missing")
+        void shouldSkipEvictionWhenEntityClassNameIsMissing() {
+            // Given
+            PendingEviction evictionWithoutClass = PendingEviction.builder()
+                    .entityId("123")
+                    .operation(PendingEviction.EvictionOperation.UPDATE)
+                    .build();
+
+            // When
+            handler.handlePostCommitEviction(new PendingEvictionCompletedEvent(this, List.of(evictionWithoutClass)));
+
+            // Then
+            verifyNoInteractions(evictionStrategy);
+        }
+    }
+
+    @Nested
+    @DisplayName("Asynchronous mode")
+    class AsyncModeTests {
+
+        @Test
+        @DisplayName("Should execute evictions on the background thread")
+        void shouldEvictOnBackgroundThread() {
+            // Given
+            Set<String> threads = ConcurrentHashMap.newKeySet();
+            doAnswer(invocation -> threads.add(Thread.currentThread().getName()))
+                    .when(evictionStrategy).evict(anyString(), any());
+            PendingEvictionCompletedEvent event = new PendingEvictionCompletedEvent(this, List.of(
+                    createPendingEviction(TestEntity.class, "1", PendingEviction.EvictionOperation.UPDATE),
+                    createPendingEviction(TestEntity.class, "2", PendingEviction.EvictionOperation.UPDATE)));
+
+            // When
+            try (PostCommitCacheEvictionHandler asyncHandler =
+                         new PostCommitCacheEvictionHandler(evictionStrategy, 100, 10)) {
+                asyncHandler.handlePostCommitEviction(event);
+
+                // Then
+                verify(evictionStrategy, timeout(2000).times(2)).evict(anyString(), any());
+                assertThat(threads).containsExactly("simplix-l2-eviction");
+                assertThat(asyncHandler.getAsyncQueue()).get()
+                        .extracting(AsyncEvictionQueue::getProcessedCount).isEqualTo(2L);
+            }
+        }
+
+        @Test
+        @DisplayName("Should evict synchronously when the queue is full")
+        void shouldFallBackToSynchronousEvictionWhenQueueIsFull() throws Exception {
+            // Given - the background thread blocks on the first eviction
+            CountDownLatch blocked = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Set<String> threads = ConcurrentHashMap.newKeySet();
+            doAnswer(invocation -> {
+                threads.add(Thread.currentThread().getName());
+                if (Thread.currentThread().getName().equals("simplix-l2-eviction")) {
+                    blocked.countDown();
+                    release.await();
+                }
+                return null;
+            }).when(evictionStrategy).evict(anyString(), any());
+
+            try (PostCommitCacheEvictionHandler asyncHandler =
+                         new PostCommitCacheEvictionHandler(evictionStrategy, 1, 10)) {
+                asyncHandler.handlePostCommitEviction(new PendingEvictionCompletedEvent(this, List.of(
+                        createPendingEviction(TestEntity.class, "1", PendingEviction.EvictionOperation.UPDATE))));
+                assertThat(blocked.await(2, TimeUnit.SECONDS)).isTrue();
+
+                // When - one eviction fits the queue, the other overflows
+                asyncHandler.handlePostCommitEviction(new PendingEvictionCompletedEvent(this, List.of(
+                        createPendingEviction(TestEntity.class, "2", PendingEviction.EvictionOperation.UPDATE),
+                        createPendingEviction(TestEntity.class, "3", PendingEviction.EvictionOperation.UPDATE))));
+
+                // Then
+                assertThat(threads).contains(Thread.currentThread().getName());
+                AsyncEvictionQueue queue = asyncHandler.getAsyncQueue().orElseThrow();
+                assertThat(queue.getOverflowCount()).isEqualTo(1);
+                assertThat(queue.getQueueDepth()).isEqualTo(1);
+                release.countDown();
+            }
+            verify(evictionStrategy, times(3)).evict(anyString(), any());
+        }
     }
 
     private PendingEviction createPendingEviction(
@@ -0,0 +1,94 @@
+package dev.simplecore.simplix.hibernate.cache.it;
+
+import dev.simplecore.simplix.hibernate.cache.core.QuerySpaceInvalidator;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = QuerySpaceITApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:queryspaceit;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=create",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "simplix.hibernate.cache.scan-packages=dev.simplecore.simplix.hibernate.cache.it"
+})
+@DisplayName("Native @EvictCache statements invalidate only the query spaces of their tables")
+class NativeQuerySpaceIntegrationTest {
+
+    @Autowired private ProductRepository productRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private QuerySpaceInvalidator querySpaceInvalidator;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(tx -> {
+            productRepository.deleteAll();
+            categoryRepository.deleteAll();
+            productRepository.save(new Product("ACTIVE"));
+            categoryRepository.save(new Category("books"));
+        });
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+
+        // cache both queries and make sure the category result is served from the query cache
+        transactionTemplate.executeWithoutResult(tx -> {
+            productRepository.findCachedByStatus("ACTIVE");
+            categoryRepository.findAllCached();
+        });
+        long hits = statistics.getQueryCacheHitCount();
+        transactionTemplate.executeWithoutResult(tx -> categoryRepository.findAllCached());
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(hits + 1);
+    }
+
+    @Test
+    @DisplayName("a cached query over an unrelated table survives a native @EvictCache update")
+    void unrelatedQueryCacheEntrySurvivesNativeUpdate() {
+        long invalidations = querySpaceInvalidator.getStats().invalidations();
+
+        transactionTemplate.executeWithoutResult(tx -> productRepository.updateAllStatus("INACTIVE"));
+
+        long hits = statistics.getQueryCacheHitCount();
+        long misses = statistics.getQueryCacheMissCount();
+        transactionTemplate.executeWithoutResult(tx -> categoryRepository.findAllCached());
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(hits + 1);
+
+        transactionTemplate.executeWithoutResult(tx ->
+                assertThat(productRepository.findCachedByStatus("ACTIVE")).isEmpty());
+        assertThat(statistics.getQueryCacheMissCount()).isEqualTo(misses + 1);
+
+        QuerySpaceInvalidator.Stats stats = querySpaceInvalidator.getStats();
+        assertThat(stats.invalidations()).isEqualTo(invalidations + 1);
+        assertThat(stats.regionsRetained()).isPositive();
+    }
+
+    @Test // control: without declared spaces Hibernate clears every space
+    @DisplayName("a native update without @EvictCache invalidates every cached query")
+    void nativeUpdateWithoutSpacesInvalidatesEverything() {
+        long invalidations = querySpaceInvalidator.getStats().invalidations();
+
+        transactionTemplate.executeWithoutResult(tx -> productRepository.updateAllStatusWithoutEviction("INACTIVE"));
+
+        long misses = statistics.getQueryCacheMissCount();
+        transactionTemplate.executeWithoutResult(tx -> categoryRepository.findAllCached());
+        assertThat(statistics.getQueryCacheMissCount()).isEqualTo(misses + 1);
+        assertThat(querySpaceInvalidator.getStats().invalidations()).isEqualTo(invalidations);
+    }
+}
@@ -0,0 +1,31 @@
+package dev.simplecore.simplix.hibernate.cache.it;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+@Entity
+@Table(name = "it_products")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+public class Product {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String status;
+
+    protected Product() {}
+
+    public Product(String status) {
+        this.status = status;
+    }
+
+    public Long getId() { return id; }
+
+    public String getStatus() { return status; }
+}
@@ -0,0 +1,28 @@
+package dev.simplecore.simplix.hibernate.cache.it;
+
+import dev.simplecore.simplix.hibernate.cache.annotation.EvictCache;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ProductRepository extends JpaRepository<Product, Long> {
+
+    @Query("SELECT p FROM Product p WHERE p.status = :status")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Product> findCachedByStatus(@Param("status") String status);
+
+    @Modifying
+    @Query(value = "UPDATE it_products SET status = :status", nativeQuery = true)
+    @EvictCache
+    int updateAllStatus(@Param("status") String status);
+
+    @Modifying
+    @Query(value = "UPDATE it_products SET status = :status", nativeQuery = true)
+    int updateAllStatusWithoutEviction(@Param("status") String status);
+}
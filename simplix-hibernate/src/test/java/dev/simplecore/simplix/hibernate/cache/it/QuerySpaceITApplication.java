@@ -0,0 +1,7 @@
+package dev.simplecore.simplix.hibernate.cache.it;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class QuerySpaceITApplication {
+}
@@ -1,5 +1,7 @@
 package dev.simplecore.simplix.hibernate.cache.strategy;
 
+import dev.simplecore.simplix.hibernate.cache.core.EntityCacheMetadata;
+import dev.simplecore.simplix.hibernate.cache.core.EntityCacheMetadataRegistry;
 import dev.simplecore.simplix.hibernate.cache.core.HibernateCacheManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -187,6 +189,49 @@ class CacheEvictionStrategyTest {
         }
     }
 
+    @Nested
+    @DisplayName("Resolved metadata tests")
+    class ResolvedMetadataTests {
+
+        @Mock
+        private EntityCacheMetadataRegistry metadataRegistry;
+
+        @Mock
+        private EntityCacheMetadata metadata;
+
+        @Test
+        @DisplayName("Should evict registered entities through their metadata")
+        void shouldEvictThroughMetadata() {
+            // Given
+            when(metadataRegistry.find(TestEntity.class.getName())).thenReturn(metadata);
+            CacheEvictionStrategy strategy = new CacheEvictionStrategy(cacheManager, metadataRegistry);
+
+            // When
+            strategy.evict(TestEntity.class.getName(), "7");
+            strategy.evict(TestEntity.class, null);
+
+            // Then
+            verify(metadata).evict("7");
+            verify(metadata).evict(null);
+            verifyNoInteractions(cacheManager);
+        }
+
+        @Test
+        @DisplayName("Should fall back to the cache manager for unregistered entities")
+        void shouldFallBackForUnregisteredEntities() {
+            // Given
+            CacheEvictionStrategy strategy = new CacheEvictionStrategy(cacheManager, metadataRegistry);
+
+            // When
+            strategy.evict(TestEntity.class.getName(), 1L);
+            strategy.evict(TestEntity.class.getName(), 2L);
+
+            // Then
+            verify(cacheManager).evictEntity(TestEntity.class, 1L);
+            verify(cacheManager).evictEntity(TestEntity.class, 2L);
+        }
+    }
+
     // Test entity class for testing
     private static class TestEntity {
         private Long id;
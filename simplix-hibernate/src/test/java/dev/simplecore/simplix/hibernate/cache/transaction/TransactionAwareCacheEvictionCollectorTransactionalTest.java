@@ -18,7 +18,6 @@ import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.lang.reflect.Field;
-import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -68,8 +67,7 @@ class TransactionAwareCacheEvictionCollectorTransactionalTest {
                     .getDeclaredField("PENDING_EVICTIONS");
             pendingEvictionsField.setAccessible(true);
             @SuppressWarnings("unchecked")
-            ThreadLocal<List<PendingEviction>> pendingEvictions =
-                    (ThreadLocal<List<PendingEviction>>) pendingEvictionsField.get(null);
+            ThreadLocal<Object> pendingEvictions = (ThreadLocal<Object>) pendingEvictionsField.get(null);
             pendingEvictions.remove();
 
             Field syncRegisteredField = TransactionAwareCacheEvictionCollector.class
@@ -377,50 +375,121 @@ class TransactionAwareCacheEvictionCollectorTransactionalTest {
 
         @Test
         @DisplayName("Should switch to bulk eviction when limit is exceeded")
-        void shouldSwitchToBulkEvictionWhenLimitExceeded() throws Exception {
-            // Given
+        void shouldSwitchToBulkEvictionWhenLimitExceeded() {
+            // Given - a threshold above the limit, so only the limit applies
+            collector = new TransactionAwareCacheEvictionCollector(eventPublisher, 20000);
             initializeTransactionContext();
-
-            // Use reflection to fill the pending list to MAX_PENDING_EVICTIONS
-            Field pendingEvictionsField = TransactionAwareCacheEvictionCollector.class
-                    .getDeclaredField("PENDING_EVICTIONS");
-            pendingEvictionsField.setAccessible(true);
-            @SuppressWarnings("unchecked")
-            ThreadLocal<List<PendingEviction>> pendingEvictions =
-                    (ThreadLocal<List<PendingEviction>>) pendingEvictionsField.get(null);
-
-            // Initialize the list with MAX_PENDING_EVICTIONS items
-            List<PendingEviction> list = new ArrayList<>();
             for (int i = 0; i < 10000; i++) {
-                list.add(PendingEviction.of(TestEntity.class, (long) i, null,
+                collector.collect(PendingEviction.of(TestEntity.class, (long) i, null,
                         PendingEviction.EvictionOperation.UPDATE));
             }
-            pendingEvictions.set(list);
-
-            // Also set the sync registered flag to prevent re-registration
-            Field syncField = TransactionAwareCacheEvictionCollector.class
-                    .getDeclaredField("SYNCHRONIZATION_REGISTERED");
-            syncField.setAccessible(true);
-            @SuppressWarnings("unchecked")
-            ThreadLocal<Boolean> syncRegistered = (ThreadLocal<Boolean>) syncField.get(null);
-            syncRegistered.set(Boolean.TRUE);
 
             // When - collect one more eviction that exceeds the limit
             PendingEviction overflowEviction = PendingEviction.of(
-                    TestEntity.class, 99999L, "some-region",
+                    AnotherEntity.class, 99999L, "some-region",
                     PendingEviction.EvictionOperation.UPDATE);
             collector.collect(overflowEviction);
 
-            // Then - the collected eviction should have been converted to BULK_UPDATE
+            // Then - the overflow eviction should have been converted to BULK_UPDATE
             // with null entityId
             assertThat(collector.getPendingCount()).isEqualTo(10001);
-            List<PendingEviction> currentList = pendingEvictions.get();
-            PendingEviction lastEviction = currentList.get(currentList.size() - 1);
+            List<PendingEviction> published = commitAndCapture();
+            PendingEviction lastEviction = published.get(published.size() - 1);
+            assertThat(lastEviction.getEntityClassName()).isEqualTo(AnotherEntity.class.getName());
             assertThat(lastEviction.getOperation()).isEqualTo(PendingEviction.EvictionOperation.BULK_UPDATE);
             assertThat(lastEviction.getEntityId()).isNull();
         }
     }
 
+    @Nested
+    @DisplayName("Deduplication and coalescing")
+    class DeduplicationTests {
+
+        @Test
+        @DisplayName("Should keep one eviction per entity, region and id")
+        void shouldDeduplicateRepeatedEvictions() {
+            initializeTransactionContext();
+
+            for (int i = 0; i < 3; i++) {
+                collector.collect(PendingEviction.of(TestEntity.class, 1L, null,
+                        PendingEviction.EvictionOperation.UPDATE, false));
+            }
+            collector.collect(PendingEviction.of(TestEntity.class, 1L, null,
+                    PendingEviction.EvictionOperation.DELETE, true));
+            collector.collect(PendingEviction.of(TestEntity.class, 1L, "other-region",
+                    PendingEviction.EvictionOperation.UPDATE));
+
+            assertThat(collector.getPendingCount()).isEqualTo(2);
+            List<PendingEviction> published = commitAndCapture();
+            assertThat(published.get(0).isEvictQueryCache()).isTrue();
+            assertThat(collector.getCoalescingRatio()).isEqualTo(2.5);
+        }
+
+        @Test
+        @DisplayName("Should collapse a region into one bulk eviction above the threshold")
+        void shouldCoalesceAboveThreshold() {
+            collector = new TransactionAwareCacheEvictionCollector(eventPublisher, 3);
+            initializeTransactionContext();
+
+            for (long id = 1; id <= 10; id++) {
+                collector.collect(PendingEviction.of(TestEntity.class, id, null,
+                        PendingEviction.EvictionOperation.UPDATE));
+            }
+            collector.collect(PendingEviction.of(AnotherEntity.class, 1L, null,
+                    PendingEviction.EvictionOperation.UPDATE));
+
+            List<PendingEviction> published = commitAndCapture();
+            assertThat(published).hasSize(2);
+            assertThat(published.get(0).getEntityClassName()).isEqualTo(TestEntity.class.getName());
+            assertThat(published.get(0).getEntityId()).isNull();
+            assertThat(published.get(0).getOperation()).isEqualTo(PendingEviction.EvictionOperation.BULK_UPDATE);
+            assertThat(published.get(1).getEntityId()).isEqualTo("1");
+            assertThat(collector.getCollectedCount()).isEqualTo(11);
+            assertThat(collector.getPublishedCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should let a bulk eviction absorb the ids of its region")
+        void shouldAbsorbIdsIntoBulkEviction() {
+            initializeTransactionContext();
+
+            collector.collect(PendingEviction.of(TestEntity.class, 1L, null,
+                    PendingEviction.EvictionOperation.UPDATE));
+            collector.collect(PendingEviction.of(TestEntity.class, null, null,
+                    PendingEviction.EvictionOperation.BULK_DELETE));
+            collector.collect(PendingEviction.of(TestEntity.class, 2L, null,
+                    PendingEviction.EvictionOperation.UPDATE));
+
+            List<PendingEviction> published = commitAndCapture();
+            assertThat(published).singleElement()
+                    .satisfies(eviction -> {
+                        assertThat(eviction.getEntityId()).isNull();
+                        assertThat(eviction.getOperation())
+                                .isEqualTo(PendingEviction.EvictionOperation.BULK_DELETE);
+                    });
+        }
+
+        @Test
+        @DisplayName("Should not count rolled back evictions")
+        void shouldNotCountRolledBackEvictions() {
+            initializeTransactionContext();
+            collector.collect(createTestEviction());
+
+            getRegisteredSynchronization().afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            assertThat(collector.getCollectedCount()).isZero();
+            assertThat(collector.getCoalescingRatio()).isEqualTo(1.0);
+        }
+    }
+
+    private List<PendingEviction> commitAndCapture() {
+        getRegisteredSynchronization().afterCommit();
+        ArgumentCaptor<PendingEvictionCompletedEvent> captor =
+                ArgumentCaptor.forClass(PendingEvictionCompletedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        return captor.getValue().getPendingEvictions();
+    }
+
     @Nested
     @DisplayName("registerSynchronizationIfNeeded race condition")
     class RegisterSynchronizationRaceConditionTests {
@@ -1,5 +1,6 @@
 package dev.simplecore.simplix.sync.core;
 
+import dev.simplecore.simplix.core.resilience.CandidateSelector;
 import dev.simplecore.simplix.core.resilience.CircuitBreaker;
 import dev.simplecore.simplix.core.resilience.RateLimiter;
 import dev.simplecore.simplix.core.resilience.RoundRobinSelector;
@@ -20,6 +21,10 @@ import java.util.function.Supplier;
  * batch per cycle. Integrates optional {@link CircuitBreaker} and
  * {@link RateLimiter} for safe resource access.
  *
+ * <p>Batches are chosen by a {@link CandidateSelector}, round-robin by default. Every
+ * processed resource is reported back to the selector with its latency and outcome, so
+ * adaptive selectors such as {@code PowerOfTwoChoicesSelector} can favour fast resources.
+ *
  * <p>This class does NOT own the {@code @Scheduled} annotation.
  * The consumer calls {@link #reconcile(Consumer)} from their own scheduled method,
  * allowing flexible cron/fixedDelay configuration and distributed lock integration.
@@ -52,7 +57,7 @@ public class ReconciliationScheduler<R> {
     private final int batchSize;
     private final CircuitBreaker circuitBreaker;
     private final RateLimiter rateLimiter;
-    private final RoundRobinSelector selector = new RoundRobinSelector();
+    private final CandidateSelector selector;
 
     private ReconciliationScheduler(Builder<R> builder) {
         this.resourceProvider = builder.resourceProvider;
@@ -60,12 +65,13 @@ public class ReconciliationScheduler<R> {
         this.batchSize = builder.batchSize;
         this.circuitBreaker = builder.circuitBreaker;
         this.rateLimiter = builder.rateLimiter;
+        this.selector = builder.selector != null ? builder.selector : new RoundRobinSelector();
     }
 
     /**
      * Execute one reconciliation cycle.
      *
-     * <p>Selects the next batch via round-robin, then processes each resource
+     * <p>Selects the next batch via the configured selector, then processes each resource
      * that passes circuit breaker and rate limiter checks.
      *
      * @param processor per-resource processing logic
@@ -94,8 +100,12 @@ public class ReconciliationScheduler<R> {
                 break;
             }
 
+            selector.onStart(resource);
+            long startNanos = System.nanoTime();
+            boolean success = false;
             try {
                 processor.accept(resource);
+                success = true;
                 if (circuitBreaker != null) {
                     circuitBreaker.recordSuccess(key);
                 }
@@ -104,6 +114,9 @@ public class ReconciliationScheduler<R> {
                 if (circuitBreaker != null) {
                     circuitBreaker.recordFailure(key);
                 }
+            } finally {
+                // Balance onStart even when the processor throws an Error
+                selector.onComplete(resource, System.nanoTime() - startNanos, success);
             }
         }
     }
@@ -111,10 +124,10 @@ public class ReconciliationScheduler<R> {
     /**
      * Get the current round-robin cursor position (for diagnostics).
      *
-     * @return the current cursor index
+     * @return the current cursor index, or 0 when a non-round-robin selector is configured
      */
     public int getCursorPosition() {
-        return selector.getCursorPosition();
+        return selector instanceof RoundRobinSelector roundRobin ? roundRobin.getCursorPosition() : 0;
     }
 
     /**
@@ -138,6 +151,7 @@ public class ReconciliationScheduler<R> {
         private int batchSize = 5;
         private CircuitBreaker circuitBreaker;
         private RateLimiter rateLimiter;
+        private CandidateSelector selector;
 
         /**
          * Set the supplier that provides the current list of resources.
@@ -195,6 +209,20 @@ public class ReconciliationScheduler<R> {
             return this;
         }
 
+        /**
+         * Set the strategy that chooses each batch.
+         *
+         * <p>Adaptive selectors track outcomes per resource instance, so resources must
+         * have stable {@code equals}/{@code hashCode} across provider calls.
+         *
+         * @param selector the candidate selector (default: {@link RoundRobinSelector})
+         * @return this builder
+         */
+        public Builder<R> selector(CandidateSelector selector) {
+            this.selector = selector;
+            return this;
+        }
+
         /**
          * Build the reconciliation scheduler.
          *
@@ -1,6 +1,8 @@
 package dev.simplecore.simplix.sync.core;
 
 import dev.simplecore.simplix.core.resilience.CircuitBreaker;
+import dev.simplecore.simplix.core.resilience.LeastInFlightSelector;
+import dev.simplecore.simplix.core.resilience.PowerOfTwoChoicesSelector;
 import dev.simplecore.simplix.core.resilience.RateLimiter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -153,6 +155,73 @@ class ReconciliationSchedulerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Custom selector")
+    class CustomSelector {
+
+        @Test
+        @DisplayName("should report outcomes to the configured selector")
+        void shouldReportOutcomes() {
+            PowerOfTwoChoicesSelector selector = new PowerOfTwoChoicesSelector();
+            List<String> resources = List.of("A", "B");
+
+            ReconciliationScheduler<String> scheduler = ReconciliationScheduler.<String>builder()
+                    .resourceProvider(() -> resources)
+                    .keyExtractor(s -> s)
+                    .batchSize(2)
+                    .selector(selector)
+                    .build();
+
+            scheduler.reconcile(r -> {
+                if ("B".equals(r)) {
+                    throw new RuntimeException("fail");
+                }
+            });
+
+            assertThat(selector.getInFlight("A")).isZero();
+            assertThat(selector.getInFlight("B")).isZero();
+            assertThat(selector.getLatencyEwmaNanos("A")).isPositive();
+            assertThat(scheduler.getCursorPosition()).isZero();
+        }
+
+        @Test
+        @DisplayName("should balance in-flight counts when the processor throws an Error")
+        void shouldBalanceInFlightOnError() {
+            PowerOfTwoChoicesSelector selector = new PowerOfTwoChoicesSelector();
+
+            ReconciliationScheduler<String> scheduler = ReconciliationScheduler.<String>builder()
+                    .resourceProvider(() -> List.of("A"))
+                    .keyExtractor(s -> s)
+                    .batchSize(1)
+                    .selector(selector)
+                    .build();
+
+            assertThatThrownBy(() -> scheduler.reconcile(r -> {
+                throw new AssertionError("boom");
+            })).isInstanceOf(AssertionError.class);
+
+            assertThat(selector.getInFlight("A")).isZero();
+        }
+
+        @Test
+        @DisplayName("should process batch chosen by the configured selector")
+        void shouldUseConfiguredSelector() {
+            LeastInFlightSelector selector = new LeastInFlightSelector();
+            selector.onStart("A");
+            List<String> processed = new ArrayList<>();
+
+            ReconciliationScheduler<String> scheduler = ReconciliationScheduler.<String>builder()
+                    .resourceProvider(() -> List.of("A", "B"))
+                    .keyExtractor(s -> s)
+                    .batchSize(1)
+                    .selector(selector)
+                    .build();
+
+            scheduler.reconcile(processed::add);
+            assertThat(processed).containsExactly("B");
+        }
+    }
+
     @Nested
     @DisplayName("Exception handling without circuit breaker")
     class ExceptionWithoutCircuitBreaker {
@@ -1,8 +1,12 @@
 package dev.simplecore.simplix.springboot.autoconfigure;
 
+import dev.simplecore.simplix.core.validator.BulkValidator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.validation.MessageInterpolator;
 import jakarta.validation.Validation;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -13,11 +17,13 @@ import org.springframework.context.NoSuchMessageException;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
 import org.springframework.validation.Validator;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 import org.springframework.validation.beanvalidation.MethodValidationPostProcessor;
 
 import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * SimpliX Validator Auto-configuration.
@@ -29,6 +35,7 @@ import java.util.Locale;
  * - MessageSource integration for internationalized validation messages
  * - Proper parameter substitution for {min}, {max}, {value} etc.
  * - Method validation support
+ * - Bulk validation of DTO collections (BulkValidator)
  * - Hibernate Validator configuration
  */
 @Slf4j
@@ -78,6 +85,24 @@ public class SimpliXValidatorAutoConfiguration {
         return processor;
     }
 
+    /**
+     * Provides a BulkValidator for validating large DTO collections (bulk endpoints, Excel imports).
+     * Uniqueness constraints are checked with set queries when JPA is available; other
+     * constraints run in parallel on the common fork-join pool.
+     */
+    @Bean
+    @ConditionalOnMissingBean(BulkValidator.class)
+    public BulkValidator bulkValidator(jakarta.validation.Validator validator,
+                                       ObjectProvider<EntityManagerFactory> entityManagerFactory,
+                                       MessageSource messageSource) {
+        EntityManagerFactory emf = entityManagerFactory.getIfUnique();
+        EntityManager entityManager = emf != null ? SharedEntityManagerCreator.createSharedEntityManager(emf) : null;
+        log.info("Configuring SimpliX BulkValidator (set-query uniqueness checks: {})", entityManager != null);
+
+        return new BulkValidator(validator, entityManager, messageSource, ForkJoinPool.commonPool(),
+                Runtime.getRuntime().availableProcessors(), BulkValidator.DEFAULT_IN_CLAUSE_SIZE);
+    }
+
     /**
      * Custom MessageInterpolator that prioritizes Spring MessageSource over
      * Hibernate Validator's default ResourceBundle lookup.
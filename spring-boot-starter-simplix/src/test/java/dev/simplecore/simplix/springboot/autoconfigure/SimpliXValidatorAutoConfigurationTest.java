@@ -1,5 +1,7 @@
 package dev.simplecore.simplix.springboot.autoconfigure;
 
+import dev.simplecore.simplix.core.validator.BulkValidator;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.MessageInterpolator;
 import jakarta.validation.NoProviderFoundException;
@@ -15,11 +17,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.MessageSource;
 import org.springframework.context.NoSuchMessageException;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 import org.springframework.validation.beanvalidation.MethodValidationPostProcessor;
 
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
@@ -60,6 +64,20 @@ class SimpliXValidatorAutoConfigurationTest {
         assertThat(processor).isNotNull();
     }
 
+    @Test
+    @DisplayName("Should create BulkValidator without JPA")
+    @SuppressWarnings("unchecked")
+    void createBulkValidatorWithoutJpa() {
+        Validator validator = mock(Validator.class);
+        ObjectProvider<EntityManagerFactory> entityManagerFactory = mock(ObjectProvider.class);
+        when(entityManagerFactory.getIfUnique()).thenReturn(null);
+
+        BulkValidator bulkValidator = config.bulkValidator(validator, entityManagerFactory, messageSource);
+
+        assertThat(bulkValidator).isNotNull();
+        assertThat(bulkValidator.validate(List.of()).isValid()).isTrue();
+    }
+
     @Nested
     @DisplayName("MessageSourceFirstInterpolator")
     class MessageSourceFirstInterpolatorTest {